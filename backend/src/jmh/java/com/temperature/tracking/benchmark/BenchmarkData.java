@@ -0,0 +1,63 @@
+package com.temperature.tracking.benchmark;
+
+import com.temperature.tracking.entity.Measurement;
+import com.temperature.tracking.entity.Series;
+import com.temperature.tracking.entity.User;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entities shaped like production data, built without a database.
+ */
+final class BenchmarkData {
+
+    static final ZonedDateTime START = ZonedDateTime.of(2025, 11, 8, 0, 0, 0, 0, ZoneId.of("UTC"));
+
+    private BenchmarkData() {
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(1);
+        user.setUsername("admin");
+        return user;
+    }
+
+    static Series series(User user) {
+        Series series = new Series();
+        series.setId(1);
+        series.setName("Living Room");
+        series.setDescription("Temperature next to the window");
+        series.setColor("#FF5733");
+        series.setIcon("thermometer");
+        series.setMinValue(new BigDecimal("-50.00"));
+        series.setMaxValue(new BigDecimal("50.00"));
+        series.setCreatedBy(user);
+        series.setCreatedAt(START);
+        return series;
+    }
+
+    /**
+     * Measurements one minute apart with values between 15 and 25 degrees.
+     */
+    static List<Measurement> measurements(int count) {
+        User user = user();
+        Series series = series(user);
+        List<Measurement> measurements = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            Measurement measurement = new Measurement();
+            measurement.setId(index + 1);
+            measurement.setSeries(series);
+            measurement.setValue(BigDecimal.valueOf(1500 + (index * 37) % 1000, 2));
+            measurement.setTimestamp(START.plusMinutes(index));
+            measurement.setCreatedBy(user);
+            measurement.setCreatedAt(START.plusMinutes(index));
+            measurements.add(measurement);
+        }
+        return measurements;
+    }
+}
@@ -0,0 +1,69 @@
+package com.temperature.tracking.benchmark;
+
+import com.temperature.tracking.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing on sign in and token checks on every authenticated request.
+ * {@code validateToken} hits the verified-token cache after the first call;
+ * {@code verifySignature} measures the uncached path that the cache avoids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-key-with-at-least-256-bits-for-the-hs256-algorithm";
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+    private String token;
+    private JwtParser parser;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 86400000L);
+        userDetails = User.withUsername("admin").password("unused").roles("ADMIN").build();
+        token = jwtUtil.generateToken("admin", "ADMIN");
+        parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("admin", "ADMIN");
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, userDetails);
+    }
+
+    @Benchmark
+    public Claims verifySignature() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+}
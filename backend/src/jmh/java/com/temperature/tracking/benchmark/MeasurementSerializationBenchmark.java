@@ -0,0 +1,73 @@
+package com.temperature.tracking.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.temperature.tracking.dto.MeasurementResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of measurement lists, as returned by the list and range endpoints.
+ * The mapper is configured like the one Spring Boot provides.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MeasurementSerializationBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<MeasurementResponse> measurements;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, MeasurementResponse.class));
+        measurements = BenchmarkData.measurements(size).stream()
+                .map(MeasurementResponse::fromEntity)
+                .toList();
+        out = new ByteArrayOutputStream(size * 256);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetOutput() {
+        out.reset();
+    }
+
+    @Benchmark
+    public int serializeToStream() throws IOException {
+        writer.writeValue(out, measurements);
+        return out.size();
+    }
+
+    @Benchmark
+    public byte[] serializeToBytes() throws IOException {
+        return writer.writeValueAsBytes(measurements);
+    }
+}
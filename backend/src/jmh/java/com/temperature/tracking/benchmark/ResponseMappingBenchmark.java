@@ -0,0 +1,64 @@
+package com.temperature.tracking.benchmark;
+
+import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.dto.SeriesResponse;
+import com.temperature.tracking.entity.Measurement;
+import com.temperature.tracking.entity.Series;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping as done by every read endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@org.openjdk.jmh.annotations.Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private static final int LIST_SIZE = 10000;
+
+    private Measurement measurement;
+    private List<Measurement> measurements;
+    private Series series;
+
+    @Setup
+    public void setUp() {
+        measurements = BenchmarkData.measurements(LIST_SIZE);
+        measurement = measurements.get(0);
+        series = measurement.getSeries();
+    }
+
+    @Benchmark
+    public MeasurementResponse measurementFromEntity() {
+        return MeasurementResponse.fromEntity(measurement);
+    }
+
+    @Benchmark
+    public SeriesResponse seriesFromEntity() {
+        return SeriesResponse.fromEntity(series);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<MeasurementResponse> measurementListFromEntities() {
+        List<MeasurementResponse> responses = new ArrayList<>(measurements.size());
+        for (Measurement entity : measurements) {
+            responses.add(MeasurementResponse.fromEntity(entity));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,65 @@
+package com.temperature.tracking.benchmark;
+
+import com.temperature.tracking.dto.SeriesMetadata;
+import com.temperature.tracking.dto.SeriesRequest;
+import com.temperature.tracking.validation.MeasurementValueValidator;
+import com.temperature.tracking.validation.MinMaxRangeValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Range checks run for every created series and every ingested measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private final MinMaxRangeValidator rangeValidator = new MinMaxRangeValidator();
+
+    private SeriesMetadata series;
+    private BigDecimal valueInRange;
+    private BigDecimal valueOutOfRange;
+    private SeriesRequest seriesRequest;
+
+    @Setup
+    public void setUp() {
+        series = new SeriesMetadata(1, "Living Room", new BigDecimal("-50.00"), new BigDecimal("50.00"),
+                null, null, null, null);
+        valueInRange = new BigDecimal("21.50");
+        valueOutOfRange = new BigDecimal("75.00");
+        seriesRequest = new SeriesRequest();
+        seriesRequest.setName("Living Room");
+        seriesRequest.setMinValue(new BigDecimal("-50.00"));
+        seriesRequest.setMaxValue(new BigDecimal("50.00"));
+    }
+
+    @Benchmark
+    public boolean minMaxRangeIsValid() {
+        return rangeValidator.isValid(seriesRequest, null);
+    }
+
+    @Benchmark
+    public MeasurementValueValidator.Rejection measurementValueInRange() {
+        return MeasurementValueValidator.validate(valueInRange, series);
+    }
+
+    @Benchmark
+    public MeasurementValueValidator.Rejection measurementValueOutOfRange() {
+        return MeasurementValueValidator.validate(valueOutOfRange, series);
+    }
+}
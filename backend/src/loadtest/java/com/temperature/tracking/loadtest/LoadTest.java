@@ -0,0 +1,192 @@
+package com.temperature.tracking.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.tracking.TemperatureTrackingApplication;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end throughput and latency test. Starts an embedded PostgreSQL server, seeds it,
+ * boots {@link TemperatureTrackingApplication} against it and drives a weighted mix of
+ * requests from virtual-thread clients. Each client sends its next request as soon as the
+ * previous one has completed (closed loop), so latencies are measured at the achieved rate.
+ * <p>
+ * Prints requests per second and latency percentiles per operation and writes the full
+ * HdrHistogram percentile distribution of each operation to the report directory.
+ * See {@link LoadTestOptions} for the options.
+ */
+public final class LoadTest {
+
+    private final LoadTestOptions options;
+    private final Map<Operation, Recorder> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final List<Operation> weightedOperations = new ArrayList<>();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private volatile boolean running = true;
+
+    private LoadTest(LoadTestOptions options) {
+        this.options = options;
+        options.mix().forEach((operation, weight) -> {
+            latencies.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+            for (int count = 0; count < weight; count++) {
+                weightedOperations.add(operation);
+            }
+        });
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        new LoadTest(options).run();
+    }
+
+    private void run() throws Exception {
+        Instant dataEnd = Instant.now().minus(1, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.SECONDS);
+        try (LoadTestDatabase database = LoadTestDatabase.start(options.schema())) {
+            long seedStart = System.nanoTime();
+            Instant dataStart = database.seed(options, dataEnd);
+            System.out.printf("Seeded %d series with %d measurements each in %d s%n", options.series(),
+                    options.measurementsPerSeries(), Duration.ofNanos(System.nanoTime() - seedStart).toSeconds());
+
+            try (ConfigurableApplicationContext context = startApplication(database)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                URI baseUri = URI.create("http://localhost:" + port);
+                Operation.RequestContext requestContext = new Operation.RequestContext(baseUri, signIn(baseUri),
+                        options.series(), options.batchSize(), dataStart, dataEnd);
+                drive(requestContext);
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(LoadTestDatabase database) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + database.jdbcUrl(),
+                "--spring.datasource.username=" + database.username(),
+                "--spring.datasource.password=",
+                "--spring.datasource.hikari.maximum-pool-size=50",
+                "--spring.jpa.show-sql=false",
+                "--cors.allowed-origin=http://localhost",
+                "--server.port=0",
+                "--logging.level.root=WARN"));
+        // Later arguments win, so options given on the command line override the defaults above
+        args.addAll(options.applicationArgs());
+        return SpringApplication.run(TemperatureTrackingApplication.class, args.toArray(String[]::new));
+    }
+
+    private String signIn(URI baseUri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/auth/signin"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"" + LoadTestDatabase.USERNAME
+                        + "\",\"password\":\"" + LoadTestDatabase.PASSWORD + "\"}"))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Sign in failed with status " + response.statusCode());
+        }
+        return new ObjectMapper().readTree(response.body()).get("token").asText();
+    }
+
+    private void drive(Operation.RequestContext context) throws IOException, InterruptedException {
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < options.clients(); client++) {
+                clients.submit(() -> client(context));
+            }
+
+            System.out.printf("Warming up %d clients for %d s%n", options.clients(), options.warmup().toSeconds());
+            Thread.sleep(options.warmup().toMillis());
+            // Discard the warm-up samples
+            latencies.values().forEach(Recorder::getIntervalHistogram);
+            errors.values().forEach(LongAdder::reset);
+
+            System.out.printf("Measuring for %d s%n", options.duration().toSeconds());
+            long start = System.nanoTime();
+            Thread.sleep(options.duration().toMillis());
+            Map<Operation, Histogram> results = new EnumMap<>(Operation.class);
+            latencies.forEach((operation, recorder) -> results.put(operation, recorder.getIntervalHistogram()));
+            double seconds = (System.nanoTime() - start) / 1e9;
+            running = false;
+
+            report(results, seconds);
+        }
+    }
+
+    private void client(Operation.RequestContext context) {
+        while (running) {
+            Operation operation = weightedOperations.get(ThreadLocalRandom.current().nextInt(weightedOperations.size()));
+            HttpRequest request = operation.request(context);
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) {
+                    errors.get(operation).increment();
+                }
+            } catch (IOException e) {
+                errors.get(operation).increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            latencies.get(operation).recordValue((System.nanoTime() - start) / 1000);
+        }
+    }
+
+    private void report(Map<Operation, Histogram> results, double seconds) throws IOException {
+        Files.createDirectories(options.reportDirectory());
+        System.out.printf("%n%-11s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<Operation, Histogram> entry : results.entrySet()) {
+            String name = entry.getKey().name().toLowerCase(Locale.ROOT);
+            Histogram histogram = entry.getValue();
+            long operationErrors = errors.get(entry.getKey()).sum();
+            printRow(name, histogram, operationErrors, seconds);
+            total.add(histogram);
+            totalErrors += operationErrors;
+
+            try (PrintStream out = new PrintStream(options.reportDirectory().resolve(name + ".hgrm").toFile())) {
+                // Recorded in microseconds, reported in milliseconds
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        printRow("total", total, totalErrors, seconds);
+        System.out.printf("%nPercentile distributions written to %s%n", options.reportDirectory().toAbsolutePath());
+    }
+
+    private static void printRow(String name, Histogram histogram, long errorCount, double seconds) {
+        System.out.printf("%-11s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, histogram.getTotalCount(), errorCount, histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+}
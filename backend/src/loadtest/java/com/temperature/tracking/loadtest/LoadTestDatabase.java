@@ -0,0 +1,120 @@
+package com.temperature.tracking.loadtest;
+
+import com.temperature.tracking.repository.MeasurementPartitionRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+/**
+ * A throwaway PostgreSQL server with the production schema and generated data.
+ * Data is generated inside the database, so seeding millions of rows takes seconds
+ * rather than the hours the REST API would need.
+ */
+final class LoadTestDatabase implements AutoCloseable {
+
+    static final String USERNAME = "loadtest";
+    static final String PASSWORD = "loadtest";
+
+    private static final String DATABASE_USER = "postgres";
+    private static final String DATABASE_NAME = "postgres";
+
+    private final EmbeddedPostgres postgres;
+    private final JdbcTemplate jdbcTemplate;
+
+    private LoadTestDatabase(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+        this.jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+    }
+
+    static LoadTestDatabase start(Path schema) throws IOException {
+        LoadTestDatabase database = new LoadTestDatabase(EmbeddedPostgres.builder()
+                .setServerConfig("max_connections", "300")
+                .setServerConfig("shared_buffers", "512MB")
+                .setServerConfig("fsync", "off")
+                .setServerConfig("synchronous_commit", "off")
+                .start());
+        database.jdbcTemplate.execute(Files.readString(schema));
+        return database;
+    }
+
+    String jdbcUrl() {
+        return postgres.getJdbcUrl(DATABASE_USER, DATABASE_NAME);
+    }
+
+    String username() {
+        return DATABASE_USER;
+    }
+
+    /**
+     * Creates the load test user, the series and their measurements, evenly spaced by the interval
+     * and ending at {@code end}, and fills the rollup table from them.
+     *
+     * @return the timestamp of the oldest measurement
+     */
+    Instant seed(LoadTestOptions options, Instant end) {
+        jdbcTemplate.update("INSERT INTO users (username, password_hash, role_id) VALUES (?, ?, 1)",
+                USERNAME, new BCryptPasswordEncoder().encode(PASSWORD));
+        Integer userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", Integer.class,
+                USERNAME);
+        jdbcTemplate.update("INSERT INTO series (name, color, min_value, max_value, created_by) "
+                        + "SELECT 'Sensor ' || g, '#FF5733', -50, 50, ? FROM generate_series(1, ?) g",
+                userId, options.series());
+
+        // Timestamps are stored as local time of the JVM zone, like Hibernate writes them
+        long perSeries = options.measurementsPerSeries();
+        long total = perSeries * options.series();
+        Instant first = end.minus(options.interval().multipliedBy(Math.max(perSeries - 1, 0)));
+        Timestamp last = Timestamp.valueOf(LocalDateTime.ofInstant(end, ZoneId.systemDefault()));
+        createPartitions(YearMonth.from(first.atZone(ZoneId.systemDefault())),
+                YearMonth.from(end.atZone(ZoneId.systemDefault())));
+        jdbcTemplate.update("INSERT INTO measurements (id, series_id, value, timestamp, created_by) "
+                        + "SELECT g, (g - 1) % ? + 1, round((20 + 8 * sin(g / 5000.0) + random())::numeric, 2), "
+                        + "?::timestamp - make_interval(secs => (? - 1 - (g - 1) / ?) * ?), ? "
+                        + "FROM generate_series(1::bigint, ?) g",
+                options.series(), last, perSeries, options.series(), options.interval().toSeconds(), userId, total);
+        // Entity inserts continue behind the generated ids
+        jdbcTemplate.queryForObject("SELECT setval('measurements_id_seq', COALESCE(max(id), 0) + 50) "
+                + "FROM measurements", Long.class);
+
+        for (String granularity : new String[]{"MINUTE", "HOUR", "DAY"}) {
+            jdbcTemplate.update(String.format("INSERT INTO measurement_rollups "
+                    + "(series_id, granularity, bucket_start, count, sum, min_value, max_value) "
+                    + "SELECT series_id, '%1$s', date_trunc('%1$s', timestamp), count(*), sum(value), min(value), "
+                    + "max(value) FROM measurements GROUP BY series_id, date_trunc('%1$s', timestamp)", granularity));
+        }
+        jdbcTemplate.execute("VACUUM ANALYZE");
+        return first;
+    }
+
+    /**
+     * Creates the monthly partitions of the seeded range, as the application would for new measurements,
+     * so the seeded rows do not pile up in the default partition.
+     */
+    private void createPartitions(YearMonth from, YearMonth to) {
+        MeasurementPartitionRepository partitions =
+                new MeasurementPartitionRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            YearMonth partition = month;
+            transactionTemplate.execute(status -> partitions.createPartition(partition));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
@@ -0,0 +1,96 @@
+package com.temperature.tracking.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line options of the load test, given as {@code --name=value}.
+ * Options the harness does not know are passed on to the application, e.g.
+ * {@code --spring.threads.virtual.enabled=true}.
+ */
+record LoadTestOptions(int series,
+                       long measurements,
+                       Duration interval,
+                       int clients,
+                       Duration warmup,
+                       Duration duration,
+                       Map<Operation, Integer> mix,
+                       int batchSize,
+                       Path schema,
+                       Path reportDirectory,
+                       List<String> applicationArgs) {
+
+    static final String DEFAULT_MIX = "ingest:10,batch:5,chart:30,range:20,page:15,aggregates:10,series:10";
+
+    static LoadTestOptions parse(String[] args) {
+        int series = 100;
+        long measurements = 2_000_000;
+        Duration interval = Duration.ofMinutes(1);
+        int clients = 64;
+        Duration warmup = Duration.ofSeconds(30);
+        Duration duration = Duration.ofSeconds(120);
+        String mix = DEFAULT_MIX;
+        int batchSize = 100;
+        Path schema = Path.of("../db_init.sql");
+        Path reportDirectory = Path.of("target/loadtest");
+        List<String> applicationArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "series" -> series = Integer.parseInt(value);
+                case "measurements" -> measurements = Long.parseLong(value);
+                case "interval" -> interval = Duration.ofSeconds(Long.parseLong(value));
+                case "clients" -> clients = Integer.parseInt(value);
+                case "warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "duration" -> duration = Duration.ofSeconds(Long.parseLong(value));
+                case "mix" -> mix = value;
+                case "batch-size" -> batchSize = Integer.parseInt(value);
+                case "schema" -> schema = Path.of(value);
+                case "report-dir" -> reportDirectory = Path.of(value);
+                default -> applicationArgs.add(arg);
+            }
+        }
+        if (series < 1 || measurements < 0 || clients < 1 || batchSize < 1 || interval.isZero()) {
+            throw new IllegalArgumentException("series, clients, batch-size and interval must be positive");
+        }
+        return new LoadTestOptions(series, measurements, interval, clients, warmup, duration, parseMix(mix),
+                batchSize, schema, reportDirectory, List.copyOf(applicationArgs));
+    }
+
+    /**
+     * Parses weights such as {@code chart:70,ingest:30}; operations that are not listed are not run.
+     */
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight but got: " + entry);
+            }
+            Operation operation = Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(operation, weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix must contain at least one operation with a positive weight");
+        }
+        return weights;
+    }
+
+    long measurementsPerSeries() {
+        return measurements / series;
+    }
+}
@@ -0,0 +1,109 @@
+package com.temperature.tracking.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Requests issued by the load test clients. Reads pick a random series and a random window
+ * inside the seeded data; writes add measurements at the current time.
+ */
+enum Operation {
+    /** Single measurement: {@code POST /api/measurements}. */
+    INGEST,
+    /** Batch of {@code batch-size} measurements: {@code POST /api/measurements/batch}. */
+    BATCH,
+    /** Chart of one week downsampled to 1000 points. */
+    CHART,
+    /** Raw measurements of one hour. */
+    RANGE,
+    /** First keyset page of 500 measurements from a random start. */
+    PAGE,
+    /** Hourly rollups of one week. */
+    AGGREGATES,
+    /** All series. */
+    SERIES;
+
+    private static final Duration CHART_WINDOW = Duration.ofDays(7);
+    private static final Duration RANGE_WINDOW = Duration.ofHours(1);
+
+    /**
+     * Builds a request for this operation.
+     *
+     * @param context the server address, credentials and shape of the seeded data
+     */
+    HttpRequest request(RequestContext context) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int seriesId = random.nextInt(context.series()) + 1;
+        String measurements = "/api/measurements/series/" + seriesId;
+        return switch (this) {
+            case INGEST -> context.post("/api/measurements", measurementJson(seriesId));
+            case BATCH -> {
+                StringBuilder body = new StringBuilder("{\"measurements\":[");
+                for (int index = 0; index < context.batchSize(); index++) {
+                    if (index > 0) {
+                        body.append(',');
+                    }
+                    body.append(measurementJson(random.nextInt(context.series()) + 1));
+                }
+                yield context.post("/api/measurements/batch", body.append("]}").toString());
+            }
+            case CHART -> {
+                Instant from = context.randomStart(CHART_WINDOW);
+                yield context.get(measurements + "?maxPoints=1000&from=" + from + "&to=" + from.plus(CHART_WINDOW));
+            }
+            case RANGE -> {
+                Instant from = context.randomStart(RANGE_WINDOW);
+                yield context.get(measurements + "?from=" + from + "&to=" + from.plus(RANGE_WINDOW));
+            }
+            case PAGE -> context.get(measurements + "/page?limit=500&from=" + context.randomStart(Duration.ZERO));
+            case AGGREGATES -> {
+                Instant from = context.randomStart(CHART_WINDOW);
+                yield context.get(measurements + "/aggregates?granularity=hour&from=" + from
+                        + "&to=" + from.plus(CHART_WINDOW));
+            }
+            case SERIES -> context.get("/api/series");
+        };
+    }
+
+    private static String measurementJson(int seriesId) {
+        double value = 15 + ThreadLocalRandom.current().nextInt(1000) / 100.0;
+        return "{\"seriesId\":" + seriesId + ",\"value\":" + value + ",\"timestamp\":\"" + Instant.now() + "\"}";
+    }
+
+    /**
+     * Everything a request needs besides the operation.
+     *
+     * @param dataStart timestamp of the oldest seeded measurement
+     * @param dataEnd timestamp of the newest seeded measurement
+     */
+    record RequestContext(URI baseUri, String token, int series, int batchSize, Instant dataStart, Instant dataEnd) {
+
+        HttpRequest get(String path) {
+            return builder(path).GET().build();
+        }
+
+        HttpRequest post(String path, String json) {
+            return builder(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+
+        private HttpRequest.Builder builder(String path) {
+            return HttpRequest.newBuilder(baseUri.resolve(path))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(60));
+        }
+
+        /**
+         * Returns a random start such that a window of the given length lies inside the seeded data.
+         */
+        Instant randomStart(Duration window) {
+            long span = Duration.between(dataStart, dataEnd).minus(window).toSeconds();
+            return dataStart.plusSeconds(span > 0 ? ThreadLocalRandom.current().nextLong(span) : 0);
+        }
+    }
+}
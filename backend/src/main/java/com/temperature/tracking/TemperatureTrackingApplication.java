@@ -1,12 +1,20 @@
 package com.temperature.tracking;
 
+import com.temperature.tracking.cli.MeasurementImportCommand;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
 public class TemperatureTrackingApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(TemperatureTrackingApplication.class, args);
+        SpringApplication application = new SpringApplication(TemperatureTrackingApplication.class);
+        if (MeasurementImportCommand.isRequested(args)) {
+            // Command line import: no web server, exit once the import has finished
+            application.setWebApplicationType(WebApplicationType.NONE);
+            System.exit(SpringApplication.exit(application.run(args)));
+        }
+        application.run(args);
     }
 }
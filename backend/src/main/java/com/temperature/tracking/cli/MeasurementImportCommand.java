@@ -0,0 +1,106 @@
+package com.temperature.tracking.cli;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.tracking.dto.MeasurementImportResponse;
+import com.temperature.tracking.exception.ValidationException;
+import com.temperature.tracking.export.ExportFormat;
+import com.temperature.tracking.service.MeasurementImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Imports a measurement file from the command line instead of starting the web server:
+ * <pre>
+ * java -jar tracking.jar --import=measurements.csv.gz --user=admin [--format=csv]
+ * </pre>
+ * The format defaults to the file extension; files ending in {@code .gz} are decompressed.
+ * The import report is printed as JSON. The exit code is 0 if every record was imported
+ * and {@value #EXIT_REJECTED} if some were rejected.
+ */
+@Component
+@RequiredArgsConstructor
+public class MeasurementImportCommand implements ApplicationRunner, ExitCodeGenerator {
+
+    static final String IMPORT_OPTION = "import";
+    static final String FORMAT_OPTION = "format";
+    static final String USER_OPTION = "user";
+
+    static final int EXIT_REJECTED = 2;
+
+    private final MeasurementImportService measurementImportService;
+    private final ObjectMapper objectMapper;
+
+    private int exitCode;
+
+    /**
+     * Tells whether the command line asks for an import, before the application context exists.
+     */
+    public static boolean isRequested(String[] args) {
+        return Arrays.stream(args).anyMatch(arg -> arg.startsWith("--" + IMPORT_OPTION + "="));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!args.containsOption(IMPORT_OPTION)) {
+            return;
+        }
+        Path file = Path.of(requiredOption(args, IMPORT_OPTION));
+        String username = requiredOption(args, USER_OPTION);
+        ExportFormat format = args.containsOption(FORMAT_OPTION)
+                ? ExportFormat.fromValue(requiredOption(args, FORMAT_OPTION))
+                : formatOf(file);
+
+        MeasurementImportResponse response;
+        try (InputStream in = open(file)) {
+            response = measurementImportService.importMeasurements(in, format, username);
+        }
+        System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(response));
+        exitCode = response.getRejected() > 0 ? EXIT_REJECTED : 0;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private static String requiredOption(ApplicationArguments args, String name) {
+        List<String> values = args.getOptionValues(name);
+        if (values == null || values.size() != 1 || values.get(0).isBlank()) {
+            throw new ValidationException("Option --" + name + "=<value> is required once");
+        }
+        return values.get(0);
+    }
+
+    private static ExportFormat formatOf(Path file) {
+        String name = stripGzip(file.getFileName().toString().toLowerCase(Locale.ROOT));
+        int dot = name.lastIndexOf('.');
+        if (dot < 0) {
+            throw new ValidationException("Cannot derive the format of " + file + "; pass --" + FORMAT_OPTION);
+        }
+        return ExportFormat.fromValue(name.substring(dot + 1));
+    }
+
+    private static InputStream open(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz")
+                ? new GZIPInputStream(in, 64 * 1024)
+                : in;
+    }
+
+    private static String stripGzip(String name) {
+        return name.endsWith(".gz") ? name.substring(0, name.length() - 3) : name;
+    }
+}
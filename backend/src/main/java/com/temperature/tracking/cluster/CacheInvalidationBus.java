@@ -0,0 +1,268 @@
+package com.temperature.tracking.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
+import com.temperature.tracking.event.SeriesChangedEvent;
+import com.temperature.tracking.event.UserChangedEvent;
+import com.temperature.tracking.hotwindow.HotWindowStore;
+import com.temperature.tracking.security.PrincipalCache;
+import com.temperature.tracking.service.SeriesMetadataCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the in-process caches of all instances sharing a database current, using PostgreSQL
+ * {@code LISTEN/NOTIFY} on the {@value #CHANNEL} channel. Enabled with {@code cache.invalidation.enabled},
+ * which only pays off with several instances: every measurement write then sends a notification.
+ * <p>
+ * Changes of series, user credentials and, while the hot window is enabled, measurements are sent with
+ * {@code pg_notify} as part of their transaction, so PostgreSQL delivers them exactly when the transaction
+ * commits and never for a rollback. Every instance listens on a dedicated connection outside the pool and
+ * applies the changes of the others to its {@link SeriesMetadataCache}, {@link PrincipalCache} and
+ * {@link HotWindowStore}. Measurement changes too large for one notification only name their series,
+ * whose windows are then reloaded.
+ * <p>
+ * Notifications sent while an instance is not listening are lost, so each time it subscribes again it
+ * flushes its caches and reloads the hot window. The first subscription does not: it follows right after
+ * the hot window was loaded at startup, before any request was served.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    static final String CHANNEL = "cache_invalidation";
+
+    static final String SENT_METRIC = "cache.invalidation.sent";
+    static final String RECEIVED_METRIC = "cache.invalidation.received";
+    static final String RESYNCS_METRIC = "cache.invalidation.resyncs";
+
+    /** PostgreSQL rejects notification payloads of 8000 bytes or more. */
+    static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(:channel, :payload)";
+
+    /** How long the listener waits for notifications before checking for shutdown. */
+    private static final int POLL_INTERVAL_MILLIS = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectMapper objectMapper;
+    private final SeriesMetadataCache seriesMetadataCache;
+    private final PrincipalCache principalCache;
+    private final HotWindowStore hotWindowStore;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration reconnectDelay;
+    private final String node = UUID.randomUUID().toString();
+
+    private Thread listener;
+    private volatile boolean running;
+    /** Whether the listener subscribed before; only read and written by the listener thread. */
+    private boolean subscribed;
+
+    public CacheInvalidationBus(NamedParameterJdbcTemplate jdbcTemplate,
+                                DataSourceProperties dataSourceProperties,
+                                ObjectMapper objectMapper,
+                                SeriesMetadataCache seriesMetadataCache,
+                                PrincipalCache principalCache,
+                                HotWindowStore hotWindowStore,
+                                MeterRegistry meterRegistry,
+                                @Value("${cache.invalidation.enabled:false}") boolean enabled,
+                                @Value("${cache.invalidation.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.objectMapper = objectMapper;
+        this.seriesMetadataCache = seriesMetadataCache;
+        this.principalCache = principalCache;
+        this.hotWindowStore = hotWindowStore;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onSeriesChanged(SeriesChangedEvent event) {
+        send(InvalidationMessage.of(node, event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        send(InvalidationMessage.of(node, event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMeasurementChanged(MeasurementChangedEvent event) {
+        if (!hotWindowStore.isEnabled()) {
+            return;
+        }
+        String payload = serialize(InvalidationMessage.of(node, event));
+        if (!fits(payload)) {
+            Set<Integer> seriesIds = Stream.concat(event.previous().stream(), event.current().stream())
+                    .map(MeasurementSnapshot::seriesId)
+                    .collect(Collectors.toSet());
+            payload = serialize(InvalidationMessage.stale(node, seriesIds));
+        }
+        if (!fits(payload)) {
+            payload = serialize(InvalidationMessage.everything(node));
+        }
+        notify(payload);
+    }
+
+    private void send(InvalidationMessage message) {
+        notify(serialize(message));
+    }
+
+    private void notify(String payload) {
+        if (!enabled) {
+            return;
+        }
+        // Runs in the transaction of the change; PostgreSQL holds the notification back until the commit
+        jdbcTemplate.execute(NOTIFY_SQL, Map.of("channel", CHANNEL, "payload", payload),
+                (PreparedStatementCallback<Boolean>) statement -> statement.execute());
+        meterRegistry.counter(SENT_METRIC).increment();
+    }
+
+    private String serialize(InvalidationMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize a cache invalidation message", e);
+        }
+    }
+
+    private static boolean fits(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES;
+    }
+
+    /**
+     * Applies a notification received from another instance; those sent by this instance are ignored.
+     */
+    void receive(String payload) {
+        InvalidationMessage message;
+        try {
+            message = objectMapper.readValue(payload, InvalidationMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignored a malformed cache invalidation message: {}", payload, e);
+            return;
+        }
+        if (node.equals(message.node())) {
+            return;
+        }
+        meterRegistry.counter(RECEIVED_METRIC).increment();
+        if (message.series() != null) {
+            seriesMetadataCache.onSeriesChanged(message.series());
+            hotWindowStore.onSeriesChanged(message.series());
+        } else if (message.user() != null) {
+            principalCache.onUserChanged(message.user());
+        } else if (message.measurements() != null) {
+            hotWindowStore.onMeasurementChanged(message.measurements());
+        } else if (message.staleSeries() != null) {
+            hotWindowStore.reload(message.staleSeries());
+        } else {
+            resync();
+        }
+    }
+
+    /**
+     * Drops everything that may have changed unnoticed.
+     */
+    void resync() {
+        meterRegistry.counter(RESYNCS_METRIC).increment();
+        seriesMetadataCache.invalidateAll();
+        principalCache.invalidateAll();
+        hotWindowStore.reload();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        if (listener == null) {
+            return;
+        }
+        running = false;
+        try {
+            listener.join(POLL_INTERVAL_MILLIS * 2L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Below the phases of the web server and its graceful shutdown
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+                 Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+                if (subscribed) {
+                    resync();
+                }
+                subscribed = true;
+                PGConnection notifications = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] received = notifications.getNotifications(POLL_INTERVAL_MILLIS);
+                    if (received != null) {
+                        for (PGNotification notification : received) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Lost the cache invalidation subscription, reconnecting in {}", reconnectDelay, e);
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.temperature.tracking.cluster;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.SeriesChangedEvent;
+import com.temperature.tracking.event.UserChangedEvent;
+
+import java.util.Set;
+
+/**
+ * Payload of a notification on the {@value CacheInvalidationBus#CHANNEL} channel, serialized as JSON.
+ * At most one change is set; a message without any tells that everything may be stale.
+ *
+ * @param node the instance that sent the message, which ignores it
+ * @param series a changed series
+ * @param user a user whose credentials changed
+ * @param measurements changed measurements
+ * @param staleSeries series with changed measurements that did not fit into the payload
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+record InvalidationMessage(String node, SeriesChangedEvent series, UserChangedEvent user,
+                           MeasurementChangedEvent measurements, Set<Integer> staleSeries) {
+
+    static InvalidationMessage of(String node, SeriesChangedEvent series) {
+        return new InvalidationMessage(node, series, null, null, null);
+    }
+
+    static InvalidationMessage of(String node, UserChangedEvent user) {
+        return new InvalidationMessage(node, null, user, null, null);
+    }
+
+    static InvalidationMessage of(String node, MeasurementChangedEvent measurements) {
+        return new InvalidationMessage(node, null, null, measurements, null);
+    }
+
+    static InvalidationMessage stale(String node, Set<Integer> seriesIds) {
+        return new InvalidationMessage(node, null, null, null, seriesIds);
+    }
+
+    static InvalidationMessage everything(String node) {
+        return new InvalidationMessage(node, null, null, null, null);
+    }
+}
@@ -0,0 +1,236 @@
+package com.temperature.tracking.coldstorage;
+
+import java.util.Arrays;
+
+/**
+ * Binary encoding of a {@link SealedBlock}, column by column.
+ * <ul>
+ *   <li>timestamps: the first value, the first delta, then deltas of deltas, which are zero
+ *       for a regular sampling interval</li>
+ *   <li>ids and values: the first value, then deltas; values are hundredths, so deltas are exact</li>
+ *   <li>creators: runs of {@code (creator, length)}</li>
+ *   <li>creation times: deltas between consecutive creation times, or between consecutive delays
+ *       after the timestamp if those are more regular, as for measurements stored as they are taken</li>
+ * </ul>
+ * All numbers are zig-zag encoded variable-length integers, so a regularly sampled series
+ * takes about four bytes per point.
+ */
+public final class BlockCodec {
+
+    static final byte VERSION = 1;
+
+    private BlockCodec() {
+    }
+
+    public static byte[] encode(SealedBlock block) {
+        int size = block.size();
+        Output out = new Output(size * 6 + 16);
+        out.write(VERSION);
+        out.writeUnsigned(size);
+        if (size == 0) {
+            return out.toByteArray();
+        }
+
+        long[] timestamps = block.timestamps();
+        out.writeSigned(timestamps[0]);
+        long previousDelta = 0;
+        for (int i = 1; i < size; i++) {
+            long delta = timestamps[i] - timestamps[i - 1];
+            out.writeSigned(delta - previousDelta);
+            previousDelta = delta;
+        }
+
+        writeDeltas(out, block.ids());
+        writeDeltas(out, block.values());
+
+        int[] createdBy = block.createdBy();
+        int runs = 1;
+        for (int i = 1; i < size; i++) {
+            if (createdBy[i] != createdBy[i - 1]) {
+                runs++;
+            }
+        }
+        out.writeUnsigned(runs);
+        int runStart = 0;
+        for (int i = 1; i <= size; i++) {
+            if (i == size || createdBy[i] != createdBy[runStart]) {
+                out.writeSigned(createdBy[runStart]);
+                out.writeUnsigned(i - runStart);
+                runStart = i;
+            }
+        }
+
+        long[] createdAt = block.createdAt();
+        boolean delays = prefersDelays(timestamps, createdAt);
+        out.write(delays ? 1 : 0);
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            if (createdAt[i] == SealedBlock.NO_CREATED_AT) {
+                // Zero stands for a missing creation time, deltas are shifted by one
+                out.writeUnsigned(0);
+            } else {
+                long current = delays ? createdAt[i] - timestamps[i] : createdAt[i];
+                out.writeUnsigned(zigZag(current - previous) + 1);
+                previous = current;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public static SealedBlock decode(byte[] data) {
+        Input in = new Input(data);
+        byte version = in.read();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported block version: " + version);
+        }
+        int size = (int) in.readUnsigned();
+        long[] timestamps = new long[size];
+        int[] ids = new int[size];
+        int[] values = new int[size];
+        int[] createdBy = new int[size];
+        long[] createdAt = new long[size];
+        if (size == 0) {
+            return new SealedBlock(timestamps, ids, values, createdBy, createdAt);
+        }
+
+        timestamps[0] = in.readSigned();
+        long delta = 0;
+        for (int i = 1; i < size; i++) {
+            delta += in.readSigned();
+            timestamps[i] = timestamps[i - 1] + delta;
+        }
+
+        readDeltas(in, ids);
+        readDeltas(in, values);
+
+        int runs = (int) in.readUnsigned();
+        int position = 0;
+        for (int run = 0; run < runs; run++) {
+            int creator = (int) in.readSigned();
+            int length = (int) in.readUnsigned();
+            Arrays.fill(createdBy, position, position + length, creator);
+            position += length;
+        }
+
+        boolean delays = in.read() == 1;
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            long encoded = in.readUnsigned();
+            if (encoded == 0) {
+                createdAt[i] = SealedBlock.NO_CREATED_AT;
+            } else {
+                previous += unZigZag(encoded - 1);
+                createdAt[i] = delays ? previous + timestamps[i] : previous;
+            }
+        }
+        return new SealedBlock(timestamps, ids, values, createdBy, createdAt);
+    }
+
+    /**
+     * Whether creation times change less from point to point when taken relative to the timestamps.
+     */
+    private static boolean prefersDelays(long[] timestamps, long[] createdAt) {
+        long absoluteChange = 0;
+        long delayChange = 0;
+        int previous = -1;
+        for (int i = 0; i < createdAt.length; i++) {
+            if (createdAt[i] == SealedBlock.NO_CREATED_AT) {
+                continue;
+            }
+            if (previous >= 0) {
+                absoluteChange += Math.abs(createdAt[i] - createdAt[previous]);
+                delayChange += Math.abs((createdAt[i] - timestamps[i]) - (createdAt[previous] - timestamps[previous]));
+            }
+            previous = i;
+        }
+        return delayChange < absoluteChange;
+    }
+
+    private static void writeDeltas(Output out, int[] column) {
+        out.writeSigned(column[0]);
+        for (int i = 1; i < column.length; i++) {
+            out.writeSigned((long) column[i] - column[i - 1]);
+        }
+    }
+
+    private static void readDeltas(Input in, int[] column) {
+        column[0] = (int) in.readSigned();
+        for (int i = 1; i < column.length; i++) {
+            column[i] = (int) (column[i - 1] + in.readSigned());
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Output {
+
+        private byte[] buffer;
+        private int size;
+
+        Output(int capacity) {
+            buffer = new byte[capacity];
+        }
+
+        void write(int value) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void writeSigned(long value) {
+            writeUnsigned(zigZag(value));
+        }
+
+        void writeUnsigned(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] data;
+        private int position;
+
+        Input(byte[] data) {
+            this.data = data;
+        }
+
+        byte read() {
+            if (position == data.length) {
+                throw new IllegalArgumentException("Truncated block");
+            }
+            return data[position++];
+        }
+
+        long readSigned() {
+            return unZigZag(readUnsigned());
+        }
+
+        long readUnsigned() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte next = read();
+                value |= (long) (next & 0x7F) << shift;
+                if (next >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed variable-length integer");
+        }
+    }
+}
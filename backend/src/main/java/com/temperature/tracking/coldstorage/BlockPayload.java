@@ -0,0 +1,13 @@
+package com.temperature.tracking.coldstorage;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Encoded contents of a measurement block, selected without loading the block entity.
+ */
+public record BlockPayload(Integer seriesId, ZonedDateTime minTimestamp, byte[] data) {
+
+    public SealedBlock decode() {
+        return BlockCodec.decode(data);
+    }
+}
@@ -0,0 +1,427 @@
+package com.temperature.tracking.coldstorage;
+
+import com.temperature.tracking.dto.MeasurementCursor;
+import com.temperature.tracking.dto.MeasurementPoint;
+import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.entity.MeasurementBlock;
+import com.temperature.tracking.repository.MeasurementBlockRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import com.temperature.tracking.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Moves measurements older than {@code seal-after} out of the {@code measurements} table into
+ * compressed per-series blocks (see {@link BlockCodec}) and reads them back.
+ * <p>
+ * Once {@code block-size} measurements of a series are older than {@code seal-after}, the oldest of them
+ * are encoded into one {@code measurement_blocks} row and deleted from {@code measurements} in the same
+ * transaction; fewer stay where they are until enough have aged. Sealing changes where a measurement is
+ * stored, not its contents, so it publishes no change events and leaves rollups as they are.
+ * <p>
+ * Read methods join the caller's transaction and return sealed measurements only; callers merge them with
+ * the rows still in {@code measurements}, reading both in one snapshot. Writing a sealed measurement
+ * requires {@linkplain #unseal(Integer) unsealing} its block first, which moves all points of the block
+ * back into {@code measurements}; the next sealing run compresses them again.
+ */
+@Slf4j
+@Service
+public class ColdStorageService {
+
+    static final String SEALED_METRIC = "measurements.cold_storage.sealed";
+    static final String UNSEALED_METRIC = "measurements.cold_storage.unsealed";
+
+    /** Order of sealed responses: by series, then by {@code (timestamp, id)}. */
+    public static final Comparator<MeasurementResponse> RESPONSE_ORDER = Comparator
+            .comparing(MeasurementResponse::getSeriesId)
+            .thenComparing(response -> response.getTimestamp().toInstant())
+            .thenComparing(MeasurementResponse::getId);
+
+    public static final Comparator<MeasurementPoint> POINT_ORDER = Comparator
+            .comparing((MeasurementPoint point) -> point.timestamp().toInstant())
+            .thenComparing(MeasurementPoint::id);
+
+    private final MeasurementBlockRepository blockRepository;
+    private final SeriesRepository seriesRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration sealAfter;
+    private final int blockSize;
+    private final int maxBlocksPerRun;
+
+    @Autowired
+    public ColdStorageService(MeasurementBlockRepository blockRepository,
+                              SeriesRepository seriesRepository,
+                              UserRepository userRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${measurements.cold-storage.enabled:true}") boolean enabled,
+                              @Value("${measurements.cold-storage.seal-after:P30D}") Duration sealAfter,
+                              @Value("${measurements.cold-storage.block-size:4096}") int blockSize,
+                              @Value("${measurements.cold-storage.max-blocks-per-run:1000}") int maxBlocksPerRun,
+                              @Value("${measurements.hot-window.duration:PT24H}") Duration hotWindowDuration) {
+        this(blockRepository, seriesRepository, userRepository, transactionManager, meterRegistry, Clock.systemUTC(),
+                enabled, sealAfter, blockSize, maxBlocksPerRun);
+        // Ranges served from the hot window are not merged with sealed points
+        if (sealAfter.compareTo(hotWindowDuration) <= 0) {
+            throw new IllegalArgumentException(
+                    "measurements.cold-storage.seal-after must be longer than measurements.hot-window.duration");
+        }
+    }
+
+    ColdStorageService(MeasurementBlockRepository blockRepository,
+                       SeriesRepository seriesRepository,
+                       UserRepository userRepository,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       Clock clock,
+                       boolean enabled,
+                       Duration sealAfter,
+                       int blockSize,
+                       int maxBlocksPerRun) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("measurements.cold-storage.block-size must be positive");
+        }
+        this.blockRepository = blockRepository;
+        this.seriesRepository = seriesRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.sealAfter = sealAfter;
+        this.blockSize = blockSize;
+        this.maxBlocksPerRun = maxBlocksPerRun;
+    }
+
+    /**
+     * Seals full blocks of expired measurements, each in its own transaction,
+     * at most {@code max-blocks-per-run} per run.
+     *
+     * @return the number of sealed measurements
+     */
+    @Scheduled(fixedDelayString = "${measurements.cold-storage.interval:PT1H}",
+            initialDelayString = "${measurements.cold-storage.interval:PT1H}")
+    public int sealExpired() {
+        if (!enabled) {
+            return 0;
+        }
+        ZonedDateTime cutoff = ZonedDateTime.now(clock).minus(sealAfter);
+        int blocks = 0;
+        int sealed = 0;
+        for (Integer seriesId : seriesRepository.findAllIds()) {
+            while (blocks < maxBlocksPerRun) {
+                Integer count = transactionTemplate.execute(status -> sealOldest(seriesId, cutoff));
+                if (count == null || count == 0) {
+                    break;
+                }
+                blocks++;
+                sealed += count;
+            }
+        }
+        if (blocks > 0) {
+            log.info("Sealed {} measurements older than {} into {} blocks", sealed, cutoff, blocks);
+        }
+        return sealed;
+    }
+
+    private int sealOldest(Integer seriesId, ZonedDateTime cutoff) {
+        blockRepository.lockSeries(seriesId);
+        SealedBlock block = blockRepository.lockOldestMeasurements(seriesId, cutoff, blockSize);
+        if (block.size() < blockSize) {
+            return 0;
+        }
+        blockRepository.save(new MeasurementBlock(null, seriesId, block.timestamp(0), block.timestamp(block.size() - 1),
+                block.minId(), block.maxId(), block.size(), BlockCodec.encode(block)));
+        blockRepository.deleteMeasurements(seriesId, block);
+        meterRegistry.counter(SEALED_METRIC).increment(block.size());
+        return block.size();
+    }
+
+    /**
+     * Moves the block holding a measurement back into the {@code measurements} table.
+     * Must be called within a read-write transaction.
+     *
+     * @return whether the measurement was sealed
+     */
+    public boolean unseal(Integer measurementId) {
+        Optional<MeasurementBlock> block = findBlockContaining(measurementId);
+        if (block.isEmpty()) {
+            return false;
+        }
+        blockRepository.lockSeries(block.get().getSeriesId());
+        // Another transaction may have unsealed the block while this one waited for the lock
+        block = findBlockContaining(measurementId);
+        block.ifPresent(this::restore);
+        return block.isPresent();
+    }
+
+    /**
+     * Moves all blocks of a series holding points within {@code [from, to)} back into the
+     * {@code measurements} table, e.g. before aggregates are recomputed from its rows.
+     * Must be called within a read-write transaction.
+     */
+    public void unseal(Integer seriesId, ZonedDateTime from, ZonedDateTime to) {
+        if (!blockRepository.existsInRange(seriesId, from, to)) {
+            return;
+        }
+        blockRepository.lockSeries(seriesId);
+        blockRepository.findInRange(seriesId, from, to).forEach(this::restore);
+    }
+
+    private Optional<MeasurementBlock> findBlockContaining(Integer measurementId) {
+        return blockRepository.findByIdRangeContaining(measurementId).stream()
+                .filter(block -> BlockCodec.decode(block.getData()).indexOf(measurementId) >= 0)
+                .findFirst();
+    }
+
+    private void restore(MeasurementBlock block) {
+        blockRepository.restoreMeasurements(block.getSeriesId(), BlockCodec.decode(block.getData()));
+        blockRepository.deleteAllByIdInBatch(List.of(block.getId()));
+        meterRegistry.counter(UNSEALED_METRIC).increment(block.getPointCount());
+    }
+
+    public Optional<MeasurementResponse> findResponseById(Integer id) {
+        return findResponsesByIds(List.of(id)).stream().findFirst();
+    }
+
+    /**
+     * Returns the sealed measurements among the given ids, in no particular order.
+     */
+    public List<MeasurementResponse> findResponsesByIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Set<Integer> wanted = new HashSet<>(ids);
+        ResponseMapper mapper = new ResponseMapper();
+        List<MeasurementResponse> responses = new ArrayList<>();
+        for (BlockPayload payload : blockRepository.findPayloadsInIdRange(Collections.min(wanted), Collections.max(wanted))) {
+            SealedBlock block = payload.decode();
+            for (int i = 0; i < block.size(); i++) {
+                if (wanted.contains(block.ids()[i])) {
+                    responses.add(mapper.map(payload.seriesId(), block, i));
+                }
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Returns the sealed measurements within {@code [from, to)} in {@link #RESPONSE_ORDER}.
+     *
+     * @param seriesId series to read, or {@code null} for all series
+     */
+    public List<MeasurementResponse> findResponses(Integer seriesId, ZonedDateTime from, ZonedDateTime to) {
+        try (Stream<MeasurementResponse> responses = streamResponses(seriesId, from, to)) {
+            return responses.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns at most {@code limit} sealed measurements of a series within {@code [from, to)}
+     * positioned after the cursor, in {@code (timestamp, id)} order.
+     *
+     * @param after the last measurement of the previous page, or {@code null} for the first page
+     */
+    public List<MeasurementResponse> findResponses(Integer seriesId, ZonedDateTime from, ZonedDateTime to,
+                                                   MeasurementCursor after, int limit) {
+        ZonedDateTime start = after != null && after.timestamp().isAfter(from) ? after.timestamp() : from;
+        try (Stream<MeasurementResponse> responses = streamResponses(seriesId, start, to)) {
+            return responses
+                    .filter(response -> after == null || isAfter(response, after))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static boolean isAfter(MeasurementResponse response, MeasurementCursor cursor) {
+        int order = response.getTimestamp().toInstant().compareTo(cursor.timestamp().toInstant());
+        return order > 0 || (order == 0 && response.getId() > cursor.id());
+    }
+
+    /**
+     * Streams the sealed measurements within {@code [from, to)} in {@link #RESPONSE_ORDER}, decoding one
+     * block at a time. Must be consumed inside a transaction and closed afterwards.
+     *
+     * @param seriesId series to read, or {@code null} for all series
+     */
+    public Stream<MeasurementResponse> streamResponses(Integer seriesId, ZonedDateTime from, ZonedDateTime to) {
+        Stream<BlockPayload> payloads = seriesId != null
+                ? blockRepository.streamPayloadsInRange(seriesId, from, to)
+                : blockRepository.streamAllPayloadsInRange(from, to);
+        return stream(payloads, from, to, new ResponseMapper());
+    }
+
+    /**
+     * Streams the sealed points of a series within {@code [from, to)} in {@link #POINT_ORDER}.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    public Stream<MeasurementPoint> streamPoints(Integer seriesId, ZonedDateTime from, ZonedDateTime to) {
+        return stream(blockRepository.streamPayloadsInRange(seriesId, from, to), from, to,
+                (series, block, index) -> block.point(index));
+    }
+
+    public Optional<ZonedDateTime> findFirstTimestamp(Integer seriesId) {
+        return blockRepository.findFirstTimestampBySeriesId(seriesId);
+    }
+
+    public Optional<ZonedDateTime> findLastTimestamp(Integer seriesId) {
+        return blockRepository.findLastTimestampBySeriesId(seriesId);
+    }
+
+    private static <T> Stream<T> stream(Stream<BlockPayload> payloads, ZonedDateTime from, ZonedDateTime to,
+                                        PointMapper<T> mapper) {
+        Iterator<T> points = new BlockMergeIterator<>(payloads.iterator(),
+                SealedBlock.toMicros(from), SealedBlock.toMicros(to), mapper);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(points, Spliterator.ORDERED), false)
+                .onClose(payloads::close);
+    }
+
+    @FunctionalInterface
+    private interface PointMapper<T> {
+
+        T map(int seriesId, SealedBlock block, int index);
+    }
+
+    /**
+     * Builds responses, resolving series names and usernames once per call.
+     */
+    private final class ResponseMapper implements PointMapper<MeasurementResponse> {
+
+        private final Map<Integer, String> seriesNames = new HashMap<>();
+        private final Map<Integer, String> usernames = new HashMap<>();
+
+        @Override
+        public MeasurementResponse map(int seriesId, SealedBlock block, int index) {
+            Integer createdBy = block.createdBy(index);
+            return new MeasurementResponse(block.ids()[index], seriesId,
+                    seriesNames.computeIfAbsent(seriesId, id -> seriesRepository.findNameById(id).orElse(null)),
+                    block.value(index), block.timestamp(index), createdBy,
+                    createdBy != null
+                            ? usernames.computeIfAbsent(createdBy, id -> userRepository.findUsernameById(id).orElse(null))
+                            : null,
+                    block.createdAt(index));
+        }
+    }
+
+    /**
+     * Merges the points of blocks ordered by {@code (series, min timestamp)}. Blocks sealed from late
+     * measurements may overlap earlier ones, so a block is decoded as soon as it could hold the next
+     * point, and the open blocks are merged through a priority queue; usually only one is open.
+     */
+    private static final class BlockMergeIterator<T> implements Iterator<T> {
+
+        private final Iterator<BlockPayload> blocks;
+        private final long from;
+        private final long to;
+        private final PointMapper<T> mapper;
+        private final PriorityQueue<BlockCursor> open = new PriorityQueue<>(BlockCursor.ORDER);
+        private BlockPayload upcoming;
+
+        BlockMergeIterator(Iterator<BlockPayload> blocks, long from, long to, PointMapper<T> mapper) {
+            this.blocks = blocks;
+            this.from = from;
+            this.to = to;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            return !open.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BlockCursor cursor = open.poll();
+            T point = mapper.map(cursor.seriesId, cursor.block, cursor.position);
+            if (++cursor.position < cursor.end) {
+                open.add(cursor);
+            }
+            return point;
+        }
+
+        private void fill() {
+            while (true) {
+                if (upcoming == null) {
+                    if (!blocks.hasNext()) {
+                        return;
+                    }
+                    upcoming = blocks.next();
+                }
+                BlockCursor head = open.peek();
+                if (head != null && !startsNotAfter(upcoming, head)) {
+                    return;
+                }
+                SealedBlock block = upcoming.decode();
+                int start = block.lowerBound(from);
+                int end = block.lowerBound(to);
+                if (start < end) {
+                    open.add(new BlockCursor(upcoming.seriesId(), block, start, end));
+                }
+                upcoming = null;
+            }
+        }
+
+        private static boolean startsNotAfter(BlockPayload payload, BlockCursor cursor) {
+            int order = Integer.compare(payload.seriesId(), cursor.seriesId);
+            return order < 0 || (order == 0
+                    && SealedBlock.toMicros(payload.minTimestamp()) <= cursor.block.timestamps()[cursor.position]);
+        }
+    }
+
+    private static final class BlockCursor {
+
+        static final Comparator<BlockCursor> ORDER = (first, second) -> {
+            int order = Integer.compare(first.seriesId, second.seriesId);
+            return order != 0 ? order : first.block.compareTo(first.position,
+                    second.block.timestamps()[second.position], second.block.ids()[second.position]);
+        };
+
+        final int seriesId;
+        final SealedBlock block;
+        final int end;
+        int position;
+
+        BlockCursor(int seriesId, SealedBlock block, int position, int end) {
+            this.seriesId = seriesId;
+            this.block = block;
+            this.position = position;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.temperature.tracking.coldstorage;
+
+import com.temperature.tracking.dto.MeasurementPoint;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+/**
+ * Measurements of one series in columnar form, ordered by {@code (timestamp, id)}.
+ * Timestamps are epoch microseconds, the precision of PostgreSQL, and values are hundredths,
+ * the scale of the {@code measurements.value} column. A creator of {@value #NO_CREATOR} and a
+ * creation time of {@link Long#MIN_VALUE} stand for null.
+ */
+public record SealedBlock(long[] timestamps, int[] ids, int[] values, int[] createdBy, long[] createdAt) {
+
+    public static final int VALUE_SCALE = 2;
+    public static final int NO_CREATOR = 0;
+    public static final long NO_CREATED_AT = Long.MIN_VALUE;
+
+    public static final SealedBlock EMPTY = new Builder(0).build();
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long minTimestamp() {
+        return timestamps[0];
+    }
+
+    public long maxTimestamp() {
+        return timestamps[size() - 1];
+    }
+
+    public int minId() {
+        return Arrays.stream(ids).min().orElseThrow();
+    }
+
+    public int maxId() {
+        return Arrays.stream(ids).max().orElseThrow();
+    }
+
+    public int indexOf(int id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public ZonedDateTime timestamp(int index) {
+        return toDateTime(timestamps[index]);
+    }
+
+    public BigDecimal value(int index) {
+        return BigDecimal.valueOf(values[index], VALUE_SCALE);
+    }
+
+    public Integer createdBy(int index) {
+        return createdBy[index] != NO_CREATOR ? createdBy[index] : null;
+    }
+
+    public ZonedDateTime createdAt(int index) {
+        return createdAt[index] != NO_CREATED_AT ? toDateTime(createdAt[index]) : null;
+    }
+
+    public MeasurementPoint point(int index) {
+        return new MeasurementPoint(ids[index], timestamp(index), value(index));
+    }
+
+    /**
+     * Compares the position of a point with a {@code (timestamp, id)} key.
+     */
+    public int compareTo(int index, long timestamp, int id) {
+        int result = Long.compare(timestamps[index], timestamp);
+        return result != 0 ? result : Integer.compare(ids[index], id);
+    }
+
+    /**
+     * First position whose timestamp is not before the given one.
+     */
+    public int lowerBound(long timestamp) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (timestamps[middle] < timestamp) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public static int toHundredths(BigDecimal value) {
+        return value.setScale(VALUE_SCALE, RoundingMode.HALF_UP).unscaledValue().intValueExact();
+    }
+
+    public static long toMicros(ZonedDateTime timestamp) {
+        return toMicros(timestamp.toInstant());
+    }
+
+    public static long toMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1000);
+    }
+
+    public static ZonedDateTime toDateTime(long micros) {
+        Instant instant = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1000);
+        return instant.atZone(ZoneId.systemDefault());
+    }
+
+    /**
+     * Collects points in {@code (timestamp, id)} order.
+     */
+    public static final class Builder {
+
+        private long[] timestamps;
+        private int[] ids;
+        private int[] values;
+        private int[] createdBy;
+        private long[] createdAt;
+        private int size;
+
+        public Builder(int expectedSize) {
+            timestamps = new long[expectedSize];
+            ids = new int[expectedSize];
+            values = new int[expectedSize];
+            createdBy = new int[expectedSize];
+            createdAt = new long[expectedSize];
+        }
+
+        public Builder add(long timestamp, int id, int value, int creator, long creationTime) {
+            if (size == ids.length) {
+                int capacity = Math.max(16, size * 2);
+                timestamps = Arrays.copyOf(timestamps, capacity);
+                ids = Arrays.copyOf(ids, capacity);
+                values = Arrays.copyOf(values, capacity);
+                createdBy = Arrays.copyOf(createdBy, capacity);
+                createdAt = Arrays.copyOf(createdAt, capacity);
+            }
+            timestamps[size] = timestamp;
+            ids[size] = id;
+            values[size] = value;
+            createdBy[size] = creator;
+            createdAt[size] = creationTime;
+            size++;
+            return this;
+        }
+
+        public SealedBlock build() {
+            return new SealedBlock(Arrays.copyOf(timestamps, size), Arrays.copyOf(ids, size),
+                    Arrays.copyOf(values, size), Arrays.copyOf(createdBy, size), Arrays.copyOf(createdAt, size));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.temperature.tracking.coldstorage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Merges two sequences sorted by the same order, such as hot rows and sealed points.
+ * The inputs are expected to be disjoint, which holds when both are read in one snapshot.
+ */
+public final class SortedMerge {
+
+    private SortedMerge() {
+    }
+
+    public static <T> List<T> merge(List<? extends T> first, List<? extends T> second, Comparator<? super T> order) {
+        return merge(first, second, order, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the first {@code limit} elements of both lists in order.
+     */
+    public static <T> List<T> merge(List<? extends T> first, List<? extends T> second,
+                                    Comparator<? super T> order, int limit) {
+        if (second.isEmpty() && first.size() <= limit) {
+            return new ArrayList<>(first);
+        }
+        List<T> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < first.size() || j < second.size())) {
+            if (j == second.size() || (i < first.size() && order.compare(first.get(i), second.get(j)) <= 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Lazily merges two streams; closing the result closes both.
+     */
+    public static <T> Stream<T> merge(Stream<? extends T> first, Stream<? extends T> second, Comparator<? super T> order) {
+        Peeking<T> left = new Peeking<>(first.iterator());
+        Peeking<T> right = new Peeking<>(second.iterator());
+        Iterator<T> merged = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return left.hasNext() || right.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!right.hasNext() || (left.hasNext() && order.compare(left.peek(), right.peek()) <= 0)) {
+                    return left.next();
+                }
+                return right.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try (first; second) {
+                        // Both streams are closed, even if closing the first one fails
+                    }
+                });
+    }
+
+    /**
+     * Merges a sorted iterator into a sequence that is pushed element by element, such as
+     * rows read through a callback. Call {@link #finish()} after the last pushed element.
+     */
+    public static final class Interleaving<T> implements Consumer<T> {
+
+        private final Peeking<T> other;
+        private final Comparator<? super T> order;
+        private final Consumer<? super T> action;
+
+        public Interleaving(Iterator<? extends T> other, Comparator<? super T> order, Consumer<? super T> action) {
+            this.other = new Peeking<>(other);
+            this.order = order;
+            this.action = action;
+        }
+
+        @Override
+        public void accept(T element) {
+            while (other.hasNext() && order.compare(other.peek(), element) < 0) {
+                action.accept(other.next());
+            }
+            action.accept(element);
+        }
+
+        public void finish() {
+            while (other.hasNext()) {
+                action.accept(other.next());
+            }
+        }
+    }
+
+    private static final class Peeking<T> implements Iterator<T> {
+
+        private final Iterator<? extends T> source;
+        private T head;
+        private boolean peeked;
+
+        Peeking(Iterator<? extends T> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return peeked || source.hasNext();
+        }
+
+        T peek() {
+            if (!peeked) {
+                head = source.next();
+                peeked = true;
+            }
+            return head;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T next = peek();
+            peeked = false;
+            head = null;
+            return next;
+        }
+    }
+}
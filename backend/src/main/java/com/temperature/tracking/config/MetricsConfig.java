@@ -0,0 +1,42 @@
+package com.temperature.tracking.config;
+
+import com.temperature.tracking.metrics.HibernateStatementCounter;
+import com.temperature.tracking.metrics.RequestStatementMetricsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Metrics beyond those Spring Boot records on its own ({@code http.server.requests} per endpoint and
+ * {@code spring.data.repository.invocations} per repository method).
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernateStatementCounter hibernateStatementCounter() {
+        return new HibernateStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(HibernateStatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestStatementMetricsFilter> requestStatementMetricsFilter(
+            HibernateStatementCounter statementCounter, MeterRegistry meterRegistry,
+            @Value("${metrics.statements.n-plus-one-threshold:10}") int nPlusOneThreshold,
+            @Value("${metrics.statements.response-header:false}") boolean headerEnabled) {
+        FilterRegistrationBean<RequestStatementMetricsFilter> registration = new FilterRegistrationBean<>(
+                new RequestStatementMetricsFilter(statementCounter, meterRegistry, nPlusOneThreshold, headerEnabled));
+        // Ahead of Spring Security, so statements run while authenticating are counted as well
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
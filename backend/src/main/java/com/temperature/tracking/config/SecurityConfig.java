@@ -19,6 +19,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -36,6 +38,10 @@ public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     @Value("${cors.allowed-origin}")
     private String allowedOrigin;
+    @Value("${server.port:8080}")
+    private int serverPort;
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -64,7 +70,10 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/v3/api-docs/**", "/swagger-ui/**", "/api/series/**").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/measurements/**", "/api/series/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(onManagementPort(HttpMethod.GET, "/actuator/prometheus")).permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/prometheus").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/measurements/**", "/api/series/**", "/api/changes/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/measurements/**", "/api/series/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/measurements/**", "/api/series/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/measurements/**", "/api/series/**").hasRole("ADMIN")
@@ -77,6 +86,16 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Matches the path only on the separate management port, which is meant to be reachable from inside the
+     * network only. Matches nothing while actuator shares the port of the API.
+     */
+    private RequestMatcher onManagementPort(HttpMethod method, String pattern) {
+        RequestMatcher path = AntPathRequestMatcher.antMatcher(method, pattern);
+        return request -> managementPort > 0 && managementPort != serverPort
+                && request.getLocalPort() == managementPort && path.matches(request);
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -0,0 +1,54 @@
+package com.temperature.tracking.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.temperature.tracking.dto.MeasurementColumns;
+import com.temperature.tracking.web.MeasurementColumnsHttpMessageConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Representations served next to the default JSON, chosen by the {@code Accept} header.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Reads and writes {@code application/cbor} with the modules and settings of the JSON mapper. Replaces the
+     * CBOR converter Spring MVC registers on its own, whose mapper knows nothing of the application.
+     * Date-times are written as epoch milliseconds and integers are read as such, so ingestion parses
+     * no date strings; ISO-8601 strings are still accepted.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper cborMapper = builder
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .featuresToDisable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS,
+                        DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .build();
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Ahead of the Jackson converter, which would otherwise take the +json type for itself
+        converters.add(0, new MeasurementColumnsHttpMessageConverter(objectMapper.getFactory(),
+                MediaType.parseMediaType(MeasurementColumns.JSON_MEDIA_TYPE)));
+        converters.add(1, new MeasurementColumnsHttpMessageConverter(new CBORFactory(),
+                MediaType.parseMediaType(MeasurementColumns.CBOR_MEDIA_TYPE)));
+    }
+}
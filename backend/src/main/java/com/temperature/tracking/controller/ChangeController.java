@@ -0,0 +1,25 @@
+package com.temperature.tracking.controller;
+
+import com.temperature.tracking.dto.ChangeFeedResponse;
+import com.temperature.tracking.service.ChangeLogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@Validated
+public class ChangeController {
+
+    private final ChangeLogService changeLogService;
+
+    @GetMapping
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "" + ChangeLogService.DEFAULT_LIMIT) int limit) {
+        ChangeFeedResponse changes = changeLogService.getChanges(since, limit);
+        return ResponseEntity.ok(changes);
+    }
+}
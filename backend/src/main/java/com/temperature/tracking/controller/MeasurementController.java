@@ -1,18 +1,50 @@
 package com.temperature.tracking.controller;
 
+import com.temperature.tracking.downsampling.DownsamplingMethod;
+import com.temperature.tracking.dto.AggregateResponse;
+import com.temperature.tracking.dto.MeasurementBatchRequest;
+import com.temperature.tracking.dto.MeasurementBatchResponse;
+import com.temperature.tracking.dto.MeasurementColumns;
+import com.temperature.tracking.dto.MeasurementImportResponse;
+import com.temperature.tracking.dto.MeasurementPageResponse;
 import com.temperature.tracking.dto.MeasurementRequest;
 import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.dto.RollupBucketResponse;
+import com.temperature.tracking.entity.RollupGranularity;
+import com.temperature.tracking.export.ExportFormat;
+import com.temperature.tracking.ingest.MeasurementIngestQueue;
+import com.temperature.tracking.service.ChangeLogService;
+import com.temperature.tracking.service.MeasurementExportService;
+import com.temperature.tracking.service.MeasurementImportService;
 import com.temperature.tracking.service.MeasurementService;
+import com.temperature.tracking.service.MeasurementStreamService;
+import com.temperature.tracking.service.RollupService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
 
 @RestController
 @RequestMapping("/api/measurements")
@@ -20,7 +52,28 @@ import java.util.List;
 @Validated
 public class MeasurementController {
 
+    /** Lets browsers keep measurement lists, revalidating them with their ETag on every use. */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    /** A media type a measurement list is written in and the suffix it adds to the ETag. */
+    private record Representation(MediaType mediaType, String eTagSuffix) {
+    }
+
+    private static final List<Representation> ROWS = List.of(
+            new Representation(MediaType.APPLICATION_JSON, ""),
+            new Representation(MediaType.APPLICATION_CBOR, "-cbor"));
+
+    private static final List<Representation> COLUMNS = List.of(
+            new Representation(MediaType.parseMediaType(MeasurementColumns.JSON_MEDIA_TYPE), "-columnar"),
+            new Representation(MediaType.parseMediaType(MeasurementColumns.CBOR_MEDIA_TYPE), "-columnar-cbor"));
+
     private final MeasurementService measurementService;
+    private final RollupService rollupService;
+    private final MeasurementStreamService measurementStreamService;
+    private final MeasurementExportService measurementExportService;
+    private final MeasurementImportService measurementImportService;
+    private final MeasurementIngestQueue measurementIngestQueue;
+    private final ChangeLogService changeLogService;
 
     @GetMapping
     public ResponseEntity<List<MeasurementResponse>> getAllMeasurements() {
@@ -28,26 +81,199 @@ public class MeasurementController {
         return ResponseEntity.ok(measurements);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMeasurements(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Integer seriesId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        StreamingResponseBody body = measurementExportService.exportMeasurements(seriesId, from, to, exportFormat, gzip);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("measurements." + exportFormat.getFileExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<MeasurementResponse> getMeasurementById(@PathVariable Integer id) {
         MeasurementResponse measurement = measurementService.getMeasurementById(id);
         return ResponseEntity.ok(measurement);
     }
 
-    @GetMapping("/series/{seriesId}")
-    public ResponseEntity<List<MeasurementResponse>> getMeasurementsBySeriesId(@PathVariable Integer seriesId) {
-        List<MeasurementResponse> measurements = measurementService.getMeasurementsBySeriesId(seriesId);
-        return ResponseEntity.ok(measurements);
+    @GetMapping(value = "/series/{seriesId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<List<MeasurementResponse>> getMeasurementsBySeriesId(
+            @PathVariable Integer seriesId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to,
+            @RequestParam(required = false) Integer maxPoints,
+            @RequestParam(defaultValue = "lttb") String method,
+            WebRequest request) {
+        return readIfModified(seriesId, maxPoints != null, ROWS, request,
+                () -> readMeasurements(seriesId, from, to, maxPoints, method));
+    }
+
+    private List<MeasurementResponse> readMeasurements(Integer seriesId, ZonedDateTime from, ZonedDateTime to,
+                                                       Integer maxPoints, String method) {
+        if (maxPoints != null) {
+            return measurementService.getDownsampledMeasurements(
+                    seriesId, from, to, maxPoints, DownsamplingMethod.fromValue(method));
+        } else if (from == null && to == null) {
+            return measurementService.getMeasurementsBySeriesId(seriesId);
+        } else {
+            return measurementService.getMeasurementsBySeriesId(seriesId, from, to);
+        }
+    }
+
+    @GetMapping(value = "/series/{seriesId}",
+            produces = {MeasurementColumns.JSON_MEDIA_TYPE, MeasurementColumns.CBOR_MEDIA_TYPE})
+    public ResponseEntity<MeasurementColumns> getMeasurementColumnsBySeriesId(
+            @PathVariable Integer seriesId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to,
+            @RequestParam(required = false) Integer maxPoints,
+            @RequestParam(defaultValue = "lttb") String method,
+            WebRequest request) {
+        return readIfModified(seriesId, maxPoints != null, COLUMNS, request,
+                () -> readMeasurementColumns(seriesId, from, to, maxPoints, method));
+    }
+
+    private MeasurementColumns readMeasurementColumns(Integer seriesId, ZonedDateTime from, ZonedDateTime to,
+                                                      Integer maxPoints, String method) {
+        return measurementService.getMeasurementColumns(seriesId, from, to, maxPoints,
+                maxPoints != null ? DownsamplingMethod.fromValue(method) : null);
+    }
+
+    /**
+     * Reads one layout of the measurements of a series unless the client already has it.
+     * A strong ETag stands for the exact bytes, so the negotiated representation appends its own suffix to the version.
+     */
+    private <T> ResponseEntity<T> readIfModified(Integer seriesId, boolean downsampled,
+                                                 List<Representation> representations,
+                                                 WebRequest request, Supplier<T> read) {
+        String suffix = negotiate(representations, request).eTagSuffix();
+        Optional<String> eTag = changeLogService.getMeasurementsVersion(seriesId, downsampled)
+                .map(version -> version + suffix);
+        if (eTag.isPresent() && request.checkNotModified(eTag.get())) {
+            // 304 Not Modified without reading the measurements
+            return null;
+        }
+
+        T body = read.get();
+        return eTag
+                .map(tag -> ResponseEntity.ok().eTag(tag).cacheControl(REVALIDATE))
+                .orElseGet(ResponseEntity::ok)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
+    }
+
+    /**
+     * Picks the representation the message converters will write: the first one the most preferred type of the
+     * {@code Accept} header takes, or the first one when the client states no preference.
+     */
+    private static Representation negotiate(List<Representation> representations, WebRequest request) {
+        String[] accept = request.getHeaderValues(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return representations.get(0);
+        }
+        List<MediaType> accepted = MediaType.parseMediaTypes(List.of(accept));
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType mediaType : accepted) {
+            for (Representation representation : representations) {
+                if (mediaType.isCompatibleWith(representation.mediaType())) {
+                    return representation;
+                }
+            }
+        }
+        return representations.get(0);
+    }
+
+    @GetMapping("/series/{seriesId}/page")
+    public ResponseEntity<MeasurementPageResponse> getMeasurementPage(
+            @PathVariable Integer seriesId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + MeasurementService.DEFAULT_PAGE_SIZE) int limit) {
+        MeasurementPageResponse page = measurementService.getMeasurementPage(seriesId, from, to, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(value = "/series/{seriesId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMeasurements(@PathVariable Integer seriesId) {
+        return measurementStreamService.subscribe(seriesId);
+    }
+
+    @GetMapping("/series/{seriesId}/aggregates")
+    public ResponseEntity<List<RollupBucketResponse>> getAggregates(
+            @PathVariable Integer seriesId,
+            @RequestParam(defaultValue = "hour") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to) {
+        List<RollupBucketResponse> buckets = rollupService.getBuckets(
+                seriesId, RollupGranularity.fromValue(granularity), from, to);
+        return ResponseEntity.ok(buckets);
+    }
+
+    @GetMapping("/series/{seriesId}/summary")
+    public ResponseEntity<AggregateResponse> getSummary(
+            @PathVariable Integer seriesId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to) {
+        AggregateResponse summary = rollupService.getSummary(seriesId, from, to);
+        return ResponseEntity.ok(summary);
     }
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<MeasurementResponse> createMeasurement(@Valid @RequestBody MeasurementRequest request) {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        if (measurementIngestQueue.isEnabled()) {
+            measurementIngestQueue.submit(request, username);
+            return ResponseEntity.accepted().build();
+        }
         MeasurementResponse measurement = measurementService.createMeasurement(request, username);
         return ResponseEntity.status(HttpStatus.CREATED).body(measurement);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MeasurementBatchResponse> createMeasurements(@Valid @RequestBody MeasurementBatchRequest request) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        if (measurementIngestQueue.isEnabled()) {
+            MeasurementBatchResponse response = measurementIngestQueue.submitBatch(request.getMeasurements(), username);
+            return ResponseEntity.accepted().body(response);
+        }
+        MeasurementBatchResponse response = measurementService.createMeasurements(request.getMeasurements(), username);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MeasurementImportResponse> importMeasurements(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body) throws IOException {
+        ExportFormat importFormat = ExportFormat.fromValue(format);
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        InputStream in = contentEncoding != null && contentEncoding.toLowerCase(Locale.ROOT).contains("gzip")
+                ? new GZIPInputStream(body, 64 * 1024)
+                : body;
+        MeasurementImportResponse response = measurementImportService.importMeasurements(in, importFormat, username);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<MeasurementResponse> updateMeasurement(
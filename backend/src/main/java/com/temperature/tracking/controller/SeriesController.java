@@ -2,15 +2,18 @@ package com.temperature.tracking.controller;
 
 import com.temperature.tracking.dto.SeriesRequest;
 import com.temperature.tracking.dto.SeriesResponse;
+import com.temperature.tracking.service.ChangeLogService;
 import com.temperature.tracking.service.SeriesService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,12 +23,21 @@ import java.util.List;
 @Validated
 public class SeriesController {
 
+    /** Lets browsers keep the series list, revalidating it with its ETag on every use. */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final SeriesService seriesService;
+    private final ChangeLogService changeLogService;
 
     @GetMapping
-    public ResponseEntity<List<SeriesResponse>> getAllSeries() {
+    public ResponseEntity<List<SeriesResponse>> getAllSeries(WebRequest request) {
+        String eTag = changeLogService.getSeriesVersion();
+        if (request.checkNotModified(eTag)) {
+            // 304 Not Modified without reading the series
+            return null;
+        }
         List<SeriesResponse> series = seriesService.getAllSeries();
-        return ResponseEntity.ok(series);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(series);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,63 @@
+package com.temperature.tracking.downsampling;
+
+import com.temperature.tracking.dto.MeasurementPoint;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces every bucket by a single point holding the average value and the average
+ * timestamp of its points. Holds only running sums for the current bucket.
+ */
+class AverageDownsampler implements Downsampler {
+
+    private final TimeBuckets buckets;
+    private final List<MeasurementPoint> result = new ArrayList<>();
+
+    private int bucket = -1;
+    private int count;
+    private BigDecimal valueSum;
+    private long timestampSum;
+    private ZonedDateTime firstTimestamp;
+
+    AverageDownsampler(TimeBuckets buckets) {
+        this.buckets = buckets;
+    }
+
+    @Override
+    public void accept(MeasurementPoint point) {
+        int index = buckets.indexOf(point.timestamp());
+        if (index != bucket) {
+            flushBucket();
+            bucket = index;
+            count = 0;
+            valueSum = BigDecimal.ZERO;
+            timestampSum = 0;
+            firstTimestamp = point.timestamp();
+        }
+        count++;
+        valueSum = valueSum.add(point.value());
+        // Offsets from the first timestamp of the bucket cannot overflow
+        timestampSum += point.timestamp().toInstant().toEpochMilli() - firstTimestamp.toInstant().toEpochMilli();
+    }
+
+    @Override
+    public List<MeasurementPoint> finish() {
+        flushBucket();
+        return result;
+    }
+
+    private void flushBucket() {
+        if (count == 0) {
+            return;
+        }
+        Instant averageInstant = firstTimestamp.toInstant().plusMillis(timestampSum / count);
+        BigDecimal average = valueSum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+        result.add(new MeasurementPoint(null, averageInstant.atZone(firstTimestamp.getZone()), average));
+        count = 0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.temperature.tracking.downsampling;
+
+import com.temperature.tracking.dto.MeasurementPoint;
+
+import java.util.List;
+
+/**
+ * Reduces a stream of points, ordered by timestamp, to at most a fixed number of points.
+ * Points are consumed one at a time so that only a bounded amount of state is kept,
+ * regardless of how many points the range contains.
+ * <p>
+ * Implementations split the time range {@code [start, end)} into equally wide buckets.
+ * They are not thread-safe and are meant to be used for a single query.
+ */
+public interface Downsampler {
+
+    /**
+     * Consumes the next point; points must arrive in ascending timestamp order.
+     */
+    void accept(MeasurementPoint point);
+
+    /**
+     * Completes downsampling and returns the selected points in timestamp order.
+     */
+    List<MeasurementPoint> finish();
+
+    /**
+     * Creates a downsampler for the given method.
+     *
+     * @param startMillis inclusive range start in epoch milliseconds
+     * @param endMillis exclusive range end in epoch milliseconds
+     * @param maxPoints the maximum number of points to produce
+     */
+    static Downsampler create(DownsamplingMethod method, long startMillis, long endMillis, int maxPoints) {
+        TimeBuckets buckets;
+        switch (method) {
+            case LTTB:
+                // First and last point are always kept, the rest is one point per bucket
+                buckets = new TimeBuckets(startMillis, endMillis, Math.max(1, maxPoints - 2));
+                return new LttbDownsampler(buckets);
+            case MINMAX:
+                buckets = new TimeBuckets(startMillis, endMillis, Math.max(1, maxPoints / 2));
+                return new MinMaxDownsampler(buckets);
+            case AVG:
+                buckets = new TimeBuckets(startMillis, endMillis, maxPoints);
+                return new AverageDownsampler(buckets);
+            default:
+                throw new IllegalArgumentException("Unsupported downsampling method: " + method);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.temperature.tracking.downsampling;
+
+import com.temperature.tracking.exception.ValidationException;
+
+import java.util.Locale;
+
+/**
+ * Supported algorithms for reducing a series to a bounded number of points.
+ */
+public enum DownsamplingMethod {
+    /** Largest-Triangle-Three-Buckets: keeps the points that preserve the visual shape. */
+    LTTB,
+    /** Keeps the minimum and maximum point of every bucket, so peaks are never lost. */
+    MINMAX,
+    /** Replaces every bucket by its average value. */
+    AVG;
+
+    /**
+     * Parses a method name case-insensitively.
+     *
+     * @throws ValidationException if the name does not denote a supported method
+     */
+    public static DownsamplingMethod fromValue(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Unsupported downsampling method: " + value);
+        }
+    }
+}
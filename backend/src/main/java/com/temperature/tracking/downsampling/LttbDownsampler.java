@@ -0,0 +1,127 @@
+package com.temperature.tracking.downsampling;
+
+import com.temperature.tracking.dto.MeasurementPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming Largest-Triangle-Three-Buckets downsampling over time buckets.
+ * <p>
+ * The first and the last point are always kept. From every other non-empty bucket the point
+ * forming the largest triangle with the previously selected point and the average of the
+ * following bucket is kept. Choosing a point therefore requires the following bucket to be
+ * complete, so at most two buckets of points are buffered at any time.
+ */
+class LttbDownsampler implements Downsampler {
+
+    private final TimeBuckets buckets;
+    private final List<MeasurementPoint> result = new ArrayList<>();
+
+    private MeasurementPoint selected;
+    private MeasurementPoint held;
+
+    /** Complete bucket waiting for its successor to be complete. */
+    private Bucket candidate;
+    /** Bucket currently being filled. */
+    private Bucket current;
+
+    LttbDownsampler(TimeBuckets buckets) {
+        this.buckets = buckets;
+    }
+
+    @Override
+    public void accept(MeasurementPoint point) {
+        if (selected == null) {
+            selected = point;
+            result.add(point);
+            return;
+        }
+        // The most recent point may turn out to be the last one, which is kept unconditionally
+        if (held != null) {
+            addToBuckets(held);
+        }
+        held = point;
+    }
+
+    @Override
+    public List<MeasurementPoint> finish() {
+        if (held == null) {
+            return result;
+        }
+        if (candidate != null) {
+            select(candidate, current.averageMillis(), current.averageValue());
+        }
+        if (current != null) {
+            select(current, millis(held), value(held));
+        }
+        result.add(held);
+        return result;
+    }
+
+    private void addToBuckets(MeasurementPoint point) {
+        int index = buckets.indexOf(point.timestamp());
+        if (current == null) {
+            current = new Bucket(index);
+        } else if (index != current.index) {
+            if (candidate != null) {
+                select(candidate, current.averageMillis(), current.averageValue());
+            }
+            candidate = current;
+            current = new Bucket(index);
+        }
+        current.add(point);
+    }
+
+    private void select(Bucket bucket, double nextMillis, double nextValue) {
+        double selectedMillis = millis(selected);
+        double selectedValue = value(selected);
+
+        MeasurementPoint best = null;
+        double bestArea = -1;
+        for (MeasurementPoint point : bucket.points) {
+            // Twice the triangle area; the constant factor does not change the maximum
+            double area = Math.abs((selectedMillis - nextMillis) * (value(point) - selectedValue)
+                    - (selectedMillis - millis(point)) * (nextValue - selectedValue));
+            if (area > bestArea) {
+                bestArea = area;
+                best = point;
+            }
+        }
+        result.add(best);
+        selected = best;
+    }
+
+    private static double millis(MeasurementPoint point) {
+        return point.timestamp().toInstant().toEpochMilli();
+    }
+
+    private static double value(MeasurementPoint point) {
+        return point.value().doubleValue();
+    }
+
+    private static final class Bucket {
+        private final int index;
+        private final List<MeasurementPoint> points = new ArrayList<>();
+        private double millisSum;
+        private double valueSum;
+
+        private Bucket(int index) {
+            this.index = index;
+        }
+
+        private void add(MeasurementPoint point) {
+            points.add(point);
+            millisSum += millis(point);
+            valueSum += value(point);
+        }
+
+        private double averageMillis() {
+            return millisSum / points.size();
+        }
+
+        private double averageValue() {
+            return valueSum / points.size();
+        }
+    }
+}
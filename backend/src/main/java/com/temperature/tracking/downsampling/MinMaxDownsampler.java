@@ -0,0 +1,65 @@
+package com.temperature.tracking.downsampling;
+
+import com.temperature.tracking.dto.MeasurementPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the minimum and the maximum point of every bucket, in timestamp order.
+ * Holds only the extremes of the current bucket.
+ */
+class MinMaxDownsampler implements Downsampler {
+
+    private final TimeBuckets buckets;
+    private final List<MeasurementPoint> result = new ArrayList<>();
+
+    private int bucket = -1;
+    private MeasurementPoint min;
+    private MeasurementPoint max;
+
+    MinMaxDownsampler(TimeBuckets buckets) {
+        this.buckets = buckets;
+    }
+
+    @Override
+    public void accept(MeasurementPoint point) {
+        int index = buckets.indexOf(point.timestamp());
+        if (index != bucket) {
+            flushBucket();
+            bucket = index;
+            min = point;
+            max = point;
+            return;
+        }
+        if (point.value().compareTo(min.value()) < 0) {
+            min = point;
+        }
+        if (point.value().compareTo(max.value()) > 0) {
+            max = point;
+        }
+    }
+
+    @Override
+    public List<MeasurementPoint> finish() {
+        flushBucket();
+        return result;
+    }
+
+    private void flushBucket() {
+        if (min == null) {
+            return;
+        }
+        if (min == max) {
+            result.add(min);
+        } else if (min.timestamp().isAfter(max.timestamp())) {
+            result.add(max);
+            result.add(min);
+        } else {
+            result.add(min);
+            result.add(max);
+        }
+        min = null;
+        max = null;
+    }
+}
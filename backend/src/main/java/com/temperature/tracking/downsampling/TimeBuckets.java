@@ -0,0 +1,28 @@
+package com.temperature.tracking.downsampling;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Splits the time range {@code [start, end)} into a fixed number of equally wide buckets.
+ */
+class TimeBuckets {
+
+    private final long startMillis;
+    private final long widthMillis;
+    private final int count;
+
+    TimeBuckets(long startMillis, long endMillis, int count) {
+        this.startMillis = startMillis;
+        this.count = count;
+        this.widthMillis = Math.max(1, endMillis - startMillis);
+    }
+
+    int indexOf(ZonedDateTime timestamp) {
+        long offset = timestamp.toInstant().toEpochMilli() - startMillis;
+        if (offset <= 0) {
+            return 0;
+        }
+        // offset * count stays well within long range for any realistic range and bucket count
+        return (int) Math.min(count - 1, offset * count / widthMillis);
+    }
+}
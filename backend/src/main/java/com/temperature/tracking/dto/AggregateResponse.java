@@ -0,0 +1,43 @@
+package com.temperature.tracking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZonedDateTime;
+
+/**
+ * Data transfer object with the aggregate of all measurements of a series within {@code [from, to)}.
+ * Statistics other than the count are null when the range holds no measurements.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AggregateResponse {
+    private Integer seriesId;
+    private ZonedDateTime from;
+    private ZonedDateTime to;
+    private long count;
+    private BigDecimal sum;
+    private BigDecimal min;
+    private BigDecimal max;
+    private BigDecimal avg;
+
+    public static AggregateResponse of(Integer seriesId, ZonedDateTime from, ZonedDateTime to, RollupTotals totals) {
+        if (totals.isEmpty()) {
+            return new AggregateResponse(seriesId, from, to, 0, null, null, null, null);
+        }
+        return new AggregateResponse(
+                seriesId,
+                from,
+                to,
+                totals.count(),
+                totals.sum(),
+                totals.min(),
+                totals.max(),
+                totals.sum().divide(BigDecimal.valueOf(totals.count()), 2, RoundingMode.HALF_UP)
+        );
+    }
+}
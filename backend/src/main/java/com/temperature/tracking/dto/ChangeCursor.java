@@ -0,0 +1,56 @@
+package com.temperature.tracking.dto;
+
+import com.temperature.tracking.entity.ChangeLogEntry;
+import com.temperature.tracking.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position within the change feed.
+ * Entries are ordered by {@code (txid, seq)}; the cursor points at the last entry of the previous page
+ * and is exchanged with clients as an opaque string.
+ */
+public record ChangeCursor(long txid, long seq) {
+
+    private static final String SEPARATOR = ".";
+
+    public static ChangeCursor of(ChangeLogEntry entry) {
+        return new ChangeCursor(entry.getTxid(), entry.getSeq());
+    }
+
+    /**
+     * Position before every entry written by transaction {@code txid} or a later one.
+     */
+    public static ChangeCursor before(long txid) {
+        return new ChangeCursor(txid, 0);
+    }
+
+    public String encode() {
+        String raw = txid + SEPARATOR + seq;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @throws ValidationException if the cursor is malformed
+     */
+    public static ChangeCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new ValidationException("Invalid cursor: " + cursor);
+            }
+            long txid = Long.parseLong(raw.substring(0, separatorIndex));
+            long seq = Long.parseLong(raw.substring(separatorIndex + 1));
+            if (txid < 0 || seq < 0) {
+                throw new ValidationException("Invalid cursor: " + cursor);
+            }
+            return new ChangeCursor(txid, seq);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.temperature.tracking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data transfer object with the changes committed after a change feed {@linkplain ChangeCursor cursor}.
+ * Each changed entity appears once, with its current state or as a deleted id.
+ * Deleting a series implies deleting all its measurements. With {@code resync} set, the changes after the
+ * cursor have expired: the client has to load all data again and continue from the returned cursor.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponse {
+    private String cursor;
+    private boolean hasMore;
+    private boolean resync;
+    private List<SeriesResponse> series;
+    private List<MeasurementResponse> measurements;
+    private List<Integer> deletedSeriesIds;
+    private List<Integer> deletedMeasurementIds;
+
+    public static ChangeFeedResponse empty(String cursor) {
+        return new ChangeFeedResponse(cursor, false, false, List.of(), List.of(), List.of(), List.of());
+    }
+
+    public static ChangeFeedResponse resync(String cursor) {
+        return new ChangeFeedResponse(cursor, false, true, List.of(), List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,41 @@
+package com.temperature.tracking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single item of a {@link MeasurementBatchRequest}.
+ * The index refers to the position of the item in the request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeasurementBatchItemResult {
+
+    public enum Status {
+        CREATED,
+        QUEUED,
+        REJECTED
+    }
+
+    private int index;
+    private Status status;
+    private Integer id;
+    private String error;
+
+    public static MeasurementBatchItemResult created(int index, Integer id) {
+        return new MeasurementBatchItemResult(index, Status.CREATED, id, null);
+    }
+
+    /**
+     * An item accepted for asynchronous ingestion; it has no id until it is written.
+     */
+    public static MeasurementBatchItemResult queued(int index) {
+        return new MeasurementBatchItemResult(index, Status.QUEUED, null, null);
+    }
+
+    public static MeasurementBatchItemResult rejected(int index, String error) {
+        return new MeasurementBatchItemResult(index, Status.REJECTED, null, error);
+    }
+}
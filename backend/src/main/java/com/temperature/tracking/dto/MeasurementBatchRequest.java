@@ -0,0 +1,24 @@
+package com.temperature.tracking.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data transfer object for ingesting many measurements in a single request.
+ * Individual items are validated one by one so that a single bad reading
+ * does not reject the whole batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeasurementBatchRequest {
+
+    @NotEmpty(message = "Measurements are required")
+    @Size(max = 10000, message = "A batch must not contain more than 10000 measurements")
+    private List<MeasurementRequest> measurements;
+}
@@ -0,0 +1,20 @@
+package com.temperature.tracking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data transfer object summarizing a batch ingestion.
+ * Results are ordered like the items of the originating request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeasurementBatchResponse {
+    private int accepted;
+    private int rejected;
+    private List<MeasurementBatchItemResult> results;
+}
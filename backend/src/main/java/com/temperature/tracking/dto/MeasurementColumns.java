@@ -0,0 +1,32 @@
+package com.temperature.tracking.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Measurements of one series for charts, stored column by column: the series is named once and every
+ * point is reduced to its timestamp in epoch milliseconds and its value. Served as
+ * {@value #JSON_MEDIA_TYPE} or, with the same layout, {@value #CBOR_MEDIA_TYPE} by
+ * {@code MeasurementColumnsHttpMessageConverter}.
+ * <p>
+ * The arrays are not copied; they belong to the instance once passed in.
+ */
+public record MeasurementColumns(Integer seriesId, long[] timestamps, BigDecimal[] values) {
+
+    public static final String JSON_MEDIA_TYPE = "application/vnd.tt.columnar+json";
+    public static final String CBOR_MEDIA_TYPE = "application/vnd.tt.columnar+cbor";
+
+    public static MeasurementColumns of(Integer seriesId, List<MeasurementPoint> points) {
+        long[] timestamps = new long[points.size()];
+        BigDecimal[] values = new BigDecimal[points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            timestamps[i] = points.get(i).timestamp().toInstant().toEpochMilli();
+            values[i] = points.get(i).value();
+        }
+        return new MeasurementColumns(seriesId, timestamps, values);
+    }
+
+    public int size() {
+        return timestamps.length;
+    }
+}
@@ -0,0 +1,49 @@
+package com.temperature.tracking.dto;
+
+import com.temperature.tracking.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset pagination position within the measurements of a series.
+ * Measurements are ordered by {@code (timestamp, id)}; the cursor points at the last
+ * measurement of the previous page and is exchanged with clients as an opaque string.
+ */
+public record MeasurementCursor(ZonedDateTime timestamp, Integer id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static MeasurementCursor of(MeasurementResponse measurement) {
+        return new MeasurementCursor(measurement.getTimestamp(), measurement.getId());
+    }
+
+    public String encode() {
+        String raw = timestamp.toInstant() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @throws ValidationException if the cursor is malformed
+     */
+    public static MeasurementCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new ValidationException("Invalid cursor: " + cursor);
+            }
+            Instant instant = Instant.parse(raw.substring(0, separatorIndex));
+            Integer id = Integer.valueOf(raw.substring(separatorIndex + 1));
+            return new MeasurementCursor(instant.atZone(ZoneOffset.UTC), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor: " + cursor);
+        }
+    }
+}
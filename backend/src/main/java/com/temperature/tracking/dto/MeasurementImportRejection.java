@@ -0,0 +1,16 @@
+package com.temperature.tracking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A rejected record of a bulk import. The line refers to the uploaded file, counting from 1.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeasurementImportRejection {
+    private long line;
+    private String error;
+}
@@ -0,0 +1,20 @@
+package com.temperature.tracking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data transfer object summarizing a bulk import.
+ * Only the first rejections are listed; {@code rejected} counts all of them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeasurementImportResponse {
+    private long imported;
+    private long rejected;
+    private List<MeasurementImportRejection> rejections;
+}
@@ -0,0 +1,19 @@
+package com.temperature.tracking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of measurements of a series, ordered by timestamp and id.
+ * {@code nextCursor} is null when there are no further measurements in the requested range.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeasurementPageResponse {
+    private List<MeasurementResponse> items;
+    private String nextCursor;
+}
@@ -0,0 +1,12 @@
+package com.temperature.tracking.dto;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+
+/**
+ * Minimal read-only view of a measurement used by chart queries.
+ * Selected directly by JPQL constructor expressions, so no entity is loaded.
+ * The id is null for points synthesized by downsampling (e.g. bucket averages).
+ */
+public record MeasurementPoint(Integer id, ZonedDateTime timestamp, BigDecimal value) {
+}
@@ -22,10 +22,17 @@ public class MeasurementResponse {
     private ZonedDateTime createdAt;
 
     public static MeasurementResponse fromEntity(Measurement measurement) {
+        return fromEntity(measurement, measurement.getSeries() != null ? measurement.getSeries().getName() : null);
+    }
+
+    /**
+     * Maps a measurement whose series name is already known, without initializing a series reference.
+     */
+    public static MeasurementResponse fromEntity(Measurement measurement, String seriesName) {
         return new MeasurementResponse(
                 measurement.getId(),
                 measurement.getSeries() != null ? measurement.getSeries().getId() : null,
-                measurement.getSeries() != null ? measurement.getSeries().getName() : null,
+                seriesName,
                 measurement.getValue(),
                 measurement.getTimestamp(),
                 measurement.getCreatedBy() != null ? measurement.getCreatedBy().getId() : null,
@@ -0,0 +1,40 @@
+package com.temperature.tracking.dto;
+
+import com.temperature.tracking.entity.MeasurementRollup;
+import com.temperature.tracking.entity.RollupGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZonedDateTime;
+
+/**
+ * Data transfer object representing one pre-computed time bucket of a series.
+ * The granularity may be coarser than requested for ranges whose finer buckets have expired.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupBucketResponse {
+    private RollupGranularity granularity;
+    private ZonedDateTime bucketStart;
+    private Long count;
+    private BigDecimal sum;
+    private BigDecimal min;
+    private BigDecimal max;
+    private BigDecimal avg;
+
+    public static RollupBucketResponse fromEntity(MeasurementRollup rollup) {
+        return new RollupBucketResponse(
+                rollup.getGranularity(),
+                rollup.getBucketStart(),
+                rollup.getCount(),
+                rollup.getSum(),
+                rollup.getMinValue(),
+                rollup.getMaxValue(),
+                rollup.getSum().divide(BigDecimal.valueOf(rollup.getCount()), 2, RoundingMode.HALF_UP)
+        );
+    }
+}
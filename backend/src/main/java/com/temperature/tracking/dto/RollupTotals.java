@@ -0,0 +1,37 @@
+package com.temperature.tracking.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Count, sum, minimum and maximum of a set of measurements.
+ * Totals of disjoint sets combine without access to the underlying rows,
+ * which is what makes pre-computed rollups composable. All fields but the count
+ * are null for an empty set.
+ */
+public record RollupTotals(Long count, BigDecimal sum, BigDecimal min, BigDecimal max) {
+
+    public static final RollupTotals EMPTY = new RollupTotals(0L, null, null, null);
+
+    public static RollupTotals of(BigDecimal value) {
+        return new RollupTotals(1L, value, value, value);
+    }
+
+    public RollupTotals combine(RollupTotals other) {
+        if (other == null || other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        return new RollupTotals(
+                count + other.count,
+                sum.add(other.sum),
+                min.min(other.min),
+                max.max(other.max)
+        );
+    }
+
+    public boolean isEmpty() {
+        return count == null || count == 0;
+    }
+}
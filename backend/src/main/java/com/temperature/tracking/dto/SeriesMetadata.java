@@ -0,0 +1,25 @@
+package com.temperature.tracking.dto;
+
+import com.temperature.tracking.entity.Series;
+import com.temperature.tracking.retention.RetentionPolicy;
+
+import java.math.BigDecimal;
+
+/**
+ * The fields of a series that measurements are validated against.
+ * Selected directly by JPQL constructor expressions, so neither the series nor its creator is loaded.
+ */
+public record SeriesMetadata(Integer id, String name, BigDecimal minValue, BigDecimal maxValue,
+                             Integer rawRetentionDays, Integer minuteRetentionDays,
+                             Integer hourRetentionDays, Integer dayRetentionDays) {
+
+    public static SeriesMetadata of(Series series) {
+        return new SeriesMetadata(series.getId(), series.getName(), series.getMinValue(), series.getMaxValue(),
+                series.getRawRetentionDays(), series.getMinuteRetentionDays(),
+                series.getHourRetentionDays(), series.getDayRetentionDays());
+    }
+
+    public RetentionPolicy retention() {
+        return new RetentionPolicy(rawRetentionDays, minuteRetentionDays, hourRetentionDays, dayRetentionDays);
+    }
+}
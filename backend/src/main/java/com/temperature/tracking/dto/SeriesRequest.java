@@ -1,8 +1,10 @@
 package com.temperature.tracking.dto;
 
 import com.temperature.tracking.validation.ValidMinMaxRange;
+import com.temperature.tracking.validation.ValidRetention;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
@@ -15,11 +17,13 @@ import java.math.BigDecimal;
 /**
  * Data transfer object for creating or updating a Series.
  * Min and max values are optional and define validation bounds for measurements.
+ * Retention periods are optional too; a missing one keeps that resolution forever.
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @ValidMinMaxRange
+@ValidRetention
 public class SeriesRequest {
     @NotBlank(message = "Name is required")
     @Size(max = 100, message = "Name must not exceed 100 characters")
@@ -48,4 +52,29 @@ public class SeriesRequest {
      */
     @Digits(integer = 3, fraction = 2, message = "Max value must have at most 3 integer digits and 2 decimal places")
     private BigDecimal maxValue;
+
+    /**
+     * Days raw measurements are kept before being compacted into rollups.
+     * If null, raw measurements are kept forever.
+     */
+    @Min(value = 1, message = "Raw retention must be at least 1 day")
+    private Integer rawRetentionDays;
+
+    /**
+     * Days minute rollups are kept. If null, they are kept forever.
+     */
+    @Min(value = 1, message = "Minute retention must be at least 1 day")
+    private Integer minuteRetentionDays;
+
+    /**
+     * Days hour rollups are kept. If null, they are kept forever.
+     */
+    @Min(value = 1, message = "Hour retention must be at least 1 day")
+    private Integer hourRetentionDays;
+
+    /**
+     * Days day rollups are kept. If null, they are kept forever.
+     */
+    @Min(value = 1, message = "Day retention must be at least 1 day")
+    private Integer dayRetentionDays;
 }
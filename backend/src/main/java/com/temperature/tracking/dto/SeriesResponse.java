@@ -26,6 +26,10 @@ public class SeriesResponse {
     private Integer createdBy;
     private String createdByUsername;
     private ZonedDateTime createdAt;
+    private Integer rawRetentionDays;
+    private Integer minuteRetentionDays;
+    private Integer hourRetentionDays;
+    private Integer dayRetentionDays;
 
     public static SeriesResponse fromEntity(Series series) {
         return new SeriesResponse(
@@ -38,7 +42,11 @@ public class SeriesResponse {
                 series.getMaxValue(),
                 series.getCreatedBy() != null ? series.getCreatedBy().getId() : null,
                 series.getCreatedBy() != null ? series.getCreatedBy().getUsername() : null,
-                series.getCreatedAt()
+                series.getCreatedAt(),
+                series.getRawRetentionDays(),
+                series.getMinuteRetentionDays(),
+                series.getHourRetentionDays(),
+                series.getDayRetentionDays()
         );
     }
 }
@@ -0,0 +1,9 @@
+package com.temperature.tracking.entity;
+
+/**
+ * Kind of entity recorded in the {@code change_log} table.
+ */
+public enum ChangeEntityType {
+    MEASUREMENT,
+    SERIES
+}
@@ -0,0 +1,45 @@
+package com.temperature.tracking.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+@Entity
+@Table(name = "change_log")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    /** Id of the writing transaction, assigned by the database. */
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long txid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private ChangeEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Integer entityId;
+
+    @Column(name = "series_id")
+    private Integer seriesId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChangeOperation operation;
+
+    @Column(name = "changed_at", nullable = false, insertable = false, updatable = false)
+    private ZonedDateTime changedAt;
+
+    public ChangeLogEntry(ChangeEntityType entityType, Integer entityId, Integer seriesId, ChangeOperation operation) {
+        this(null, null, entityType, entityId, seriesId, operation, null);
+    }
+}
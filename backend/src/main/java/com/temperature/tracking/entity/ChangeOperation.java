@@ -0,0 +1,10 @@
+package com.temperature.tracking.entity;
+
+/**
+ * Operation recorded in the {@code change_log} table. Inserts and updates are not
+ * distinguished, since a syncing client applies both by replacing its copy.
+ */
+public enum ChangeOperation {
+    UPSERT,
+    DELETE
+}
@@ -15,8 +15,13 @@ import java.time.ZonedDateTime;
 @AllArgsConstructor
 public class Measurement {
 
+    /**
+     * Sequence-based ids (pooled, 50 per round-trip) so Hibernate can group inserts
+     * into JDBC batches; IDENTITY would force one INSERT statement per row.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "measurements_id_seq")
+    @SequenceGenerator(name = "measurements_id_seq", sequenceName = "measurements_id_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
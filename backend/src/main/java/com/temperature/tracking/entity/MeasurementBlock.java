@@ -0,0 +1,47 @@
+package com.temperature.tracking.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Compressed block of sealed measurements of one series, written by {@code ColdStorageService}.
+ * The timestamp and id bounds locate the block without decoding {@link #data}.
+ */
+@Entity
+@Table(name = "measurement_blocks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeasurementBlock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "series_id", nullable = false)
+    private Integer seriesId;
+
+    @Column(name = "min_timestamp", nullable = false)
+    private ZonedDateTime minTimestamp;
+
+    @Column(name = "max_timestamp", nullable = false)
+    private ZonedDateTime maxTimestamp;
+
+    @Column(name = "min_id", nullable = false)
+    private Integer minId;
+
+    @Column(name = "max_id", nullable = false)
+    private Integer maxId;
+
+    @Column(name = "point_count", nullable = false)
+    private Integer pointCount;
+
+    @ToString.Exclude
+    @Column(nullable = false)
+    private byte[] data;
+}
@@ -0,0 +1,47 @@
+package com.temperature.tracking.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+
+/**
+ * Pre-computed aggregate of the measurements of one series within one time bucket.
+ * Rows are maintained incrementally by {@code RollupService} and are never written through JPA.
+ */
+@Entity
+@Table(name = "measurement_rollups")
+@IdClass(MeasurementRollupId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeasurementRollup {
+
+    @Id
+    @Column(name = "series_id")
+    private Integer seriesId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private RollupGranularity granularity;
+
+    @Id
+    @Column(name = "bucket_start")
+    private ZonedDateTime bucketStart;
+
+    @Column(nullable = false)
+    private Long count;
+
+    @Column(nullable = false, precision = 18, scale = 2)
+    private BigDecimal sum;
+
+    @Column(name = "min_value", nullable = false, precision = 6, scale = 2)
+    private BigDecimal minValue;
+
+    @Column(name = "max_value", nullable = false, precision = 6, scale = 2)
+    private BigDecimal maxValue;
+}
@@ -0,0 +1,17 @@
+package com.temperature.tracking.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeasurementRollupId implements Serializable {
+    private Integer seriesId;
+    private RollupGranularity granularity;
+    private ZonedDateTime bucketStart;
+}
@@ -0,0 +1,60 @@
+package com.temperature.tracking.entity;
+
+import com.temperature.tracking.exception.ValidationException;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * Bucket widths maintained in the {@code measurement_rollups} table.
+ * Buckets are aligned in the JVM time zone, which is also the zone timestamps are stored in,
+ * so they match {@code date_trunc} on the stored values.
+ */
+public enum RollupGranularity {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Returns the start of the bucket containing the timestamp.
+     */
+    public ZonedDateTime truncate(ZonedDateTime timestamp) {
+        return timestamp.withZoneSameInstant(ZoneId.systemDefault()).truncatedTo(unit);
+    }
+
+    /**
+     * Returns the start of the first bucket starting at or after the timestamp.
+     */
+    public ZonedDateTime ceil(ZonedDateTime timestamp) {
+        ZonedDateTime start = truncate(timestamp);
+        return start.toInstant().equals(timestamp.toInstant()) ? start : next(start);
+    }
+
+    /**
+     * Returns the start of the bucket following the one starting at {@code bucketStart}.
+     */
+    public ZonedDateTime next(ZonedDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    /**
+     * Parses a granularity name case-insensitively.
+     *
+     * @throws ValidationException if the name does not denote a supported granularity
+     */
+    public static RollupGranularity fromValue(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Unsupported granularity: " + value);
+        }
+    }
+}
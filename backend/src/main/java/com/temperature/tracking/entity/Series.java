@@ -41,6 +41,18 @@ public class Series {
     @JoinColumn(name = "created_by", referencedColumnName = "id")
     private User createdBy;
 
+    @Column(name = "raw_retention_days")
+    private Integer rawRetentionDays;
+
+    @Column(name = "minute_retention_days")
+    private Integer minuteRetentionDays;
+
+    @Column(name = "hour_retention_days")
+    private Integer hourRetentionDays;
+
+    @Column(name = "day_retention_days")
+    private Integer dayRetentionDays;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private ZonedDateTime createdAt;
 
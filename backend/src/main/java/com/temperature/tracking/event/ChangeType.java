@@ -0,0 +1,10 @@
+package com.temperature.tracking.event;
+
+/**
+ * Kind of change carried by entity change events.
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
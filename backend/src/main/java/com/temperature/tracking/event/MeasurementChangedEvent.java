@@ -0,0 +1,28 @@
+package com.temperature.tracking.event;
+
+import java.util.List;
+
+/**
+ * Published by {@code MeasurementService} whenever measurements are created, updated or deleted.
+ * Listeners bound to the transaction phase decide whether they run before the commit
+ * (to update derived tables atomically) or after it (to notify the outside world).
+ *
+ * @param type the kind of change
+ * @param current the state after the change; empty for deletions
+ * @param previous the state before the change; empty for creations
+ */
+public record MeasurementChangedEvent(ChangeType type, List<MeasurementSnapshot> current,
+                                      List<MeasurementSnapshot> previous) {
+
+    public static MeasurementChangedEvent created(List<MeasurementSnapshot> measurements) {
+        return new MeasurementChangedEvent(ChangeType.CREATED, measurements, List.of());
+    }
+
+    public static MeasurementChangedEvent updated(MeasurementSnapshot previous, MeasurementSnapshot current) {
+        return new MeasurementChangedEvent(ChangeType.UPDATED, List.of(current), List.of(previous));
+    }
+
+    public static MeasurementChangedEvent deleted(MeasurementSnapshot previous) {
+        return new MeasurementChangedEvent(ChangeType.DELETED, List.of(), List.of(previous));
+    }
+}
@@ -0,0 +1,22 @@
+package com.temperature.tracking.event;
+
+import com.temperature.tracking.entity.Measurement;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+
+/**
+ * Immutable copy of the fields of a measurement that derived data depends on.
+ * Taken inside the transaction so listeners never touch managed entities.
+ */
+public record MeasurementSnapshot(Integer id, Integer seriesId, ZonedDateTime timestamp, BigDecimal value) {
+
+    public static MeasurementSnapshot of(Measurement measurement) {
+        return new MeasurementSnapshot(
+                measurement.getId(),
+                measurement.getSeries() != null ? measurement.getSeries().getId() : null,
+                measurement.getTimestamp(),
+                measurement.getValue()
+        );
+    }
+}
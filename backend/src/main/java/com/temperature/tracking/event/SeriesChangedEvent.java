@@ -0,0 +1,24 @@
+package com.temperature.tracking.event;
+
+/**
+ * Published by {@code SeriesService} whenever a series is created, updated or deleted.
+ * Deleting a series also deletes its measurements (ON DELETE CASCADE) without
+ * a {@link MeasurementChangedEvent} for each of them.
+ *
+ * @param type the kind of change
+ * @param seriesId the id of the changed series
+ */
+public record SeriesChangedEvent(ChangeType type, Integer seriesId) {
+
+    public static SeriesChangedEvent created(Integer seriesId) {
+        return new SeriesChangedEvent(ChangeType.CREATED, seriesId);
+    }
+
+    public static SeriesChangedEvent updated(Integer seriesId) {
+        return new SeriesChangedEvent(ChangeType.UPDATED, seriesId);
+    }
+
+    public static SeriesChangedEvent deleted(Integer seriesId) {
+        return new SeriesChangedEvent(ChangeType.DELETED, seriesId);
+    }
+}
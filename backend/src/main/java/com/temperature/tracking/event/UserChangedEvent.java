@@ -0,0 +1,9 @@
+package com.temperature.tracking.event;
+
+/**
+ * Published by {@code AuthService} whenever the credentials of a user change.
+ *
+ * @param username the name of the changed user
+ */
+public record UserChangedEvent(String username) {
+}
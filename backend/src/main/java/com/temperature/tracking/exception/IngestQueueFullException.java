@@ -0,0 +1,21 @@
+package com.temperature.tracking.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the asynchronous ingestion queue cannot take more measurements.
+ * The client should retry after {@link #getRetryAfter()}.
+ */
+public class IngestQueueFullException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public IngestQueueFullException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,81 @@
+package com.temperature.tracking.export;
+
+import com.temperature.tracking.dto.MeasurementResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes measurements as RFC 4180 CSV with a header row. Timestamps are ISO-8601 instants in UTC.
+ */
+class CsvMeasurementWriter implements MeasurementExportWriter {
+
+    static final String HEADER = "id,seriesId,seriesName,value,timestamp,createdBy,createdByUsername,createdAt";
+
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+
+    CsvMeasurementWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(HEADER);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void write(MeasurementResponse measurement) throws IOException {
+        writer.write(String.valueOf(measurement.getId()));
+        writer.write(',');
+        writeNullable(measurement.getSeriesId());
+        writer.write(',');
+        writeText(measurement.getSeriesName());
+        writer.write(',');
+        writer.write(measurement.getValue().toPlainString());
+        writer.write(',');
+        writeTimestamp(measurement.getTimestamp());
+        writer.write(',');
+        writeNullable(measurement.getCreatedBy());
+        writer.write(',');
+        writeText(measurement.getCreatedByUsername());
+        writer.write(',');
+        writeTimestamp(measurement.getCreatedAt());
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeNullable(Object value) throws IOException {
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+
+    private void writeTimestamp(ZonedDateTime timestamp) throws IOException {
+        if (timestamp != null) {
+            writer.write(DateTimeFormatter.ISO_INSTANT.format(timestamp));
+        }
+    }
+
+    private void writeText(String text) throws IOException {
+        if (text == null) {
+            return;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
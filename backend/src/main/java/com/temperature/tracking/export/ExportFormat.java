@@ -0,0 +1,41 @@
+package com.temperature.tracking.export;
+
+import com.temperature.tracking.exception.ValidationException;
+
+import java.util.Locale;
+
+public enum ExportFormat {
+    /** Newline-delimited JSON: one measurement object per line. */
+    NDJSON("application/x-ndjson", "ndjson"),
+    /** Comma-separated values with a header row. */
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    ExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Parses a format name case-insensitively.
+     *
+     * @throws ValidationException if the name does not denote a supported format
+     */
+    public static ExportFormat fromValue(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Unsupported export format: " + value);
+        }
+    }
+}
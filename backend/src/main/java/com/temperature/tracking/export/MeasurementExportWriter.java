@@ -0,0 +1,40 @@
+package com.temperature.tracking.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.tracking.dto.MeasurementResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Serializes measurements one at a time to an output stream, so an export never holds
+ * more than the current row in memory.
+ */
+public interface MeasurementExportWriter extends AutoCloseable {
+
+    /**
+     * Writes the next measurement.
+     */
+    void write(MeasurementResponse measurement) throws IOException;
+
+    /**
+     * Flushes buffered output; the underlying stream is left open.
+     */
+    @Override
+    void close() throws IOException;
+
+    /**
+     * Creates a writer for the given format.
+     */
+    static MeasurementExportWriter create(ExportFormat format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        switch (format) {
+            case NDJSON:
+                return new NdjsonMeasurementWriter(out, objectMapper);
+            case CSV:
+                return new CsvMeasurementWriter(out);
+            default:
+                throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.temperature.tracking.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.temperature.tracking.dto.MeasurementResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes every measurement as a JSON object on its own line, serialized with the application
+ * object mapper so the objects match the regular measurement endpoints.
+ */
+class NdjsonMeasurementWriter implements MeasurementExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter objectWriter;
+
+    NdjsonMeasurementWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Lines are separated explicitly below, not by the default root value separator
+        this.generator.setRootValueSeparator(null);
+        // Flushing after every row would turn each measurement into a separate write to the client
+        this.objectWriter = objectMapper.writerFor(MeasurementResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(MeasurementResponse measurement) throws IOException {
+        objectWriter.writeValue(generator, measurement);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,326 @@
+package com.temperature.tracking.hotwindow;
+
+import com.temperature.tracking.dto.MeasurementPoint;
+import com.temperature.tracking.event.ChangeType;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
+import com.temperature.tracking.event.SeriesChangedEvent;
+import com.temperature.tracking.repository.MeasurementRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * In-process copy of the most recent measurements of every series, used to answer chart
+ * queries over the last hours without the database.
+ * <p>
+ * Each series is held in a {@link SeriesWindow} of epoch-microsecond timestamps and values scaled
+ * by {@value #VALUE_SCALE} decimal places, bounded to {@code maxPointsPerSeries} points
+ * (16 bytes each). The windows are loaded before the web server starts and kept current from
+ * committed measurement changes. A query is answered only if its range starts inside the window
+ * of the series; anything older, and every query while the store is disabled, goes to the database.
+ * Timestamps keep the microsecond precision of the database, so range bounds compare exactly as in SQL.
+ * <p>
+ * Windows whose changes were missed, such as changes made by another instance that could not be
+ * passed on one by one, are {@linkplain #reload(Collection) reloaded}. Until then their series is
+ * read from the database.
+ */
+@Slf4j
+@Component
+public class HotWindowStore implements SmartInitializingSingleton {
+
+    /** Decimal places of measurement values, as in the {@code measurements.value} column. */
+    static final int VALUE_SCALE = 2;
+
+    /** Upper bound of the startup load, so that measurements dated in the future are included too. */
+    private static final ZonedDateTime LOAD_END = ZonedDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final int NANOS_PER_MICRO = 1_000;
+
+    static final String POINTS_METRIC = "measurements.hot_window.points";
+    static final String READS_METRIC = "measurements.hot_window.reads";
+
+    private final MeasurementRepository measurementRepository;
+    private final SeriesRepository seriesRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration duration;
+    private final int maxPointsPerSeries;
+
+    private final Map<Integer, SeriesWindow> windows = new ConcurrentHashMap<>();
+    /** Changes committed while the window of their series is reloaded, replayed onto the new window. */
+    private final Map<Integer, List<MeasurementChangedEvent>> reloading = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HotWindowStore(MeasurementRepository measurementRepository,
+                          SeriesRepository seriesRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${measurements.hot-window.enabled:true}") boolean enabled,
+                          @Value("${measurements.hot-window.duration:PT24H}") Duration duration,
+                          @Value("${measurements.hot-window.max-points-per-series:20000}") int maxPointsPerSeries) {
+        this(measurementRepository, seriesRepository, transactionManager, meterRegistry, Clock.systemUTC(),
+                enabled, duration, maxPointsPerSeries);
+    }
+
+    HotWindowStore(MeasurementRepository measurementRepository,
+                   SeriesRepository seriesRepository,
+                   PlatformTransactionManager transactionManager,
+                   MeterRegistry meterRegistry,
+                   Clock clock,
+                   boolean enabled,
+                   Duration duration,
+                   int maxPointsPerSeries) {
+        if (maxPointsPerSeries < 1) {
+            throw new IllegalArgumentException("measurements.hot-window.max-points-per-series must be positive");
+        }
+        this.measurementRepository = measurementRepository;
+        this.seriesRepository = seriesRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.duration = duration;
+        this.maxPointsPerSeries = maxPointsPerSeries;
+        Gauge.builder(POINTS_METRIC, this, HotWindowStore::getPointCount)
+                .description("Measurements held in the in-memory recent window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the recent window of every series. Runs once all beans exist and before the web server
+     * accepts requests, so no write can slip between the load and the first change event.
+     * A failed load leaves the store empty and every query is served by the database.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            load();
+        } catch (DataAccessException | TransactionException e) {
+            windows.clear();
+            log.warn("Could not load the recent measurement window, serving all reads from the database", e);
+        }
+    }
+
+    void load() {
+        long cutoff = cutoff();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Integer seriesId : seriesRepository.findAllIds()) {
+                windows.put(seriesId, loadWindow(seriesId, cutoff));
+            }
+        });
+        log.info("Loaded {} recent measurements of {} series", getPointCount(), windows.size());
+    }
+
+    private SeriesWindow loadWindow(Integer seriesId, long cutoff) {
+        SeriesWindow window = new SeriesWindow(maxPointsPerSeries, cutoff);
+        try (Stream<MeasurementPoint> points = measurementRepository.streamPointsBySeriesIdInRange(
+                seriesId, toDateTime(cutoff), LOAD_END)) {
+            points.forEach(point -> window.add(toMicros(point.timestamp()), point.id(), scale(point.value())));
+        }
+        return window;
+    }
+
+    /**
+     * Reloads the windows of all series and drops those of series that no longer exist.
+     */
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Integer> seriesIds = transactionTemplate.execute(status -> seriesRepository.findAllIds());
+            windows.keySet().retainAll(seriesIds);
+            reload(seriesIds);
+        } catch (DataAccessException | TransactionException e) {
+            windows.clear();
+            log.warn("Could not reload the recent measurement window, serving all reads from the database", e);
+        }
+    }
+
+    /**
+     * Reloads the windows of the given series one at a time, each in its own transaction. Changes committed
+     * meanwhile are recorded and replayed onto the new window, which makes up for those the load did not see.
+     * A window that fails to load stays absent.
+     */
+    public void reload(Collection<Integer> seriesIds) {
+        if (!enabled) {
+            return;
+        }
+        for (Integer seriesId : seriesIds) {
+            windows.remove(seriesId);
+            List<MeasurementChangedEvent> missed = new ArrayList<>();
+            reloading.put(seriesId, missed);
+            SeriesWindow window = null;
+            try {
+                // The snapshot is taken after recording started, so no change falls in between
+                window = transactionTemplate.execute(status -> loadWindow(seriesId, cutoff()));
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Could not reload the recent measurement window of series {}", seriesId, e);
+            }
+            List<MeasurementChangedEvent> replay;
+            synchronized (reloading) {
+                if (window != null) {
+                    windows.put(seriesId, window);
+                }
+                reloading.remove(seriesId);
+                replay = List.copyOf(missed);
+            }
+            if (window != null) {
+                // Changes the load did see are applied a second time, which leaves the window unchanged
+                replay.forEach(this::apply);
+            }
+        }
+    }
+
+    /**
+     * Returns the points of a series within {@code [from, to)} in timestamp order,
+     * or an empty optional if the range is not held in memory.
+     */
+    public Optional<Stream<MeasurementPoint>> findPoints(Integer seriesId, ZonedDateTime from, ZonedDateTime to) {
+        SeriesWindow window = enabled ? windows.get(seriesId) : null;
+        SeriesWindow.WindowSlice slice = null;
+        if (window != null) {
+            window.trim(cutoff());
+            slice = window.slice(toMicrosRoundedUp(from), toMicrosRoundedUp(to));
+        }
+        meterRegistry.counter(READS_METRIC, "result", slice != null ? "hit" : "miss").increment();
+        if (slice == null) {
+            return Optional.empty();
+        }
+
+        SeriesWindow.WindowSlice points = slice;
+        ZoneId zone = from.getZone();
+        return Optional.of(IntStream.range(0, points.size())
+                .mapToObj(i -> new MeasurementPoint(points.ids()[i],
+                        ZonedDateTime.ofInstant(toInstant(points.timestamps()[i]), zone),
+                        BigDecimal.valueOf(points.values()[i], VALUE_SCALE))));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMeasurementChanged(MeasurementChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!reloading.isEmpty()) {
+            synchronized (reloading) {
+                Stream.concat(event.previous().stream(), event.current().stream())
+                        .map(MeasurementSnapshot::seriesId)
+                        .distinct()
+                        .map(reloading::get)
+                        .filter(Objects::nonNull)
+                        .forEach(missed -> missed.add(event));
+            }
+        }
+        apply(event);
+    }
+
+    private void apply(MeasurementChangedEvent event) {
+        long cutoff = cutoff();
+        for (MeasurementSnapshot previous : event.previous()) {
+            SeriesWindow window = windows.get(previous.seriesId());
+            if (window != null) {
+                window.remove(toMicros(previous.timestamp()), previous.id());
+            }
+        }
+        for (MeasurementSnapshot current : event.current()) {
+            SeriesWindow window = windows.get(current.seriesId());
+            if (window != null) {
+                window.trim(cutoff);
+                window.add(toMicros(current.timestamp()), current.id(), scale(current.value()));
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSeriesChanged(SeriesChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.type() == ChangeType.CREATED) {
+            // A new series has no history, so its window is complete from the start
+            windows.put(event.seriesId(), new SeriesWindow(maxPointsPerSeries, Long.MIN_VALUE));
+        } else if (event.type() == ChangeType.DELETED) {
+            windows.remove(event.seriesId());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getPointCount() {
+        return windows.values().stream().mapToInt(SeriesWindow::size).sum();
+    }
+
+    private long cutoff() {
+        return toMicros(clock.instant().minus(duration));
+    }
+
+    private static long toMicros(ZonedDateTime timestamp) {
+        return toMicros(timestamp.toInstant());
+    }
+
+    private static long toMicros(Instant instant) {
+        return instant.getEpochSecond() * MICROS_PER_SECOND + instant.getNano() / NANOS_PER_MICRO;
+    }
+
+    /**
+     * Range bounds may carry nanoseconds the stored microseconds do not have. Rounding both up keeps
+     * {@code [from, to)} selecting the same stored points: those at or after {@code from} and before {@code to}.
+     */
+    private static long toMicrosRoundedUp(ZonedDateTime timestamp) {
+        Instant instant = timestamp.toInstant();
+        return instant.getEpochSecond() * MICROS_PER_SECOND + (instant.getNano() + NANOS_PER_MICRO - 1) / NANOS_PER_MICRO;
+    }
+
+    private static Instant toInstant(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    private static ZonedDateTime toDateTime(long micros) {
+        return ZonedDateTime.ofInstant(toInstant(micros), ZoneOffset.UTC);
+    }
+
+    private static int scale(BigDecimal value) {
+        // PostgreSQL rounds numeric values half away from zero
+        return value.setScale(VALUE_SCALE, RoundingMode.HALF_UP).unscaledValue().intValueExact();
+    }
+}
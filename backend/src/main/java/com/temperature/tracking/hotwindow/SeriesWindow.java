@@ -0,0 +1,182 @@
+package com.temperature.tracking.hotwindow;
+
+/**
+ * Recent points of one series, kept in primitive arrays ordered by {@code (timestamp, id)}.
+ * <p>
+ * The arrays form a ring: appending in timestamp order is O(1), and once {@code maxPoints}
+ * is reached the oldest point is overwritten. Out-of-order points are inserted in place.
+ * The window is complete from {@link #coverageStart()} on; points older than that are
+ * dropped, so a range starting there can be answered without the database.
+ * All methods are synchronized, which keeps each read a consistent copy.
+ */
+final class SeriesWindow {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int maxPoints;
+
+    private long[] timestamps;
+    private int[] ids;
+    private int[] values;
+    private int head;
+    private int size;
+    private long coverageStart;
+
+    SeriesWindow(int maxPoints, long coverageStart) {
+        this.maxPoints = maxPoints;
+        this.coverageStart = coverageStart;
+        int capacity = Math.min(INITIAL_CAPACITY, maxPoints);
+        this.timestamps = new long[capacity];
+        this.ids = new int[capacity];
+        this.values = new int[capacity];
+    }
+
+    synchronized long coverageStart() {
+        return coverageStart;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Adds a point unless it is already present or older than the covered range.
+     */
+    synchronized void add(long timestamp, int id, int value) {
+        if (timestamp < coverageStart) {
+            return;
+        }
+        int position = lowerBound(timestamp, id);
+        if (position < size && timestampAt(position) == timestamp && ids[index(position)] == id) {
+            return;
+        }
+        if (size == timestamps.length) {
+            if (timestamps.length < maxPoints) {
+                grow();
+            } else if (position == 0) {
+                // The new point would be evicted right away
+                coverageStart = timestamp + 1;
+                return;
+            } else {
+                coverageStart = Math.max(coverageStart, timestampAt(0) + 1);
+                head = index(1);
+                size--;
+                position--;
+            }
+        }
+        for (int i = size; i > position; i--) {
+            copy(i - 1, i);
+        }
+        int target = index(position);
+        timestamps[target] = timestamp;
+        ids[target] = id;
+        values[target] = value;
+        size++;
+    }
+
+    synchronized void remove(long timestamp, int id) {
+        int position = lowerBound(timestamp, id);
+        if (position == size || timestampAt(position) != timestamp || ids[index(position)] != id) {
+            return;
+        }
+        for (int i = position; i < size - 1; i++) {
+            copy(i + 1, i);
+        }
+        size--;
+    }
+
+    /**
+     * Drops the points before {@code cutoff} and stops covering that part of the timeline.
+     */
+    synchronized void trim(long cutoff) {
+        while (size > 0 && timestampAt(0) < cutoff) {
+            head = index(1);
+            size--;
+        }
+        coverageStart = Math.max(coverageStart, cutoff);
+    }
+
+    /**
+     * Copies the points within {@code [from, to)}, or returns null if the window does not cover {@code from}.
+     */
+    synchronized WindowSlice slice(long from, long to) {
+        if (from < coverageStart) {
+            return null;
+        }
+        int start = lowerBound(from, Integer.MIN_VALUE);
+        int end = Math.max(start, lowerBound(to, Integer.MIN_VALUE));
+        int length = end - start;
+        long[] sliceTimestamps = new long[length];
+        int[] sliceIds = new int[length];
+        int[] sliceValues = new int[length];
+        for (int i = 0; i < length; i++) {
+            int source = index(start + i);
+            sliceTimestamps[i] = timestamps[source];
+            sliceIds[i] = ids[source];
+            sliceValues[i] = values[source];
+        }
+        return new WindowSlice(sliceTimestamps, sliceIds, sliceValues);
+    }
+
+    /**
+     * First logical position whose {@code (timestamp, id)} is not less than the given one.
+     */
+    private int lowerBound(long timestamp, int id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            long middleTimestamp = timestampAt(middle);
+            if (middleTimestamp < timestamp || (middleTimestamp == timestamp && ids[index(middle)] < id)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long timestampAt(int position) {
+        return timestamps[index(position)];
+    }
+
+    private int index(int position) {
+        int index = head + position;
+        return index < timestamps.length ? index : index - timestamps.length;
+    }
+
+    private void copy(int fromPosition, int toPosition) {
+        int source = index(fromPosition);
+        int target = index(toPosition);
+        timestamps[target] = timestamps[source];
+        ids[target] = ids[source];
+        values[target] = values[source];
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min((long) timestamps.length * 2, maxPoints);
+        long[] grownTimestamps = new long[capacity];
+        int[] grownIds = new int[capacity];
+        int[] grownValues = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            int source = index(i);
+            grownTimestamps[i] = timestamps[source];
+            grownIds[i] = ids[source];
+            grownValues[i] = values[source];
+        }
+        timestamps = grownTimestamps;
+        ids = grownIds;
+        values = grownValues;
+        head = 0;
+    }
+
+    /**
+     * Points copied out of a window, in {@code (timestamp, id)} order.
+     */
+    record WindowSlice(long[] timestamps, int[] ids, int[] values) {
+
+        int size() {
+            return timestamps.length;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.temperature.tracking.importer;
+
+import com.temperature.tracking.dto.MeasurementRequest;
+import com.temperature.tracking.exception.ValidationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads RFC 4180 CSV. The first record is a header naming the columns; {@code seriesId}, {@code value}
+ * and {@code timestamp} (ISO-8601 with offset) are required, in any order. Blank lines are skipped.
+ */
+class CsvMeasurementReader implements MeasurementImportReader {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    private int seriesIdColumn = -1;
+    private int valueColumn = -1;
+    private int timestampColumn = -1;
+    private int requiredColumns;
+
+    CsvMeasurementReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        readHeader();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            // Empty input: there is nothing to import
+            return;
+        }
+        for (int column = 0; column < header.size(); column++) {
+            String name = header.get(column).trim().toLowerCase(Locale.ROOT);
+            // Byte order mark written by some spreadsheet applications
+            if (column == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            if (name.equals("seriesid")) {
+                seriesIdColumn = column;
+            } else if (name.equals("value")) {
+                valueColumn = column;
+            } else if (name.equals("timestamp")) {
+                timestampColumn = column;
+            }
+        }
+        if (seriesIdColumn < 0 || valueColumn < 0 || timestampColumn < 0) {
+            throw new ValidationException("CSV header must contain the columns seriesId, value and timestamp");
+        }
+        requiredColumns = Math.max(seriesIdColumn, Math.max(valueColumn, timestampColumn)) + 1;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        List<String> fields;
+        long line;
+        do {
+            line = lineNumber + 1;
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        if (fields.size() < requiredColumns) {
+            return ImportRow.malformed(line,
+                    String.format("Expected at least %d columns but found %d", requiredColumns, fields.size()));
+        }
+
+        String seriesId = blankToNull(fields.get(seriesIdColumn));
+        String value = blankToNull(fields.get(valueColumn));
+        String timestamp = blankToNull(fields.get(timestampColumn));
+        MeasurementRequest measurement = new MeasurementRequest();
+        try {
+            measurement.setSeriesId(seriesId != null ? Integer.valueOf(seriesId) : null);
+        } catch (NumberFormatException e) {
+            return ImportRow.malformed(line, "Invalid seriesId: " + seriesId);
+        }
+        try {
+            measurement.setValue(value != null ? new BigDecimal(value) : null);
+        } catch (NumberFormatException e) {
+            return ImportRow.malformed(line, "Invalid value: " + value);
+        }
+        try {
+            measurement.setTimestamp(timestamp != null ? ZonedDateTime.parse(timestamp) : null);
+        } catch (DateTimeParseException e) {
+            return ImportRow.malformed(line, "Invalid timestamp: " + timestamp);
+        }
+        return ImportRow.parsed(line, measurement);
+    }
+
+    private static String blankToNull(String field) {
+        String trimmed = field.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /**
+     * Reads the fields of the next record, which spans several lines if a quoted field contains line breaks.
+     */
+    private List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+
+        List<String> fields = new ArrayList<>();
+        if (line.indexOf('"') < 0) {
+            // Fast path for the common unquoted record
+            int start = 0;
+            int comma;
+            while ((comma = line.indexOf(',', start)) >= 0) {
+                fields.add(line.substring(start, comma));
+                start = comma + 1;
+            }
+            fields.add(line.substring(start));
+            return fields;
+        }
+
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int position = 0;
+        while (true) {
+            if (position == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                String continuation = reader.readLine();
+                if (continuation == null) {
+                    // Unterminated quote at the end of the input; keep what was read
+                    break;
+                }
+                lineNumber++;
+                field.append('\n');
+                line = continuation;
+                position = 0;
+                continue;
+            }
+            char c = line.charAt(position++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (position < line.length() && line.charAt(position) == '"') {
+                    field.append('"');
+                    position++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,19 @@
+package com.temperature.tracking.importer;
+
+import com.temperature.tracking.dto.MeasurementRequest;
+
+/**
+ * One parsed input record: either a measurement or the reason it could not be parsed.
+ *
+ * @param line the line number at which the record starts, counting from 1
+ */
+public record ImportRow(long line, MeasurementRequest measurement, String error) {
+
+    public static ImportRow parsed(long line, MeasurementRequest measurement) {
+        return new ImportRow(line, measurement, null);
+    }
+
+    public static ImportRow malformed(long line, String error) {
+        return new ImportRow(line, null, error);
+    }
+}
@@ -0,0 +1,42 @@
+package com.temperature.tracking.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.tracking.export.ExportFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses measurements one record at a time from an input stream, so an import never holds
+ * more than the current record in memory. Accepts the files written by the export; columns or
+ * properties other than {@code seriesId}, {@code value} and {@code timestamp} are ignored.
+ */
+public interface MeasurementImportReader {
+
+    /**
+     * Returns the next record, or {@code null} at the end of the input. A record that cannot
+     * be parsed is returned with an error instead of failing the import.
+     */
+    ImportRow next() throws IOException;
+
+    /**
+     * Creates a reader for the given format. The input is decoded as UTF-8.
+     *
+     * @throws com.temperature.tracking.exception.ValidationException if a CSV header lacks a required column
+     */
+    static MeasurementImportReader create(ExportFormat format, InputStream in, ObjectMapper objectMapper)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        switch (format) {
+            case NDJSON:
+                return new NdjsonMeasurementReader(reader, objectMapper);
+            case CSV:
+                return new CsvMeasurementReader(reader);
+            default:
+                throw new IllegalArgumentException("Unsupported import format: " + format);
+        }
+    }
+}
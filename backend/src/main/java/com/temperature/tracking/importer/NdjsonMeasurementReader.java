@@ -0,0 +1,45 @@
+package com.temperature.tracking.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.temperature.tracking.dto.MeasurementRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Reads one JSON object per line; blank lines are skipped.
+ */
+class NdjsonMeasurementReader implements MeasurementImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long lineNumber;
+
+    NdjsonMeasurementReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectReader = objectMapper.readerFor(MeasurementRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            MeasurementRequest measurement = objectReader.readValue(line);
+            return ImportRow.parsed(lineNumber, measurement);
+        } catch (JsonProcessingException e) {
+            return ImportRow.malformed(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.temperature.tracking.ingest;
+
+import com.temperature.tracking.dto.MeasurementRequest;
+
+/**
+ * A measurement accepted for asynchronous ingestion.
+ *
+ * @param sequence increasing number in the order of acceptance, which is also the order of writing
+ * @param username the user recorded as creator of the measurement
+ */
+record IngestEntry(long sequence, String username, MeasurementRequest measurement) {
+}
@@ -0,0 +1,141 @@
+package com.temperature.tracking.ingest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local log of the measurements accepted by the {@link MeasurementIngestQueue}, so that acknowledged
+ * measurements survive a restart before they are written to the database.
+ * <p>
+ * Entries are appended as JSON lines to {@value #LOG_FILE} before they enter the queue. Once the writer
+ * has committed a batch, the sequence number of its last entry is stored in {@value #CHECKPOINT_FILE},
+ * and the log is emptied whenever everything appended to it has been committed. On startup the entries
+ * after the checkpoint are queued again. A crash between a commit and its checkpoint writes that batch
+ * a second time.
+ * <p>
+ * Without {@code fsync} appended entries survive a crash of the application but not of the machine.
+ */
+@Slf4j
+class IngestWriteAheadLog implements Closeable {
+
+    static final String LOG_FILE = "ingest.wal";
+    static final String CHECKPOINT_FILE = "ingest.checkpoint";
+
+    private final Path logFile;
+    private final Path checkpointFile;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+
+    private FileChannel channel;
+    private long lastSequence;
+    private long checkpoint;
+
+    IngestWriteAheadLog(Path directory, ObjectMapper objectMapper, boolean fsync) {
+        this.logFile = directory.resolve(LOG_FILE);
+        this.checkpointFile = directory.resolve(CHECKPOINT_FILE);
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Opens the log for appending and returns the entries that were not committed yet, in sequence order.
+     * Lines left incomplete by a crash while appending are dropped; their requests were never acknowledged.
+     */
+    synchronized List<IngestEntry> recover() throws IOException {
+        Files.createDirectories(logFile.getParent());
+        checkpoint = Files.exists(checkpointFile) ? Long.parseLong(Files.readString(checkpointFile).trim()) : 0;
+        lastSequence = checkpoint;
+
+        List<IngestEntry> pending = new ArrayList<>();
+        if (Files.exists(logFile)) {
+            try (BufferedReader reader = Files.newBufferedReader(logFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        IngestEntry entry = objectMapper.readValue(line, IngestEntry.class);
+                        lastSequence = Math.max(lastSequence, entry.sequence());
+                        if (entry.sequence() > checkpoint) {
+                            pending.add(entry);
+                        }
+                    } catch (JsonProcessingException e) {
+                        log.warn("Skipping an incomplete entry of the ingestion log {}", logFile);
+                    }
+                }
+            }
+        }
+
+        // Rewritten with the pending entries only, so that no incomplete line precedes new ones
+        Path rewritten = logFile.resolveSibling(LOG_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(rewritten, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(out, pending);
+            out.force(true);
+        }
+        Files.move(rewritten, logFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        channel = FileChannel.open(logFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return pending;
+    }
+
+    /**
+     * Returns the highest sequence number appended so far, or found on recovery.
+     */
+    synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    synchronized void append(List<IngestEntry> entries) throws IOException {
+        write(channel, entries);
+        if (fsync) {
+            channel.force(false);
+        }
+        lastSequence = entries.get(entries.size() - 1).sequence();
+    }
+
+    /**
+     * Records that all entries up to and including the given sequence number have been committed.
+     */
+    synchronized void checkpoint(long sequence) throws IOException {
+        Path written = checkpointFile.resolveSibling(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(written, Long.toString(sequence));
+        Files.move(written, checkpointFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        checkpoint = sequence;
+        if (checkpoint == lastSequence) {
+            channel.truncate(0);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void write(FileChannel out, List<IngestEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (IngestEntry entry : entries) {
+            lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.temperature.tracking.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.tracking.dto.MeasurementBatchItemResult;
+import com.temperature.tracking.dto.MeasurementBatchResponse;
+import com.temperature.tracking.dto.MeasurementRequest;
+import com.temperature.tracking.dto.SeriesMetadata;
+import com.temperature.tracking.entity.User;
+import com.temperature.tracking.exception.IngestQueueFullException;
+import com.temperature.tracking.exception.ResourceNotFoundException;
+import com.temperature.tracking.exception.ValidationException;
+import com.temperature.tracking.repository.SeriesRepository;
+import com.temperature.tracking.repository.UserRepository;
+import com.temperature.tracking.service.MeasurementImportService;
+import com.temperature.tracking.service.MeasurementService;
+import com.temperature.tracking.service.SeriesMetadataCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind ingestion of measurements, enabled with {@code measurements.ingest.async.enabled}.
+ * <p>
+ * Requests are validated against the {@linkplain SeriesMetadataCache cached series metadata} and put into an
+ * in-memory queue holding at most {@code capacity} measurements, so the request thread neither waits
+ * for nor holds a database connection. When the queue is full, requests are refused with an
+ * {@link IngestQueueFullException} instead of piling up. A single writer thread drains the queue in
+ * batches of up to {@code max-batch-size}, checks them again against the current series and writes
+ * each batch with {@code COPY} in one transaction. A batch failing because the database is unavailable is
+ * retried every {@code retry-after} while it still counts against the capacity, which turns a slow database
+ * into backpressure. A batch failing for any other reason is split until the measurements that cannot be
+ * written are isolated and dropped, so that they never stop the writer.
+ * <p>
+ * Queued measurements are lost if the application stops before writing them, unless
+ * {@code wal-directory} is set: they are then kept in an {@link IngestWriteAheadLog} and written
+ * after the next start.
+ */
+@Slf4j
+@Service
+public class MeasurementIngestQueue implements SmartLifecycle {
+
+    static final String QUEUE_SIZE_METRIC = "measurements.ingest.queue.size";
+    static final String QUEUED_METRIC = "measurements.ingest.queued";
+    static final String THROTTLED_METRIC = "measurements.ingest.throttled";
+    static final String WRITTEN_METRIC = "measurements.ingest.written";
+    static final String REJECTED_METRIC = "measurements.ingest.rejected";
+    static final String WRITE_FAILURES_METRIC = "measurements.ingest.write_failures";
+
+    /** How long the writer waits for the first measurement of a batch before checking for shutdown. */
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final MeasurementService measurementService;
+    private final MeasurementImportService importService;
+    private final SeriesRepository seriesRepository;
+    private final SeriesMetadataCache seriesMetadataCache;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int capacity;
+    private final int maxBatchSize;
+    private final Duration retryAfter;
+    private final Duration shutdownTimeout;
+    private final Path walDirectory;
+    private final boolean walFsync;
+
+    private final BlockingQueue<IngestEntry> queue = new LinkedBlockingQueue<>();
+    /** Measurements queued or being written; bounded by the capacity. */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private long sequence;
+    private IngestWriteAheadLog wal;
+    private Thread writer;
+    private volatile boolean running;
+
+    public MeasurementIngestQueue(MeasurementService measurementService,
+                                  MeasurementImportService importService,
+                                  SeriesRepository seriesRepository,
+                                  SeriesMetadataCache seriesMetadataCache,
+                                  UserRepository userRepository,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${measurements.ingest.async.enabled:false}") boolean enabled,
+                                  @Value("${measurements.ingest.async.capacity:100000}") int capacity,
+                                  @Value("${measurements.ingest.async.max-batch-size:5000}") int maxBatchSize,
+                                  @Value("${measurements.ingest.async.retry-after:PT1S}") Duration retryAfter,
+                                  @Value("${measurements.ingest.async.shutdown-timeout:PT30S}") Duration shutdownTimeout,
+                                  @Value("${measurements.ingest.async.wal-directory:}") String walDirectory,
+                                  @Value("${measurements.ingest.async.wal-fsync:false}") boolean walFsync) {
+        if (capacity < 1 || maxBatchSize < 1) {
+            throw new IllegalArgumentException(
+                    "measurements.ingest.async.capacity and max-batch-size must be positive");
+        }
+        this.measurementService = measurementService;
+        this.importService = importService;
+        this.seriesRepository = seriesRepository;
+        this.seriesMetadataCache = seriesMetadataCache;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.maxBatchSize = maxBatchSize;
+        this.retryAfter = retryAfter;
+        this.shutdownTimeout = shutdownTimeout;
+        this.walDirectory = walDirectory == null || walDirectory.isBlank() ? null : Path.of(walDirectory);
+        this.walFsync = walFsync;
+        Gauge.builder(QUEUE_SIZE_METRIC, pending, AtomicInteger::get)
+                .description("Measurements accepted for asynchronous ingestion and not written yet")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Validates a measurement and queues it for writing.
+     *
+     * @throws ResourceNotFoundException if the series does not exist
+     * @throws ValidationException if the measurement is invalid for its series
+     * @throws IngestQueueFullException if the queue cannot take the measurement
+     */
+    public void submit(MeasurementRequest request, String username) {
+        SeriesMetadata series = seriesMetadataCache.get(request.getSeriesId())
+                .orElseThrow(() -> new ResourceNotFoundException("Series not found with id: " + request.getSeriesId()));
+        Map<Integer, SeriesMetadata> seriesById = Map.of(series.id(), series);
+        String error = measurementService.validateBatchItem(request, seriesById);
+        if (error != null) {
+            throw new ValidationException(error);
+        }
+        enqueue(username, List.of(request));
+    }
+
+    /**
+     * Validates the items of a batch one by one and queues the valid ones, all or none of them.
+     *
+     * @return per-item results in request order, {@code QUEUED} or {@code REJECTED}
+     * @throws IngestQueueFullException if the queue cannot take all valid items
+     */
+    public MeasurementBatchResponse submitBatch(List<MeasurementRequest> requests, String username) {
+        Map<Integer, SeriesMetadata> seriesById = seriesMetadataCache.getAll(requests.stream()
+                .filter(Objects::nonNull)
+                .map(MeasurementRequest::getSeriesId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        List<MeasurementBatchItemResult> results = new ArrayList<>(requests.size());
+        List<MeasurementRequest> valid = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            String error = measurementService.validateBatchItem(requests.get(index), seriesById);
+            if (error != null) {
+                results.add(MeasurementBatchItemResult.rejected(index, error));
+            } else {
+                results.add(MeasurementBatchItemResult.queued(index));
+                valid.add(requests.get(index));
+            }
+        }
+        if (!valid.isEmpty()) {
+            enqueue(username, valid);
+        }
+        return new MeasurementBatchResponse(valid.size(), requests.size() - valid.size(), results);
+    }
+
+    private void enqueue(String username, List<MeasurementRequest> measurements) {
+        if (!reserve(measurements.size())) {
+            meterRegistry.counter(THROTTLED_METRIC).increment(measurements.size());
+            throw new IngestQueueFullException("Ingestion queue is full, retry later", retryAfter);
+        }
+        try {
+            // Entries reach the log and the queue in the same order, which the checkpoints rely on
+            synchronized (this) {
+                List<IngestEntry> entries = new ArrayList<>(measurements.size());
+                for (MeasurementRequest measurement : measurements) {
+                    entries.add(new IngestEntry(++sequence, username, measurement));
+                }
+                if (wal != null) {
+                    wal.append(entries);
+                }
+                queue.addAll(entries);
+            }
+        } catch (IOException e) {
+            pending.addAndGet(-measurements.size());
+            throw new UncheckedIOException("Could not append to the ingestion log", e);
+        }
+        meterRegistry.counter(QUEUED_METRIC).increment(measurements.size());
+    }
+
+    private boolean reserve(int count) {
+        int current;
+        do {
+            current = pending.get();
+            if (!running || current + count > capacity) {
+                return false;
+            }
+        } while (!pending.compareAndSet(current, current + count));
+        return true;
+    }
+
+    /**
+     * Recovers the write-ahead log and starts the writer. Runs before the web server starts and stops
+     * after it, so requests are never accepted while the writer is not running.
+     */
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (walDirectory != null) {
+            wal = new IngestWriteAheadLog(walDirectory, objectMapper, walFsync);
+            try {
+                List<IngestEntry> recovered = wal.recover();
+                queue.addAll(recovered);
+                pending.addAndGet(recovered.size());
+                if (!recovered.isEmpty()) {
+                    log.info("Recovered {} unwritten measurements from the ingestion log", recovered.size());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not open the ingestion log in " + walDirectory, e);
+            }
+            sequence = wal.lastSequence();
+        }
+        running = true;
+        writer = new Thread(this::drain, "measurement-ingest-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops accepting measurements and waits up to {@code shutdown-timeout} for the queue to be written.
+     */
+    @Override
+    public void stop() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive() || pending.get() > 0) {
+            log.warn("Stopped with {} queued measurements not written{}", pending.get(),
+                    wal != null ? "; they are kept in the ingestion log" : "");
+            return;
+        }
+        closeLog();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Below the phases of the web server and its graceful shutdown
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        List<IngestEntry> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                IngestEntry first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                if (!writeWithRetry(batch)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Dropped {} queued measurements that could not be written", batch.size(), e);
+                meterRegistry.counter(REJECTED_METRIC).increment(batch.size());
+            }
+            // Dropped measurements are passed too, so they are not queued again after a restart
+            checkpoint(batch);
+            pending.addAndGet(-batch.size());
+            batch.clear();
+        }
+    }
+
+    /**
+     * Writes a batch, retrying every {@code retry-after} while the database is unavailable. A batch that fails
+     * for another reason, such as a constraint violation, is written in halves until the failing measurements
+     * are single ones, which are dropped.
+     *
+     * @return {@code false} if the batch could not be written before stopping
+     */
+    private boolean writeWithRetry(List<IngestEntry> batch) throws InterruptedException {
+        while (true) {
+            try {
+                int rejected = Objects.requireNonNull(transactionTemplate.execute(status -> write(batch)));
+                meterRegistry.counter(WRITTEN_METRIC).increment(batch.size() - rejected);
+                meterRegistry.counter(REJECTED_METRIC).increment(rejected);
+                return true;
+            } catch (TransientDataAccessException | RecoverableDataAccessException
+                     | DataAccessResourceFailureException | TransactionException e) {
+                meterRegistry.counter(WRITE_FAILURES_METRIC).increment();
+                if (!running) {
+                    log.error("Could not write queued measurements while stopping", e);
+                    return false;
+                }
+                log.warn("Could not write {} queued measurements, retrying in {}", batch.size(), retryAfter, e);
+                Thread.sleep(retryAfter.toMillis());
+            } catch (RuntimeException e) {
+                meterRegistry.counter(WRITE_FAILURES_METRIC).increment();
+                if (batch.size() == 1) {
+                    log.error("Dropped a queued measurement of series {} that cannot be written",
+                            batch.get(0).measurement().getSeriesId(), e);
+                    meterRegistry.counter(REJECTED_METRIC).increment();
+                    return true;
+                }
+                log.warn("Could not write {} queued measurements, writing them in halves", batch.size(), e);
+                int half = batch.size() / 2;
+                return writeWithRetry(batch.subList(0, half)) && writeWithRetry(batch.subList(half, batch.size()));
+            }
+        }
+    }
+
+    private void checkpoint(List<IngestEntry> batch) {
+        if (wal == null || batch.isEmpty()) {
+            return;
+        }
+        try {
+            wal.checkpoint(batch.get(batch.size() - 1).sequence());
+        } catch (IOException e) {
+            log.warn("Could not checkpoint the ingestion log; written measurements may be written again "
+                    + "after a restart", e);
+        }
+    }
+
+    /**
+     * Writes one batch in the current transaction.
+     *
+     * @return the number of measurements rejected
+     */
+    int write(List<IngestEntry> batch) {
+        // Checked again against the current series, which may have changed since the measurements were queued
+        Map<Integer, SeriesMetadata> seriesById = seriesRepository.findMetadataByIdIn(batch.stream()
+                        .map(entry -> entry.measurement().getSeriesId())
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(SeriesMetadata::id, Function.identity()));
+
+        Map<String, List<MeasurementRequest>> byUser = new LinkedHashMap<>();
+        int rejected = 0;
+        for (IngestEntry entry : batch) {
+            String error = measurementService.validateBatchItem(entry.measurement(), seriesById);
+            if (error != null) {
+                log.warn("Dropped a queued measurement of series {}: {}", entry.measurement().getSeriesId(), error);
+                rejected++;
+                continue;
+            }
+            byUser.computeIfAbsent(entry.username(), username -> new ArrayList<>()).add(entry.measurement());
+        }
+
+        for (Map.Entry<String, List<MeasurementRequest>> group : byUser.entrySet()) {
+            Optional<User> user = userRepository.findByUsername(group.getKey());
+            if (user.isEmpty()) {
+                log.warn("Dropped {} queued measurements of deleted user {}", group.getValue().size(), group.getKey());
+                rejected += group.getValue().size();
+                continue;
+            }
+            importService.loadChunk(group.getValue(), user.get().getId());
+        }
+        return rejected;
+    }
+
+    private void closeLog() {
+        if (wal == null) {
+            return;
+        }
+        try {
+            wal.close();
+        } catch (IOException e) {
+            log.warn("Could not close the ingestion log", e);
+        }
+    }
+}
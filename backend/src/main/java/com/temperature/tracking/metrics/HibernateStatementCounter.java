@@ -0,0 +1,78 @@
+package com.temperature.tracking.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while counting is active.
+ * Statements issued through {@code JdbcTemplate} bypass Hibernate and are not counted.
+ */
+public class HibernateStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<Map<String, Integer>> statements = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Map<String, Integer> current = statements.get();
+        if (current != null) {
+            current.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting on the current thread.
+     */
+    public void start() {
+        statements.set(new HashMap<>());
+    }
+
+    /**
+     * Returns the number of statements counted so far on the current thread.
+     */
+    public int current() {
+        Map<String, Integer> current = statements.get();
+        return current != null ? current.values().stream().mapToInt(Integer::intValue).sum() : 0;
+    }
+
+    /**
+     * Stops counting on the current thread.
+     *
+     * @return the statements since {@link #start()}
+     */
+    public StatementCount stop() {
+        Map<String, Integer> current = statements.get();
+        statements.remove();
+        if (current == null || current.isEmpty()) {
+            return StatementCount.NONE;
+        }
+
+        int total = 0;
+        String mostRepeated = null;
+        int mostRepeatedCount = 0;
+        for (Map.Entry<String, Integer> entry : current.entrySet()) {
+            total += entry.getValue();
+            if (entry.getValue() > mostRepeatedCount) {
+                mostRepeated = entry.getKey();
+                mostRepeatedCount = entry.getValue();
+            }
+        }
+        return new StatementCount(total, mostRepeated, mostRepeatedCount);
+    }
+
+    /**
+     * Statements counted between {@link #start()} and {@link #stop()}. Hibernate binds parameters,
+     * so lazy loads of the same association produce the same SQL text; a statement repeated many
+     * times is the signature of an N+1 query.
+     *
+     * @param total the number of statements
+     * @param mostRepeated the SQL executed most often, or {@code null} if there was none
+     * @param mostRepeatedCount how often {@code mostRepeated} was executed
+     */
+    public record StatementCount(int total, String mostRepeated, int mostRepeatedCount) {
+
+        static final StatementCount NONE = new StatementCount(0, null, 0);
+    }
+}
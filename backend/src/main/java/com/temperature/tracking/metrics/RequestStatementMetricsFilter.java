@@ -0,0 +1,128 @@
+package com.temperature.tracking.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Records the number of Hibernate statements per request as the {@code http.server.requests.statements}
+ * distribution, tagged like {@code http.server.requests} with the method and the matched URI pattern.
+ * Work done on other threads, such as the body of a streaming export, is not attributed to the request.
+ * <p>
+ * A request that executes the same statement at least {@code nPlusOneThreshold} times is logged and
+ * counted as {@code http.server.requests.n_plus_one}. Optionally the count so far is sent in the
+ * {@value #STATEMENT_COUNT_HEADER} response header, added when the body is first written.
+ */
+public class RequestStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "http.server.requests.statements";
+    static final String N_PLUS_ONE_METRIC_NAME = "http.server.requests.n_plus_one";
+    public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+
+    private final HibernateStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+    private final boolean headerEnabled;
+
+    public RequestStatementMetricsFilter(HibernateStatementCounter statementCounter, MeterRegistry meterRegistry,
+                                         int nPlusOneThreshold, boolean headerEnabled) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.headerEnabled = headerEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        statementCounter.start();
+        HeaderWritingResponse headerWritingResponse = headerEnabled ? new HeaderWritingResponse(response) : null;
+        HibernateStatementCounter.StatementCount statements;
+        try {
+            chain.doFilter(request, headerWritingResponse != null ? headerWritingResponse : response);
+        } finally {
+            if (headerWritingResponse != null) {
+                // Bodyless responses are not written through the wrapper
+                headerWritingResponse.addCountHeader();
+            }
+            statements = statementCounter.stop();
+        }
+
+        // Unmatched paths are grouped like in http.server.requests to keep the number of series bounded
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder(METRIC_NAME)
+                .description("Hibernate statements executed per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements.total());
+
+        if (statements.mostRepeatedCount() >= nPlusOneThreshold) {
+            meterRegistry.counter(N_PLUS_ONE_METRIC_NAME, "method", request.getMethod(), "uri", uri).increment();
+            logger.warn(String.format("Possible N+1 query: %s %s executed %d times: %s",
+                    request.getMethod(), uri, statements.mostRepeatedCount(), statements.mostRepeated()));
+        }
+    }
+
+    /**
+     * Adds the statement count header just before the response is committed, when all statements of a
+     * non-streaming response have run.
+     */
+    private final class HeaderWritingResponse extends HttpServletResponseWrapper {
+
+        private boolean headerAdded;
+
+        HeaderWritingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void addCountHeader() {
+            if (!headerAdded && !isCommitted()) {
+                setIntHeader(STATEMENT_COUNT_HEADER, statementCounter.current());
+            }
+            headerAdded = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addCountHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addCountHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addCountHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addCountHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addCountHeader();
+            super.sendError(sc);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.temperature.tracking.partitioning;
+
+import com.temperature.tracking.repository.MeasurementBlockRepository;
+import com.temperature.tracking.repository.MeasurementPartitionRepository;
+import com.temperature.tracking.repository.MeasurementRollupRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the monthly partitions of the {@code measurements} table ahead of the clock and drops them
+ * once they are past {@code retention}.
+ * <p>
+ * Each run first moves rows that landed in the default partition, such as imported history, into
+ * partitions of their months, then creates the partitions of the current and the next
+ * {@code premake-months} months, so new measurements never land in the default partition.
+ * <p>
+ * With a retention set, whole months older than it are dropped, together with the sealed blocks and
+ * rollups of that time, in a few metadata operations instead of row by row deletes. Dropping
+ * publishes no change events: clients of the change feed apply the same retention to their copies.
+ * Each partition is created in its own transaction and dropped outside of one, detaching it first, so a
+ * failure only postpones that partition to the next run.
+ */
+@Slf4j
+@Service
+public class MeasurementPartitionService {
+
+    static final String CREATED_METRIC = "measurements.partitions.created";
+    static final String DROPPED_METRIC = "measurements.partitions.dropped";
+
+    private final MeasurementPartitionRepository partitionRepository;
+    private final MeasurementBlockRepository blockRepository;
+    private final MeasurementRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int premakeMonths;
+    private final Period retention;
+
+    @Autowired
+    public MeasurementPartitionService(MeasurementPartitionRepository partitionRepository,
+                                       MeasurementBlockRepository blockRepository,
+                                       MeasurementRollupRepository rollupRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${measurements.partitions.enabled:true}") boolean enabled,
+                                       @Value("${measurements.partitions.premake-months:3}") int premakeMonths,
+                                       @Value("${measurements.partitions.retention:}") Period retention) {
+        // Partition bounds are local times of the JVM zone, like the timestamp column
+        this(partitionRepository, blockRepository, rollupRepository, transactionManager, meterRegistry,
+                Clock.systemDefaultZone(), enabled, premakeMonths, retention);
+    }
+
+    MeasurementPartitionService(MeasurementPartitionRepository partitionRepository,
+                                MeasurementBlockRepository blockRepository,
+                                MeasurementRollupRepository rollupRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                Clock clock,
+                                boolean enabled,
+                                int premakeMonths,
+                                Period retention) {
+        if (premakeMonths < 0) {
+            throw new IllegalArgumentException("measurements.partitions.premake-months must not be negative");
+        }
+        if (retention != null && (retention.isNegative() || retention.isZero())) {
+            throw new IllegalArgumentException("measurements.partitions.retention must be positive");
+        }
+        this.partitionRepository = partitionRepository;
+        this.blockRepository = blockRepository;
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.premakeMonths = premakeMonths;
+        this.retention = retention;
+    }
+
+    /**
+     * Drops expired months, then creates the missing partitions. Runs at startup and then every
+     * {@code interval}.
+     */
+    @Scheduled(fixedDelayString = "${measurements.partitions.interval:PT6H}")
+    public void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now(clock);
+        YearMonth oldestKept = retention != null ? YearMonth.from(today.minus(retention)) : null;
+        if (oldestKept != null) {
+            dropBefore(oldestKept);
+        }
+
+        Set<YearMonth> missing = new HashSet<>(transactionTemplate.execute(
+                status -> partitionRepository.findDefaultPartitionMonths()));
+        YearMonth current = YearMonth.from(today);
+        for (int i = 0; i <= premakeMonths; i++) {
+            missing.add(current.plusMonths(i));
+        }
+        missing.removeAll(transactionTemplate.execute(status -> partitionRepository.findPartitions()));
+        missing.stream().sorted().forEach(this::create);
+    }
+
+    private void create(YearMonth month) {
+        try {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> partitionRepository.createPartition(month)))) {
+                meterRegistry.counter(CREATED_METRIC).increment();
+                log.info("Created measurements partition of {}", month);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not create measurements partition of {}, retrying next run", month, e);
+        }
+    }
+
+    /**
+     * Removes everything stored about measurements before the given month.
+     */
+    private void dropBefore(YearMonth oldestKept) {
+        LocalDateTime before = oldestKept.atDay(1).atStartOfDay();
+        List<YearMonth> expired = transactionTemplate.execute(status -> partitionRepository.findPartitions()).stream()
+                .filter(month -> month.isBefore(oldestKept))
+                .sorted()
+                .toList();
+        for (YearMonth month : expired) {
+            try {
+                partitionRepository.dropPartition(month);
+                meterRegistry.counter(DROPPED_METRIC).increment();
+                log.info("Dropped measurements partition of {}", month);
+            } catch (DataAccessException e) {
+                log.warn("Could not drop measurements partition of {}, retrying next run", month, e);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            int rows = partitionRepository.deleteFromDefaultPartitionBefore(before);
+            int blocks = blockRepository.deleteBlocksBefore(before.atZone(clock.getZone()));
+            int buckets = rollupRepository.deleteBucketsBefore(before.atZone(clock.getZone()));
+            if (rows + blocks + buckets > 0) {
+                log.info("Removed {} unpartitioned measurements, {} sealed blocks and {} rollup buckets before {}",
+                        rows, blocks, buckets, before);
+            }
+        });
+    }
+}
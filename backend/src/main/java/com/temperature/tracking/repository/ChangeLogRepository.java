@@ -0,0 +1,50 @@
+package com.temperature.tracking.repository;
+
+import com.temperature.tracking.entity.ChangeEntityType;
+import com.temperature.tracking.entity.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Entries are read only below the watermark, the oldest transaction still in progress: every entry below it
+ * is committed or rolled back, and no transaction can write one there anymore.
+ */
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long>, ChangeLogRepositoryCustom {
+
+    /**
+     * Oldest transaction id still in progress in the current snapshot.
+     */
+    @Query(value = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)", nativeQuery = true)
+    long findWatermark();
+
+    /**
+     * Entries after the position {@code (txid, seq)} and below the watermark, in {@code (txid, seq)} order.
+     */
+    @Query("SELECT c FROM ChangeLogEntry c WHERE c.txid < :watermark "
+            + "AND (c.txid > :txid OR (c.txid = :txid AND c.seq > :seq)) ORDER BY c.txid, c.seq")
+    List<ChangeLogEntry> findAfter(@Param("txid") long txid, @Param("seq") long seq,
+                                   @Param("watermark") long watermark, Pageable pageable);
+
+    @Query("SELECT COALESCE(MIN(c.seq), 0) FROM ChangeLogEntry c")
+    long findFirstSeq();
+
+    @Query("SELECT COALESCE(MAX(c.seq), 0) FROM ChangeLogEntry c")
+    long findLatestSeq();
+
+    @Query("SELECT COALESCE(MAX(c.txid), 0) FROM ChangeLogEntry c "
+            + "WHERE c.entityType = :entityType AND c.txid < :watermark")
+    long findLatestTxidByEntityType(@Param("entityType") ChangeEntityType entityType,
+                                    @Param("watermark") long watermark);
+
+    /**
+     * Latest change of a series or of any of its measurements.
+     */
+    @Query("SELECT COALESCE(MAX(c.txid), 0) FROM ChangeLogEntry c WHERE c.seriesId = :seriesId AND c.txid < :watermark")
+    long findLatestTxidBySeriesId(@Param("seriesId") Integer seriesId, @Param("watermark") long watermark);
+}
@@ -0,0 +1,37 @@
+package com.temperature.tracking.repository;
+
+import com.temperature.tracking.entity.ChangeLogEntry;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface ChangeLogRepositoryCustom {
+
+    /**
+     * Appends entries to the change log within the current transaction.
+     * Writers do not wait for each other: sequence numbers are drawn as entries are inserted, and each
+     * entry records the id of its transaction, below which readers see a complete log.
+     */
+    void append(List<ChangeLogEntry> entries);
+
+    /**
+     * Oldest transaction whose entries are all kept. Entries of older transactions may have expired.
+     */
+    long findHorizon();
+
+    /**
+     * Deletes the entries with {@code seq} in {@code (fromSeq, toSeq]} that a later entry of the same entity
+     * and series replaces. Only entries below the watermark are considered.
+     *
+     * @return the number of deleted entries
+     */
+    int deleteSuperseded(long fromSeq, long toSeq, long watermark);
+
+    /**
+     * Deletes at most {@code limit} entries below the watermark written before {@code before},
+     * and moves the horizon past them.
+     *
+     * @return the number of deleted entries
+     */
+    int deleteExpired(ZonedDateTime before, long watermark, int limit);
+}
@@ -0,0 +1,73 @@
+package com.temperature.tracking.repository;
+
+import com.temperature.tracking.entity.ChangeLogEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ChangeLogRepositoryCustomImpl implements ChangeLogRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO change_log (entity_type, entity_id, series_id, operation) VALUES (?, ?, ?, ?)";
+
+    private static final String DELETE_SUPERSEDED_SQL = """
+            DELETE FROM change_log c
+            WHERE c.seq > ? AND c.seq <= ? AND c.txid < ?
+              AND EXISTS (
+                SELECT 1 FROM change_log l
+                WHERE l.entity_id = c.entity_id AND l.series_id = c.series_id AND l.entity_type = c.entity_type
+                  AND l.txid < ? AND (l.txid > c.txid OR (l.txid = c.txid AND l.seq > c.seq)))
+            """;
+
+    // Both statements of the CTE run even though the horizon update is not referenced
+    private static final String DELETE_EXPIRED_SQL = """
+            WITH deleted AS (
+              DELETE FROM change_log
+              WHERE seq IN (
+                SELECT seq FROM change_log WHERE changed_at < ? AND txid < ? ORDER BY seq LIMIT ?)
+              RETURNING txid
+            ), horizon AS (
+              UPDATE change_log_horizon SET txid = GREATEST(txid, (SELECT MAX(txid) + 1 FROM deleted))
+              WHERE EXISTS (SELECT 1 FROM deleted)
+            )
+            SELECT COUNT(*) FROM deleted
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void append(List<ChangeLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.getEntityType().name());
+            ps.setInt(2, entry.getEntityId());
+            ps.setObject(3, entry.getSeriesId(), Types.INTEGER);
+            ps.setString(4, entry.getOperation().name());
+        });
+    }
+
+    @Override
+    public long findHorizon() {
+        Long horizon = jdbcTemplate.queryForObject("SELECT txid FROM change_log_horizon", Long.class);
+        return horizon != null ? horizon : 0;
+    }
+
+    @Override
+    public int deleteSuperseded(long fromSeq, long toSeq, long watermark) {
+        return jdbcTemplate.update(DELETE_SUPERSEDED_SQL, fromSeq, toSeq, watermark, watermark);
+    }
+
+    @Override
+    public int deleteExpired(ZonedDateTime before, long watermark, int limit) {
+        Integer deleted = jdbcTemplate.queryForObject(DELETE_EXPIRED_SQL, Integer.class,
+                Timestamp.from(before.toInstant()), watermark, limit);
+        return deleted != null ? deleted : 0;
+    }
+}
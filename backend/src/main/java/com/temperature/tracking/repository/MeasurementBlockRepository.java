@@ -0,0 +1,80 @@
+package com.temperature.tracking.repository;
+
+import com.temperature.tracking.coldstorage.BlockPayload;
+import com.temperature.tracking.entity.MeasurementBlock;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface MeasurementBlockRepository
+        extends JpaRepository<MeasurementBlock, Long>, MeasurementBlockRepositoryCustom {
+
+    String PAYLOAD_SELECT = "SELECT new com.temperature.tracking.coldstorage.BlockPayload(b.seriesId, b.minTimestamp, b.data) " +
+            "FROM MeasurementBlock b ";
+
+    /**
+     * Streams the blocks of a series holding points within {@code [from, to)}, served by the
+     * {@code (series_id, min_timestamp)} index. Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "16"))
+    @Query(PAYLOAD_SELECT + "WHERE b.seriesId = :seriesId AND b.minTimestamp < :to AND b.maxTimestamp >= :from " +
+            "ORDER BY b.minTimestamp")
+    Stream<BlockPayload> streamPayloadsInRange(@Param("seriesId") Integer seriesId,
+                                               @Param("from") ZonedDateTime from,
+                                               @Param("to") ZonedDateTime to);
+
+    /**
+     * Streams the blocks of all series holding points within {@code [from, to)}, ordered by series.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "16"))
+    @Query(PAYLOAD_SELECT + "WHERE b.minTimestamp < :to AND b.maxTimestamp >= :from " +
+            "ORDER BY b.seriesId, b.minTimestamp")
+    Stream<BlockPayload> streamAllPayloadsInRange(@Param("from") ZonedDateTime from,
+                                                  @Param("to") ZonedDateTime to);
+
+    /**
+     * Blocks whose id range includes one of the given ids; each must still be searched for the id itself.
+     */
+    @Query(PAYLOAD_SELECT + "WHERE b.minId <= :maxId AND b.maxId >= :minId")
+    List<BlockPayload> findPayloadsInIdRange(@Param("minId") Integer minId, @Param("maxId") Integer maxId);
+
+    @Query("SELECT b FROM MeasurementBlock b WHERE b.minId <= :id AND b.maxId >= :id")
+    List<MeasurementBlock> findByIdRangeContaining(@Param("id") Integer id);
+
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM MeasurementBlock b " +
+            "WHERE b.seriesId = :seriesId AND b.minTimestamp < :to AND b.maxTimestamp >= :from")
+    boolean existsInRange(@Param("seriesId") Integer seriesId,
+                          @Param("from") ZonedDateTime from,
+                          @Param("to") ZonedDateTime to);
+
+    @Query("SELECT b FROM MeasurementBlock b WHERE b.seriesId = :seriesId " +
+            "AND b.minTimestamp < :to AND b.maxTimestamp >= :from")
+    List<MeasurementBlock> findInRange(@Param("seriesId") Integer seriesId,
+                                       @Param("from") ZonedDateTime from,
+                                       @Param("to") ZonedDateTime to);
+
+    @Query("SELECT MIN(b.minTimestamp) FROM MeasurementBlock b WHERE b.seriesId = :seriesId")
+    Optional<ZonedDateTime> findFirstTimestampBySeriesId(@Param("seriesId") Integer seriesId);
+
+    @Query("SELECT MAX(b.maxTimestamp) FROM MeasurementBlock b WHERE b.seriesId = :seriesId")
+    Optional<ZonedDateTime> findLastTimestampBySeriesId(@Param("seriesId") Integer seriesId);
+
+    /**
+     * Deletes the blocks whose points are all older than the given time.
+     */
+    @Modifying
+    @Query("DELETE FROM MeasurementBlock b WHERE b.maxTimestamp < :before")
+    int deleteBlocksBefore(@Param("before") ZonedDateTime before);
+}
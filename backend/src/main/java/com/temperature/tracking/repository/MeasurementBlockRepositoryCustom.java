@@ -0,0 +1,33 @@
+package com.temperature.tracking.repository;
+
+import com.temperature.tracking.coldstorage.SealedBlock;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Moves measurements between the {@code measurements} table and sealed blocks with plain JDBC.
+ * All operations join the surrounding transaction.
+ */
+public interface MeasurementBlockRepositoryCustom {
+
+    /**
+     * Serializes sealing and unsealing of one series until the end of the transaction.
+     */
+    void lockSeries(Integer seriesId);
+
+    /**
+     * Locks and returns the oldest measurements of a series dated before {@code before},
+     * at most {@code limit}, in {@code (timestamp, id)} order.
+     */
+    SealedBlock lockOldestMeasurements(Integer seriesId, ZonedDateTime before, int limit);
+
+    /**
+     * Deletes the given measurements of a series from the {@code measurements} table.
+     */
+    void deleteMeasurements(Integer seriesId, SealedBlock block);
+
+    /**
+     * Inserts the points of a block back into the {@code measurements} table with their original ids.
+     */
+    void restoreMeasurements(Integer seriesId, SealedBlock block);
+}
@@ -0,0 +1,100 @@
+package com.temperature.tracking.repository;
+
+import com.temperature.tracking.coldstorage.SealedBlock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@RequiredArgsConstructor
+public class MeasurementBlockRepositoryCustomImpl implements MeasurementBlockRepositoryCustom {
+
+    /** First key of the transaction-scoped advisory locks on series, the series id being the second. */
+    private static final int SERIES_LOCK_NAMESPACE = 0x636f6c64;
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(:namespace, :seriesId)";
+
+    private static final String SELECT_OLDEST_SQL = """
+            SELECT id, value, timestamp, created_by, created_at
+            FROM measurements
+            WHERE series_id = :seriesId AND timestamp < :before
+            ORDER BY timestamp, id
+            LIMIT :limit
+            FOR UPDATE
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM measurements WHERE series_id = :seriesId AND id IN (:ids)";
+
+    private static final String RESTORE_SQL = """
+            INSERT INTO measurements (id, series_id, value, timestamp, created_by, created_at)
+            VALUES (:id, :seriesId, :value, :timestamp, :createdBy, :createdAt)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void lockSeries(Integer seriesId) {
+        jdbcTemplate.query(LOCK_SQL, new MapSqlParameterSource()
+                .addValue("namespace", SERIES_LOCK_NAMESPACE)
+                .addValue("seriesId", seriesId), rs -> null);
+    }
+
+    @Override
+    public SealedBlock lockOldestMeasurements(Integer seriesId, ZonedDateTime before, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("seriesId", seriesId)
+                .addValue("before", Timestamp.from(before.toInstant()))
+                .addValue("limit", limit);
+        SealedBlock.Builder builder = new SealedBlock.Builder(limit);
+        jdbcTemplate.query(SELECT_OLDEST_SQL, parameters, resultSet -> {
+            // TIMESTAMP columns hold local time of the JVM zone, as written by Hibernate
+            Timestamp createdAt = resultSet.getTimestamp("created_at");
+            Integer createdBy = resultSet.getObject("created_by", Integer.class);
+            builder.add(toMicros(resultSet.getTimestamp("timestamp")),
+                    resultSet.getInt("id"),
+                    SealedBlock.toHundredths(resultSet.getBigDecimal("value")),
+                    createdBy != null ? createdBy : SealedBlock.NO_CREATOR,
+                    createdAt != null ? toMicros(createdAt) : SealedBlock.NO_CREATED_AT);
+        });
+        return builder.build();
+    }
+
+    @Override
+    public void deleteMeasurements(Integer seriesId, SealedBlock block) {
+        if (block.size() == 0) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource()
+                .addValue("seriesId", seriesId)
+                .addValue("ids", Arrays.stream(block.ids()).boxed().collect(Collectors.toList())));
+    }
+
+    @Override
+    public void restoreMeasurements(Integer seriesId, SealedBlock block) {
+        if (block.size() == 0) {
+            return;
+        }
+        SqlParameterSource[] batch = IntStream.range(0, block.size())
+                .mapToObj(i -> new MapSqlParameterSource()
+                        .addValue("id", block.ids()[i])
+                        .addValue("seriesId", seriesId)
+                        .addValue("value", block.value(i))
+                        .addValue("timestamp", Timestamp.from(block.timestamp(i).toInstant()))
+                        .addValue("createdBy", block.createdBy(i), Types.INTEGER)
+                        .addValue("createdAt", block.createdAt(i) != null
+                                ? Timestamp.from(block.createdAt(i).toInstant()) : null, Types.TIMESTAMP))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(RESTORE_SQL, batch);
+    }
+
+    private static long toMicros(Timestamp timestamp) {
+        return SealedBlock.toMicros(timestamp.toInstant());
+    }
+}
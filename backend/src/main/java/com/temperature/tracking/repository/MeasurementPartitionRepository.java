@@ -0,0 +1,177 @@
+package com.temperature.tracking.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Monthly range partitions of the {@code measurements} table, named {@code measurements_pYYYY_MM}.
+ * Rows outside every monthly partition are routed to {@value #DEFAULT_PARTITION}.
+ * <p>
+ * Partition bounds are local times of the JVM zone, like the {@code timestamp} column itself.
+ * Each method except {@link #dropPartition} must run in a transaction, which holds the DDL locks until it ends.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeasurementPartitionRepository {
+
+    static final String DEFAULT_PARTITION = "measurements_default";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("measurements_p(\\d{4})_(\\d{2})");
+
+    /** DDL waiting longer than this for a lock fails instead of queueing all other queries behind it. */
+    private static final String LOCK_TIMEOUT_SQL = "SET LOCAL lock_timeout = '5s'";
+
+    private static final String FIND_PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'measurements'::regclass
+            """;
+
+    private static final String FIND_DEFAULT_MONTHS_SQL =
+            "SELECT DISTINCT date_trunc('month', timestamp) AS month FROM " + DEFAULT_PARTITION;
+
+    private static final String DELETE_DEFAULT_BEFORE_SQL =
+            "DELETE FROM " + DEFAULT_PARTITION + " WHERE timestamp < :before";
+
+    private static final String EXISTS_SQL = "SELECT to_regclass(:name) IS NOT NULL";
+
+    /** Returns no row once the table is no longer a partition of measurements, or does not exist. */
+    private static final String DETACH_STATE_SQL = """
+            SELECT i.inhdetachpending AS pending, p.partdefid <> 0 AS has_default
+            FROM pg_inherits i
+            JOIN pg_partitioned_table p ON p.partrelid = i.inhparent
+            WHERE i.inhparent = 'measurements'::regclass AND i.inhrelid = to_regclass('%s')
+            """;
+
+    private static final String COLUMNS = "id, series_id, value, timestamp, created_by, created_at";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Months of the existing monthly partitions, in no particular order.
+     */
+    public List<YearMonth> findPartitions() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, Map.of(), String.class).stream()
+                .map(MeasurementPartitionRepository::monthOf)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Months of the rows in the default partition, which belong to monthly partitions not created yet.
+     */
+    public List<YearMonth> findDefaultPartitionMonths() {
+        return jdbcTemplate.query(FIND_DEFAULT_MONTHS_SQL, Map.of(),
+                (resultSet, rowNum) -> YearMonth.from(resultSet.getTimestamp("month").toLocalDateTime()));
+    }
+
+    public int deleteFromDefaultPartitionBefore(LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_DEFAULT_BEFORE_SQL,
+                new MapSqlParameterSource("before", Timestamp.valueOf(before)));
+    }
+
+    /**
+     * Creates the partition of a month and moves the month's rows out of the default partition into it.
+     * The default partition stays locked until the transaction ends, so no row of the month can be
+     * routed there in between.
+     *
+     * @return {@code false} if the partition already exists
+     */
+    public boolean createPartition(YearMonth month) {
+        String name = partitionName(month);
+        String from = bound(month);
+        String to = bound(month.plusMonths(1));
+        jdbcTemplate.getJdbcTemplate().execute(LOCK_TIMEOUT_SQL);
+        jdbcTemplate.getJdbcTemplate().execute("LOCK TABLE " + DEFAULT_PARTITION + " IN ACCESS EXCLUSIVE MODE");
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Map.of("name", name), Boolean.class))) {
+            return false;
+        }
+        jdbcTemplate.getJdbcTemplate().execute("CREATE TABLE " + name
+                + " (LIKE measurements INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        jdbcTemplate.getJdbcTemplate().execute("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                + " WHERE timestamp >= '" + from + "' AND timestamp < '" + to + "' RETURNING " + COLUMNS + ")"
+                + " INSERT INTO " + name + " (" + COLUMNS + ") SELECT " + COLUMNS + " FROM moved");
+        // Attaching creates the partition's copies of the indexes of the measurements table
+        jdbcTemplate.getJdbcTemplate().execute("ALTER TABLE measurements ATTACH PARTITION " + name
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        return true;
+    }
+
+    /**
+     * Drops the partition of a month with all its rows: detaches it from the measurements table first, then
+     * drops the detached table, which no longer locks the measurements table.
+     * <p>
+     * The detach runs {@code CONCURRENTLY}, taking only a SHARE UPDATE EXCLUSIVE lock on the measurements
+     * table, unless PostgreSQL rules that out because the table has a default partition; then it is a plain
+     * detach, which holds the ACCESS EXCLUSIVE lock for a catalog update only. A concurrent detach interrupted
+     * by an earlier run is finalized instead. Must run outside a transaction, as each statement commits on
+     * its own.
+     */
+    public void dropPartition(YearMonth month) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Partitions must be dropped outside a transaction");
+        }
+        String name = partitionName(month);
+        // One statement keeps the session lock timeout on the connection it is reset on
+        jdbcTemplate.getJdbcTemplate().execute((StatementCallback<Void>) statement -> {
+            statement.execute("SET lock_timeout = '5s'");
+            try {
+                String detach = detachClause(statement, name);
+                if (detach != null) {
+                    statement.execute("ALTER TABLE measurements DETACH PARTITION " + name + detach);
+                }
+                statement.execute("DROP TABLE IF EXISTS " + name);
+            } finally {
+                statement.execute("RESET lock_timeout");
+            }
+            return null;
+        });
+    }
+
+    /**
+     * The end of the statement detaching a partition, or {@code null} if the table is not attached.
+     */
+    private static String detachClause(Statement statement, String name) throws SQLException {
+        try (ResultSet state = statement.executeQuery(DETACH_STATE_SQL.formatted(name))) {
+            if (!state.next()) {
+                return null;
+            }
+            if (state.getBoolean("pending")) {
+                return " FINALIZE";
+            }
+            return state.getBoolean("has_default") ? "" : " CONCURRENTLY";
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return String.format("measurements_p%04d_%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private static YearMonth monthOf(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        return matcher.matches()
+                ? YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)))
+                : null;
+    }
+
+    private static String bound(YearMonth month) {
+        return Timestamp.valueOf(month.atDay(1).atStartOfDay()).toString();
+    }
+}
@@ -1,15 +1,26 @@
 package com.temperature.tracking.repository;
 
+import com.temperature.tracking.dto.MeasurementPoint;
+import com.temperature.tracking.dto.MeasurementResponse;
 import com.temperature.tracking.entity.Measurement;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface MeasurementRepository extends JpaRepository<Measurement, Integer> {
+public interface MeasurementRepository extends JpaRepository<Measurement, Integer>, MeasurementRepositoryCustom {
 
     @EntityGraph(attributePaths = {"series", "createdBy"})
     @Override
@@ -19,9 +30,78 @@ public interface MeasurementRepository extends JpaRepository<Measurement, Intege
     @Override
     List<Measurement> findAll();
 
-    @EntityGraph(attributePaths = {"series", "createdBy"})
-    List<Measurement> findBySeriesId(Integer seriesId);
-
     @EntityGraph(attributePaths = {"series", "createdBy"})
     List<Measurement> findByCreatedById(Integer userId);
+
+    /**
+     * Select clause of the read projections. Only the columns of {@link MeasurementResponse}
+     * are fetched and mapped straight into it, so reads neither instantiate entities nor
+     * keep dirty-checking snapshots in the persistence context.
+     */
+    String RESPONSE_SELECT = "SELECT new com.temperature.tracking.dto.MeasurementResponse(" +
+            "m.id, s.id, s.name, m.value, m.timestamp, u.id, u.username, m.createdAt) " +
+            "FROM Measurement m JOIN m.series s LEFT JOIN m.createdBy u ";
+
+    @Query(RESPONSE_SELECT)
+    List<MeasurementResponse> findAllResponses();
+
+    @Query(RESPONSE_SELECT + "WHERE m.id = :id")
+    Optional<MeasurementResponse> findResponseById(@Param("id") Integer id);
+
+    @Query(RESPONSE_SELECT + "WHERE m.id IN :ids")
+    List<MeasurementResponse> findResponsesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Measurements of a series, ordered by {@code (timestamp, id)}.
+     */
+    @Query(RESPONSE_SELECT + "WHERE s.id = :seriesId ORDER BY m.timestamp, m.id")
+    List<MeasurementResponse> findResponsesBySeriesId(@Param("seriesId") Integer seriesId);
+
+    /**
+     * Measurements of a series within {@code [from, to)}, ordered by {@code (timestamp, id)}.
+     * Served by the {@code (series_id, timestamp, id)} index.
+     */
+    @Query(RESPONSE_SELECT + "WHERE s.id = :seriesId " +
+            "AND m.timestamp >= :from AND m.timestamp < :to " +
+            "ORDER BY m.timestamp, m.id")
+    List<MeasurementResponse> findResponsesBySeriesIdInRange(@Param("seriesId") Integer seriesId,
+                                                             @Param("from") ZonedDateTime from,
+                                                             @Param("to") ZonedDateTime to,
+                                                             Pageable pageable);
+
+    /**
+     * Keyset continuation of {@link #findResponsesBySeriesIdInRange}: measurements strictly
+     * after the {@code (afterTimestamp, afterId)} position.
+     */
+    @Query(RESPONSE_SELECT + "WHERE s.id = :seriesId " +
+            "AND m.timestamp >= :from AND m.timestamp < :to " +
+            "AND (m.timestamp > :afterTimestamp OR (m.timestamp = :afterTimestamp AND m.id > :afterId)) " +
+            "ORDER BY m.timestamp, m.id")
+    List<MeasurementResponse> findResponsesBySeriesIdInRangeAfter(@Param("seriesId") Integer seriesId,
+                                                                  @Param("from") ZonedDateTime from,
+                                                                  @Param("to") ZonedDateTime to,
+                                                                  @Param("afterTimestamp") ZonedDateTime afterTimestamp,
+                                                                  @Param("afterId") Integer afterId,
+                                                                  Pageable pageable);
+
+    /**
+     * Streams the points of a series within {@code [from, to)} in timestamp order.
+     * Rows are fetched from a server-side cursor in chunks and mapped straight to
+     * {@link MeasurementPoint}, so no entities are kept in the persistence context.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.temperature.tracking.dto.MeasurementPoint(m.id, m.timestamp, m.value) " +
+            "FROM Measurement m WHERE m.series.id = :seriesId " +
+            "AND m.timestamp >= :from AND m.timestamp < :to " +
+            "ORDER BY m.timestamp, m.id")
+    Stream<MeasurementPoint> streamPointsBySeriesIdInRange(@Param("seriesId") Integer seriesId,
+                                                           @Param("from") ZonedDateTime from,
+                                                           @Param("to") ZonedDateTime to);
+
+    @Query("SELECT MIN(m.timestamp) FROM Measurement m WHERE m.series.id = :seriesId")
+    Optional<ZonedDateTime> findFirstTimestampBySeriesId(@Param("seriesId") Integer seriesId);
+
+    @Query("SELECT MAX(m.timestamp) FROM Measurement m WHERE m.series.id = :seriesId")
+    Optional<ZonedDateTime> findLastTimestampBySeriesId(@Param("seriesId") Integer seriesId);
 }
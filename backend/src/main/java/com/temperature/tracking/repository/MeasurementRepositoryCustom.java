@@ -0,0 +1,43 @@
+package com.temperature.tracking.repository;
+
+import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.event.MeasurementSnapshot;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface MeasurementRepositoryCustom {
+
+    /**
+     * Reads measurements in series and timestamp order through a forward-only cursor and hands
+     * each row to the action as soon as it is read, without building a result list. Must run
+     * inside a transaction: PostgreSQL only honours the fetch size when auto-commit is off.
+     *
+     * @param seriesId series to export, or {@code null} for all series
+     * @param from inclusive range start
+     * @param to exclusive range end
+     */
+    void forEachInRange(Integer seriesId, ZonedDateTime from, ZonedDateTime to, Consumer<MeasurementResponse> action);
+
+    /**
+     * Reserves ids for rows inserted without Hibernate. Ids are taken from the same pooled
+     * sequence blocks as entity inserts, so both can run concurrently without collisions.
+     */
+    int[] allocateIds(int count);
+
+    /**
+     * Inserts measurements with PostgreSQL {@code COPY}, bypassing the persistence context.
+     * Must run inside a transaction; ids must have been reserved with {@link #allocateIds(int)}.
+     *
+     * @return the number of inserted rows
+     */
+    long copyIn(List<MeasurementSnapshot> measurements, Integer createdBy);
+
+    /**
+     * Deletes the measurements of a series within {@code [from, to)} without loading them.
+     *
+     * @return the number of deleted rows
+     */
+    int deleteInRange(Integer seriesId, ZonedDateTime from, ZonedDateTime to);
+}
@@ -0,0 +1,140 @@
+package com.temperature.tracking.repository;
+
+import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.event.MeasurementSnapshot;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class MeasurementRepositoryCustomImpl implements MeasurementRepositoryCustom {
+
+    /** Rows fetched per round trip while a cursor is open. */
+    static final int FETCH_SIZE = 1000;
+
+    private static final String SELECT_SQL = """
+            SELECT m.id, m.series_id, s.name AS series_name, m.value, m.timestamp,
+                   m.created_by, u.username AS created_by_username, m.created_at
+            FROM measurements m
+            LEFT JOIN series s ON s.id = m.series_id
+            LEFT JOIN users u ON u.id = m.created_by
+            WHERE m.timestamp >= :from AND m.timestamp < :to
+            """;
+
+    private static final String SERIES_FILTER_SQL = " AND m.series_id = :seriesId";
+
+    private static final String ORDER_SQL = " ORDER BY m.series_id, m.timestamp, m.id";
+
+    /** Must match the {@code allocationSize} of the measurement id sequence generator. */
+    static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final String ALLOCATE_IDS_SQL =
+            "SELECT nextval('measurements_id_seq') FROM generate_series(1, ?)";
+
+    private static final String DELETE_RANGE_SQL =
+            "DELETE FROM measurements WHERE series_id = ? AND timestamp >= ? AND timestamp < ?";
+
+    private static final String COPY_SQL =
+            "COPY measurements (id, series_id, value, timestamp, created_by) FROM STDIN (FORMAT csv)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate cursorTemplate;
+
+    public MeasurementRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        // A dedicated template, so the fetch size does not apply to the shared JdbcTemplate
+        JdbcTemplate cursorJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        cursorJdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.cursorTemplate = new NamedParameterJdbcTemplate(cursorJdbcTemplate);
+    }
+
+    @Override
+    public void forEachInRange(Integer seriesId, ZonedDateTime from, ZonedDateTime to,
+                               Consumer<MeasurementResponse> action) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", Timestamp.from(from.toInstant()))
+                .addValue("to", Timestamp.from(to.toInstant()));
+        String sql = SELECT_SQL;
+        if (seriesId != null) {
+            sql += SERIES_FILTER_SQL;
+            parameters.addValue("seriesId", seriesId);
+        }
+        RowCallbackHandler handler = resultSet -> action.accept(mapRow(resultSet));
+        cursorTemplate.query(sql + ORDER_SQL, parameters, handler);
+    }
+
+    @Override
+    public int deleteInRange(Integer seriesId, ZonedDateTime from, ZonedDateTime to) {
+        return jdbcTemplate.update(DELETE_RANGE_SQL, seriesId,
+                Timestamp.from(from.toInstant()), Timestamp.from(to.toInstant()));
+    }
+
+    @Override
+    public int[] allocateIds(int count) {
+        int[] ids = new int[count];
+        int next = 0;
+        while (next < count) {
+            int blocks = (count - next + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+            for (int high : jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Integer.class, blocks)) {
+                // Like Hibernate's pooled optimizer, a sequence value is the last id of the block it
+                // reserves; the first block of a fresh sequence starts at 1 and is therefore shorter
+                for (int id = Math.max(1, high - ID_ALLOCATION_SIZE + 1); id <= high && next < count; id++) {
+                    ids[next++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public long copyIn(List<MeasurementSnapshot> measurements, Integer createdBy) {
+        StringBuilder data = new StringBuilder(measurements.size() * 64);
+        String creator = createdBy != null ? createdBy.toString() : "";
+        for (MeasurementSnapshot measurement : measurements) {
+            // TIMESTAMP columns hold local time of the JVM zone, as written by Hibernate
+            data.append(measurement.id()).append(',')
+                    .append(measurement.seriesId()).append(',')
+                    .append(measurement.value().toPlainString()).append(',')
+                    .append(Timestamp.from(measurement.timestamp().toInstant())).append(',')
+                    .append(creator).append('\n');
+        }
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn(COPY_SQL, new StringReader(data.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return copied != null ? copied : 0;
+    }
+
+    private static MeasurementResponse mapRow(ResultSet resultSet) throws SQLException {
+        return new MeasurementResponse(
+                resultSet.getInt("id"),
+                resultSet.getObject("series_id", Integer.class),
+                resultSet.getString("series_name"),
+                resultSet.getBigDecimal("value"),
+                toZonedDateTime(resultSet.getTimestamp("timestamp")),
+                resultSet.getObject("created_by", Integer.class),
+                resultSet.getString("created_by_username"),
+                toZonedDateTime(resultSet.getTimestamp("created_at")));
+    }
+
+    private static ZonedDateTime toZonedDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant().atZone(ZoneId.systemDefault()) : null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.temperature.tracking.repository;
+
+import com.temperature.tracking.dto.RollupTotals;
+import com.temperature.tracking.entity.MeasurementRollup;
+import com.temperature.tracking.entity.MeasurementRollupId;
+import com.temperature.tracking.entity.RollupGranularity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface MeasurementRollupRepository
+        extends JpaRepository<MeasurementRollup, MeasurementRollupId>, MeasurementRollupRepositoryCustom {
+
+    @Query("SELECT r FROM MeasurementRollup r WHERE r.seriesId = :seriesId AND r.granularity = :granularity " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    List<MeasurementRollup> findBuckets(@Param("seriesId") Integer seriesId,
+                                        @Param("granularity") RollupGranularity granularity,
+                                        @Param("from") ZonedDateTime from,
+                                        @Param("to") ZonedDateTime to,
+                                        Pageable pageable);
+
+    /**
+     * Combines all buckets of one granularity whose start lies within {@code [from, to)}.
+     */
+    @Query("SELECT new com.temperature.tracking.dto.RollupTotals(SUM(r.count), SUM(r.sum), MIN(r.minValue), MAX(r.maxValue)) " +
+            "FROM MeasurementRollup r WHERE r.seriesId = :seriesId AND r.granularity = :granularity " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to")
+    RollupTotals sumBuckets(@Param("seriesId") Integer seriesId,
+                            @Param("granularity") RollupGranularity granularity,
+                            @Param("from") ZonedDateTime from,
+                            @Param("to") ZonedDateTime to);
+
+    /**
+     * Streams the buckets of one granularity starting within {@code [from, to)} in time order.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT r FROM MeasurementRollup r WHERE r.seriesId = :seriesId AND r.granularity = :granularity " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    Stream<MeasurementRollup> streamBuckets(@Param("seriesId") Integer seriesId,
+                                            @Param("granularity") RollupGranularity granularity,
+                                            @Param("from") ZonedDateTime from,
+                                            @Param("to") ZonedDateTime to);
+
+    @Query("SELECT MIN(r.bucketStart) FROM MeasurementRollup r WHERE r.seriesId = :seriesId")
+    Optional<ZonedDateTime> findFirstBucketStartBySeriesId(@Param("seriesId") Integer seriesId);
+
+    @Query("SELECT MAX(r.bucketStart) FROM MeasurementRollup r WHERE r.seriesId = :seriesId")
+    Optional<ZonedDateTime> findLastBucketStartBySeriesId(@Param("seriesId") Integer seriesId);
+
+    @Modifying
+    @Query("DELETE FROM MeasurementRollup r WHERE r.bucketStart < :before")
+    int deleteBucketsBefore(@Param("before") ZonedDateTime before);
+}
@@ -0,0 +1,41 @@
+package com.temperature.tracking.repository;
+
+import com.temperature.tracking.dto.RollupTotals;
+import com.temperature.tracking.entity.MeasurementRollupId;
+import com.temperature.tracking.entity.RollupGranularity;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Write operations on {@code measurement_rollups} that JPA cannot express efficiently:
+ * batched upserts and recomputation from the raw {@code measurements} rows.
+ * All operations join the surrounding transaction.
+ */
+public interface MeasurementRollupRepositoryCustom {
+
+    /**
+     * Adds the totals of newly inserted measurements to their buckets, creating missing buckets.
+     */
+    void addToBuckets(Map<MeasurementRollupId, RollupTotals> deltas);
+
+    /**
+     * Recomputes the given buckets from the raw measurements and removes buckets left empty.
+     * Used after updates and deletions, where a minimum or maximum cannot be derived incrementally.
+     */
+    void recomputeBuckets(Collection<MeasurementRollupId> buckets);
+
+    /**
+     * Rebuilds the buckets of a series starting within {@code [from, to)} from its raw measurements.
+     * Both bounds must be aligned to whole days, so that no bucket lies partly outside the range.
+     */
+    void rebuildRange(Integer seriesId, ZonedDateTime from, ZonedDateTime to);
+
+    /**
+     * Deletes at most {@code limit} buckets of one granularity of a series starting before {@code before}.
+     *
+     * @return the number of deleted buckets
+     */
+    int deleteExpiredBuckets(Integer seriesId, RollupGranularity granularity, ZonedDateTime before, int limit);
+}
@@ -0,0 +1,130 @@
+package com.temperature.tracking.repository;
+
+import com.temperature.tracking.dto.RollupTotals;
+import com.temperature.tracking.entity.MeasurementRollupId;
+import com.temperature.tracking.entity.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class MeasurementRollupRepositoryCustomImpl implements MeasurementRollupRepositoryCustom {
+
+    private static final String ADD_TO_BUCKET_SQL = """
+            INSERT INTO measurement_rollups AS r (series_id, granularity, bucket_start, count, sum, min_value, max_value)
+            VALUES (:seriesId, :granularity, :bucketStart, :count, :sum, :min, :max)
+            ON CONFLICT (series_id, granularity, bucket_start) DO UPDATE SET
+                count = r.count + EXCLUDED.count,
+                sum = r.sum + EXCLUDED.sum,
+                min_value = LEAST(r.min_value, EXCLUDED.min_value),
+                max_value = GREATEST(r.max_value, EXCLUDED.max_value)
+            """;
+
+    private static final String RECOMPUTE_BUCKET_SQL = """
+            INSERT INTO measurement_rollups AS r (series_id, granularity, bucket_start, count, sum, min_value, max_value)
+            SELECT :seriesId, :granularity, :bucketStart, COUNT(*), SUM(m.value), MIN(m.value), MAX(m.value)
+            FROM measurements m
+            WHERE m.series_id = :seriesId AND m.timestamp >= :bucketStart AND m.timestamp < :bucketEnd
+            HAVING COUNT(*) > 0
+            ON CONFLICT (series_id, granularity, bucket_start) DO UPDATE SET
+                count = EXCLUDED.count,
+                sum = EXCLUDED.sum,
+                min_value = EXCLUDED.min_value,
+                max_value = EXCLUDED.max_value
+            """;
+
+    private static final String DELETE_EMPTY_BUCKET_SQL = """
+            DELETE FROM measurement_rollups r
+            WHERE r.series_id = :seriesId AND r.granularity = :granularity AND r.bucket_start = :bucketStart
+              AND NOT EXISTS (SELECT 1 FROM measurements m
+                              WHERE m.series_id = :seriesId AND m.timestamp >= :bucketStart AND m.timestamp < :bucketEnd)
+            """;
+
+    private static final String DELETE_RANGE_SQL = """
+            DELETE FROM measurement_rollups
+            WHERE series_id = :seriesId AND bucket_start >= :from AND bucket_start < :to
+            """;
+
+    private static final String REBUILD_RANGE_SQL = """
+            INSERT INTO measurement_rollups (series_id, granularity, bucket_start, count, sum, min_value, max_value)
+            SELECT m.series_id, :granularity, date_trunc(:unit, m.timestamp), COUNT(*), SUM(m.value), MIN(m.value), MAX(m.value)
+            FROM measurements m
+            WHERE m.series_id = :seriesId AND m.timestamp >= :from AND m.timestamp < :to
+            GROUP BY 1, 3
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM measurement_rollups
+            WHERE (series_id, granularity, bucket_start) IN (
+                SELECT series_id, granularity, bucket_start FROM measurement_rollups
+                WHERE series_id = :seriesId AND granularity = :granularity AND bucket_start < :before
+                LIMIT :limit)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addToBuckets(Map<MeasurementRollupId, RollupTotals> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = deltas.entrySet().stream()
+                .map(entry -> bucketParameters(entry.getKey())
+                        .addValue("count", entry.getValue().count())
+                        .addValue("sum", entry.getValue().sum())
+                        .addValue("min", entry.getValue().min())
+                        .addValue("max", entry.getValue().max()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(ADD_TO_BUCKET_SQL, batch);
+    }
+
+    @Override
+    public void recomputeBuckets(Collection<MeasurementRollupId> buckets) {
+        if (buckets.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = buckets.stream()
+                .map(this::bucketParameters)
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(RECOMPUTE_BUCKET_SQL, batch);
+        jdbcTemplate.batchUpdate(DELETE_EMPTY_BUCKET_SQL, batch);
+    }
+
+    @Override
+    public void rebuildRange(Integer seriesId, ZonedDateTime from, ZonedDateTime to) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("seriesId", seriesId)
+                .addValue("from", Timestamp.from(from.toInstant()))
+                .addValue("to", Timestamp.from(to.toInstant()));
+        jdbcTemplate.update(DELETE_RANGE_SQL, parameters);
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            jdbcTemplate.update(REBUILD_RANGE_SQL, parameters
+                    .addValue("granularity", granularity.name())
+                    .addValue("unit", granularity.name().toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    @Override
+    public int deleteExpiredBuckets(Integer seriesId, RollupGranularity granularity, ZonedDateTime before, int limit) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, new MapSqlParameterSource()
+                .addValue("seriesId", seriesId)
+                .addValue("granularity", granularity.name())
+                .addValue("before", Timestamp.from(before.toInstant()))
+                .addValue("limit", limit));
+    }
+
+    private MapSqlParameterSource bucketParameters(MeasurementRollupId bucket) {
+        return new MapSqlParameterSource()
+                .addValue("seriesId", bucket.getSeriesId())
+                .addValue("granularity", bucket.getGranularity().name())
+                .addValue("bucketStart", Timestamp.from(bucket.getBucketStart().toInstant()))
+                .addValue("bucketEnd", Timestamp.from(bucket.getGranularity().next(bucket.getBucketStart()).toInstant()));
+    }
+}
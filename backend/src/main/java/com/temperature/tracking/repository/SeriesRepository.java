@@ -1,10 +1,16 @@
 package com.temperature.tracking.repository;
 
+import com.temperature.tracking.dto.SeriesMetadata;
+import com.temperature.tracking.dto.SeriesResponse;
 import com.temperature.tracking.entity.Series;
+import com.temperature.tracking.retention.RetentionPolicy;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,5 +25,56 @@ public interface SeriesRepository extends JpaRepository<Series, Integer> {
     @Override
     List<Series> findAll();
 
+    @EntityGraph(attributePaths = {"createdBy"})
     List<Series> findByCreatedById(Integer userId);
+
+    @Query("SELECT s.id FROM Series s")
+    List<Integer> findAllIds();
+
+    @Query("SELECT s.name FROM Series s WHERE s.id = :id")
+    Optional<String> findNameById(@Param("id") Integer id);
+
+    @Query("SELECT new com.temperature.tracking.retention.RetentionPolicy(" +
+            "s.rawRetentionDays, s.minuteRetentionDays, s.hourRetentionDays, s.dayRetentionDays) " +
+            "FROM Series s WHERE s.id = :id")
+    Optional<RetentionPolicy> findRetentionById(@Param("id") Integer id);
+
+    @Query("SELECT s FROM Series s WHERE s.rawRetentionDays IS NOT NULL OR s.minuteRetentionDays IS NOT NULL " +
+            "OR s.hourRetentionDays IS NOT NULL OR s.dayRetentionDays IS NOT NULL")
+    List<Series> findWithRetention();
+
+    /**
+     * Select clause of the validation projections, reading only the columns of the series itself.
+     */
+    String METADATA_SELECT = "SELECT new com.temperature.tracking.dto.SeriesMetadata(" +
+            "s.id, s.name, s.minValue, s.maxValue, " +
+            "s.rawRetentionDays, s.minuteRetentionDays, s.hourRetentionDays, s.dayRetentionDays) " +
+            "FROM Series s ";
+
+    @Query(METADATA_SELECT)
+    List<SeriesMetadata> findAllMetadata();
+
+    @Query(METADATA_SELECT + "WHERE s.id = :id")
+    Optional<SeriesMetadata> findMetadataById(@Param("id") Integer id);
+
+    @Query(METADATA_SELECT + "WHERE s.id IN :ids")
+    List<SeriesMetadata> findMetadataByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Select clause of the read projections, mapping the series columns and the creator
+     * straight into {@link SeriesResponse} without loading entities.
+     */
+    String RESPONSE_SELECT = "SELECT new com.temperature.tracking.dto.SeriesResponse(" +
+            "s.id, s.name, s.description, s.color, s.icon, s.minValue, s.maxValue, u.id, u.username, s.createdAt, " +
+            "s.rawRetentionDays, s.minuteRetentionDays, s.hourRetentionDays, s.dayRetentionDays) " +
+            "FROM Series s LEFT JOIN s.createdBy u ";
+
+    @Query(RESPONSE_SELECT)
+    List<SeriesResponse> findAllResponses();
+
+    @Query(RESPONSE_SELECT + "WHERE s.id = :id")
+    Optional<SeriesResponse> findResponseById(@Param("id") Integer id);
+
+    @Query(RESPONSE_SELECT + "WHERE s.id IN :ids")
+    List<SeriesResponse> findResponsesByIdIn(@Param("ids") Collection<Integer> ids);
 }
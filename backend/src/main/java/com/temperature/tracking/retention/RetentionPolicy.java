@@ -0,0 +1,91 @@
+package com.temperature.tracking.retention;
+
+import com.temperature.tracking.entity.RollupGranularity;
+import com.temperature.tracking.entity.Series;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * How many days a series keeps its raw measurements and each rollup granularity; null keeps them forever.
+ * <p>
+ * Cutoffs are aligned to the start of a day, so a day is either entirely raw or entirely compacted
+ * into rollups, and the rollups of a raw day can always be recomputed from its rows.
+ */
+public record RetentionPolicy(Integer rawDays, Integer minuteDays, Integer hourDays, Integer dayDays) {
+
+    public static final RetentionPolicy FOREVER = new RetentionPolicy(null, null, null, null);
+
+    public static RetentionPolicy of(Series series) {
+        return new RetentionPolicy(series.getRawRetentionDays(), series.getMinuteRetentionDays(),
+                series.getHourRetentionDays(), series.getDayRetentionDays());
+    }
+
+    /**
+     * Returns the start of the oldest day whose raw measurements are kept, or null if all are kept.
+     */
+    public ZonedDateTime rawCutoff(ZonedDateTime now) {
+        return cutoff(rawDays, now);
+    }
+
+    /**
+     * Returns the start of the oldest day whose buckets of the granularity are kept, or null if all are kept.
+     */
+    public ZonedDateTime cutoff(RollupGranularity granularity, ZonedDateTime now) {
+        return switch (granularity) {
+            case MINUTE -> cutoff(minuteDays, now);
+            case HOUR -> cutoff(hourDays, now);
+            case DAY -> cutoff(dayDays, now);
+        };
+    }
+
+    /**
+     * Splits {@code [from, to)} into consecutive parts, oldest first, each served by the finest resolution
+     * still kept for it: raw measurements, then minute, hour and day buckets. Time older than every kept
+     * resolution is left out.
+     */
+    public List<Resolution> resolutions(ZonedDateTime from, ZonedDateTime to, ZonedDateTime now) {
+        List<Resolution> parts = new ArrayList<>();
+        ZonedDateTime upper = to;
+        ZonedDateTime cutoff = rawCutoff(now);
+        addPart(parts, null, cutoff, upper, from, to);
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            if (cutoff == null) {
+                break;
+            }
+            upper = cutoff;
+            ZonedDateTime next = cutoff(granularity, now);
+            // A shorter retention than that of a finer resolution adds nothing
+            cutoff = next == null || next.isBefore(cutoff) ? next : cutoff;
+            addPart(parts, granularity, cutoff, upper, from, to);
+        }
+        Collections.reverse(parts);
+        return parts;
+    }
+
+    private static void addPart(List<Resolution> parts, RollupGranularity granularity,
+                                ZonedDateTime cutoff, ZonedDateTime upper, ZonedDateTime from, ZonedDateTime to) {
+        ZonedDateTime start = cutoff != null && cutoff.isAfter(from) ? cutoff : from;
+        ZonedDateTime end = upper.isBefore(to) ? upper : to;
+        if (start.isBefore(end)) {
+            parts.add(new Resolution(granularity, start, end));
+        }
+    }
+
+    private static ZonedDateTime cutoff(Integer days, ZonedDateTime now) {
+        return days != null ? RollupGranularity.DAY.truncate(now.minusDays(days)) : null;
+    }
+
+    /**
+     * Part {@code [from, to)} of a time range and the resolution it is read at;
+     * the granularity is null for raw measurements.
+     */
+    public record Resolution(RollupGranularity granularity, ZonedDateTime from, ZonedDateTime to) {
+
+        public boolean isRaw() {
+            return granularity == null;
+        }
+    }
+}
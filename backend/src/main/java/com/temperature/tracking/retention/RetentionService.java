@@ -0,0 +1,197 @@
+package com.temperature.tracking.retention;
+
+import com.temperature.tracking.coldstorage.ColdStorageService;
+import com.temperature.tracking.entity.RollupGranularity;
+import com.temperature.tracking.entity.Series;
+import com.temperature.tracking.repository.ChangeLogRepository;
+import com.temperature.tracking.repository.MeasurementBlockRepository;
+import com.temperature.tracking.repository.MeasurementRepository;
+import com.temperature.tracking.repository.MeasurementRollupRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Applies the {@linkplain RetentionPolicy retention policies} of series.
+ * <p>
+ * Expired raw measurements are compacted one day of one series at a time: the rollups of the day are
+ * rebuilt from its rows, which are then deleted, so the day lives on in its buckets. Each day is its own
+ * short transaction holding the cold storage lock of the series, so sealing cannot move rows in between.
+ * Expired buckets are then deleted in batches of {@code batch-size}.
+ * <p>
+ * Like dropped partitions, compacted and expired data publishes no change events.
+ * <p>
+ * The change log is compacted as well: entries older than {@code change-log} are deleted, and so are entries
+ * replaced by a later change of the same entity in the same series. Both run in batches of {@code batch-size}.
+ */
+@Slf4j
+@Service
+public class RetentionService {
+
+    static final String COMPACTED_METRIC = "measurements.retention.compacted";
+    static final String EXPIRED_BUCKETS_METRIC = "measurements.retention.expired_buckets";
+    static final String CHANGE_LOG_METRIC = "measurements.retention.change_log_entries";
+
+    private final SeriesRepository seriesRepository;
+    private final MeasurementRepository measurementRepository;
+    private final MeasurementRollupRepository rollupRepository;
+    private final MeasurementBlockRepository blockRepository;
+    private final ColdStorageService coldStorageService;
+    private final ChangeLogRepository changeLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxDaysPerRun;
+    private final Duration changeLogRetention;
+
+    @Autowired
+    public RetentionService(SeriesRepository seriesRepository,
+                            MeasurementRepository measurementRepository,
+                            MeasurementRollupRepository rollupRepository,
+                            MeasurementBlockRepository blockRepository,
+                            ColdStorageService coldStorageService,
+                            ChangeLogRepository changeLogRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${measurements.retention.enabled:true}") boolean enabled,
+                            @Value("${measurements.retention.batch-size:10000}") int batchSize,
+                            @Value("${measurements.retention.max-days-per-run:1000}") int maxDaysPerRun,
+                            @Value("${measurements.retention.change-log:P30D}") Duration changeLogRetention) {
+        this(seriesRepository, measurementRepository, rollupRepository, blockRepository, coldStorageService,
+                changeLogRepository, transactionManager, meterRegistry, Clock.systemDefaultZone(), enabled, batchSize,
+                maxDaysPerRun, changeLogRetention);
+    }
+
+    RetentionService(SeriesRepository seriesRepository,
+                     MeasurementRepository measurementRepository,
+                     MeasurementRollupRepository rollupRepository,
+                     MeasurementBlockRepository blockRepository,
+                     ColdStorageService coldStorageService,
+                     ChangeLogRepository changeLogRepository,
+                     PlatformTransactionManager transactionManager,
+                     MeterRegistry meterRegistry,
+                     Clock clock,
+                     boolean enabled,
+                     int batchSize,
+                     int maxDaysPerRun,
+                     Duration changeLogRetention) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("measurements.retention.batch-size must be positive");
+        }
+        this.seriesRepository = seriesRepository;
+        this.measurementRepository = measurementRepository;
+        this.rollupRepository = rollupRepository;
+        this.blockRepository = blockRepository;
+        this.coldStorageService = coldStorageService;
+        this.changeLogRepository = changeLogRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxDaysPerRun = maxDaysPerRun;
+        this.changeLogRetention = changeLogRetention;
+    }
+
+    /**
+     * Compacts at most {@code max-days-per-run} expired days of raw measurements, then deletes expired buckets
+     * and compacts the change log.
+     *
+     * @return the number of compacted days
+     */
+    @Scheduled(fixedDelayString = "${measurements.retention.interval:PT1H}",
+            initialDelayString = "${measurements.retention.interval:PT1H}")
+    public int applyRetention() {
+        if (!enabled) {
+            return 0;
+        }
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        int days = 0;
+        for (Series series : seriesRepository.findWithRetention()) {
+            RetentionPolicy retention = RetentionPolicy.of(series);
+            ZonedDateTime rawCutoff = retention.rawCutoff(now);
+            while (rawCutoff != null && days < maxDaysPerRun && compactOldestDay(series.getId(), rawCutoff)) {
+                days++;
+            }
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                ZonedDateTime cutoff = retention.cutoff(granularity, now);
+                if (cutoff != null) {
+                    expireBuckets(series.getId(), granularity, cutoff);
+                }
+            }
+        }
+        compactChangeLog(now);
+        return days;
+    }
+
+    /**
+     * Compacts the day of the oldest raw measurement of a series if it lies before the cutoff.
+     *
+     * @return whether a day was compacted
+     */
+    private boolean compactOldestDay(Integer seriesId, ZonedDateTime rawCutoff) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            blockRepository.lockSeries(seriesId);
+            ZonedDateTime oldest = Stream.concat(
+                            measurementRepository.findFirstTimestampBySeriesId(seriesId).stream(),
+                            coldStorageService.findFirstTimestamp(seriesId).stream())
+                    .min(ZonedDateTime::compareTo)
+                    .orElse(null);
+            if (oldest == null || !oldest.isBefore(rawCutoff)) {
+                return false;
+            }
+            ZonedDateTime dayStart = RollupGranularity.DAY.truncate(oldest);
+            ZonedDateTime dayEnd = RollupGranularity.DAY.next(dayStart);
+            // Rollups are rebuilt from the raw rows, so sealed ones of the day are restored first
+            coldStorageService.unseal(seriesId, dayStart, dayEnd);
+            rollupRepository.rebuildRange(seriesId, dayStart, dayEnd);
+            int deleted = measurementRepository.deleteInRange(seriesId, dayStart, dayEnd);
+            meterRegistry.counter(COMPACTED_METRIC).increment(deleted);
+            log.debug("Compacted {} measurements of series {} on {}", deleted, seriesId, dayStart.toLocalDate());
+            return true;
+        }));
+    }
+
+    private void expireBuckets(Integer seriesId, RollupGranularity granularity, ZonedDateTime cutoff) {
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    rollupRepository.deleteExpiredBuckets(seriesId, granularity, cutoff, batchSize));
+            meterRegistry.counter(EXPIRED_BUCKETS_METRIC, "granularity", granularity.name()).increment(deleted);
+        } while (deleted == batchSize);
+    }
+
+    private void compactChangeLog(ZonedDateTime now) {
+        // Entries below the watermark are final; one taken now stays valid for the whole run
+        long watermark = changeLogRepository.findWatermark();
+        ZonedDateTime cutoff = now.minus(changeLogRetention);
+        int expired;
+        do {
+            expired = transactionTemplate.execute(status ->
+                    changeLogRepository.deleteExpired(cutoff, watermark, batchSize));
+            meterRegistry.counter(CHANGE_LOG_METRIC, "reason", "expired").increment(expired);
+        } while (expired == batchSize);
+
+        long latestSeq = changeLogRepository.findLatestSeq();
+        for (long fromSeq = changeLogRepository.findFirstSeq() - 1; fromSeq < latestSeq; fromSeq += batchSize) {
+            long toSeq = Math.min(fromSeq + batchSize, latestSeq);
+            long from = fromSeq;
+            int superseded = transactionTemplate.execute(status ->
+                    changeLogRepository.deleteSuperseded(from, toSeq, watermark));
+            meterRegistry.counter(CHANGE_LOG_METRIC, "reason", "superseded").increment(superseded);
+        }
+    }
+}
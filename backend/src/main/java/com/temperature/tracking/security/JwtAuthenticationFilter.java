@@ -1,14 +1,18 @@
 package com.temperature.tracking.security;
 
-import com.temperature.tracking.service.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -20,8 +24,15 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /** Counter of bearer tokens that could not be verified, tagged with the reason. */
+    static final String FAILURES_METRIC = "security.jwt.failures";
+
     private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.authentication-mode:claims}")
+    private JwtAuthenticationMode authenticationMode;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -29,34 +40,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        Claims claims = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
+            String jwt = authorizationHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwt);
+                // Verifies the signature and expiration; the token is parsed only once per request
+                claims = jwtUtil.extractAllClaims(jwt);
             } catch (ExpiredJwtException e) {
+                meterRegistry.counter(FAILURES_METRIC, "reason", "expired").increment();
                 logger.warn("JWT token has expired");
             } catch (Exception e) {
+                meterRegistry.counter(FAILURES_METRIC, "reason", "invalid").increment();
                 logger.error("Error parsing JWT token", e);
             }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authenticationToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-            }
+        if (claims != null && claims.getSubject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolvePrincipal(claims);
+
+            UsernamePasswordAuthenticationToken authenticationToken =
+                    new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities()
+                    );
+            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
         }
         chain.doFilter(request, response);
     }
+
+    private UserDetails resolvePrincipal(Claims claims) {
+        String role = claims.get("role", String.class);
+        // Tokens without a role claim are still authenticated against the database
+        if (authenticationMode == JwtAuthenticationMode.CLAIMS && role != null) {
+            return User.withUsername(claims.getSubject())
+                    .password("")
+                    .authorities(new SimpleGrantedAuthority("ROLE_" + role))
+                    .build();
+        }
+        return principalCache.get(claims.getSubject());
+    }
 }
@@ -0,0 +1,17 @@
+package com.temperature.tracking.security;
+
+/**
+ * How {@link JwtAuthenticationFilter} turns a verified token into an authenticated principal.
+ */
+public enum JwtAuthenticationMode {
+    /**
+     * Authorities are taken from the signed {@code role} claim; no database access per request.
+     * Role changes and deleted accounts take effect when the token expires.
+     */
+    CLAIMS,
+    /**
+     * The user is loaded from the database through {@link PrincipalCache},
+     * so changes take effect once the cached entry expires.
+     */
+    DATABASE
+}
@@ -1,14 +1,19 @@
 package com.temperature.tracking.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,14 +22,41 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final long expiration;
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    // Built once from the configuration; key, parser and cache are thread-safe
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    /**
+     * A token whose signature has been verified, cached under its signature segment.
+     * The full token is kept to make sure a hit refers to exactly the same token.
+     */
+    private record VerifiedToken(String token, Claims claims) {
+    }
+
+    @Autowired
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration}") long expiration,
+                   @Value("${jwt.token-cache.max-size:10000}") long tokenCacheMaxSize,
+                   @Value("${jwt.token-cache.ttl:300000}") long tokenCacheTtl) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(tokenCacheTtl))
+                .build();
+    }
+
+    /**
+     * Uses the default size and lifetime of the verified token cache.
+     */
+    public JwtUtil(String secret, long expiration) {
+        this(secret, expiration, 10000, 300000);
     }
 
     public String extractUsername(String token) {
@@ -40,16 +72,28 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+    /**
+     * Returns the claims of a token after verifying its signature and expiration.
+     * Verified tokens are cached, so repeated requests with the same token skip the HMAC
+     * computation until the token expires or its cache entry is evicted.
+     */
+    public Claims extractAllClaims(String token) {
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        VerifiedToken cached = signature.isEmpty() ? null : verifiedTokens.getIfPresent(signature);
+        if (cached != null && cached.token().equals(token) && !isExpired(cached.claims())) {
+            return cached.claims();
+        }
+
+        Claims claims = parser
                 .parseSignedClaims(token)
                 .getPayload();
+        verifiedTokens.put(signature, new VerifiedToken(token, claims));
+        return claims;
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static boolean isExpired(Claims claims) {
+        Date tokenExpiration = claims.getExpiration();
+        return tokenExpiration != null && tokenExpiration.before(new Date());
     }
 
     public String generateToken(String username, String role) {
@@ -64,13 +108,13 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims));
     }
 
     public String extractRole(String token) {
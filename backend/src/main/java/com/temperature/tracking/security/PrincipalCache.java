@@ -0,0 +1,59 @@
+package com.temperature.tracking.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.temperature.tracking.event.UserChangedEvent;
+import com.temperature.tracking.service.CustomUserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of user details for authenticating tokens against the database.
+ * Entries expire a fixed time after being loaded, which bounds how long a role change
+ * or a deleted account goes unnoticed. Failed lookups are not cached. A user is reloaded right away
+ * once a change of their credentials commits.
+ */
+@Component
+public class PrincipalCache {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(CustomUserDetailsService userDetailsService,
+                          @Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${jwt.principal-cache.ttl:60000}") long ttlMillis) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+    }
+
+    /**
+     * Returns the cached user details, loading them on a miss.
+     *
+     * @throws UsernameNotFoundException if the user does not exist
+     */
+    public UserDetails get(String username) {
+        return cache.get(username, userDetailsService::loadUserByUsername);
+    }
+
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.username());
+    }
+}
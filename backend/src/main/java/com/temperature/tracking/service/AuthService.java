@@ -4,10 +4,12 @@ import com.temperature.tracking.dto.ChangePasswordRequest;
 import com.temperature.tracking.dto.LoginRequest;
 import com.temperature.tracking.dto.LoginResponse;
 import com.temperature.tracking.entity.User;
+import com.temperature.tracking.event.UserChangedEvent;
 import com.temperature.tracking.repository.UserRepository;
 import com.temperature.tracking.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -27,6 +29,7 @@ public class AuthService {
     private final CustomUserDetailsService userDetailsService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${jwt.expiration}")
     private Long jwtExpiration;
@@ -61,5 +64,6 @@ public class AuthService {
 
         user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(username));
     }
 }
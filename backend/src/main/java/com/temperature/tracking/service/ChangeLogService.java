@@ -0,0 +1,238 @@
+package com.temperature.tracking.service;
+
+import com.temperature.tracking.coldstorage.ColdStorageService;
+import com.temperature.tracking.dto.ChangeCursor;
+import com.temperature.tracking.dto.ChangeFeedResponse;
+import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.dto.SeriesMetadata;
+import com.temperature.tracking.dto.SeriesResponse;
+import com.temperature.tracking.entity.ChangeEntityType;
+import com.temperature.tracking.entity.ChangeLogEntry;
+import com.temperature.tracking.entity.ChangeOperation;
+import com.temperature.tracking.event.ChangeType;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
+import com.temperature.tracking.event.SeriesChangedEvent;
+import com.temperature.tracking.exception.ValidationException;
+import com.temperature.tracking.repository.ChangeLogRepository;
+import com.temperature.tracking.repository.MeasurementRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records inserts, updates and deletes of measurements and series in the {@code change_log} table
+ * and serves them as a change feed, so that clients can synchronize incrementally.
+ * <p>
+ * A client first reads the current cursor, then loads the data it needs, and from then on
+ * applies the changes after its cursor. Applying a change twice is harmless.
+ * <p>
+ * Writers do not wait for each other, so entries may commit out of sequence order. Readers therefore only
+ * see entries of transactions older than the oldest one still in progress, the watermark, in transaction
+ * order. A long-running writer delays the feed, but blocks no other writer.
+ * <p>
+ * The retention job deletes superseded and expired entries. A cursor from before the horizon of expired
+ * entries is answered with a resync.
+ * <p>
+ * The latest transaction ids also serve as versions for conditional reads of series and measurement lists.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeLogService {
+
+    public static final int DEFAULT_LIMIT = 1000;
+    public static final int MAX_LIMIT = 10000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final MeasurementRepository measurementRepository;
+    private final SeriesRepository seriesRepository;
+    private final ColdStorageService coldStorageService;
+    private final SeriesMetadataCache seriesMetadataCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMeasurementChanged(MeasurementChangedEvent event) {
+        boolean deleted = event.type() == ChangeType.DELETED;
+        List<MeasurementSnapshot> measurements = deleted ? event.previous() : event.current();
+        ChangeOperation operation = deleted ? ChangeOperation.DELETE : ChangeOperation.UPSERT;
+
+        List<ChangeLogEntry> entries = new ArrayList<>();
+        if (event.type() == ChangeType.UPDATED) {
+            // A measurement moved to another series also changes the measurements of the series it left
+            Map<Integer, Integer> currentSeriesIds = event.current().stream()
+                    .collect(Collectors.toMap(MeasurementSnapshot::id, MeasurementSnapshot::seriesId));
+            event.previous().stream()
+                    .filter(previous -> !previous.seriesId().equals(currentSeriesIds.get(previous.id())))
+                    .map(previous -> new ChangeLogEntry(
+                            ChangeEntityType.MEASUREMENT, previous.id(), previous.seriesId(), ChangeOperation.UPSERT))
+                    .forEach(entries::add);
+        }
+        measurements.stream()
+                .map(measurement -> new ChangeLogEntry(
+                        ChangeEntityType.MEASUREMENT, measurement.id(), measurement.seriesId(), operation))
+                .forEach(entries::add);
+        changeLogRepository.append(entries);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onSeriesChanged(SeriesChangedEvent event) {
+        ChangeOperation operation = event.type() == ChangeType.DELETED ? ChangeOperation.DELETE : ChangeOperation.UPSERT;
+        changeLogRepository.append(List.of(
+                new ChangeLogEntry(ChangeEntityType.SERIES, event.seriesId(), event.seriesId(), operation)));
+    }
+
+    /**
+     * Returns the changes committed after {@code since}, at most {@code limit} log entries at a time.
+     * Without {@code since} only the current cursor is returned.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ChangeFeedResponse getChanges(String since, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        ChangeCursor position = since != null ? ChangeCursor.decode(since) : null;
+        long watermark = changeLogRepository.findWatermark();
+        if (position == null) {
+            return ChangeFeedResponse.empty(ChangeCursor.before(watermark).encode());
+        }
+        if (position.txid() < changeLogRepository.findHorizon()) {
+            return ChangeFeedResponse.resync(ChangeCursor.before(watermark).encode());
+        }
+
+        List<ChangeLogEntry> entries = changeLogRepository.findAfter(
+                position.txid(), position.seq(), watermark, PageRequest.ofSize(limit + 1));
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+        if (entries.isEmpty()) {
+            // Everything below the watermark has been read
+            ChangeCursor cursor = position.txid() < watermark ? ChangeCursor.before(watermark) : position;
+            return ChangeFeedResponse.empty(cursor.encode());
+        }
+
+        // Only the latest operation per entity matters
+        Map<Integer, ChangeOperation> seriesChanges = new LinkedHashMap<>();
+        Map<Integer, ChangeOperation> measurementChanges = new LinkedHashMap<>();
+        for (ChangeLogEntry entry : entries) {
+            Map<Integer, ChangeOperation> changes = entry.getEntityType() == ChangeEntityType.SERIES
+                    ? seriesChanges : measurementChanges;
+            changes.remove(entry.getEntityId());
+            changes.put(entry.getEntityId(), entry.getOperation());
+        }
+
+        List<Integer> deletedSeriesIds = new ArrayList<>(idsWith(seriesChanges, ChangeOperation.DELETE));
+        List<Integer> deletedMeasurementIds = new ArrayList<>(idsWith(measurementChanges, ChangeOperation.DELETE));
+
+        Set<Integer> upsertedSeriesIds = idsWith(seriesChanges, ChangeOperation.UPSERT);
+        Map<Integer, SeriesResponse> seriesById = upsertedSeriesIds.isEmpty() ? Map.of()
+                : seriesRepository.findResponsesByIdIn(upsertedSeriesIds).stream()
+                .collect(Collectors.toMap(SeriesResponse::getId, Function.identity()));
+        List<SeriesResponse> series = new ArrayList<>();
+        for (Integer id : upsertedSeriesIds) {
+            SeriesResponse current = seriesById.get(id);
+            // Missing rows were deleted after the log was read; their tombstones follow later
+            if (current != null) {
+                series.add(current);
+            } else {
+                deletedSeriesIds.add(id);
+            }
+        }
+
+        Set<Integer> upsertedMeasurementIds = idsWith(measurementChanges, ChangeOperation.UPSERT);
+        Map<Integer, MeasurementResponse> measurementsById = upsertedMeasurementIds.isEmpty() ? new HashMap<>()
+                : measurementRepository.findResponsesByIdIn(upsertedMeasurementIds).stream()
+                .collect(Collectors.toMap(MeasurementResponse::getId, Function.identity()));
+        if (measurementsById.size() < upsertedMeasurementIds.size()) {
+            // The rest may have been sealed since they changed
+            Set<Integer> missing = new LinkedHashSet<>(upsertedMeasurementIds);
+            missing.removeAll(measurementsById.keySet());
+            coldStorageService.findResponsesByIds(missing)
+                    .forEach(measurement -> measurementsById.put(measurement.getId(), measurement));
+        }
+        List<MeasurementResponse> measurements = new ArrayList<>();
+        for (Integer id : upsertedMeasurementIds) {
+            MeasurementResponse current = measurementsById.get(id);
+            if (current != null) {
+                measurements.add(current);
+            } else {
+                deletedMeasurementIds.add(id);
+            }
+        }
+
+        String cursor = ChangeCursor.of(entries.get(entries.size() - 1)).encode();
+        return new ChangeFeedResponse(cursor, hasMore, false, series, measurements,
+                deletedSeriesIds, deletedMeasurementIds);
+    }
+
+    /**
+     * Returns a version of the list of all series, which changes whenever a series is created, updated
+     * or deleted. Must be read before the list, so that a change in between only causes another read.
+     * <p>
+     * Versions never fall below the horizon, so they still change when the latest entry expires.
+     */
+    @Transactional(readOnly = true)
+    public String getSeriesVersion() {
+        long watermark = changeLogRepository.findWatermark();
+        long txid = changeLogRepository.findLatestTxidByEntityType(ChangeEntityType.SERIES, watermark);
+        return Long.toString(Math.max(txid, changeLogRepository.findHorizon()));
+    }
+
+    /**
+     * Returns a version of the measurements of a series, which changes whenever they or the series change.
+     * Must be read before the measurements, so that a change in between only causes another read.
+     * <p>
+     * Retention and dropped partitions delete measurements without logging them, but always the oldest
+     * ones, so the version also includes the earliest timestamp left. Sealing only moves measurements.
+     * Downsampled measurements of a series with a raw retention switch to rollups as time passes and have
+     * no version.
+     *
+     * @param downsampled whether the measurements are read downsampled
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Optional<String> getMeasurementsVersion(Integer seriesId, boolean downsampled) {
+        if (downsampled && seriesMetadataCache.get(seriesId)
+                .map(SeriesMetadata::retention)
+                .map(retention -> retention.rawDays() != null)
+                .orElse(true)) {
+            return Optional.empty();
+        }
+        long watermark = changeLogRepository.findWatermark();
+        long txid = Math.max(changeLogRepository.findLatestTxidBySeriesId(seriesId, watermark),
+                changeLogRepository.findHorizon());
+        long earliest = Stream.concat(
+                        measurementRepository.findFirstTimestampBySeriesId(seriesId).stream(),
+                        coldStorageService.findFirstTimestamp(seriesId).stream())
+                .map(ZonedDateTime::toInstant)
+                .min(Instant::compareTo)
+                .map(timestamp -> ChronoUnit.MICROS.between(Instant.EPOCH, timestamp))
+                .orElse(0L);
+        return Optional.of(txid + "-" + earliest);
+    }
+
+    private static Set<Integer> idsWith(Map<Integer, ChangeOperation> changes, ChangeOperation operation) {
+        return changes.entrySet().stream()
+                .filter(change -> change.getValue() == operation)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
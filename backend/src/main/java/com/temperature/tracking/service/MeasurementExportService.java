@@ -0,0 +1,112 @@
+package com.temperature.tracking.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.tracking.coldstorage.ColdStorageService;
+import com.temperature.tracking.coldstorage.SortedMerge;
+import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.exception.ResourceNotFoundException;
+import com.temperature.tracking.exception.ValidationException;
+import com.temperature.tracking.export.ExportFormat;
+import com.temperature.tracking.export.MeasurementExportWriter;
+import com.temperature.tracking.repository.MeasurementRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.ZonedDateTime;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams measurements to the client in constant memory: rows are read through a database cursor
+ * and serialized one by one, so neither a result list nor the whole response is ever buffered.
+ */
+@Service
+public class MeasurementExportService {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final MeasurementRepository measurementRepository;
+    private final SeriesRepository seriesRepository;
+    private final ColdStorageService coldStorageService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public MeasurementExportService(MeasurementRepository measurementRepository,
+                                    SeriesRepository seriesRepository,
+                                    ColdStorageService coldStorageService,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager) {
+        this.measurementRepository = measurementRepository;
+        this.seriesRepository = seriesRepository;
+        this.coldStorageService = coldStorageService;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // One snapshot for the measurements table and the sealed blocks
+        this.readOnlyTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Validates the request and returns a body that writes the matching measurements when the
+     * response is committed. Validation happens up front so errors are still reported as JSON.
+     *
+     * @param seriesId series to export, or {@code null} for all series
+     * @param gzip whether to compress the body; the caller sets the {@code Content-Encoding} header
+     * @throws ResourceNotFoundException if the series does not exist
+     * @throws ValidationException if the range is invalid
+     */
+    public StreamingResponseBody exportMeasurements(Integer seriesId, ZonedDateTime from, ZonedDateTime to,
+                                                    ExportFormat format, boolean gzip) {
+        if (seriesId != null && !seriesRepository.existsById(seriesId)) {
+            throw new ResourceNotFoundException("Series not found with id: " + seriesId);
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new ValidationException("Range start must be before range end");
+        }
+        ZonedDateTime start = from != null ? from : MeasurementService.RANGE_START;
+        ZonedDateTime end = to != null ? to : MeasurementService.RANGE_END;
+
+        return out -> {
+            if (gzip) {
+                try (GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE)) {
+                    writeMeasurements(seriesId, start, end, format, compressed);
+                }
+            } else {
+                writeMeasurements(seriesId, start, end, format, out);
+            }
+        };
+    }
+
+    private void writeMeasurements(Integer seriesId, ZonedDateTime start, ZonedDateTime end,
+                                   ExportFormat format, OutputStream out) throws IOException {
+        try (MeasurementExportWriter writer = MeasurementExportWriter.create(format, out, objectMapper)) {
+            Consumer<MeasurementResponse> write = measurement -> {
+                try {
+                    writer.write(measurement);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+            // The cursor only streams inside a transaction; it runs on the async request thread
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<MeasurementResponse> sealed = coldStorageService.streamResponses(seriesId, start, end)) {
+                    // Sealed measurements are interleaved with the rows, keeping the series and timestamp order
+                    SortedMerge.Interleaving<MeasurementResponse> merged = new SortedMerge.Interleaving<>(
+                            sealed.iterator(), ColdStorageService.RESPONSE_ORDER, write);
+                    measurementRepository.forEachInRange(seriesId, start, end, merged);
+                    merged.finish();
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.temperature.tracking.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.tracking.dto.MeasurementImportRejection;
+import com.temperature.tracking.dto.MeasurementImportResponse;
+import com.temperature.tracking.dto.MeasurementRequest;
+import com.temperature.tracking.dto.SeriesMetadata;
+import com.temperature.tracking.entity.User;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
+import com.temperature.tracking.exception.ResourceNotFoundException;
+import com.temperature.tracking.export.ExportFormat;
+import com.temperature.tracking.importer.ImportRow;
+import com.temperature.tracking.importer.MeasurementImportReader;
+import com.temperature.tracking.repository.MeasurementRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import com.temperature.tracking.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk loads measurements from CSV or NDJSON. The input is parsed and validated one record at a time;
+ * valid rows are written with PostgreSQL {@code COPY} in chunks of {@link #CHUNK_SIZE}, each in its own
+ * transaction, so a chunk that has been committed stays imported even if a later chunk fails.
+ */
+@Service
+public class MeasurementImportService {
+
+    public static final int CHUNK_SIZE = 10000;
+    public static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    /** Scale of the {@code measurements.value} column. */
+    private static final int VALUE_SCALE = 2;
+
+    private final MeasurementRepository measurementRepository;
+    private final SeriesRepository seriesRepository;
+    private final UserRepository userRepository;
+    private final MeasurementService measurementService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+
+    public MeasurementImportService(MeasurementRepository measurementRepository,
+                                    SeriesRepository seriesRepository,
+                                    UserRepository userRepository,
+                                    MeasurementService measurementService,
+                                    ObjectMapper objectMapper,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager) {
+        this.measurementRepository = measurementRepository;
+        this.seriesRepository = seriesRepository;
+        this.userRepository = userRepository;
+        this.measurementService = measurementService;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Imports all records of the input. Invalid records are skipped and reported with their line number.
+     *
+     * @param username the user recorded as creator of the measurements
+     * @throws ResourceNotFoundException if the user does not exist
+     * @throws com.temperature.tracking.exception.ValidationException if a CSV header lacks a required column
+     */
+    public MeasurementImportResponse importMeasurements(InputStream in, ExportFormat format, String username)
+            throws IOException {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
+        // Series bounds are read once per import instead of once per row
+        Map<Integer, SeriesMetadata> seriesById = seriesRepository.findAllMetadata().stream()
+                .collect(Collectors.toMap(SeriesMetadata::id, Function.identity()));
+
+        MeasurementImportReader reader = MeasurementImportReader.create(format, in, objectMapper);
+        List<MeasurementRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<MeasurementImportRejection> rejections = new ArrayList<>();
+        long imported = 0;
+        long rejected = 0;
+
+        ImportRow row;
+        while ((row = reader.next()) != null) {
+            String error = row.error() != null
+                    ? row.error()
+                    : measurementService.validateBatchItem(row.measurement(), seriesById);
+            if (error != null) {
+                rejected++;
+                if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                    rejections.add(new MeasurementImportRejection(row.line(), error));
+                }
+                continue;
+            }
+
+            chunk.add(row.measurement());
+            if (chunk.size() == CHUNK_SIZE) {
+                imported += loadChunk(chunk, user.getId());
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += loadChunk(chunk, user.getId());
+        }
+
+        return new MeasurementImportResponse(imported, rejected, rejections);
+    }
+
+    /**
+     * Writes already validated measurements with {@code COPY} in one transaction.
+     *
+     * @param userId the id of the user recorded as creator of the measurements
+     * @return the number of measurements written
+     */
+    public int loadChunk(List<MeasurementRequest> chunk, Integer userId) {
+        chunkTransaction.executeWithoutResult(status -> {
+            int[] ids = measurementRepository.allocateIds(chunk.size());
+            List<MeasurementSnapshot> measurements = new ArrayList<>(chunk.size());
+            for (int index = 0; index < chunk.size(); index++) {
+                MeasurementRequest request = chunk.get(index);
+                // Rounded like the database column, so rollups are computed from the stored values
+                measurements.add(new MeasurementSnapshot(ids[index], request.getSeriesId(), request.getTimestamp(),
+                        request.getValue().setScale(VALUE_SCALE, RoundingMode.HALF_UP)));
+            }
+            measurementRepository.copyIn(measurements, userId);
+            // Rollups, the change log and live streams are maintained as for batch ingestion
+            eventPublisher.publishEvent(MeasurementChangedEvent.created(measurements));
+        });
+        return chunk.size();
+    }
+}
@@ -1,130 +1,475 @@
 package com.temperature.tracking.service;
 
+import com.temperature.tracking.coldstorage.ColdStorageService;
+import com.temperature.tracking.coldstorage.SortedMerge;
+import com.temperature.tracking.dto.MeasurementBatchItemResult;
+import com.temperature.tracking.dto.MeasurementBatchResponse;
+import com.temperature.tracking.dto.MeasurementColumns;
+import com.temperature.tracking.dto.MeasurementCursor;
+import com.temperature.tracking.dto.MeasurementPageResponse;
+import com.temperature.tracking.dto.MeasurementPoint;
 import com.temperature.tracking.dto.MeasurementRequest;
 import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.dto.SeriesMetadata;
+import com.temperature.tracking.downsampling.Downsampler;
+import com.temperature.tracking.downsampling.DownsamplingMethod;
 import com.temperature.tracking.entity.Measurement;
+import com.temperature.tracking.entity.MeasurementRollup;
 import com.temperature.tracking.entity.Series;
 import com.temperature.tracking.entity.User;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
 import com.temperature.tracking.exception.ResourceNotFoundException;
 import com.temperature.tracking.exception.ValidationException;
+import com.temperature.tracking.hotwindow.HotWindowStore;
 import com.temperature.tracking.repository.MeasurementRepository;
-import com.temperature.tracking.repository.SeriesRepository;
+import com.temperature.tracking.repository.MeasurementRollupRepository;
 import com.temperature.tracking.repository.UserRepository;
+import com.temperature.tracking.retention.RetentionPolicy;
+import com.temperature.tracking.validation.MeasurementValueValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class MeasurementService {
 
+    /**
+     * Number of persisted measurements after which a batch ingestion flushes and clears
+     * the persistence context. Hibernate splits each flush into JDBC batches of
+     * {@code hibernate.jdbc.batch_size} statements.
+     */
+    private static final int BATCH_FLUSH_SIZE = 500;
+
+    public static final int DEFAULT_PAGE_SIZE = 500;
+    public static final int MAX_PAGE_SIZE = 5000;
+
+    public static final int MIN_DOWNSAMPLED_POINTS = 3;
+    public static final int MAX_DOWNSAMPLED_POINTS = 10000;
+
+    /** Bounds substituted for an open-ended time range. */
+    static final ZonedDateTime RANGE_START = ZonedDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    static final ZonedDateTime RANGE_END = ZonedDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    /** Counter of rejected measurement values, tagged with the reason. */
+    static final String VALIDATION_REJECTIONS_METRIC = "measurements.validation.rejections";
+
     private final MeasurementRepository measurementRepository;
-    private final SeriesRepository seriesRepository;
+    private final SeriesMetadataCache seriesMetadataCache;
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final HotWindowStore hotWindowStore;
+    private final ColdStorageService coldStorageService;
+    private final MeasurementRollupRepository rollupRepository;
 
-    @Transactional(readOnly = true)
+    // Read methods combine the measurements table with sealed blocks; a repeatable-read snapshot
+    // keeps a block sealed in between from being missed or read twice
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     public List<MeasurementResponse> getAllMeasurements() {
-        return measurementRepository.findAll().stream()
-                .map(MeasurementResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<MeasurementResponse> measurements = new ArrayList<>(measurementRepository.findAllResponses());
+        measurements.addAll(coldStorageService.findResponses(null, RANGE_START, RANGE_END));
+        return measurements;
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     public MeasurementResponse getMeasurementById(Integer id) {
-        Measurement measurement = measurementRepository.findById(id)
+        return measurementRepository.findResponseById(id)
+                .or(() -> coldStorageService.findResponseById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Measurement not found with id: " + id));
-        return MeasurementResponse.fromEntity(measurement);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Returns all measurements of a series ordered by timestamp, so the response does not change
+     * when measurements are sealed.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     public List<MeasurementResponse> getMeasurementsBySeriesId(Integer seriesId) {
-        return measurementRepository.findBySeriesId(seriesId).stream()
-                .map(MeasurementResponse::fromEntity)
+        return SortedMerge.merge(
+                measurementRepository.findResponsesBySeriesId(seriesId),
+                coldStorageService.findResponses(seriesId, RANGE_START, RANGE_END),
+                ColdStorageService.RESPONSE_ORDER);
+    }
+
+    /**
+     * Returns the measurements of a series within {@code [from, to)}, ordered by timestamp.
+     * Either bound may be null for an open-ended range.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public List<MeasurementResponse> getMeasurementsBySeriesId(Integer seriesId, ZonedDateTime from, ZonedDateTime to) {
+        ZonedDateTime start = rangeStart(from, to);
+        ZonedDateTime end = rangeEnd(to);
+        return SortedMerge.merge(
+                measurementRepository.findResponsesBySeriesIdInRange(seriesId, start, end, Pageable.unpaged()),
+                coldStorageService.findResponses(seriesId, start, end),
+                ColdStorageService.RESPONSE_ORDER);
+    }
+
+    /**
+     * Returns one keyset-paginated page of the measurements of a series within {@code [from, to)}.
+     *
+     * @param cursor the {@code nextCursor} of the previous page, or null for the first page
+     * @param limit the maximum number of measurements to return
+     * @throws ValidationException if the limit, range or cursor is invalid
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public MeasurementPageResponse getMeasurementPage(Integer seriesId, ZonedDateTime from, ZonedDateTime to,
+                                                      String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        ZonedDateTime start = rangeStart(from, to);
+        ZonedDateTime end = rangeEnd(to);
+        // One extra row tells whether another page follows
+        Pageable pageable = PageRequest.ofSize(limit + 1);
+
+        List<MeasurementResponse> hot;
+        MeasurementCursor position = cursor != null ? MeasurementCursor.decode(cursor) : null;
+        if (position == null) {
+            hot = measurementRepository.findResponsesBySeriesIdInRange(seriesId, start, end, pageable);
+        } else {
+            hot = measurementRepository.findResponsesBySeriesIdInRangeAfter(
+                    seriesId, start, end, position.timestamp(), position.id(), pageable);
+        }
+        List<MeasurementResponse> measurements = SortedMerge.merge(hot,
+                coldStorageService.findResponses(seriesId, start, end, position, limit + 1),
+                ColdStorageService.RESPONSE_ORDER, limit + 1);
+
+        List<MeasurementResponse> items = measurements.size() > limit
+                ? measurements.subList(0, limit)
+                : measurements;
+        String nextCursor = measurements.size() > limit
+                ? MeasurementCursor.of(items.get(items.size() - 1)).encode()
+                : null;
+        return new MeasurementPageResponse(items, nextCursor);
+    }
+
+    /**
+     * Returns the measurements of a series within {@code [from, to)} reduced to at most
+     * {@code maxPoints} points. Rows are streamed through the downsampler, so memory use
+     * depends on {@code maxPoints} rather than on the length of the range.
+     * Points synthesized by the {@link DownsamplingMethod#AVG} method carry no id.
+     * Where raw measurements have expired under the retention of the series, the averages of the
+     * finest rollup buckets still kept stand in for them, also without ids.
+     *
+     * @throws ResourceNotFoundException if the series does not exist
+     * @throws ValidationException if maxPoints or the range is invalid
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public List<MeasurementResponse> getDownsampledMeasurements(Integer seriesId, ZonedDateTime from, ZonedDateTime to,
+                                                                int maxPoints, DownsamplingMethod method) {
+        SeriesMetadata series = downsampledSeries(seriesId, maxPoints);
+        return downsample(series, from, to, maxPoints, method).stream()
+                .map(point -> new MeasurementResponse(point.id(), series.id(), series.name(),
+                        point.value(), point.timestamp(), null, null, null))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the timestamps and values of the measurements of a series for charts: all of them within
+     * {@code [from, to)}, or with {@code maxPoints} reduced like {@link #getDownsampledMeasurements}.
+     * Only points are read, without joining the series or the creators of the measurements.
+     *
+     * @param maxPoints the maximum number of points, or {@code null} for all measurements
+     * @throws ResourceNotFoundException if the measurements are downsampled and the series does not exist
+     * @throws ValidationException if maxPoints or the range is invalid
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public MeasurementColumns getMeasurementColumns(Integer seriesId, ZonedDateTime from, ZonedDateTime to,
+                                                    Integer maxPoints, DownsamplingMethod method) {
+        if (maxPoints != null) {
+            return MeasurementColumns.of(seriesId,
+                    downsample(downsampledSeries(seriesId, maxPoints), from, to, maxPoints, method));
+        }
+        try (Stream<MeasurementPoint> points = streamRawPoints(seriesId, rangeStart(from, to), rangeEnd(to))) {
+            return MeasurementColumns.of(seriesId, points.toList());
+        }
+    }
+
+    private SeriesMetadata downsampledSeries(Integer seriesId, int maxPoints) {
+        if (maxPoints < MIN_DOWNSAMPLED_POINTS || maxPoints > MAX_DOWNSAMPLED_POINTS) {
+            throw new ValidationException(String.format("maxPoints must be between %d and %d",
+                    MIN_DOWNSAMPLED_POINTS, MAX_DOWNSAMPLED_POINTS));
+        }
+        return seriesMetadataCache.get(seriesId)
+                .orElseThrow(() -> new ResourceNotFoundException("Series not found with id: " + seriesId));
+    }
+
+    private List<MeasurementPoint> downsample(SeriesMetadata series, ZonedDateTime from, ZonedDateTime to,
+                                              int maxPoints, DownsamplingMethod method) {
+        validateRange(from, to);
+        Integer seriesId = series.id();
+        RetentionPolicy retention = series.retention();
+        // Rollups outlive raw measurements only under a raw retention
+        boolean rawExpires = retention.rawDays() != null;
+        ZonedDateTime start = from != null ? from : earliest(Stream.of(
+                measurementRepository.findFirstTimestampBySeriesId(seriesId),
+                coldStorageService.findFirstTimestamp(seriesId),
+                rawExpires ? rollupRepository.findFirstBucketStartBySeriesId(seriesId) : Optional.empty()));
+        // The range end is exclusive; one microsecond is the timestamp precision of PostgreSQL
+        ZonedDateTime end = to != null ? to : Optional.ofNullable(latest(Stream.of(
+                        measurementRepository.findLastTimestampBySeriesId(seriesId),
+                        coldStorageService.findLastTimestamp(seriesId),
+                        rawExpires ? rollupRepository.findLastBucketStartBySeriesId(seriesId) : Optional.empty())))
+                .map(last -> last.plusNanos(1000))
+                .orElse(null);
+        // A bound derived from the stored data may lie beyond the one given, e.g. 'from' after the last point
+        if (start == null || end == null || !start.isBefore(end)) {
+            return List.of();
+        }
+
+        Downsampler downsampler = Downsampler.create(method,
+                start.toInstant().toEpochMilli(), end.toInstant().toEpochMilli(), maxPoints);
+        Stream<MeasurementPoint> points = retention.resolutions(start, end, ZonedDateTime.now()).stream()
+                .flatMap(part -> part.isRaw()
+                        ? streamRawPoints(seriesId, part.from(), part.to())
+                        : rollupRepository.streamBuckets(seriesId, part.granularity(), part.from(), part.to())
+                                .map(MeasurementService::toPoint));
+        try (points) {
+            points.forEach(downsampler::accept);
+        }
+        return downsampler.finish();
+    }
+
+    private Stream<MeasurementPoint> streamRawPoints(Integer seriesId, ZonedDateTime from, ZonedDateTime to) {
+        // Recent ranges are served from memory, older ones are streamed from the table and the sealed blocks
+        return hotWindowStore.findPoints(seriesId, from, to)
+                .orElseGet(() -> SortedMerge.merge(
+                        measurementRepository.streamPointsBySeriesIdInRange(seriesId, from, to),
+                        coldStorageService.streamPoints(seriesId, from, to),
+                        ColdStorageService.POINT_ORDER));
+    }
+
+    private static MeasurementPoint toPoint(MeasurementRollup bucket) {
+        return new MeasurementPoint(null, bucket.getBucketStart(),
+                bucket.getSum().divide(BigDecimal.valueOf(bucket.getCount()), 2, RoundingMode.HALF_UP));
+    }
+
+    private static ZonedDateTime earliest(Stream<Optional<ZonedDateTime>> timestamps) {
+        return timestamps.flatMap(Optional::stream).min(ZonedDateTime::compareTo).orElse(null);
+    }
+
+    private static ZonedDateTime latest(Stream<Optional<ZonedDateTime>> timestamps) {
+        return timestamps.flatMap(Optional::stream).max(ZonedDateTime::compareTo).orElse(null);
+    }
+
+    private void validateRange(ZonedDateTime from, ZonedDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new ValidationException("Range start must be before range end");
+        }
+    }
+
+    private ZonedDateTime rangeStart(ZonedDateTime from, ZonedDateTime to) {
+        validateRange(from, to);
+        return from != null ? from : RANGE_START;
+    }
+
+    private ZonedDateTime rangeEnd(ZonedDateTime to) {
+        return to != null ? to : RANGE_END;
+    }
+
     @Transactional
     public MeasurementResponse createMeasurement(MeasurementRequest request, String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
 
-        Series series = seriesRepository.findById(request.getSeriesId())
+        SeriesMetadata series = seriesMetadataCache.get(request.getSeriesId())
                 .orElseThrow(() -> new ResourceNotFoundException("Series not found with id: " + request.getSeriesId()));
 
         validateMeasurementValue(request.getValue(), series);
+        validateRetention(request.getTimestamp(), series);
 
         Measurement measurement = new Measurement();
-        measurement.setSeries(series);
+        // Validated against the cached metadata, so the series row is only referenced by its key
+        measurement.setSeries(entityManager.getReference(Series.class, series.id()));
         measurement.setValue(request.getValue());
         measurement.setTimestamp(request.getTimestamp());
         measurement.setCreatedBy(user);
 
         Measurement savedMeasurement = measurementRepository.save(measurement);
-        return MeasurementResponse.fromEntity(savedMeasurement);
+        eventPublisher.publishEvent(MeasurementChangedEvent.created(List.of(MeasurementSnapshot.of(savedMeasurement))));
+        return MeasurementResponse.fromEntity(savedMeasurement, series.name());
+    }
+
+    /**
+     * Creates many measurements in one transaction.
+     * The user and the metadata of all referenced series are loaded once; each item is then validated
+     * on its own and rejected items are reported without affecting the others.
+     *
+     * @param requests the measurements to create
+     * @param username the user creating the measurements
+     * @return per-item results in request order
+     */
+    @Transactional
+    public MeasurementBatchResponse createMeasurements(List<MeasurementRequest> requests, String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
+
+        Set<Integer> seriesIds = requests.stream()
+                .map(MeasurementRequest::getSeriesId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Integer, SeriesMetadata> seriesById = seriesMetadataCache.getAll(seriesIds);
+
+        List<MeasurementBatchItemResult> results = new ArrayList<>(requests.size());
+        List<MeasurementSnapshot> created = new ArrayList<>(requests.size());
+        int accepted = 0;
+
+        for (int index = 0; index < requests.size(); index++) {
+            MeasurementRequest request = requests.get(index);
+            String error = validateBatchItem(request, seriesById);
+            if (error != null) {
+                results.add(MeasurementBatchItemResult.rejected(index, error));
+                continue;
+            }
+
+            Measurement measurement = new Measurement();
+            measurement.setSeries(entityManager.getReference(Series.class, request.getSeriesId()));
+            measurement.setValue(request.getValue());
+            measurement.setTimestamp(request.getTimestamp());
+            measurement.setCreatedBy(user);
+
+            // Ids come from the pooled sequence on persist, before the INSERT is executed
+            Measurement savedMeasurement = measurementRepository.save(measurement);
+            results.add(MeasurementBatchItemResult.created(index, savedMeasurement.getId()));
+            created.add(MeasurementSnapshot.of(savedMeasurement));
+            accepted++;
+
+            if (accepted % BATCH_FLUSH_SIZE == 0) {
+                // Keep the persistence context small; the series and user are referenced by id only
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        if (!created.isEmpty()) {
+            eventPublisher.publishEvent(MeasurementChangedEvent.created(created));
+        }
+        return new MeasurementBatchResponse(accepted, requests.size() - accepted, results);
+    }
+
+    /**
+     * Validates one item of a batch or bulk import against the already loaded series metadata.
+     *
+     * @return the reason for rejecting the item, or {@code null} if it is valid
+     */
+    public String validateBatchItem(MeasurementRequest request, Map<Integer, SeriesMetadata> seriesById) {
+        if (request == null) {
+            return "Measurement is required";
+        }
+
+        Set<ConstraintViolation<MeasurementRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+
+        SeriesMetadata series = seriesById.get(request.getSeriesId());
+        if (series == null) {
+            return "Series not found with id: " + request.getSeriesId();
+        }
+
+        try {
+            validateMeasurementValue(request.getValue(), series);
+            validateRetention(request.getTimestamp(), series);
+        } catch (ValidationException e) {
+            return e.getMessage();
+        }
+        return null;
     }
 
     @Transactional
     public MeasurementResponse updateMeasurement(Integer id, MeasurementRequest request) {
-        Measurement measurement = measurementRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Measurement not found with id: " + id));
+        Measurement measurement = findForUpdate(id);
+        MeasurementSnapshot previous = MeasurementSnapshot.of(measurement);
 
-        Series targetSeries = measurement.getSeries();
+        // Reading the id of the current series does not initialize it
+        Integer targetSeriesId = request.getSeriesId() != null ? request.getSeriesId() : measurement.getSeries().getId();
+        SeriesMetadata targetSeries = seriesMetadataCache.get(targetSeriesId)
+                .orElseThrow(() -> new ResourceNotFoundException("Series not found with id: " + targetSeriesId));
         if (request.getSeriesId() != null) {
-            targetSeries = seriesRepository.findById(request.getSeriesId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Series not found with id: " + request.getSeriesId()));
-            measurement.setSeries(targetSeries);
+            measurement.setSeries(entityManager.getReference(Series.class, targetSeriesId));
         }
 
         validateMeasurementValue(request.getValue(), targetSeries);
+        validateRetention(request.getTimestamp(), targetSeries);
 
         measurement.setValue(request.getValue());
         measurement.setTimestamp(request.getTimestamp());
 
         Measurement updatedMeasurement = measurementRepository.save(measurement);
-        return MeasurementResponse.fromEntity(updatedMeasurement);
+        eventPublisher.publishEvent(MeasurementChangedEvent.updated(previous, MeasurementSnapshot.of(updatedMeasurement)));
+        return MeasurementResponse.fromEntity(updatedMeasurement, targetSeries.name());
     }
 
     @Transactional
     public void deleteMeasurement(Integer id) {
-        Measurement measurement = measurementRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Measurement not found with id: " + id));
+        Measurement measurement = findForUpdate(id);
         measurementRepository.delete(measurement);
+        eventPublisher.publishEvent(MeasurementChangedEvent.deleted(MeasurementSnapshot.of(measurement)));
     }
 
     /**
-     * Validates that a measurement value falls within the series' allowed range.
-     * If the series has no min/max bounds (null), no validation is performed.
-     * Boundary values are inclusive (value can equal min or max).
+     * Loads a measurement for modification, moving it out of its sealed block first if needed.
+     */
+    private Measurement findForUpdate(Integer id) {
+        return measurementRepository.findById(id)
+                .or(() -> coldStorageService.unseal(id) ? measurementRepository.findById(id) : Optional.empty())
+                .orElseThrow(() -> new ResourceNotFoundException("Measurement not found with id: " + id));
+    }
+
+    /**
+     * Validates a measurement value against the series' allowed range and counts rejections.
      *
-     * @param value the measurement value to validate (must not be null)
-     * @param series the series containing min/max bounds
      * @throws ValidationException if value is null or outside the series bounds
+     * @see MeasurementValueValidator
      */
-    private void validateMeasurementValue(BigDecimal value, Series series) {
-        if (value == null) {
-            throw new ValidationException("Measurement value cannot be null");
-        }
-
-        BigDecimal minValue = series.getMinValue();
-        BigDecimal maxValue = series.getMaxValue();
-
-        // Allow values equal to min/max boundaries (inclusive range)
-        if (minValue != null && value.compareTo(minValue) < 0) {
-            throw new ValidationException(
-                String.format("Measurement value %s is below the minimum allowed value %s for series '%s'",
-                    value, minValue, series.getName())
-            );
+    private void validateMeasurementValue(BigDecimal value, SeriesMetadata series) {
+        MeasurementValueValidator.Rejection rejection = MeasurementValueValidator.validate(value, series);
+        if (rejection != null) {
+            meterRegistry.counter(VALIDATION_REJECTIONS_METRIC, "reason", rejection.reason()).increment();
+            throw new ValidationException(rejection.message());
         }
+    }
 
-        if (maxValue != null && value.compareTo(maxValue) > 0) {
-            throw new ValidationException(
-                String.format("Measurement value %s exceeds the maximum allowed value %s for series '%s'",
-                    value, maxValue, series.getName())
-            );
+    /**
+     * Validates that a measurement is not older than the raw retention of its series. Expired days
+     * survive only as rollups, which a late measurement could not be merged into consistently.
+     *
+     * @throws ValidationException if the timestamp lies before the raw retention cutoff
+     */
+    void validateRetention(ZonedDateTime timestamp, SeriesMetadata series) {
+        ZonedDateTime cutoff = series.retention().rawCutoff(ZonedDateTime.now());
+        if (cutoff != null && timestamp != null && timestamp.isBefore(cutoff)) {
+            meterRegistry.counter(VALIDATION_REJECTIONS_METRIC, "reason", "expired").increment();
+            throw new ValidationException(String.format(
+                    "Measurement timestamp %s is older than the %d day retention of series '%s'",
+                    timestamp, series.rawRetentionDays(), series.name()));
         }
     }
 }
@@ -0,0 +1,165 @@
+package com.temperature.tracking.service;
+
+import com.temperature.tracking.event.ChangeType;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
+import com.temperature.tracking.exception.ResourceNotFoundException;
+import com.temperature.tracking.repository.SeriesRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Pushes newly created measurements to Server-Sent Events subscribers of their series.
+ * <p>
+ * Connections are held as asynchronous servlet requests, so an idle subscriber occupies no thread.
+ * Events are delivered only after the creating transaction has committed. Each subscriber has its
+ * own queue, drained on a virtual thread, so events arrive in order and a slow client delays
+ * nobody else; a client falling more than {@link #MAX_PENDING_EVENTS} events behind is disconnected
+ * and is expected to reconnect.
+ */
+@Service
+@RequiredArgsConstructor
+public class MeasurementStreamService {
+
+    static final int MAX_PENDING_EVENTS = 1000;
+
+    private final SeriesRepository seriesRepository;
+
+    private final Map<Integer, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${measurements.stream.timeout:1800000}")
+    private long timeout = 1800000;
+
+    public SseEmitter subscribe(Integer seriesId) {
+        if (!seriesRepository.existsById(seriesId)) {
+            throw new ResourceNotFoundException("Series not found with id: " + seriesId);
+        }
+        return register(seriesId, new SseEmitter(timeout));
+    }
+
+    SseEmitter register(Integer seriesId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(seriesId, emitter);
+        subscribers.compute(seriesId, (id, set) -> {
+            Set<Subscriber> result = set != null ? set : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        return emitter;
+    }
+
+    public int getSubscriberCount(Integer seriesId) {
+        Set<Subscriber> set = subscribers.get(seriesId);
+        return set != null ? set.size() : 0;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMeasurementChanged(MeasurementChangedEvent event) {
+        if (event.type() != ChangeType.CREATED || subscribers.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<MeasurementSnapshot>> bySeries = event.current().stream()
+                .filter(measurement -> subscribers.containsKey(measurement.seriesId()))
+                .collect(Collectors.groupingBy(MeasurementSnapshot::seriesId));
+
+        bySeries.forEach((seriesId, measurements) -> {
+            for (Subscriber subscriber : subscribers.getOrDefault(seriesId, Set.of())) {
+                for (MeasurementSnapshot measurement : measurements) {
+                    subscriber.enqueue(SseEmitter.event()
+                            .name("measurement")
+                            .id(String.valueOf(measurement.id()))
+                            .data(measurement));
+                }
+            }
+        });
+    }
+
+    /**
+     * Sends a comment to every subscriber so that proxies keep idle connections open
+     * and connections closed by clients are detected.
+     */
+    @Scheduled(fixedRateString = "${measurements.stream.heartbeat:30000}")
+    public void sendHeartbeat() {
+        subscribers.values().forEach(set -> set.forEach(subscriber ->
+                subscriber.enqueue(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        dispatcher.shutdownNow();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.seriesId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private final class Subscriber {
+
+        private final Integer seriesId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(Integer seriesId, SseEmitter emitter) {
+            this.seriesId = seriesId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (pendingCount.incrementAndGet() > MAX_PENDING_EVENTS) {
+                unsubscribe(this);
+                emitter.complete();
+                return;
+            }
+            pending.add(event);
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    SseEmitter.SseEventBuilder event;
+                    while ((event = pending.poll()) != null) {
+                        pendingCount.decrementAndGet();
+                        emitter.send(event);
+                    }
+                    draining.set(false);
+                    // An event enqueued after the queue was found empty must not be left behind
+                } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                // The client has gone away or the emitter has completed; the container reports IO errors itself
+                unsubscribe(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.temperature.tracking.service;
+
+import com.temperature.tracking.coldstorage.ColdStorageService;
+import com.temperature.tracking.dto.AggregateResponse;
+import com.temperature.tracking.dto.RollupBucketResponse;
+import com.temperature.tracking.dto.RollupTotals;
+import com.temperature.tracking.entity.MeasurementRollupId;
+import com.temperature.tracking.entity.RollupGranularity;
+import com.temperature.tracking.event.ChangeType;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
+import com.temperature.tracking.exception.ResourceNotFoundException;
+import com.temperature.tracking.exception.ValidationException;
+import com.temperature.tracking.repository.MeasurementRollupRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import com.temperature.tracking.retention.RetentionPolicy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Maintains and queries per-series minute, hour and day aggregates.
+ * <p>
+ * Rollups are updated in the same transaction as the measurements they derive from:
+ * insertions are added to their buckets incrementally, while updates and deletions recompute
+ * the affected buckets from the raw rows. Queries never read raw measurements, so their cost
+ * depends on the number of buckets touched rather than on the number of measurements.
+ * <p>
+ * Where the retention of a series has removed the requested buckets, queries fall back to the
+ * finest coarser buckets still kept.
+ */
+@Service
+@RequiredArgsConstructor
+public class RollupService {
+
+    public static final int MAX_BUCKETS = 10000;
+
+    /** Granularities from coarsest to finest, as used to decompose a range. */
+    private static final RollupGranularity[] LEVELS = {
+            RollupGranularity.DAY, RollupGranularity.HOUR, RollupGranularity.MINUTE
+    };
+
+    private final MeasurementRollupRepository rollupRepository;
+    private final SeriesRepository seriesRepository;
+    private final ColdStorageService coldStorageService;
+    private final EntityManager entityManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMeasurementChanged(MeasurementChangedEvent event) {
+        if (event.type() == ChangeType.CREATED) {
+            Map<MeasurementRollupId, RollupTotals> deltas = new HashMap<>();
+            for (MeasurementSnapshot measurement : event.current()) {
+                for (RollupGranularity granularity : RollupGranularity.values()) {
+                    deltas.merge(bucketOf(measurement, granularity), RollupTotals.of(measurement.value()),
+                            RollupTotals::combine);
+                }
+            }
+            rollupRepository.addToBuckets(deltas);
+            return;
+        }
+
+        // A removed minimum or maximum cannot be derived incrementally, so affected buckets are recomputed
+        Set<MeasurementRollupId> buckets = new HashSet<>();
+        Stream.concat(event.previous().stream(), event.current().stream()).forEach(measurement -> {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                buckets.add(bucketOf(measurement, granularity));
+            }
+        });
+        // Buckets are recomputed from raw rows, so sealed measurements of the affected days are restored first
+        for (MeasurementRollupId bucket : buckets) {
+            if (bucket.getGranularity() == RollupGranularity.DAY) {
+                coldStorageService.unseal(bucket.getSeriesId(), bucket.getBucketStart(),
+                        RollupGranularity.DAY.next(bucket.getBucketStart()));
+            }
+        }
+        // Raw rows must reflect the change before the buckets are recomputed from them
+        entityManager.flush();
+        rollupRepository.recomputeBuckets(buckets);
+    }
+
+    /**
+     * Rebuilds the rollups of a series from its raw measurements, e.g. after a bulk load
+     * that bypassed {@code MeasurementService}. Sealed measurements of the series are restored first.
+     * Days whose raw measurements have expired keep their rollups, which are all that is left of them.
+     */
+    @Transactional
+    public void rebuildSeries(Integer seriesId) {
+        ZonedDateTime from = Optional.ofNullable(retentionOf(seriesId).rawCutoff(ZonedDateTime.now()))
+                .orElse(RollupGranularity.DAY.truncate(MeasurementService.RANGE_START));
+        coldStorageService.unseal(seriesId, from, MeasurementService.RANGE_END);
+        rollupRepository.rebuildRange(seriesId, from, MeasurementService.RANGE_END);
+    }
+
+    /**
+     * Returns the buckets of one granularity starting within {@code [from, to)}, at most {@link #MAX_BUCKETS}.
+     * Either bound may be null for an open-ended range. Parts of the range whose buckets of that
+     * granularity have expired are returned at the finest coarser granularity kept.
+     */
+    @Transactional(readOnly = true)
+    public List<RollupBucketResponse> getBuckets(Integer seriesId, RollupGranularity granularity,
+                                                 ZonedDateTime from, ZonedDateTime to) {
+        RetentionPolicy retention = retentionOf(seriesId);
+        ZonedDateTime start = from != null ? from : MeasurementService.RANGE_START;
+        ZonedDateTime end = to != null ? to : MeasurementService.RANGE_END;
+        validateRange(start, end);
+
+        List<RollupBucketResponse> buckets = new ArrayList<>();
+        for (RetentionPolicy.Resolution part : retention.resolutions(start, end, ZonedDateTime.now())) {
+            if (buckets.size() == MAX_BUCKETS) {
+                break;
+            }
+            RollupGranularity kept = part.isRaw() || part.granularity().compareTo(granularity) < 0
+                    ? granularity
+                    : part.granularity();
+            rollupRepository.findBuckets(seriesId, kept, part.from(), part.to(),
+                            PageRequest.ofSize(MAX_BUCKETS - buckets.size()))
+                    .stream()
+                    .map(RollupBucketResponse::fromEntity)
+                    .forEach(buckets::add);
+        }
+        return buckets;
+    }
+
+    /**
+     * Aggregates all measurements of a series within {@code [from, to)} at minute resolution:
+     * {@code from} is rounded down and {@code to} up to whole minutes. The range is decomposed
+     * into whole days, the hours around them and the minutes around those, so at most
+     * seven bucket range queries are needed however long the range is.
+     * <p>
+     * Where minute or hour buckets have expired, the range is widened to whole hours or days
+     * and the returned bounds say so.
+     */
+    @Transactional(readOnly = true)
+    public AggregateResponse getSummary(Integer seriesId, ZonedDateTime from, ZonedDateTime to) {
+        RetentionPolicy retention = retentionOf(seriesId);
+        ZonedDateTime start = RollupGranularity.MINUTE.truncate(from != null ? from : MeasurementService.RANGE_START);
+        ZonedDateTime end = RollupGranularity.MINUTE.ceil(to != null ? to : MeasurementService.RANGE_END);
+        validateRange(start, end);
+
+        List<RetentionPolicy.Resolution> parts = retention.resolutions(start, end, ZonedDateTime.now());
+        RollupTotals totals = RollupTotals.EMPTY;
+        for (int i = 0; i < parts.size(); i++) {
+            RetentionPolicy.Resolution part = parts.get(i);
+            int finest = part.isRaw() ? LEVELS.length - 1 : levelOf(part.granularity());
+            ZonedDateTime partStart = LEVELS[finest].truncate(part.from());
+            ZonedDateTime partEnd = LEVELS[finest].ceil(part.to());
+            totals = totals.combine(aggregate(seriesId, partStart, partEnd, 0, finest));
+            if (i == 0) {
+                start = partStart;
+            }
+            end = partEnd;
+        }
+        return AggregateResponse.of(seriesId, from != null ? start : null, to != null ? end : null, totals);
+    }
+
+    private RollupTotals aggregate(Integer seriesId, ZonedDateTime from, ZonedDateTime to, int level, int finest) {
+        if (!from.isBefore(to)) {
+            return RollupTotals.EMPTY;
+        }
+        RollupGranularity granularity = LEVELS[level];
+        if (level == finest) {
+            return rollupRepository.sumBuckets(seriesId, granularity, from, to);
+        }
+
+        ZonedDateTime innerStart = granularity.ceil(from);
+        ZonedDateTime innerEnd = granularity.truncate(to);
+        if (!innerStart.isBefore(innerEnd)) {
+            return aggregate(seriesId, from, to, level + 1, finest);
+        }
+        return aggregate(seriesId, from, innerStart, level + 1, finest)
+                .combine(rollupRepository.sumBuckets(seriesId, granularity, innerStart, innerEnd))
+                .combine(aggregate(seriesId, innerEnd, to, level + 1, finest));
+    }
+
+    private static int levelOf(RollupGranularity granularity) {
+        return List.of(LEVELS).indexOf(granularity);
+    }
+
+    private static MeasurementRollupId bucketOf(MeasurementSnapshot measurement, RollupGranularity granularity) {
+        return new MeasurementRollupId(measurement.seriesId(), granularity, granularity.truncate(measurement.timestamp()));
+    }
+
+    private RetentionPolicy retentionOf(Integer seriesId) {
+        return seriesRepository.findRetentionById(seriesId)
+                .orElseThrow(() -> new ResourceNotFoundException("Series not found with id: " + seriesId));
+    }
+
+    private static void validateRange(ZonedDateTime from, ZonedDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new ValidationException("Range start must be before range end");
+        }
+    }
+}
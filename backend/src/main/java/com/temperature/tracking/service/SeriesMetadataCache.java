@@ -0,0 +1,75 @@
+package com.temperature.tracking.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.temperature.tracking.dto.SeriesMetadata;
+import com.temperature.tracking.event.SeriesChangedEvent;
+import com.temperature.tracking.repository.SeriesRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded read-through cache of the series metadata that measurements are validated against.
+ * Entries are invalidated once a change of their series commits; the TTL bounds how long a change
+ * made by another instance goes unnoticed. Unknown series are not cached.
+ */
+@Component
+public class SeriesMetadataCache {
+
+    private final SeriesRepository seriesRepository;
+    private final Cache<Integer, SeriesMetadata> cache;
+
+    public SeriesMetadataCache(SeriesRepository seriesRepository,
+                               @Value("${series.metadata-cache.max-size:10000}") long maxSize,
+                               @Value("${series.metadata-cache.ttl:PT5M}") Duration ttl) {
+        this.seriesRepository = seriesRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Returns the metadata of a series, loading it on a miss.
+     */
+    public Optional<SeriesMetadata> get(Integer seriesId) {
+        if (seriesId == null) {
+            return Optional.empty();
+        }
+        // A null result leaves the entry absent
+        return Optional.ofNullable(cache.get(seriesId, id -> seriesRepository.findMetadataById(id).orElse(null)));
+    }
+
+    /**
+     * Returns the metadata of the existing series among the ids, loading all misses with one query.
+     */
+    public Map<Integer, SeriesMetadata> getAll(Collection<Integer> seriesIds) {
+        return cache.getAll(seriesIds.stream().filter(Objects::nonNull).toList(), missing ->
+                seriesRepository.findMetadataByIdIn(List.<Integer>copyOf(missing)).stream()
+                        .collect(Collectors.toMap(SeriesMetadata::id, Function.identity())));
+    }
+
+    public void invalidate(Integer seriesId) {
+        cache.invalidate(seriesId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSeriesChanged(SeriesChangedEvent event) {
+        invalidate(event.seriesId());
+    }
+}
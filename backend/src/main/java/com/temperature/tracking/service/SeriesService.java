@@ -4,15 +4,16 @@ import com.temperature.tracking.dto.SeriesRequest;
 import com.temperature.tracking.dto.SeriesResponse;
 import com.temperature.tracking.entity.Series;
 import com.temperature.tracking.entity.User;
+import com.temperature.tracking.event.SeriesChangedEvent;
 import com.temperature.tracking.exception.ResourceNotFoundException;
 import com.temperature.tracking.repository.SeriesRepository;
 import com.temperature.tracking.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,19 +21,17 @@ public class SeriesService {
 
     private final SeriesRepository seriesRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<SeriesResponse> getAllSeries() {
-        return seriesRepository.findAll().stream()
-                .map(SeriesResponse::fromEntity)
-                .collect(Collectors.toList());
+        return seriesRepository.findAllResponses();
     }
 
     @Transactional(readOnly = true)
     public SeriesResponse getSeriesById(Integer id) {
-        Series series = seriesRepository.findById(id)
+        return seriesRepository.findResponseById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Series not found with id: " + id));
-        return SeriesResponse.fromEntity(series);
     }
 
     @Transactional
@@ -47,9 +46,11 @@ public class SeriesService {
         series.setIcon(request.getIcon());
         series.setMinValue(request.getMinValue());
         series.setMaxValue(request.getMaxValue());
+        applyRetention(series, request);
         series.setCreatedBy(user);
 
         Series savedSeries = seriesRepository.save(series);
+        eventPublisher.publishEvent(SeriesChangedEvent.created(savedSeries.getId()));
         return SeriesResponse.fromEntity(savedSeries);
     }
 
@@ -64,8 +65,10 @@ public class SeriesService {
         series.setIcon(request.getIcon());
         series.setMinValue(request.getMinValue());
         series.setMaxValue(request.getMaxValue());
+        applyRetention(series, request);
 
         Series updatedSeries = seriesRepository.save(series);
+        eventPublisher.publishEvent(SeriesChangedEvent.updated(updatedSeries.getId()));
         return SeriesResponse.fromEntity(updatedSeries);
     }
 
@@ -74,5 +77,13 @@ public class SeriesService {
         Series series = seriesRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Series not found with id: " + id));
         seriesRepository.delete(series);
+        eventPublisher.publishEvent(SeriesChangedEvent.deleted(id));
+    }
+
+    private static void applyRetention(Series series, SeriesRequest request) {
+        series.setRawRetentionDays(request.getRawRetentionDays());
+        series.setMinuteRetentionDays(request.getMinuteRetentionDays());
+        series.setHourRetentionDays(request.getHourRetentionDays());
+        series.setDayRetentionDays(request.getDayRetentionDays());
     }
 }
@@ -0,0 +1,50 @@
+package com.temperature.tracking.validation;
+
+import com.temperature.tracking.dto.SeriesMetadata;
+
+import java.math.BigDecimal;
+
+/**
+ * Checks a measurement value against the allowed range of its series.
+ * If the series has no min/max bounds (null), any non-null value is accepted.
+ * Boundary values are inclusive (value can equal min or max).
+ */
+public final class MeasurementValueValidator {
+
+    private MeasurementValueValidator() {
+    }
+
+    /**
+     * Why a value was rejected: a short metric tag and the message reported to the client.
+     */
+    public record Rejection(String reason, String message) {
+    }
+
+    /**
+     * Returns the rejection for a value, or null if the value is valid.
+     *
+     * @param value the measurement value to validate
+     * @param series the metadata of the series containing min/max bounds
+     */
+    public static Rejection validate(BigDecimal value, SeriesMetadata series) {
+        if (value == null) {
+            return new Rejection("missing", "Measurement value cannot be null");
+        }
+
+        BigDecimal minValue = series.minValue();
+        BigDecimal maxValue = series.maxValue();
+
+        if (minValue != null && value.compareTo(minValue) < 0) {
+            return new Rejection("below_min", String.format(
+                    "Measurement value %s is below the minimum allowed value %s for series '%s'",
+                    value, minValue, series.name()));
+        }
+
+        if (maxValue != null && value.compareTo(maxValue) > 0) {
+            return new Rejection("above_max", String.format(
+                    "Measurement value %s exceeds the maximum allowed value %s for series '%s'",
+                    value, maxValue, series.name()));
+        }
+        return null;
+    }
+}
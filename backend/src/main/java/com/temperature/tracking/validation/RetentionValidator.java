@@ -0,0 +1,33 @@
+package com.temperature.tracking.validation;
+
+import com.temperature.tracking.dto.SeriesRequest;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validator implementation for {@link ValidRetention}.
+ * Validates that retention periods do not decrease from raw data to daily rollups.
+ */
+public class RetentionValidator implements ConstraintValidator<ValidRetention, SeriesRequest> {
+
+    @Override
+    public boolean isValid(SeriesRequest request, ConstraintValidatorContext context) {
+        if (request == null) {
+            return true;
+        }
+
+        Integer[] retentions = {
+                request.getRawRetentionDays(),
+                request.getMinuteRetentionDays(),
+                request.getHourRetentionDays(),
+                request.getDayRetentionDays()
+        };
+        for (int i = 1; i < retentions.length; i++) {
+            // Null keeps data forever, so it may only be followed by null
+            if (retentions[i] != null && (retentions[i - 1] == null || retentions[i] < retentions[i - 1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
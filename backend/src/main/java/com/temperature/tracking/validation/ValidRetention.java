@@ -0,0 +1,21 @@
+package com.temperature.tracking.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+/**
+ * Custom validation annotation to ensure that coarser resolutions of a series are kept at least as long
+ * as finer ones: raw data, then minute, hour and day rollups. A missing retention means forever.
+ * Applied at the class level to validate cross-field constraints.
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = RetentionValidator.class)
+@Documented
+public @interface ValidRetention {
+    String message() default "Coarser resolutions must be retained at least as long as finer ones";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,63 @@
+package com.temperature.tracking.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.temperature.tracking.dto.MeasurementColumns;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link MeasurementColumns} straight to the response with a Jackson generator:
+ * {@code {"seriesId":1,"timestamps":[...],"values":[...]}}. No intermediate tree or bean
+ * serializer is involved, so each point costs two number writes. Write-only.
+ * <p>
+ * The format follows the factory: a {@code CBORFactory} writes the same layout as CBOR, with the values as
+ * decimal fractions (tag 4) so they keep their scale.
+ */
+public class MeasurementColumnsHttpMessageConverter extends AbstractHttpMessageConverter<MeasurementColumns> {
+
+    private final JsonFactory jsonFactory;
+
+    public MeasurementColumnsHttpMessageConverter(JsonFactory jsonFactory, MediaType mediaType) {
+        super(mediaType);
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return MeasurementColumns.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected MeasurementColumns readInternal(Class<? extends MeasurementColumns> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Measurement columns cannot be read", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(MeasurementColumns columns, HttpOutputMessage outputMessage) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeNumberField("seriesId", columns.seriesId());
+            generator.writeFieldName("timestamps");
+            generator.writeArray(columns.timestamps(), 0, columns.size());
+            generator.writeArrayFieldStart("values");
+            for (int i = 0; i < columns.size(); i++) {
+                generator.writeNumber(columns.values()[i]);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.temperature.tracking.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
+import com.temperature.tracking.event.SeriesChangedEvent;
+import com.temperature.tracking.event.UserChangedEvent;
+import com.temperature.tracking.hotwindow.HotWindowStore;
+import com.temperature.tracking.security.PrincipalCache;
+import com.temperature.tracking.service.SeriesMetadataCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationBus Tests")
+class CacheInvalidationBusTest {
+
+    private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private SeriesMetadataCache seriesMetadataCache;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private HotWindowStore hotWindowStore;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bus = bus(true);
+    }
+
+    private CacheInvalidationBus bus(boolean enabled) {
+        return new CacheInvalidationBus(jdbcTemplate, new DataSourceProperties(), objectMapper, seriesMetadataCache,
+                principalCache, hotWindowStore, meterRegistry, enabled, Duration.ofSeconds(5));
+    }
+
+    @SuppressWarnings("unchecked")
+    private InvalidationMessage sentMessage() throws Exception {
+        ArgumentCaptor<Map<String, ?>> params = ArgumentCaptor.forClass(Map.class);
+        verify(jdbcTemplate).execute(anyString(), params.capture(), any(PreparedStatementCallback.class));
+        assertThat(params.getValue().get("channel")).isEqualTo(CacheInvalidationBus.CHANNEL);
+        return objectMapper.readValue((String) params.getValue().get("payload"), InvalidationMessage.class);
+    }
+
+    private String fromOtherNode(InvalidationMessage message) throws Exception {
+        return objectMapper.writeValueAsString(message);
+    }
+
+    private static MeasurementSnapshot snapshot(int id, int seriesId) {
+        return new MeasurementSnapshot(id, seriesId, TIMESTAMP.plusSeconds(id), new BigDecimal("21.50"));
+    }
+
+    @Nested
+    @DisplayName("Sending Changes")
+    class SendingChanges {
+
+        @Test
+        @DisplayName("Should notify other instances of a changed series")
+        void shouldSendSeriesChange() throws Exception {
+            // Act
+            bus.onSeriesChanged(SeriesChangedEvent.updated(3));
+
+            // Assert
+            assertThat(sentMessage().series()).isEqualTo(SeriesChangedEvent.updated(3));
+            assertThat(meterRegistry.counter(CacheInvalidationBus.SENT_METRIC).count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should send measurement changes with their snapshots")
+        void shouldSendMeasurementChange() throws Exception {
+            // Arrange
+            when(hotWindowStore.isEnabled()).thenReturn(true);
+
+            // Act
+            bus.onMeasurementChanged(MeasurementChangedEvent.created(List.of(snapshot(1, 2))));
+
+            // Assert
+            InvalidationMessage message = sentMessage();
+            assertThat(message.measurements().current()).extracting(MeasurementSnapshot::id).containsExactly(1);
+            assertThat(message.measurements().current().get(0).timestamp().toInstant())
+                    .isEqualTo(TIMESTAMP.plusSeconds(1).toInstant());
+        }
+
+        @Test
+        @DisplayName("Should only name the series of measurement changes too large for one notification")
+        void shouldSendStaleSeriesForLargeChanges() throws Exception {
+            // Arrange
+            when(hotWindowStore.isEnabled()).thenReturn(true);
+            List<MeasurementSnapshot> snapshots = IntStream.range(0, 1000)
+                    .mapToObj(id -> snapshot(id, id % 2 + 1))
+                    .toList();
+
+            // Act
+            bus.onMeasurementChanged(MeasurementChangedEvent.created(snapshots));
+
+            // Assert
+            InvalidationMessage message = sentMessage();
+            assertThat(message.measurements()).isNull();
+            assertThat(message.staleSeries()).containsExactlyInAnyOrder(1, 2);
+        }
+
+        @Test
+        @DisplayName("Should not send measurement changes while the hot window is disabled")
+        void shouldSkipMeasurementsWithoutHotWindow() {
+            // Arrange
+            when(hotWindowStore.isEnabled()).thenReturn(false);
+
+            // Act
+            bus.onMeasurementChanged(MeasurementChangedEvent.created(List.of(snapshot(1, 2))));
+
+            // Assert
+            verifyNoInteractions(jdbcTemplate);
+        }
+
+        @Test
+        @DisplayName("Should send nothing when disabled")
+        void shouldSendNothingWhenDisabled() {
+            // Act
+            bus(false).onUserChanged(new UserChangedEvent("admin"));
+
+            // Assert
+            verifyNoInteractions(jdbcTemplate);
+        }
+    }
+
+    @Nested
+    @DisplayName("Receiving Changes")
+    class ReceivingChanges {
+
+        @Test
+        @DisplayName("Should apply a series change of another instance to the series cache and hot window")
+        void shouldApplySeriesChange() throws Exception {
+            // Act
+            bus.receive(fromOtherNode(InvalidationMessage.of("other", SeriesChangedEvent.deleted(3))));
+
+            // Assert
+            verify(seriesMetadataCache).onSeriesChanged(SeriesChangedEvent.deleted(3));
+            verify(hotWindowStore).onSeriesChanged(SeriesChangedEvent.deleted(3));
+            assertThat(meterRegistry.counter(CacheInvalidationBus.RECEIVED_METRIC).count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should drop the principal of a user whose password changed on another instance")
+        void shouldApplyUserChange() throws Exception {
+            // Act
+            bus.receive(fromOtherNode(InvalidationMessage.of("other", new UserChangedEvent("admin"))));
+
+            // Assert
+            verify(principalCache).onUserChanged(new UserChangedEvent("admin"));
+        }
+
+        @Test
+        @DisplayName("Should reload the windows of series named as stale")
+        void shouldReloadStaleSeries() throws Exception {
+            // Act
+            bus.receive(fromOtherNode(InvalidationMessage.stale("other", Set.of(4))));
+
+            // Assert
+            verify(hotWindowStore).reload(Set.of(4));
+        }
+
+        @Test
+        @DisplayName("Should flush all caches for a message without changes")
+        void shouldResyncForEverything() throws Exception {
+            // Act
+            bus.receive(fromOtherNode(InvalidationMessage.everything("other")));
+
+            // Assert
+            verify(seriesMetadataCache).invalidateAll();
+            verify(principalCache).invalidateAll();
+            verify(hotWindowStore).reload();
+            assertThat(meterRegistry.counter(CacheInvalidationBus.RESYNCS_METRIC).count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should ignore its own and malformed messages")
+        void shouldIgnoreOwnAndMalformedMessages() throws Exception {
+            // Arrange
+            bus.onSeriesChanged(SeriesChangedEvent.updated(3));
+            String own = objectMapper.writeValueAsString(sentMessage());
+
+            // Act
+            bus.receive(own);
+            bus.receive("not json");
+
+            // Assert
+            verifyNoInteractions(seriesMetadataCache, principalCache, hotWindowStore);
+        }
+    }
+}
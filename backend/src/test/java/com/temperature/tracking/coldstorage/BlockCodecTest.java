@@ -0,0 +1,89 @@
+package com.temperature.tracking.coldstorage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BlockCodec Tests")
+class BlockCodecTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("Should decode exactly what was encoded, including missing creators and creation times")
+    void shouldRoundTrip() {
+        // Arrange
+        long start = SealedBlock.toMicros(START);
+        SealedBlock block = new SealedBlock.Builder(4)
+                .add(start, 10, -1250, 3, start + 5)
+                .add(start + 1, 12, 2345, 3, SealedBlock.NO_CREATED_AT)
+                .add(start + 60_000_000L, 11, 2345, SealedBlock.NO_CREATOR, start - 7)
+                .add(start + 60_000_000L, 40, 99999, 4, start + 3_600_000_000L)
+                .build();
+
+        // Act
+        SealedBlock decoded = BlockCodec.decode(BlockCodec.encode(block));
+
+        // Assert
+        assertThat(decoded.timestamps()).containsExactly(block.timestamps());
+        assertThat(decoded.ids()).containsExactly(block.ids());
+        assertThat(decoded.values()).containsExactly(block.values());
+        assertThat(decoded.createdBy()).containsExactly(block.createdBy());
+        assertThat(decoded.createdAt()).containsExactly(block.createdAt());
+        assertThat(decoded.value(0)).isEqualTo(new BigDecimal("-12.50"));
+        assertThat(decoded.createdBy(2)).isNull();
+        assertThat(decoded.createdAt(1)).isNull();
+        assertThat(decoded.timestamp(0).toInstant()).isEqualTo(START.toInstant());
+    }
+
+    @Test
+    @DisplayName("Should round trip an empty block")
+    void shouldRoundTripEmptyBlock() {
+        assertThat(BlockCodec.decode(BlockCodec.encode(SealedBlock.EMPTY)).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should store a regularly sampled series in a few bytes per point")
+    void shouldCompressRegularSeries() {
+        // Arrange
+        Random random = new Random(42);
+        long start = SealedBlock.toMicros(START);
+        SealedBlock.Builder builder = new SealedBlock.Builder(4096);
+        int value = 2150;
+        for (int i = 0; i < 4096; i++) {
+            value += random.nextInt(21) - 10;
+            long timestamp = start + i * 60_000_000L;
+            builder.add(timestamp, 1000 + i * 3, value, 1, timestamp + 150_000 + random.nextInt(1000));
+        }
+        SealedBlock block = builder.build();
+
+        // Act
+        byte[] encoded = BlockCodec.encode(block);
+
+        // Assert
+        // A row of the measurements table takes over 100 bytes with its index entries
+        assertThat(encoded.length).isLessThan(block.size() * 6);
+        assertThat(BlockCodec.decode(encoded).values()).containsExactly(block.values());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown versions and truncated data")
+    void shouldRejectMalformedData() {
+        byte[] encoded = BlockCodec.encode(new SealedBlock.Builder(1).add(1, 1, 1, 1, 1).build());
+
+        assertThatThrownBy(() -> BlockCodec.decode(new byte[]{99, 0}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported block version: 99");
+        assertThatThrownBy(() -> BlockCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Truncated block");
+    }
+}
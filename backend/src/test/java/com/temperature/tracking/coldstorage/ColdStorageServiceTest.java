@@ -0,0 +1,248 @@
+package com.temperature.tracking.coldstorage;
+
+import com.temperature.tracking.dto.MeasurementCursor;
+import com.temperature.tracking.dto.MeasurementPoint;
+import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.entity.MeasurementBlock;
+import com.temperature.tracking.repository.MeasurementBlockRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import com.temperature.tracking.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ColdStorageService Tests")
+class ColdStorageServiceTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneOffset.UTC);
+    private static final ZonedDateTime OLD = NOW.minusDays(60);
+
+    @Mock
+    private MeasurementBlockRepository blockRepository;
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ColdStorageService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = service(true);
+    }
+
+    private ColdStorageService service(boolean enabled) {
+        return new ColdStorageService(blockRepository, seriesRepository, userRepository, transactionManager,
+                meterRegistry, Clock.fixed(NOW.toInstant(), ZoneOffset.UTC), enabled, Duration.ofDays(30), 3, 10);
+    }
+
+    /**
+     * A block of points with ids {@code firstId, firstId + 1, ...}, one at each of the given minutes after {@link #OLD}.
+     */
+    private static SealedBlock block(int firstId, int... minutes) {
+        SealedBlock.Builder builder = new SealedBlock.Builder(minutes.length);
+        for (int i = 0; i < minutes.length; i++) {
+            builder.add(SealedBlock.toMicros(OLD.plusMinutes(minutes[i])), firstId + i, 2000 + i, 1,
+                    SealedBlock.NO_CREATED_AT);
+        }
+        return builder.build();
+    }
+
+    private static BlockPayload payload(SealedBlock block) {
+        return new BlockPayload(1, block.timestamp(0), BlockCodec.encode(block));
+    }
+
+    private static MeasurementBlock entity(long id, SealedBlock block) {
+        return new MeasurementBlock(id, 1, block.timestamp(0), block.timestamp(block.size() - 1),
+                block.minId(), block.maxId(), block.size(), BlockCodec.encode(block));
+    }
+
+    @Nested
+    @DisplayName("Sealing")
+    class Sealing {
+
+        @Test
+        @DisplayName("Should seal full blocks of expired measurements and leave a partial remainder")
+        void shouldSealFullBlocksOnly() {
+            // Arrange
+            SealedBlock full = block(1, 0, 1, 2);
+            when(seriesRepository.findAllIds()).thenReturn(List.of(1));
+            when(blockRepository.lockOldestMeasurements(1, NOW.minusDays(30), 3))
+                    .thenReturn(full, block(4, 3, 4));
+
+            // Act
+            int sealed = service.sealExpired();
+
+            // Assert
+            assertThat(sealed).isEqualTo(3);
+            ArgumentCaptor<MeasurementBlock> captor = ArgumentCaptor.forClass(MeasurementBlock.class);
+            InOrder inOrder = inOrder(blockRepository);
+            inOrder.verify(blockRepository).lockSeries(1);
+            inOrder.verify(blockRepository).save(captor.capture());
+            inOrder.verify(blockRepository).deleteMeasurements(1, full);
+            MeasurementBlock saved = captor.getValue();
+            assertThat(saved.getPointCount()).isEqualTo(3);
+            assertThat(saved.getMinId()).isEqualTo(1);
+            assertThat(saved.getMaxId()).isEqualTo(3);
+            assertThat(saved.getMaxTimestamp().toInstant()).isEqualTo(OLD.plusMinutes(2).toInstant());
+            assertThat(BlockCodec.decode(saved.getData()).ids()).containsExactly(1, 2, 3);
+            assertThat(meterRegistry.counter(ColdStorageService.SEALED_METRIC).count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should not touch the database when disabled")
+        void shouldNotSealWhenDisabled() {
+            // Act
+            int sealed = service(false).sealExpired();
+
+            // Assert
+            assertThat(sealed).isZero();
+            verifyNoInteractions(seriesRepository, blockRepository);
+        }
+
+        @Test
+        @DisplayName("Should require sealing to start after the hot window ends")
+        void shouldRejectSealAfterWithinHotWindow() {
+            assertThatThrownBy(() -> new ColdStorageService(blockRepository, seriesRepository, userRepository,
+                    transactionManager, meterRegistry, true, Duration.ofHours(12), 4096, 10, Duration.ofHours(24)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reading")
+    class Reading {
+
+        @Test
+        @DisplayName("Should merge overlapping blocks and keep only points within the range")
+        void shouldMergeOverlappingBlocks() {
+            // Arrange
+            ZonedDateTime from = OLD.plusMinutes(1);
+            ZonedDateTime to = OLD.plusMinutes(6);
+            when(blockRepository.streamPayloadsInRange(1, from, to)).thenReturn(Stream.of(
+                    payload(block(1, 0, 2, 4, 6)), payload(block(10, 1, 3, 5))));
+
+            // Act
+            List<MeasurementPoint> points;
+            try (Stream<MeasurementPoint> stream = service.streamPoints(1, from, to)) {
+                points = stream.toList();
+            }
+
+            // Assert
+            assertThat(points).extracting(MeasurementPoint::id).containsExactly(10, 2, 11, 3, 12);
+            assertThat(points.get(0).value()).isEqualByComparingTo("20.00");
+        }
+
+        @Test
+        @DisplayName("Should continue after the cursor and resolve names once per call")
+        void shouldPageAfterCursor() {
+            // Arrange
+            SealedBlock block = block(1, 0, 1, 2, 3);
+            when(blockRepository.streamPayloadsInRange(eq(1), any(), any())).thenReturn(Stream.of(payload(block)));
+            when(seriesRepository.findNameById(1)).thenReturn(Optional.of("Cellar"));
+            when(userRepository.findUsernameById(1)).thenReturn(Optional.of("admin"));
+
+            // Act
+            List<MeasurementResponse> page = service.findResponses(1, OLD, NOW,
+                    new MeasurementCursor(block.timestamp(1), 2), 2);
+
+            // Assert
+            assertThat(page).extracting(MeasurementResponse::getId).containsExactly(3, 4);
+            assertThat(page.get(0).getSeriesName()).isEqualTo("Cellar");
+            assertThat(page.get(1).getCreatedByUsername()).isEqualTo("admin");
+            verify(seriesRepository, times(1)).findNameById(anyInt());
+            verify(userRepository, times(1)).findUsernameById(anyInt());
+        }
+
+        @Test
+        @DisplayName("Should find sealed measurements by id")
+        void shouldFindById() {
+            // Arrange
+            when(blockRepository.findPayloadsInIdRange(2, 2)).thenReturn(List.of(payload(block(1, 0, 1, 2))));
+
+            // Act & Assert
+            assertThat(service.findResponseById(2)).get().extracting(MeasurementResponse::getId).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Unsealing")
+    class Unsealing {
+
+        @Test
+        @DisplayName("Should restore the block holding a measurement under the series lock")
+        void shouldRestoreBlockHoldingMeasurement() {
+            // Arrange
+            SealedBlock block = block(1, 0, 1, 2);
+            MeasurementBlock entity = entity(7L, block);
+            when(blockRepository.findByIdRangeContaining(2)).thenReturn(List.of(entity));
+
+            // Act
+            boolean unsealed = service.unseal(2);
+
+            // Assert
+            assertThat(unsealed).isTrue();
+            InOrder inOrder = inOrder(blockRepository);
+            inOrder.verify(blockRepository).lockSeries(1);
+            inOrder.verify(blockRepository).restoreMeasurements(eq(1), any(SealedBlock.class));
+            inOrder.verify(blockRepository).deleteAllByIdInBatch(List.of(7L));
+            assertThat(meterRegistry.counter(ColdStorageService.UNSEALED_METRIC).count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should report measurements that are not sealed")
+        void shouldIgnoreMeasurementsNotSealed() {
+            // Arrange
+            when(blockRepository.findByIdRangeContaining(5)).thenReturn(List.of(entity(7L, block(4, 0))));
+
+            // Act & Assert
+            assertThat(service.unseal(5)).isFalse();
+            verify(blockRepository, never()).lockSeries(any());
+        }
+
+        @Test
+        @DisplayName("Should skip the lock when no block overlaps the range")
+        void shouldSkipRangeWithoutBlocks() {
+            // Arrange
+            when(blockRepository.existsInRange(1, OLD, NOW)).thenReturn(false);
+
+            // Act
+            service.unseal(1, OLD, NOW);
+
+            // Assert
+            verify(blockRepository, never()).lockSeries(any());
+            verify(blockRepository, never()).restoreMeasurements(any(), any());
+        }
+    }
+}
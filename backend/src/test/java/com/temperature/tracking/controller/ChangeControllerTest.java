@@ -0,0 +1,95 @@
+package com.temperature.tracking.controller;
+
+import com.temperature.tracking.dto.ChangeFeedResponse;
+import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.exception.ValidationException;
+import com.temperature.tracking.security.JwtAuthenticationFilter;
+import com.temperature.tracking.security.JwtUtil;
+import com.temperature.tracking.service.ChangeLogService;
+import com.temperature.tracking.service.CustomUserDetailsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for ChangeController.
+ * Tests GET /api/changes - Get changes after a cursor.
+ */
+@WebMvcTest(ChangeController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("ChangeController Tests")
+class ChangeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ChangeLogService changeLogService;
+
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private CustomUserDetailsService userDetailsService;
+
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Test
+    @DisplayName("Should return changes after cursor")
+    void shouldReturnChangesAfterCursor() throws Exception {
+        // Arrange
+        MeasurementResponse measurement = new MeasurementResponse(6, 1, "Temperature", new BigDecimal("21.00"),
+                null, null, null, null);
+        ChangeFeedResponse changes = new ChangeFeedResponse("next", true, false, List.of(), List.of(measurement),
+                List.of(), List.of(5));
+        when(changeLogService.getChanges("previous", 500)).thenReturn(changes);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/changes")
+                        .param("since", "previous")
+                        .param("limit", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cursor").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.measurements[0].id").value(6))
+                .andExpect(jsonPath("$.deletedMeasurementIds[0]").value(5));
+    }
+
+    @Test
+    @DisplayName("Should use default limit and return current cursor without since")
+    void shouldReturnCurrentCursorWithoutSince() throws Exception {
+        // Arrange
+        when(changeLogService.getChanges(null, ChangeLogService.DEFAULT_LIMIT)).thenReturn(ChangeFeedResponse.empty("current"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cursor").value("current"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for invalid limit")
+    void shouldReturn400ForInvalidLimit() throws Exception {
+        // Arrange
+        when(changeLogService.getChanges("previous", 0)).thenThrow(new ValidationException("Limit must be between 1 and 10000"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/changes")
+                        .param("since", "previous")
+                        .param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limit must be between 1 and 10000"));
+    }
+}
@@ -1,30 +1,66 @@
 package com.temperature.tracking.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.temperature.tracking.downsampling.DownsamplingMethod;
+import com.temperature.tracking.dto.AggregateResponse;
+import com.temperature.tracking.dto.MeasurementBatchItemResult;
+import com.temperature.tracking.dto.MeasurementBatchRequest;
+import com.temperature.tracking.dto.MeasurementBatchResponse;
+import com.temperature.tracking.dto.MeasurementColumns;
+import com.temperature.tracking.dto.MeasurementImportRejection;
+import com.temperature.tracking.dto.MeasurementImportResponse;
+import com.temperature.tracking.dto.MeasurementPageResponse;
+import com.temperature.tracking.dto.MeasurementPoint;
 import com.temperature.tracking.dto.MeasurementRequest;
 import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.dto.RollupBucketResponse;
+import com.temperature.tracking.entity.RollupGranularity;
+import com.temperature.tracking.exception.IngestQueueFullException;
+import com.temperature.tracking.export.ExportFormat;
+import com.temperature.tracking.ingest.MeasurementIngestQueue;
 import com.temperature.tracking.security.JwtAuthenticationFilter;
 import com.temperature.tracking.security.JwtUtil;
+import com.temperature.tracking.service.ChangeLogService;
 import com.temperature.tracking.service.CustomUserDetailsService;
+import com.temperature.tracking.service.MeasurementExportService;
+import com.temperature.tracking.service.MeasurementImportService;
 import com.temperature.tracking.service.MeasurementService;
+import com.temperature.tracking.service.MeasurementStreamService;
+import com.temperature.tracking.service.RollupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
@@ -58,6 +94,24 @@ class MeasurementControllerTest {
     @MockBean
     private MeasurementService measurementService;
 
+    @MockBean
+    private RollupService rollupService;
+
+    @MockBean
+    private MeasurementStreamService measurementStreamService;
+
+    @MockBean
+    private MeasurementExportService measurementExportService;
+
+    @MockBean
+    private MeasurementImportService measurementImportService;
+
+    @MockBean
+    private MeasurementIngestQueue measurementIngestQueue;
+
+    @MockBean
+    private ChangeLogService changeLogService;
+
     @MockBean
     private JwtUtil jwtUtil;
 
@@ -67,13 +121,15 @@ class MeasurementControllerTest {
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
     private MeasurementResponse testMeasurementResponse;
     private MeasurementRequest testMeasurementRequest;
     private ZonedDateTime testTimestamp;
 
     @BeforeEach
     void setUp() {
-        testTimestamp = ZonedDateTime.from(LocalDateTime.of(2025, 11, 8, 12, 0, 0));
+        testTimestamp = ZonedDateTime.of(LocalDateTime.of(2025, 11, 8, 12, 0, 0), ZoneId.of("UTC"));
 
         testMeasurementResponse = new MeasurementResponse(
                 1,
@@ -314,6 +370,162 @@ class MeasurementControllerTest {
             // Assert
             verify(measurementService, times(1)).getMeasurementsBySeriesId(42);
         }
+
+        @Test
+        @DisplayName("Should send the version of the measurements as ETag")
+        void shouldSendETag() throws Exception {
+            // Arrange
+            when(changeLogService.getMeasurementsVersion(1, false)).thenReturn(Optional.of("42-1000"));
+            when(measurementService.getMeasurementsBySeriesId(1)).thenReturn(List.of(testMeasurementResponse));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/series/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"42-1000\""))
+                    .andExpect(header().string("Cache-Control", "no-cache, private"))
+                    .andExpect(jsonPath("$.length()").value(1));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 without reading measurements when the ETag still matches")
+        void shouldAnswerNotModifiedForMatchingETag() throws Exception {
+            // Arrange
+            when(changeLogService.getMeasurementsVersion(1, false)).thenReturn(Optional.of("42-1000"));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/series/1").header("If-None-Match", "\"42-1000\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            verifyNoInteractions(measurementService);
+        }
+
+        @Test
+        @DisplayName("Should read downsampled measurements without ETag when they have no version")
+        void shouldSkipETagWithoutVersion() throws Exception {
+            // Arrange
+            when(changeLogService.getMeasurementsVersion(1, true)).thenReturn(Optional.empty());
+            when(measurementService.getDownsampledMeasurements(eq(1), isNull(), isNull(), eq(100), any()))
+                    .thenReturn(List.of(testMeasurementResponse));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/series/1").param("maxPoints", "100")
+                            .header("If-None-Match", "\"42-1000\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("ETag"))
+                    .andExpect(jsonPath("$.length()").value(1));
+        }
+
+        @Test
+        @DisplayName("Should return columnar measurements with their own ETag when accepted")
+        void shouldReturnColumnarMeasurements() throws Exception {
+            // Arrange
+            when(changeLogService.getMeasurementsVersion(1, true)).thenReturn(Optional.of("42-1000"));
+            when(measurementService.getMeasurementColumns(1, null, null, 100, DownsamplingMethod.LTTB))
+                    .thenReturn(MeasurementColumns.of(1, List.of(
+                            new MeasurementPoint(1, testTimestamp, new BigDecimal("23.50")))));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/series/1").param("maxPoints", "100")
+                            .accept(MeasurementColumns.JSON_MEDIA_TYPE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MeasurementColumns.JSON_MEDIA_TYPE))
+                    .andExpect(header().string("ETag", "\"42-1000-columnar\""))
+                    .andExpect(header().string("Vary", "Accept"))
+                    .andExpect(jsonPath("$.seriesId").value(1))
+                    .andExpect(jsonPath("$.timestamps[0]").value(testTimestamp.toInstant().toEpochMilli()))
+                    .andExpect(jsonPath("$.values[0]").value(23.50));
+
+            verify(measurementService, never()).getDownsampledMeasurements(any(), any(), any(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("Should return measurements as CBOR with epoch millisecond timestamps when accepted")
+        void shouldReturnCborMeasurements() throws Exception {
+            // Arrange
+            when(changeLogService.getMeasurementsVersion(1, false)).thenReturn(Optional.of("42-1000"));
+            when(measurementService.getMeasurementsBySeriesId(1)).thenReturn(List.of(testMeasurementResponse));
+
+            // Act
+            MvcResult result = mockMvc.perform(get("/api/measurements/series/1")
+                            .accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andExpect(header().string("ETag", "\"42-1000-cbor\""))
+                    .andReturn();
+
+            // Assert
+            JsonNode measurements = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+            assertThat(measurements).hasSize(1);
+            assertThat(measurements.get(0).get("seriesName").asText()).isEqualTo("Temperature");
+            assertThat(measurements.get(0).get("timestamp").isIntegralNumber()).isTrue();
+            assertThat(measurements.get(0).get("timestamp").asLong())
+                    .isEqualTo(testTimestamp.toInstant().toEpochMilli());
+        }
+
+        @Test
+        @DisplayName("Should tag the representation the Accept header prefers")
+        void shouldTagPreferredRepresentation() throws Exception {
+            // Arrange
+            when(changeLogService.getMeasurementsVersion(1, false)).thenReturn(Optional.of("42-1000"));
+            when(measurementService.getMeasurementsBySeriesId(1)).thenReturn(List.of(testMeasurementResponse));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/series/1")
+                            .header("Accept", "application/json;q=0.5, application/cbor"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andExpect(header().string("ETag", "\"42-1000-cbor\""));
+
+            mockMvc.perform(get("/api/measurements/series/1").accept(MediaType.ALL))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(header().string("ETag", "\"42-1000\""));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 only to the ETag of the negotiated representation")
+        void shouldAnswerNotModifiedForNegotiatedETag() throws Exception {
+            // Arrange
+            when(changeLogService.getMeasurementsVersion(1, false)).thenReturn(Optional.of("42-1000"));
+            when(measurementService.getMeasurementsBySeriesId(1)).thenReturn(List.of(testMeasurementResponse));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/series/1").accept(MediaType.APPLICATION_CBOR)
+                            .header("If-None-Match", "\"42-1000-cbor\""))
+                    .andExpect(status().isNotModified());
+
+            mockMvc.perform(get("/api/measurements/series/1").accept(MediaType.APPLICATION_CBOR)
+                            .header("If-None-Match", "\"42-1000\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"42-1000-cbor\""));
+
+            verify(measurementService, times(1)).getMeasurementsBySeriesId(1);
+        }
+
+        @Test
+        @DisplayName("Should return columnar measurements as CBOR with their own ETag when accepted")
+        void shouldReturnCborColumnarMeasurements() throws Exception {
+            // Arrange
+            when(changeLogService.getMeasurementsVersion(1, false)).thenReturn(Optional.of("42-1000"));
+            when(measurementService.getMeasurementColumns(1, null, null, null, null))
+                    .thenReturn(MeasurementColumns.of(1, List.of(
+                            new MeasurementPoint(1, testTimestamp, new BigDecimal("23.50")))));
+
+            // Act
+            MvcResult result = mockMvc.perform(get("/api/measurements/series/1")
+                            .accept(MeasurementColumns.CBOR_MEDIA_TYPE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MeasurementColumns.CBOR_MEDIA_TYPE))
+                    .andExpect(header().string("ETag", "\"42-1000-columnar-cbor\""))
+                    .andReturn();
+
+            // Assert
+            JsonNode columns = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+            assertThat(columns.get("seriesId").asInt()).isEqualTo(1);
+            assertThat(columns.get("timestamps").get(0).asLong()).isEqualTo(testTimestamp.toInstant().toEpochMilli());
+            assertThat(columns.get("values")).hasSize(1);
+        }
     }
 
     @Nested
@@ -404,6 +616,405 @@ class MeasurementControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/measurements/series/{seriesId} - Time Range and Pagination")
+    class GetMeasurementsInRange {
+
+        @Test
+        @DisplayName("Should pass time range to service layer")
+        void shouldPassTimeRangeToServiceLayer() throws Exception {
+            // Arrange
+            when(measurementService.getMeasurementsBySeriesId(eq(1), any(ZonedDateTime.class), isNull()))
+                    .thenReturn(Collections.singletonList(testMeasurementResponse));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/series/1")
+                            .param("from", "2025-11-07T12:00:00Z")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1));
+
+            verify(measurementService, never()).getMeasurementsBySeriesId(1);
+        }
+
+        @Test
+        @DisplayName("Should downsample when maxPoints is given")
+        void shouldDownsampleWhenMaxPointsIsGiven() throws Exception {
+            // Arrange
+            when(measurementService.getDownsampledMeasurements(1, null, null, 1000, DownsamplingMethod.MINMAX))
+                    .thenReturn(Collections.singletonList(testMeasurementResponse));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/series/1")
+                            .param("maxPoints", "1000")
+                            .param("method", "minmax")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1));
+
+            verify(measurementService, never()).getMeasurementsBySeriesId(1);
+        }
+
+        @Test
+        @DisplayName("Should return page with next cursor")
+        void shouldReturnPageWithNextCursor() throws Exception {
+            // Arrange
+            MeasurementPageResponse page = new MeasurementPageResponse(
+                    Collections.singletonList(testMeasurementResponse), "abc");
+            when(measurementService.getMeasurementPage(1, null, null, "xyz", 100)).thenReturn(page);
+
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/series/1/page")
+                            .param("cursor", "xyz")
+                            .param("limit", "100")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(1))
+                    .andExpect(jsonPath("$.nextCursor").value("abc"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/measurements/series/{seriesId}/aggregates and /summary - Rollups")
+    class GetRollups {
+
+        @Test
+        @DisplayName("Should return buckets of requested granularity")
+        void shouldReturnBucketsOfRequestedGranularity() throws Exception {
+            // Arrange
+            RollupBucketResponse bucket = new RollupBucketResponse(RollupGranularity.DAY, testTimestamp, 2L,
+                    new BigDecimal("40.00"), new BigDecimal("19.00"), new BigDecimal("21.00"), new BigDecimal("20.00"));
+            when(rollupService.getBuckets(1, RollupGranularity.DAY, null, null)).thenReturn(List.of(bucket));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/series/1/aggregates")
+                            .param("granularity", "day")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].granularity").value("DAY"))
+                    .andExpect(jsonPath("$[0].count").value(2))
+                    .andExpect(jsonPath("$[0].avg").value(20.00));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for unsupported granularity")
+        void shouldReturn400ForUnsupportedGranularity() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/series/1/aggregates")
+                            .param("granularity", "week")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(rollupService);
+        }
+
+        @Test
+        @DisplayName("Should return summary for range")
+        void shouldReturnSummaryForRange() throws Exception {
+            // Arrange
+            AggregateResponse summary = new AggregateResponse(1, null, null, 3, new BigDecimal("60.00"),
+                    new BigDecimal("19.00"), new BigDecimal("21.00"), new BigDecimal("20.00"));
+            when(rollupService.getSummary(eq(1), any(ZonedDateTime.class), isNull())).thenReturn(summary);
+
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/series/1/summary")
+                            .param("from", "2025-11-07T12:00:00Z")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.count").value(3))
+                    .andExpect(jsonPath("$.max").value(21.00));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/measurements/series/{seriesId}/stream - Stream Measurements")
+    class StreamMeasurements {
+
+        @Test
+        @DisplayName("Should open event stream for series")
+        void shouldOpenEventStreamForSeries() throws Exception {
+            // Arrange
+            when(measurementStreamService.subscribe(1)).thenReturn(new SseEmitter());
+
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/series/1/stream")
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted());
+
+            verify(measurementStreamService).subscribe(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/measurements/export - Export Measurements")
+    class ExportMeasurements {
+
+        @Test
+        @DisplayName("Should stream export as attachment in requested format")
+        void shouldStreamExportAsAttachment() throws Exception {
+            // Arrange
+            StreamingResponseBody body = out -> out.write("id,seriesId\r\n".getBytes(StandardCharsets.UTF_8));
+            when(measurementExportService.exportMeasurements(1, null, null, ExportFormat.CSV, false)).thenReturn(body);
+
+            // Act & Assert
+            MvcResult result = mockMvc.perform(get("/api/measurements/export")
+                            .param("format", "csv")
+                            .param("seriesId", "1"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=\"measurements.csv\""))
+                    .andExpect(header().doesNotExist("Content-Encoding"))
+                    .andExpect(content().string("id,seriesId\r\n"));
+        }
+
+        @Test
+        @DisplayName("Should compress export when client accepts gzip")
+        void shouldCompressExportWhenClientAcceptsGzip() throws Exception {
+            // Arrange
+            when(measurementExportService.exportMeasurements(null, null, null, ExportFormat.NDJSON, true))
+                    .thenReturn(out -> { });
+
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/export")
+                            .header("Accept-Encoding", "gzip, deflate"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andExpect(header().string("Vary", "Accept-Encoding"));
+
+            verify(measurementExportService).exportMeasurements(null, null, null, ExportFormat.NDJSON, true);
+        }
+
+        @Test
+        @DisplayName("Should return 400 for unsupported export format")
+        void shouldReturn400ForUnsupportedFormat() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/api/measurements/export")
+                            .param("format", "xml"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Unsupported export format: xml"));
+
+            verify(measurementExportService, never()).exportMeasurements(any(), any(), any(), any(), anyBoolean());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/measurements/batch - Create Measurements Batch")
+    class CreateMeasurementsBatch {
+
+        @Test
+        @WithMockUser(username = "admin", roles = "ADMIN")
+        @DisplayName("Should return per-item results for a batch")
+        void shouldReturnPerItemResultsForBatch() throws Exception {
+            // Arrange
+            MeasurementBatchRequest batchRequest = new MeasurementBatchRequest(
+                    Arrays.asList(testMeasurementRequest, testMeasurementRequest));
+            MeasurementBatchResponse batchResponse = new MeasurementBatchResponse(1, 1, Arrays.asList(
+                    MeasurementBatchItemResult.created(0, 1),
+                    MeasurementBatchItemResult.rejected(1, "Series not found with id: 1")
+            ));
+            when(measurementService.createMeasurements(anyList(), eq("admin"))).thenReturn(batchResponse);
+
+            // Act & Assert
+            mockMvc.perform(post("/api/measurements/batch")
+                            .with(user("admin").roles("ADMIN"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batchRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.accepted").value(1))
+                    .andExpect(jsonPath("$.rejected").value(1))
+                    .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                    .andExpect(jsonPath("$.results[1].error").value("Series not found with id: 1"));
+        }
+
+        @Test
+        @WithMockUser(username = "admin", roles = "ADMIN")
+        @DisplayName("Should accept a CBOR batch with epoch millisecond timestamps and answer in CBOR")
+        @SuppressWarnings("unchecked")
+        void shouldAcceptCborBatch() throws Exception {
+            // Arrange
+            long millis = testTimestamp.toInstant().toEpochMilli();
+            byte[] body = cborMapper.writeValueAsBytes(Map.of("measurements", List.of(
+                    Map.of("seriesId", 1, "value", 23.5, "timestamp", millis))));
+            when(measurementService.createMeasurements(anyList(), eq("admin"))).thenReturn(
+                    new MeasurementBatchResponse(1, 0, List.of(MeasurementBatchItemResult.created(0, 1))));
+
+            // Act
+            MvcResult result = mockMvc.perform(post("/api/measurements/batch")
+                            .with(user("admin").roles("ADMIN"))
+                            .contentType(MediaType.APPLICATION_CBOR)
+                            .accept(MediaType.APPLICATION_CBOR)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn();
+
+            // Assert
+            ArgumentCaptor<List<MeasurementRequest>> requests = ArgumentCaptor.forClass(List.class);
+            verify(measurementService).createMeasurements(requests.capture(), eq("admin"));
+            MeasurementRequest request = requests.getValue().get(0);
+            assertThat(request.getSeriesId()).isEqualTo(1);
+            assertThat(request.getValue()).isEqualByComparingTo("23.50");
+            assertThat(request.getTimestamp().toInstant()).isEqualTo(testTimestamp.toInstant());
+            assertThat(cborMapper.readTree(result.getResponse().getContentAsByteArray()).get("accepted").asInt())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an empty batch")
+        void shouldReturn400ForEmptyBatch() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/api/measurements/batch")
+                            .with(user("admin").roles("ADMIN"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"measurements\":[]}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(measurementService, never()).createMeasurements(anyList(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/measurements and /batch - Asynchronous Ingestion")
+    class AsynchronousIngestion {
+
+        @BeforeEach
+        void enableQueue() {
+            when(measurementIngestQueue.isEnabled()).thenReturn(true);
+        }
+
+        @Test
+        @WithMockUser(username = "admin", roles = "ADMIN")
+        @DisplayName("Should return 202 Accepted once a measurement is queued")
+        void shouldReturn202WhenQueued() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/api/measurements")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testMeasurementRequest)))
+                    .andExpect(status().isAccepted());
+
+            verify(measurementIngestQueue).submit(any(MeasurementRequest.class), eq("admin"));
+            verify(measurementService, never()).createMeasurement(any(), anyString());
+        }
+
+        @Test
+        @WithMockUser(username = "admin", roles = "ADMIN")
+        @DisplayName("Should return queued and rejected items of a batch with 202 Accepted")
+        void shouldReturn202ForQueuedBatch() throws Exception {
+            // Arrange
+            MeasurementBatchRequest batchRequest = new MeasurementBatchRequest(
+                    Arrays.asList(testMeasurementRequest, testMeasurementRequest));
+            when(measurementIngestQueue.submitBatch(anyList(), eq("admin"))).thenReturn(
+                    new MeasurementBatchResponse(1, 1, Arrays.asList(
+                            MeasurementBatchItemResult.queued(0),
+                            MeasurementBatchItemResult.rejected(1, "Series not found with id: 1"))));
+
+            // Act & Assert
+            mockMvc.perform(post("/api/measurements/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batchRequest)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.accepted").value(1))
+                    .andExpect(jsonPath("$.results[0].status").value("QUEUED"))
+                    .andExpect(jsonPath("$.results[0].id").doesNotExist());
+
+            verify(measurementService, never()).createMeasurements(anyList(), anyString());
+        }
+
+        @Test
+        @WithMockUser(username = "admin", roles = "ADMIN")
+        @DisplayName("Should return 429 with Retry-After when the queue is full")
+        void shouldReturn429WhenQueueIsFull() throws Exception {
+            // Arrange
+            doThrow(new IngestQueueFullException("Ingestion queue is full, retry later", Duration.ofMillis(1500)))
+                    .when(measurementIngestQueue).submit(any(MeasurementRequest.class), anyString());
+
+            // Act & Assert
+            mockMvc.perform(post("/api/measurements")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testMeasurementRequest)))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "2"))
+                    .andExpect(jsonPath("$.message").value("Ingestion queue is full, retry later"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/measurements/import - Import Measurements")
+    class ImportMeasurements {
+
+        @Test
+        @WithMockUser(username = "admin", roles = "ADMIN")
+        @DisplayName("Should pass the request body to the import and return its report")
+        void shouldImportRequestBody() throws Exception {
+            // Arrange
+            MeasurementImportResponse importResponse = new MeasurementImportResponse(1, 1,
+                    List.of(new MeasurementImportRejection(3, "Series not found with id: 9")));
+            when(measurementImportService.importMeasurements(any(InputStream.class), eq(ExportFormat.CSV), eq("admin")))
+                    .thenAnswer(invocation -> {
+                        String body = new String(invocation.<InputStream>getArgument(0).readAllBytes(),
+                                StandardCharsets.UTF_8);
+                        assertThat(body).isEqualTo("seriesId,value,timestamp\n1,21.5,2025-11-08T12:00:00Z\n");
+                        return importResponse;
+                    });
+
+            // Act & Assert
+            mockMvc.perform(post("/api/measurements/import")
+                            .param("format", "csv")
+                            .contentType("text/csv")
+                            .content("seriesId,value,timestamp\n1,21.5,2025-11-08T12:00:00Z\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(1))
+                    .andExpect(jsonPath("$.rejected").value(1))
+                    .andExpect(jsonPath("$.rejections[0].line").value(3))
+                    .andExpect(jsonPath("$.rejections[0].error").value("Series not found with id: 9"));
+        }
+
+        @Test
+        @WithMockUser(username = "admin", roles = "ADMIN")
+        @DisplayName("Should decompress a gzip-encoded request body")
+        void shouldDecompressGzipBody() throws Exception {
+            // Arrange
+            String ndjson = "{\"seriesId\":1,\"value\":21.5,\"timestamp\":\"2025-11-08T12:00:00Z\"}\n";
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(ndjson.getBytes(StandardCharsets.UTF_8));
+            }
+            when(measurementImportService.importMeasurements(any(InputStream.class), eq(ExportFormat.NDJSON), eq("admin")))
+                    .thenAnswer(invocation -> {
+                        String body = new String(invocation.<InputStream>getArgument(0).readAllBytes(),
+                                StandardCharsets.UTF_8);
+                        assertThat(body).isEqualTo(ndjson);
+                        return new MeasurementImportResponse(1, 0, List.of());
+                    });
+
+            // Act & Assert
+            mockMvc.perform(post("/api/measurements/import")
+                            .header("Content-Encoding", "gzip")
+                            .contentType("application/x-ndjson")
+                            .content(compressed.toByteArray()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(1));
+        }
+
+        @Test
+        @WithMockUser(username = "admin", roles = "ADMIN")
+        @DisplayName("Should return 400 for unsupported import format")
+        void shouldReturn400ForUnsupportedFormat() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/api/measurements/import")
+                            .param("format", "xml")
+                            .content("<measurements/>"))
+                    .andExpect(status().isBadRequest());
+
+            verify(measurementImportService, never()).importMeasurements(any(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("Edge Cases and Data Handling")
     class EdgeCasesAndDataHandling {
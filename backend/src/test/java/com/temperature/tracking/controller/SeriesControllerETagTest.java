@@ -0,0 +1,99 @@
+package com.temperature.tracking.controller;
+
+import com.temperature.tracking.dto.SeriesResponse;
+import com.temperature.tracking.security.JwtAuthenticationFilter;
+import com.temperature.tracking.security.JwtUtil;
+import com.temperature.tracking.service.ChangeLogService;
+import com.temperature.tracking.service.CustomUserDetailsService;
+import com.temperature.tracking.service.SeriesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for conditional GET /api/series.
+ * Tests the ETag taken from the change log version and the 304 answer to a matching If-None-Match.
+ */
+@WebMvcTest(SeriesController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("SeriesController ETag Tests")
+class SeriesControllerETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SeriesService seriesService;
+
+    @MockBean
+    private ChangeLogService changeLogService;
+
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private CustomUserDetailsService userDetailsService;
+
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @BeforeEach
+    void setUp() {
+        when(changeLogService.getSeriesVersion()).thenReturn("7");
+    }
+
+    @Test
+    @DisplayName("Should send the version of the series list as ETag")
+    void shouldSendETag() throws Exception {
+        // Arrange
+        SeriesResponse series = new SeriesResponse();
+        series.setId(1);
+        series.setName("Temperature Series");
+        when(seriesService.getAllSeries()).thenReturn(List.of(series));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/series"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without reading series when the ETag still matches")
+    void shouldAnswerNotModifiedForMatchingETag() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/series").header("If-None-Match", "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"7\""))
+                .andExpect(content().string(""));
+
+        verify(seriesService, never()).getAllSeries();
+    }
+
+    @Test
+    @DisplayName("Should send the series again when the ETag is stale")
+    void shouldSendSeriesForStaleETag() throws Exception {
+        // Arrange
+        when(seriesService.getAllSeries()).thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/series").header("If-None-Match", "\"6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7\""));
+
+        verify(seriesService).getAllSeries();
+    }
+}
@@ -3,6 +3,7 @@ package com.temperature.tracking.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.temperature.tracking.dto.SeriesRequest;
 import com.temperature.tracking.dto.SeriesResponse;
+import com.temperature.tracking.service.ChangeLogService;
 import com.temperature.tracking.service.SeriesService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -51,6 +52,9 @@ class SeriesControllerTest {
     @MockBean
     private SeriesService seriesService;
 
+    @MockBean
+    private ChangeLogService changeLogService;
+
     private SeriesRequest testRequest;
     private SeriesResponse testResponse;
     private ZonedDateTime testDateTime;
@@ -80,6 +84,8 @@ class SeriesControllerTest {
         testResponse.setCreatedBy(1);
         testResponse.setCreatedByUsername("admin");
         testResponse.setCreatedAt(testDateTime);
+
+        when(changeLogService.getSeriesVersion()).thenReturn("7");
     }
 
     @Nested
@@ -0,0 +1,140 @@
+package com.temperature.tracking.downsampling;
+
+import com.temperature.tracking.dto.MeasurementPoint;
+import com.temperature.tracking.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the streaming downsamplers.
+ * Points are generated one minute apart starting at a fixed timestamp.
+ */
+@DisplayName("Downsampler Tests")
+class DownsamplerTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2025, 11, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+
+    private static List<MeasurementPoint> points(double... values) {
+        List<MeasurementPoint> points = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            points.add(new MeasurementPoint(i + 1, START.plusMinutes(i), BigDecimal.valueOf(values[i])));
+        }
+        return points;
+    }
+
+    private static List<MeasurementPoint> downsample(DownsamplingMethod method, int maxPoints, List<MeasurementPoint> points) {
+        long start = START.toInstant().toEpochMilli();
+        long end = points.get(points.size() - 1).timestamp().toInstant().toEpochMilli() + 1;
+        Downsampler downsampler = Downsampler.create(method, start, end, maxPoints);
+        points.forEach(downsampler::accept);
+        return downsampler.finish();
+    }
+
+    @Nested
+    @DisplayName("LTTB")
+    class Lttb {
+
+        @Test
+        @DisplayName("Should keep first and last point and stay within maxPoints")
+        void shouldKeepFirstAndLastPointAndStayWithinMaxPoints() {
+            // Arrange
+            double[] values = new double[1000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = Math.sin(i / 20.0) * 10;
+            }
+            List<MeasurementPoint> points = points(values);
+
+            // Act
+            List<MeasurementPoint> result = downsample(DownsamplingMethod.LTTB, 50, points);
+
+            // Assert
+            assertThat(result).hasSizeLessThanOrEqualTo(50);
+            assertThat(result.get(0)).isEqualTo(points.get(0));
+            assertThat(result.get(result.size() - 1)).isEqualTo(points.get(points.size() - 1));
+            assertThat(result).isSortedAccordingTo((a, b) -> a.timestamp().compareTo(b.timestamp()));
+        }
+
+        @Test
+        @DisplayName("Should keep a single spike")
+        void shouldKeepSingleSpike() {
+            // Arrange
+            double[] values = new double[100];
+            values[42] = 99;
+            List<MeasurementPoint> points = points(values);
+
+            // Act
+            List<MeasurementPoint> result = downsample(DownsamplingMethod.LTTB, 10, points);
+
+            // Assert
+            assertThat(result).extracting(MeasurementPoint::id).contains(43);
+        }
+
+        @Test
+        @DisplayName("Should return input unchanged when it has fewer points than buckets")
+        void shouldReturnInputWhenSmall() {
+            List<MeasurementPoint> points = points(1, 2);
+
+            assertThat(downsample(DownsamplingMethod.LTTB, 10, points)).containsExactlyElementsOf(points);
+        }
+    }
+
+    @Nested
+    @DisplayName("Min/Max")
+    class MinMax {
+
+        @Test
+        @DisplayName("Should keep minimum and maximum of every bucket in timestamp order")
+        void shouldKeepMinAndMaxOfEveryBucket() {
+            // Arrange - two buckets of four points each
+            List<MeasurementPoint> points = points(5, 9, 1, 5, 5, 0, 7, 5);
+
+            // Act
+            List<MeasurementPoint> result = downsample(DownsamplingMethod.MINMAX, 4, points);
+
+            // Assert
+            assertThat(result).extracting(p -> p.value().doubleValue()).containsExactly(9.0, 1.0, 0.0, 7.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Average")
+    class Average {
+
+        @Test
+        @DisplayName("Should average every bucket into a synthesized point")
+        void shouldAverageEveryBucket() {
+            // Arrange - two buckets of two points each
+            List<MeasurementPoint> points = points(1, 2, 10, 20);
+
+            // Act
+            List<MeasurementPoint> result = downsample(DownsamplingMethod.AVG, 2, points);
+
+            // Assert
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).id()).isNull();
+            assertThat(result.get(0).value()).isEqualByComparingTo("1.50");
+            assertThat(result.get(0).timestamp()).isEqualTo(START.plusSeconds(30));
+            assertThat(result.get(1).value()).isEqualByComparingTo("15.00");
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse method names case-insensitively and reject unknown ones")
+    void shouldParseMethodNames() {
+        assertThat(DownsamplingMethod.fromValue("lttb")).isEqualTo(DownsamplingMethod.LTTB);
+        assertThat(DownsamplingMethod.fromValue("MinMax")).isEqualTo(DownsamplingMethod.MINMAX);
+        assertThatThrownBy(() -> DownsamplingMethod.fromValue("median"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Unsupported downsampling method: median");
+    }
+}
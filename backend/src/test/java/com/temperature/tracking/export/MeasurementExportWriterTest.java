@@ -0,0 +1,118 @@
+package com.temperature.tracking.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MeasurementExportWriter Tests")
+class MeasurementExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneId.of("UTC"));
+
+    private String export(ExportFormat format, MeasurementResponse... measurements) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MeasurementExportWriter writer = MeasurementExportWriter.create(format, out, objectMapper)) {
+            for (MeasurementResponse measurement : measurements) {
+                writer.write(measurement);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("Should write one JSON object per line")
+        void shouldWriteOneObjectPerLine() throws IOException {
+            // Arrange
+            MeasurementResponse first = new MeasurementResponse(1, 1, "Living Room", new BigDecimal("21.50"),
+                    TIMESTAMP, 2, "admin", TIMESTAMP);
+            MeasurementResponse second = new MeasurementResponse(2, 1, "Living Room", new BigDecimal("-3.00"),
+                    TIMESTAMP.plusHours(1), null, null, null);
+
+            // Act
+            String result = export(ExportFormat.NDJSON, first, second);
+
+            // Assert
+            assertThat(result).isEqualTo(
+                    "{\"id\":1,\"seriesId\":1,\"seriesName\":\"Living Room\",\"value\":21.50,"
+                            + "\"timestamp\":\"2025-11-08T12:00:00Z\",\"createdBy\":2,\"createdByUsername\":\"admin\","
+                            + "\"createdAt\":\"2025-11-08T12:00:00Z\"}\n"
+                            + "{\"id\":2,\"seriesId\":1,\"seriesName\":\"Living Room\",\"value\":-3.00,"
+                            + "\"timestamp\":\"2025-11-08T13:00:00Z\",\"createdBy\":null,\"createdByUsername\":null,"
+                            + "\"createdAt\":null}\n");
+        }
+
+        @Test
+        @DisplayName("Should write nothing for an empty export")
+        void shouldWriteNothingForEmptyExport() throws IOException {
+            // Act & Assert
+            assertThat(export(ExportFormat.NDJSON)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("Should write header and rows with UTC timestamps")
+        void shouldWriteHeaderAndRows() throws IOException {
+            // Arrange
+            MeasurementResponse measurement = new MeasurementResponse(1, 1, "Living Room", new BigDecimal("21.50"),
+                    TIMESTAMP.withZoneSameInstant(ZoneId.of("Europe/Warsaw")), 2, "admin", null);
+
+            // Act
+            String result = export(ExportFormat.CSV, measurement);
+
+            // Assert
+            assertThat(result).isEqualTo(CsvMeasurementWriter.HEADER + "\r\n"
+                    + "1,1,Living Room,21.50,2025-11-08T12:00:00Z,2,admin,\r\n");
+        }
+
+        @Test
+        @DisplayName("Should quote text containing separators, quotes or line breaks")
+        void shouldQuoteSpecialCharacters() throws IOException {
+            // Arrange
+            MeasurementResponse measurement = new MeasurementResponse(1, 1, "Attic, \"north\"\nside",
+                    new BigDecimal("1E+1"), TIMESTAMP, null, null, null);
+
+            // Act
+            String result = export(ExportFormat.CSV, measurement);
+
+            // Assert
+            assertThat(result).endsWith("\r\n1,1,\"Attic, \"\"north\"\"\nside\",10,2025-11-08T12:00:00Z,,,\r\n");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported format names")
+    void shouldRejectUnsupportedFormat() {
+        // Act & Assert
+        assertThat(ExportFormat.fromValue(" Csv ")).isEqualTo(ExportFormat.CSV);
+        assertThatThrownBy(() -> ExportFormat.fromValue("xml"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Unsupported export format: xml");
+    }
+}
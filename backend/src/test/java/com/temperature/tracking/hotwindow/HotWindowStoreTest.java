@@ -0,0 +1,314 @@
+package com.temperature.tracking.hotwindow;
+
+import com.temperature.tracking.dto.MeasurementPoint;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
+import com.temperature.tracking.event.SeriesChangedEvent;
+import com.temperature.tracking.repository.MeasurementRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HotWindowStore Tests")
+class HotWindowStoreTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private MeasurementRepository measurementRepository;
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HotWindowStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = store(true, 5);
+    }
+
+    private HotWindowStore store(boolean enabled, int maxPointsPerSeries) {
+        return new HotWindowStore(measurementRepository, seriesRepository, transactionManager, meterRegistry,
+                Clock.fixed(NOW.toInstant(), ZoneOffset.UTC), enabled, Duration.ofHours(24), maxPointsPerSeries);
+    }
+
+    private void loadSeries(MeasurementPoint... points) {
+        when(seriesRepository.findAllIds()).thenReturn(List.of(1));
+        when(measurementRepository.streamPointsBySeriesIdInRange(eq(1), any(), any())).thenReturn(Stream.of(points));
+        store.afterSingletonsInstantiated();
+    }
+
+    private static MeasurementPoint point(int id, ZonedDateTime timestamp, String value) {
+        return new MeasurementPoint(id, timestamp, new BigDecimal(value));
+    }
+
+    private static MeasurementSnapshot snapshot(int id, ZonedDateTime timestamp, String value) {
+        return new MeasurementSnapshot(id, 1, timestamp, new BigDecimal(value));
+    }
+
+    private List<MeasurementPoint> points(ZonedDateTime from, ZonedDateTime to) {
+        return store.findPoints(1, from, to).orElseThrow().toList();
+    }
+
+    @Nested
+    @DisplayName("Loading")
+    class Loading {
+
+        @Test
+        @DisplayName("Should load the last hours of every series and serve ranges inside them")
+        void shouldServeLoadedRange() {
+            // Arrange
+            loadSeries(point(1, NOW.minusHours(2), "21.50"), point(2, NOW.minusHours(1), "-3.25"));
+
+            // Act
+            List<MeasurementPoint> result = points(NOW.minusHours(3), NOW);
+
+            // Assert
+            assertThat(result).extracting(MeasurementPoint::id).containsExactly(1, 2);
+            assertThat(result.get(1).value()).isEqualByComparingTo("-3.25");
+            assertThat(result.get(1).timestamp().toInstant()).isEqualTo(NOW.minusHours(1).toInstant());
+            assertThat(store.getPointCount()).isEqualTo(2);
+            verify(measurementRepository).streamPointsBySeriesIdInRange(eq(1), eq(NOW.minusHours(24)), any());
+        }
+
+        @Test
+        @DisplayName("Should compare range bounds with the microseconds of stored timestamps")
+        void shouldKeepMicroseconds() {
+            // Arrange
+            ZonedDateTime first = NOW.minusHours(1).plusNanos(250_000);
+            ZonedDateTime last = NOW.minusMinutes(1).plusNanos(500_000);
+            loadSeries(point(1, first, "20.00"), point(2, last, "21.00"));
+
+            // Act: an open-ended range ends one microsecond after the newest point
+            List<MeasurementPoint> result = points(first.plusNanos(250_000), last.plusNanos(1_000));
+
+            // Assert
+            assertThat(result).extracting(MeasurementPoint::id).containsExactly(2);
+            assertThat(result.get(0).timestamp().toInstant()).isEqualTo(last.toInstant());
+            assertThat(points(first, last.plusNanos(1))).extracting(MeasurementPoint::id).containsExactly(1, 2);
+        }
+
+        @Test
+        @DisplayName("Should leave ranges starting before the window to the database")
+        void shouldMissRangesBeforeWindow() {
+            // Arrange
+            loadSeries(point(1, NOW.minusHours(2), "21.50"));
+
+            // Act & Assert
+            assertThat(store.findPoints(1, NOW.minusHours(25), NOW)).isEmpty();
+            assertThat(store.findPoints(2, NOW.minusHours(1), NOW)).isEmpty();
+            assertThat(meterRegistry.counter(HotWindowStore.READS_METRIC, "result", "miss").count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should serve nothing from memory when the load fails")
+        void shouldStayEmptyWhenLoadFails() {
+            // Arrange
+            when(seriesRepository.findAllIds()).thenThrow(new DataAccessResourceFailureException("down"));
+
+            // Act
+            store.afterSingletonsInstantiated();
+
+            // Assert
+            assertThat(store.findPoints(1, NOW.minusHours(1), NOW)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should not touch the database when disabled")
+        void shouldNotLoadWhenDisabled() {
+            // Arrange
+            store = store(false, 5);
+
+            // Act
+            store.afterSingletonsInstantiated();
+            store.onSeriesChanged(SeriesChangedEvent.created(1));
+
+            // Assert
+            assertThat(store.findPoints(1, NOW.minusHours(1), NOW)).isEmpty();
+            verifyNoInteractions(seriesRepository, measurementRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Change Events")
+    class ChangeEvents {
+
+        @Test
+        @DisplayName("Should add created measurements in timestamp order and ignore duplicates")
+        void shouldAddCreatedMeasurements() {
+            // Arrange
+            loadSeries(point(1, NOW.minusHours(1), "20.00"));
+
+            // Act
+            store.onMeasurementChanged(MeasurementChangedEvent.created(List.of(
+                    snapshot(3, NOW.minusMinutes(10), "22.00"),
+                    snapshot(2, NOW.minusMinutes(30), "21.00"),
+                    snapshot(1, NOW.minusHours(1), "20.00"))));
+
+            // Assert
+            assertThat(points(NOW.minusHours(2), NOW)).extracting(MeasurementPoint::id).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("Should round values to the column scale")
+        void shouldRoundValuesToColumnScale() {
+            // Arrange
+            loadSeries();
+
+            // Act
+            store.onMeasurementChanged(MeasurementChangedEvent.created(List.of(
+                    snapshot(1, NOW.minusMinutes(1), "23.455"))));
+
+            // Assert
+            assertThat(points(NOW.minusHours(1), NOW).get(0).value()).isEqualTo(new BigDecimal("23.46"));
+        }
+
+        @Test
+        @DisplayName("Should move updated measurements and drop deleted ones")
+        void shouldApplyUpdatesAndDeletions() {
+            // Arrange
+            loadSeries(point(1, NOW.minusHours(2), "20.00"), point(2, NOW.minusHours(1), "21.00"));
+
+            // Act
+            store.onMeasurementChanged(MeasurementChangedEvent.updated(
+                    snapshot(1, NOW.minusHours(2), "20.00"), snapshot(1, NOW.minusMinutes(5), "25.00")));
+            store.onMeasurementChanged(MeasurementChangedEvent.deleted(snapshot(2, NOW.minusHours(1), "21.00")));
+
+            // Assert
+            List<MeasurementPoint> result = points(NOW.minusHours(3), NOW);
+            assertThat(result).extracting(MeasurementPoint::id).containsExactly(1);
+            assertThat(result.get(0).value()).isEqualByComparingTo("25.00");
+        }
+
+        @Test
+        @DisplayName("Should keep a window for new series and drop it for deleted ones")
+        void shouldFollowSeriesLifecycle() {
+            // Arrange
+            loadSeries();
+
+            // Act
+            store.onSeriesChanged(SeriesChangedEvent.created(2));
+            store.onMeasurementChanged(MeasurementChangedEvent.created(List.of(
+                    new MeasurementSnapshot(7, 2, NOW.minusMinutes(1), new BigDecimal("1.00")))));
+            Optional<Stream<MeasurementPoint>> created = store.findPoints(2, NOW.minusHours(1), NOW);
+            store.onSeriesChanged(SeriesChangedEvent.deleted(2));
+
+            // Assert
+            assertThat(created.orElseThrow()).extracting(MeasurementPoint::id).containsExactly(7);
+            assertThat(store.findPoints(2, NOW.minusHours(1), NOW)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Reloading")
+    class Reloading {
+
+        @Test
+        @DisplayName("Should replay changes committed while a window is reloaded")
+        void shouldReplayChangesDuringReload() {
+            // Arrange
+            loadSeries(point(1, NOW.minusHours(2), "20.00"), point(2, NOW.minusHours(1), "21.00"));
+            when(measurementRepository.streamPointsBySeriesIdInRange(eq(1), any(), any())).thenAnswer(invocation -> {
+                // Committed after the snapshot of the reload was taken
+                store.onMeasurementChanged(MeasurementChangedEvent.created(List.of(
+                        snapshot(3, NOW.minusMinutes(5), "22.00"))));
+                store.onMeasurementChanged(MeasurementChangedEvent.deleted(snapshot(1, NOW.minusHours(2), "20.00")));
+                return Stream.of(point(1, NOW.minusHours(2), "20.00"), point(2, NOW.minusHours(1), "21.00"));
+            });
+
+            // Act
+            store.reload(List.of(1));
+
+            // Assert
+            assertThat(points(NOW.minusHours(3), NOW)).extracting(MeasurementPoint::id).containsExactly(2, 3);
+        }
+
+        @Test
+        @DisplayName("Should drop the windows of series that no longer exist")
+        void shouldDropWindowsOfDeletedSeries() {
+            // Arrange
+            loadSeries();
+            store.onSeriesChanged(SeriesChangedEvent.created(2));
+            when(measurementRepository.streamPointsBySeriesIdInRange(eq(1), any(), any()))
+                    .thenReturn(Stream.of(point(4, NOW.minusMinutes(1), "19.00")));
+
+            // Act
+            store.reload();
+
+            // Assert
+            assertThat(points(NOW.minusHours(1), NOW)).extracting(MeasurementPoint::id).containsExactly(4);
+            assertThat(store.findPoints(2, NOW.minusHours(1), NOW)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Capacity")
+    class Capacity {
+
+        @Test
+        @DisplayName("Should keep only the newest points and stop covering evicted ones")
+        void shouldEvictOldestPointsBeyondCapacity() {
+            // Arrange
+            loadSeries();
+
+            // Act
+            for (int minute = 1; minute <= 7; minute++) {
+                store.onMeasurementChanged(MeasurementChangedEvent.created(List.of(
+                        snapshot(minute, NOW.minusHours(1).plusMinutes(minute), "20.00"))));
+            }
+
+            // Assert
+            assertThat(store.getPointCount()).isEqualTo(5);
+            assertThat(store.findPoints(1, NOW.minusHours(1), NOW)).isEmpty();
+            assertThat(points(NOW.minusHours(1).plusMinutes(3), NOW))
+                    .extracting(MeasurementPoint::id).containsExactly(3, 4, 5, 6, 7);
+        }
+
+        @Test
+        @DisplayName("Should ignore points older than the oldest kept point once full")
+        void shouldIgnoreOlderPointsWhenFull() {
+            // Arrange
+            loadSeries();
+            for (int minute = 1; minute <= 5; minute++) {
+                store.onMeasurementChanged(MeasurementChangedEvent.created(List.of(
+                        snapshot(minute, NOW.minusHours(1).plusMinutes(minute), "20.00"))));
+            }
+
+            // Act
+            store.onMeasurementChanged(MeasurementChangedEvent.created(List.of(
+                    snapshot(9, NOW.minusHours(2), "20.00"))));
+
+            // Assert
+            assertThat(points(NOW.minusHours(1).plusMinutes(1), NOW)).hasSize(5);
+            assertThat(store.findPoints(1, NOW.minusHours(2), NOW)).isEmpty();
+        }
+    }
+}
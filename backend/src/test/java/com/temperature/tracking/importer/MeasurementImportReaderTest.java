@@ -0,0 +1,137 @@
+package com.temperature.tracking.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.temperature.tracking.exception.ValidationException;
+import com.temperature.tracking.export.ExportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MeasurementImportReader Tests")
+class MeasurementImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneId.of("UTC"));
+
+    private List<ImportRow> read(ExportFormat format, String content) throws IOException {
+        MeasurementImportReader reader = MeasurementImportReader.create(format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), objectMapper);
+        List<ImportRow> rows = new ArrayList<>();
+        ImportRow row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("Should read one measurement per line and ignore unknown properties")
+        void shouldReadOneMeasurementPerLine() throws IOException {
+            // Act
+            List<ImportRow> rows = read(ExportFormat.NDJSON,
+                    "{\"id\":7,\"seriesId\":1,\"seriesName\":\"Living Room\",\"value\":21.50,"
+                            + "\"timestamp\":\"2025-11-08T12:00:00Z\"}\n"
+                            + "\n"
+                            + "{\"seriesId\":2,\"value\":-3,\"timestamp\":\"2025-11-08T12:00:00Z\"}\n");
+
+            // Assert
+            assertThat(rows).hasSize(2);
+            assertThat(rows.get(0).line()).isEqualTo(1);
+            assertThat(rows.get(0).measurement().getSeriesId()).isEqualTo(1);
+            assertThat(rows.get(0).measurement().getValue()).isEqualByComparingTo("21.50");
+            assertThat(rows.get(0).measurement().getTimestamp().toInstant()).isEqualTo(TIMESTAMP.toInstant());
+            assertThat(rows.get(1).line()).isEqualTo(3);
+            assertThat(rows.get(1).measurement().getSeriesId()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should report malformed lines and continue")
+        void shouldReportMalformedLines() throws IOException {
+            // Act
+            List<ImportRow> rows = read(ExportFormat.NDJSON,
+                    "{\"seriesId\":1,\n{\"seriesId\":1,\"value\":1,\"timestamp\":\"2025-11-08T12:00:00Z\"}\n");
+
+            // Assert
+            assertThat(rows).hasSize(2);
+            assertThat(rows.get(0).measurement()).isNull();
+            assertThat(rows.get(0).error()).startsWith("Malformed JSON");
+            assertThat(rows.get(1).error()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("Should read the files written by the export")
+        void shouldReadExportedFiles() throws IOException {
+            // Act
+            List<ImportRow> rows = read(ExportFormat.CSV,
+                    "id,seriesId,seriesName,value,timestamp,createdBy,createdByUsername,createdAt\r\n"
+                            + "1,1,\"Attic, \"\"north\"\"\nside\",21.50,2025-11-08T12:00:00Z,2,admin,\r\n");
+
+            // Assert
+            assertThat(rows).hasSize(1);
+            assertThat(rows.get(0).line()).isEqualTo(2);
+            assertThat(rows.get(0).measurement().getSeriesId()).isEqualTo(1);
+            assertThat(rows.get(0).measurement().getValue()).isEqualTo(new BigDecimal("21.50"));
+            assertThat(rows.get(0).measurement().getTimestamp()).isEqualTo(TIMESTAMP);
+        }
+
+        @Test
+        @DisplayName("Should accept columns in any order and report unparsable fields")
+        void shouldReportUnparsableFields() throws IOException {
+            // Act
+            List<ImportRow> rows = read(ExportFormat.CSV,
+                    "\uFEFFtimestamp,value,seriesId\n"
+                            + "2025-11-08T12:00:00Z,20,x\n"
+                            + "yesterday,20,1\n"
+                            + "2025-11-08T12:00:00Z,20\n"
+                            + "2025-11-08T12:00:00Z,,1\n");
+
+            // Assert
+            assertThat(rows).extracting(ImportRow::line).containsExactly(2L, 3L, 4L, 5L);
+            assertThat(rows.get(0).error()).isEqualTo("Invalid seriesId: x");
+            assertThat(rows.get(1).error()).isEqualTo("Invalid timestamp: yesterday");
+            assertThat(rows.get(2).error()).isEqualTo("Expected at least 3 columns but found 2");
+            // Missing values are left to bean validation
+            assertThat(rows.get(3).error()).isNull();
+            assertThat(rows.get(3).measurement().getValue()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject a header without the required columns")
+        void shouldRejectIncompleteHeader() {
+            // Act & Assert
+            assertThatThrownBy(() -> read(ExportFormat.CSV, "seriesId,value\n1,20\n"))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("CSV header must contain the columns seriesId, value and timestamp");
+        }
+
+        @Test
+        @DisplayName("Should return no rows for empty input")
+        void shouldReturnNoRowsForEmptyInput() throws IOException {
+            // Act & Assert
+            assertThat(read(ExportFormat.CSV, "")).isEmpty();
+        }
+    }
+}
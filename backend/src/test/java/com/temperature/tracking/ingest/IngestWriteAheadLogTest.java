@@ -0,0 +1,108 @@
+package com.temperature.tracking.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.temperature.tracking.dto.MeasurementRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IngestWriteAheadLog Tests")
+class IngestWriteAheadLogTest {
+
+    private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @TempDir
+    private Path directory;
+
+    private static IngestEntry entry(long sequence, String value) {
+        return new IngestEntry(sequence, "admin", new MeasurementRequest(1, new BigDecimal(value), TIMESTAMP));
+    }
+
+    private IngestWriteAheadLog open() throws IOException {
+        IngestWriteAheadLog wal = new IngestWriteAheadLog(directory, objectMapper, false);
+        wal.recover();
+        return wal;
+    }
+
+    @Test
+    @DisplayName("Should recover the entries appended after the last checkpoint")
+    void shouldRecoverEntriesAfterCheckpoint() throws IOException {
+        // Arrange
+        try (IngestWriteAheadLog wal = open()) {
+            wal.append(List.of(entry(1, "20.50"), entry(2, "21.00")));
+            wal.append(List.of(entry(3, "21.50")));
+            wal.checkpoint(2);
+        }
+
+        // Act
+        IngestWriteAheadLog reopened = new IngestWriteAheadLog(directory, objectMapper, false);
+        List<IngestEntry> recovered = reopened.recover();
+        reopened.close();
+
+        // Assert
+        assertThat(recovered).hasSize(1);
+        assertThat(recovered.get(0).sequence()).isEqualTo(3);
+        assertThat(recovered.get(0).username()).isEqualTo("admin");
+        assertThat(recovered.get(0).measurement().getValue()).isEqualByComparingTo("21.50");
+        assertThat(recovered.get(0).measurement().getTimestamp().toInstant()).isEqualTo(TIMESTAMP.toInstant());
+        assertThat(reopened.lastSequence()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should empty the log once everything appended is committed")
+    void shouldTruncateWhenFullyCommitted() throws IOException {
+        // Arrange
+        try (IngestWriteAheadLog wal = open()) {
+            wal.append(List.of(entry(1, "20.50"), entry(2, "21.00")));
+
+            // Act
+            wal.checkpoint(2);
+        }
+
+        // Assert
+        assertThat(Files.size(directory.resolve(IngestWriteAheadLog.LOG_FILE))).isZero();
+        IngestWriteAheadLog reopened = new IngestWriteAheadLog(directory, objectMapper, false);
+        assertThat(reopened.recover()).isEmpty();
+        assertThat(reopened.lastSequence()).isEqualTo(2);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Should skip an entry left incomplete by a crash and keep appending after it")
+    void shouldSkipIncompleteEntry() throws IOException {
+        // Arrange
+        try (IngestWriteAheadLog wal = open()) {
+            wal.append(List.of(entry(1, "20.50")));
+        }
+        Files.writeString(directory.resolve(IngestWriteAheadLog.LOG_FILE), "{\"sequence\":2,\"user",
+                StandardOpenOption.APPEND);
+
+        // Act
+        try (IngestWriteAheadLog wal = new IngestWriteAheadLog(directory, objectMapper, false)) {
+            assertThat(wal.recover()).extracting(IngestEntry::sequence).containsExactly(1L);
+            wal.append(List.of(entry(2, "21.00")));
+        }
+
+        // Assert
+        IngestWriteAheadLog reopened = new IngestWriteAheadLog(directory, objectMapper, false);
+        assertThat(reopened.recover()).extracting(IngestEntry::sequence).containsExactly(1L, 2L);
+        reopened.close();
+    }
+}
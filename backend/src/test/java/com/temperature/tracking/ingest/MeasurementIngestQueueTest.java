@@ -0,0 +1,309 @@
+package com.temperature.tracking.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.temperature.tracking.dto.MeasurementBatchItemResult;
+import com.temperature.tracking.dto.MeasurementBatchResponse;
+import com.temperature.tracking.dto.MeasurementRequest;
+import com.temperature.tracking.dto.SeriesMetadata;
+import com.temperature.tracking.entity.User;
+import com.temperature.tracking.exception.IngestQueueFullException;
+import com.temperature.tracking.exception.ResourceNotFoundException;
+import com.temperature.tracking.exception.ValidationException;
+import com.temperature.tracking.repository.SeriesRepository;
+import com.temperature.tracking.repository.UserRepository;
+import com.temperature.tracking.service.MeasurementImportService;
+import com.temperature.tracking.service.MeasurementService;
+import com.temperature.tracking.service.SeriesMetadataCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MeasurementIngestQueue Tests")
+class MeasurementIngestQueueTest {
+
+    private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private MeasurementService measurementService;
+
+    @Mock
+    private MeasurementImportService importService;
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private SeriesMetadataCache seriesMetadataCache;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MeasurementIngestQueue queue;
+    private SeriesMetadata series;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        series = new SeriesMetadata(1, "Temperature", null, null, null, null, null, null);
+        user = new User();
+        user.setId(7);
+        user.setUsername("admin");
+        when(seriesMetadataCache.get(1)).thenReturn(Optional.of(series));
+        when(seriesMetadataCache.getAll(any())).thenReturn(Map.of(1, series));
+        when(seriesRepository.findMetadataByIdIn(any())).thenReturn(List.of(series));
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    private MeasurementIngestQueue queue(boolean enabled, int capacity) {
+        return queue(enabled, capacity, "");
+    }
+
+    private MeasurementIngestQueue queue(boolean enabled, int capacity, String walDirectory) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        queue = new MeasurementIngestQueue(measurementService, importService, seriesRepository, seriesMetadataCache,
+                userRepository, objectMapper, transactionManager, meterRegistry, enabled, capacity, 100,
+                Duration.ofMillis(10), Duration.ofSeconds(5), walDirectory, false);
+        return queue;
+    }
+
+    private MeasurementIngestQueue start(int capacity) {
+        queue(true, capacity).start();
+        return queue;
+    }
+
+    private static MeasurementRequest measurement(String value) {
+        return new MeasurementRequest(1, new BigDecimal(value), TIMESTAMP);
+    }
+
+    @Nested
+    @DisplayName("Accepting Measurements")
+    class AcceptingMeasurements {
+
+        @Test
+        @DisplayName("Should queue valid items of a batch and report rejected ones")
+        void shouldQueueValidBatchItems() {
+            // Arrange
+            MeasurementRequest valid = measurement("21.50");
+            MeasurementRequest invalid = measurement("500.00");
+            when(measurementService.validateBatchItem(eq(invalid), anyMap())).thenReturn("Value too high");
+
+            // Act
+            MeasurementBatchResponse response = start(10).submitBatch(List.of(valid, invalid), "admin");
+
+            // Assert
+            assertThat(response.getAccepted()).isEqualTo(1);
+            assertThat(response.getRejected()).isEqualTo(1);
+            assertThat(response.getResults()).extracting(MeasurementBatchItemResult::getStatus).containsExactly(
+                    MeasurementBatchItemResult.Status.QUEUED, MeasurementBatchItemResult.Status.REJECTED);
+            verify(importService, timeout(1000)).loadChunk(List.of(valid), 7);
+        }
+
+        @Test
+        @DisplayName("Should validate requests against the cache and batches against the database")
+        void shouldValidateAgainstCachedSeries() {
+            // Arrange
+            start(10);
+
+            // Act
+            queue.submit(measurement("21.50"), "admin");
+
+            // Assert
+            verify(importService, timeout(1000)).loadChunk(anyList(), eq(7));
+            verify(seriesMetadataCache).get(1);
+            // The writer loads the current series on its own, with a set of ids
+            verify(seriesRepository).findMetadataByIdIn(Set.of(1));
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException for an unknown series")
+        void shouldRejectUnknownSeries() {
+            // Arrange
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.empty());
+            start(10);
+
+            // Act & Assert
+            assertThatThrownBy(() -> queue.submit(measurement("21.50"), "admin"))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Series not found with id: 1");
+        }
+
+        @Test
+        @DisplayName("Should throw ValidationException for a value outside the series bounds")
+        void shouldRejectInvalidMeasurement() {
+            // Arrange
+            when(measurementService.validateBatchItem(any(), anyMap())).thenReturn("Value too high");
+            start(10);
+
+            // Act & Assert
+            assertThatThrownBy(() -> queue.submit(measurement("500.00"), "admin"))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Value too high");
+            verify(importService, never()).loadChunk(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("Should refuse a batch that does not fit into the queue")
+        void shouldRefuseWhenFull() {
+            // Arrange
+            start(2);
+
+            // Act & Assert
+            assertThatThrownBy(() -> queue.submitBatch(
+                    List.of(measurement("20.00"), measurement("21.00"), measurement("22.00")), "admin"))
+                    .isInstanceOf(IngestQueueFullException.class)
+                    .satisfies(e -> assertThat(((IngestQueueFullException) e).getRetryAfter())
+                            .isEqualTo(Duration.ofMillis(10)));
+            assertThat(meterRegistry.counter(MeasurementIngestQueue.THROTTLED_METRIC).count()).isEqualTo(3);
+            verify(importService, never()).loadChunk(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("Should refuse measurements when disabled")
+        void shouldRefuseWhenNotRunning() {
+            // Arrange
+            MeasurementIngestQueue disabled = queue(false, 10);
+            disabled.start();
+
+            // Act & Assert
+            assertThat(disabled.isEnabled()).isFalse();
+            assertThatThrownBy(() -> disabled.submit(measurement("21.50"), "admin"))
+                    .isInstanceOf(IngestQueueFullException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Writing Measurements")
+    class WritingMeasurements {
+
+        @Test
+        @DisplayName("Should write batches per user and drop measurements that became invalid")
+        void shouldWritePerUserAndDropInvalid() {
+            // Arrange
+            User operator = new User();
+            operator.setId(8);
+            when(userRepository.findByUsername("operator")).thenReturn(Optional.of(operator));
+            MeasurementRequest first = measurement("21.50");
+            MeasurementRequest second = measurement("22.00");
+            MeasurementRequest stale = measurement("23.00");
+            when(measurementService.validateBatchItem(eq(stale), anyMap())).thenReturn("Series not found");
+
+            // Act
+            int rejected = queue(true, 10).write(List.of(new IngestEntry(1, "admin", first),
+                    new IngestEntry(2, "operator", second), new IngestEntry(3, "admin", stale)));
+
+            // Assert
+            assertThat(rejected).isEqualTo(1);
+            verify(importService).loadChunk(List.of(first), 7);
+            verify(importService).loadChunk(List.of(second), 8);
+        }
+
+        @Test
+        @DisplayName("Should retry a batch while the database is unavailable")
+        void shouldRetryFailedBatch() {
+            // Arrange
+            when(importService.loadChunk(anyList(), eq(7)))
+                    .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                    .thenReturn(1);
+            start(10);
+
+            // Act
+            queue.submit(measurement("21.50"), "admin");
+
+            // Assert
+            verify(importService, timeout(1000).times(2)).loadChunk(anyList(), eq(7));
+            assertThat(meterRegistry.counter(MeasurementIngestQueue.WRITE_FAILURES_METRIC).count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should drop only the measurements that cannot be written and keep writing the others")
+        void shouldIsolateUnwritableMeasurements() {
+            // Arrange
+            MeasurementRequest first = measurement("21.50");
+            MeasurementRequest unwritable = measurement("22.00");
+            MeasurementRequest last = measurement("22.50");
+            List<MeasurementRequest> written = new CopyOnWriteArrayList<>();
+            when(importService.loadChunk(anyList(), eq(7))).thenAnswer(invocation -> {
+                List<MeasurementRequest> chunk = invocation.getArgument(0);
+                if (chunk.contains(unwritable)) {
+                    throw new DataIntegrityViolationException("duplicate key value");
+                }
+                written.addAll(chunk);
+                return chunk.size();
+            });
+            start(10);
+
+            // Act
+            queue.submitBatch(List.of(first, unwritable, last), "admin");
+            queue.stop();
+
+            // Assert
+            assertThat(written).containsExactlyInAnyOrder(first, last);
+            assertThat(meterRegistry.counter(MeasurementIngestQueue.REJECTED_METRIC).count()).isEqualTo(1);
+            assertThat(meterRegistry.counter(MeasurementIngestQueue.WRITTEN_METRIC).count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should move the ingestion log past dropped measurements")
+        void shouldCheckpointDroppedMeasurements(@TempDir Path directory) throws IOException {
+            // Arrange
+            when(importService.loadChunk(anyList(), eq(7))).thenThrow(new DataIntegrityViolationException("duplicate"));
+            queue(true, 10, directory.toString()).start();
+
+            // Act
+            queue.submit(measurement("21.50"), "admin");
+            queue.stop();
+
+            // Assert
+            assertThat(Files.readString(directory.resolve(IngestWriteAheadLog.CHECKPOINT_FILE))).isEqualTo("1");
+            assertThat(meterRegistry.counter(MeasurementIngestQueue.REJECTED_METRIC).count()).isEqualTo(1);
+        }
+    }
+}
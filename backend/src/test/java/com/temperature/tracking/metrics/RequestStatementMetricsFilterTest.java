@@ -0,0 +1,99 @@
+package com.temperature.tracking.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestStatementMetricsFilter Tests")
+class RequestStatementMetricsFilterTest {
+
+    private static final String PATTERN = "/api/measurements/series/{seriesId}";
+
+    private HibernateStatementCounter statementCounter;
+    private SimpleMeterRegistry meterRegistry;
+    private RequestStatementMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new HibernateStatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestStatementMetricsFilter(statementCounter, meterRegistry, 3, true);
+    }
+
+    private MockHttpServletResponse perform(String... statements) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/measurements/series/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+            for (String sql : statements) {
+                statementCounter.inspect(sql);
+            }
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+            servletResponse.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+            // Statements after the body has been written are measured but not in the header
+            statementCounter.inspect("select 1");
+        });
+        return response;
+    }
+
+    @Test
+    @DisplayName("Should record the statements of a request under its URI pattern")
+    void shouldRecordStatementsPerRequest() throws Exception {
+        // Act
+        MockHttpServletResponse response = perform("select * from series", "select * from measurements");
+
+        // Assert
+        DistributionSummary summary = meterRegistry.get(RequestStatementMetricsFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", PATTERN)
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(3.0);
+        assertThat(response.getHeader(RequestStatementMetricsFilter.STATEMENT_COUNT_HEADER)).isEqualTo("2");
+        assertThat(meterRegistry.find(RequestStatementMetricsFilter.N_PLUS_ONE_METRIC_NAME).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should count requests repeating the same statement as possible N+1 queries")
+    void shouldDetectRepeatedStatements() throws Exception {
+        // Act
+        String lazyLoad = "select s1_0.id from series s1_0 where s1_0.id=?";
+        perform("select * from measurements", lazyLoad, lazyLoad, lazyLoad);
+
+        // Assert
+        assertThat(meterRegistry.get(RequestStatementMetricsFilter.N_PLUS_ONE_METRIC_NAME)
+                .tag("uri", PATTERN).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should count nothing outside of a request")
+    void shouldNotCountOutsideOfRequest() throws Exception {
+        // Arrange
+        perform();
+
+        // Act
+        statementCounter.inspect("select 1");
+
+        // Assert
+        assertThat(statementCounter.current()).isZero();
+        assertThat(statementCounter.stop().total()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should omit the header unless enabled")
+    void shouldOmitHeaderUnlessEnabled() throws Exception {
+        // Arrange
+        filter = new RequestStatementMetricsFilter(statementCounter, meterRegistry, 3, false);
+
+        // Act & Assert
+        assertThat(perform("select 1").getHeader(RequestStatementMetricsFilter.STATEMENT_COUNT_HEADER)).isNull();
+    }
+}
@@ -0,0 +1,186 @@
+package com.temperature.tracking.partitioning;
+
+import com.temperature.tracking.repository.MeasurementBlockRepository;
+import com.temperature.tracking.repository.MeasurementPartitionRepository;
+import com.temperature.tracking.repository.MeasurementRollupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MeasurementPartitionService Tests")
+class MeasurementPartitionServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 11, 8, 12, 0);
+
+    @Mock
+    private MeasurementPartitionRepository partitionRepository;
+
+    @Mock
+    private MeasurementBlockRepository blockRepository;
+
+    @Mock
+    private MeasurementRollupRepository rollupRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private MeasurementPartitionService service(boolean enabled, Period retention) {
+        return new MeasurementPartitionService(partitionRepository, blockRepository, rollupRepository,
+                transactionManager, meterRegistry, Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC),
+                enabled, 2, retention);
+    }
+
+    @Nested
+    @DisplayName("Creating Partitions")
+    class CreatingPartitions {
+
+        @Test
+        @DisplayName("Should create the missing partitions of the current and the next months")
+        void shouldCreateMissingPartitionsAhead() {
+            // Arrange
+            when(partitionRepository.findPartitions()).thenReturn(List.of(YearMonth.of(2025, 11)));
+            when(partitionRepository.createPartition(any())).thenReturn(true);
+
+            // Act
+            service(true, null).maintainPartitions();
+
+            // Assert
+            InOrder inOrder = inOrder(partitionRepository);
+            inOrder.verify(partitionRepository).createPartition(YearMonth.of(2025, 12));
+            inOrder.verify(partitionRepository).createPartition(YearMonth.of(2026, 1));
+            verify(partitionRepository, never()).createPartition(YearMonth.of(2025, 11));
+            assertThat(meterRegistry.counter(MeasurementPartitionService.CREATED_METRIC).count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should create partitions for months of rows in the default partition")
+        void shouldCreatePartitionsForDefaultPartitionRows() {
+            // Arrange
+            when(partitionRepository.findDefaultPartitionMonths()).thenReturn(List.of(YearMonth.of(2019, 3)));
+            when(partitionRepository.findPartitions()).thenReturn(
+                    List.of(YearMonth.of(2025, 11), YearMonth.of(2025, 12), YearMonth.of(2026, 1)));
+            when(partitionRepository.createPartition(any())).thenReturn(true);
+
+            // Act
+            service(true, null).maintainPartitions();
+
+            // Assert
+            verify(partitionRepository).createPartition(YearMonth.of(2019, 3));
+            verify(partitionRepository, times(1)).createPartition(any());
+        }
+
+        @Test
+        @DisplayName("Should create the remaining partitions when one of them fails")
+        void shouldContinueAfterFailure() {
+            // Arrange
+            when(partitionRepository.createPartition(any())).thenReturn(true);
+            when(partitionRepository.createPartition(YearMonth.of(2025, 11)))
+                    .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+            // Act
+            service(true, null).maintainPartitions();
+
+            // Assert
+            verify(partitionRepository).createPartition(YearMonth.of(2025, 12));
+            verify(partitionRepository).createPartition(YearMonth.of(2026, 1));
+            assertThat(meterRegistry.counter(MeasurementPartitionService.CREATED_METRIC).count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should do nothing when disabled")
+        void shouldDoNothingWhenDisabled() {
+            // Act
+            service(false, Period.ofMonths(12)).maintainPartitions();
+
+            // Assert
+            verifyNoInteractions(partitionRepository, blockRepository, rollupRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Retention")
+    class Retention {
+
+        @Test
+        @DisplayName("Should drop partitions of months entirely older than the retention")
+        void shouldDropExpiredPartitions() {
+            // Arrange
+            when(partitionRepository.findPartitions()).thenReturn(List.of(YearMonth.of(2024, 10),
+                    YearMonth.of(2024, 11), YearMonth.of(2025, 11), YearMonth.of(2025, 12), YearMonth.of(2026, 1)));
+
+            // Act
+            service(true, Period.ofMonths(12)).maintainPartitions();
+
+            // Assert
+            verify(partitionRepository).dropPartition(YearMonth.of(2024, 10));
+            verify(partitionRepository, never()).dropPartition(YearMonth.of(2024, 11));
+            assertThat(meterRegistry.counter(MeasurementPartitionService.DROPPED_METRIC).count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should remove sealed blocks, rollups and unpartitioned rows before the oldest kept month")
+        void shouldRemoveDataBeforeOldestKeptMonth() {
+            // Arrange
+            LocalDateTime oldestKept = LocalDateTime.of(2024, 11, 1, 0, 0);
+
+            // Act
+            service(true, Period.ofMonths(12)).maintainPartitions();
+
+            // Assert
+            verify(partitionRepository).deleteFromDefaultPartitionBefore(oldestKept);
+            verify(blockRepository).deleteBlocksBefore(oldestKept.atZone(ZoneOffset.UTC));
+            verify(rollupRepository).deleteBucketsBefore(oldestKept.atZone(ZoneOffset.UTC));
+        }
+
+        @Test
+        @DisplayName("Should keep everything without a retention")
+        void shouldKeepEverythingWithoutRetention() {
+            // Arrange
+            when(partitionRepository.findPartitions()).thenReturn(List.of(YearMonth.of(2010, 1)));
+
+            // Act
+            service(true, null).maintainPartitions();
+
+            // Assert
+            verify(partitionRepository, never()).dropPartition(any());
+            verifyNoInteractions(blockRepository, rollupRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject a retention that is not positive")
+        void shouldRejectNonPositiveRetention() {
+            // Act & Assert
+            assertThatThrownBy(() -> service(true, Period.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("retention");
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.temperature.tracking.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the DDL statements of MeasurementPartitionRepository, run through a real JdbcTemplate
+ * on a mocked connection.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MeasurementPartitionRepository Tests")
+class MeasurementPartitionRepositoryTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 10);
+    private static final String PARTITION = "measurements_p2024_10";
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet detachState;
+
+    private MeasurementPartitionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MeasurementPartitionRepository(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    private void givenDetachState(boolean attached, boolean pending, boolean hasDefault) throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(contains("to_regclass('" + PARTITION + "')"))).thenReturn(detachState);
+        when(detachState.next()).thenReturn(attached);
+        if (attached) {
+            when(detachState.getBoolean("pending")).thenReturn(pending);
+        }
+        if (attached && !pending) {
+            when(detachState.getBoolean("has_default")).thenReturn(hasDefault);
+        }
+    }
+
+    @Nested
+    @DisplayName("Dropping Partitions")
+    class DroppingPartitions {
+
+        @Test
+        @DisplayName("Should detach the partition concurrently before dropping its table")
+        void shouldDetachConcurrentlyThenDrop() throws SQLException {
+            // Arrange
+            givenDetachState(true, false, false);
+
+            // Act
+            repository.dropPartition(MONTH);
+
+            // Assert
+            InOrder inOrder = inOrder(statement);
+            inOrder.verify(statement).execute("SET lock_timeout = '5s'");
+            inOrder.verify(statement).executeQuery(anyString());
+            inOrder.verify(statement).execute("ALTER TABLE measurements DETACH PARTITION " + PARTITION + " CONCURRENTLY");
+            inOrder.verify(statement).execute("DROP TABLE IF EXISTS " + PARTITION);
+            inOrder.verify(statement).execute("RESET lock_timeout");
+            verify(statement, times(4)).execute(anyString());
+        }
+
+        @Test
+        @DisplayName("Should detach without CONCURRENTLY while a default partition exists")
+        void shouldDetachPlainlyWithDefaultPartition() throws SQLException {
+            // Arrange
+            givenDetachState(true, false, true);
+
+            // Act
+            repository.dropPartition(MONTH);
+
+            // Assert
+            InOrder inOrder = inOrder(statement);
+            inOrder.verify(statement).execute("ALTER TABLE measurements DETACH PARTITION " + PARTITION);
+            inOrder.verify(statement).execute("DROP TABLE IF EXISTS " + PARTITION);
+        }
+
+        @Test
+        @DisplayName("Should finalize an interrupted concurrent detach before dropping")
+        void shouldFinalizePendingDetach() throws SQLException {
+            // Arrange
+            givenDetachState(true, true, false);
+
+            // Act
+            repository.dropPartition(MONTH);
+
+            // Assert
+            InOrder inOrder = inOrder(statement);
+            inOrder.verify(statement).execute("ALTER TABLE measurements DETACH PARTITION " + PARTITION + " FINALIZE");
+            inOrder.verify(statement).execute("DROP TABLE IF EXISTS " + PARTITION);
+        }
+
+        @Test
+        @DisplayName("Should only drop a table that is no longer attached")
+        void shouldDropDetachedTable() throws SQLException {
+            // Arrange
+            givenDetachState(false, false, false);
+
+            // Act
+            repository.dropPartition(MONTH);
+
+            // Assert
+            verify(statement, never()).execute(contains("DETACH"));
+            verify(statement).execute("DROP TABLE IF EXISTS " + PARTITION);
+            verify(statement).execute("RESET lock_timeout");
+        }
+
+        @Test
+        @DisplayName("Should refuse to drop inside a transaction")
+        void shouldRejectTransaction() {
+            // Arrange
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+
+            // Act & Assert
+            try {
+                assertThatThrownBy(() -> repository.dropPartition(MONTH))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("outside a transaction");
+                verifyNoInteractions(dataSource);
+            } finally {
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.temperature.tracking.repository;
+
+import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.dto.SeriesResponse;
+import com.temperature.tracking.entity.Measurement;
+import com.temperature.tracking.entity.Series;
+import com.temperature.tracking.entity.User;
+import com.temperature.tracking.metrics.HibernateStatementCounter;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query budgets of the repository calls behind the read endpoints, including the mapping to DTOs,
+ * where lazy associations would be loaded. Runs against H2 with the schema generated from the entities;
+ * the statements are counted by the same {@link HibernateStatementCounter} used for request metrics.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        // Columns such as value and timestamp are reserved words in H2
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@Import(RepositoryQueryBudgetTest.StatementCounting.class)
+@DisplayName("Repository Query Budget Tests")
+class RepositoryQueryBudgetTest {
+
+    private static final int SERIES = 3;
+    private static final int MEASUREMENTS_PER_SERIES = 4;
+
+    @TestConfiguration
+    static class StatementCounting {
+
+        @Bean
+        HibernateStatementCounter hibernateStatementCounter() {
+            return new HibernateStatementCounter();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(HibernateStatementCounter statementCounter) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private HibernateStatementCounter statementCounter;
+
+    @Autowired
+    private MeasurementRepository measurementRepository;
+
+    @Autowired
+    private SeriesRepository seriesRepository;
+
+    private User user;
+    private List<Integer> measurementIds;
+    private Integer seriesId;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("admin");
+        user.setPasswordHash("$2a$10$encodedPassword");
+        entityManager.persist(user);
+
+        measurementIds = new ArrayList<>();
+        ZonedDateTime timestamp = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneId.of("UTC"));
+        for (int seriesIndex = 0; seriesIndex < SERIES; seriesIndex++) {
+            Series series = new Series();
+            series.setName("Series " + seriesIndex);
+            series.setCreatedBy(user);
+            entityManager.persist(series);
+            seriesId = series.getId();
+            for (int index = 0; index < MEASUREMENTS_PER_SERIES; index++) {
+                Measurement measurement = new Measurement();
+                measurement.setSeries(series);
+                measurement.setValue(new BigDecimal("21.50"));
+                measurement.setTimestamp(timestamp.plusMinutes(index));
+                measurement.setCreatedBy(user);
+                measurementIds.add(entityManager.persist(measurement).getId());
+            }
+        }
+        // Measure against an empty persistence context, as at the start of a request
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private <T> HibernateStatementCounter.StatementCount count(Supplier<T> action) {
+        statementCounter.start();
+        try {
+            action.get();
+        } catch (RuntimeException e) {
+            statementCounter.stop();
+            throw e;
+        }
+        return statementCounter.stop();
+    }
+
+    @Test
+    @DisplayName("GET /api/measurements should load measurements, series and users in one statement")
+    void allMeasurementsWithinBudget() {
+        HibernateStatementCounter.StatementCount statements = count(measurementRepository::findAllResponses);
+
+        assertThat(statements.total()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/measurements/{id} should load one measurement in one statement")
+    void measurementByIdWithinBudget() {
+        Integer id = measurementIds.get(0);
+        HibernateStatementCounter.StatementCount statements = count(() -> measurementRepository.findResponseById(id));
+
+        assertThat(statements.total()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/measurements/series/{seriesId} should load a series in one statement")
+    void seriesMeasurementsWithinBudget() {
+        HibernateStatementCounter.StatementCount statements = count(() ->
+                measurementRepository.findResponsesBySeriesId(seriesId));
+
+        assertThat(statements.total()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/measurements/series/{seriesId}/page should load a page in one statement")
+    void measurementPageWithinBudget() {
+        ZonedDateTime from = ZonedDateTime.of(2025, 11, 8, 0, 0, 0, 0, ZoneId.of("UTC"));
+        HibernateStatementCounter.StatementCount statements = count(() ->
+                measurementRepository.findResponsesBySeriesIdInRange(
+                        seriesId, from, from.plusDays(1), PageRequest.ofSize(2)));
+
+        assertThat(statements.total()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/series should load series and creators in one statement")
+    void allSeriesWithinBudget() {
+        HibernateStatementCounter.StatementCount statements = count(seriesRepository::findAllResponses);
+
+        assertThat(statements.total()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Series of a user should load their creator in the same statement")
+    void seriesByCreatorWithinBudget() {
+        HibernateStatementCounter.StatementCount statements = count(() ->
+                seriesRepository.findByCreatedById(user.getId()).stream().map(SeriesResponse::fromEntity).toList());
+
+        assertThat(statements.total()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Projection queries should return complete responses without managing entities")
+    void projectionsShouldNotPopulatePersistenceContext() {
+        List<MeasurementResponse> measurements = measurementRepository.findResponsesBySeriesIdInRange(
+                seriesId, ZonedDateTime.now().minusYears(10), ZonedDateTime.now().plusYears(10), Pageable.unpaged());
+        List<SeriesResponse> series = seriesRepository.findResponsesByIdIn(List.of(seriesId));
+
+        assertThat(measurements).hasSize(MEASUREMENTS_PER_SERIES);
+        assertThat(measurements.get(0).getSeriesName()).isEqualTo("Series " + (SERIES - 1));
+        assertThat(measurements.get(0).getCreatedByUsername()).isEqualTo("admin");
+        assertThat(measurements).extracting(MeasurementResponse::getTimestamp).isSorted();
+        assertThat(series).singleElement().extracting(SeriesResponse::getCreatedBy).isEqualTo(user.getId());
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reveal N+1 queries of finder methods without an entity graph")
+    void shouldRevealNPlusOneWithoutEntityGraph() {
+        // findAllById is inherited without an entity graph, so every series is loaded lazily
+        HibernateStatementCounter.StatementCount statements = count(() ->
+                measurementRepository.findAllById(measurementIds).stream()
+                        .map(MeasurementResponse::fromEntity).toList());
+
+        assertThat(statements.total()).isGreaterThan(1 + SERIES);
+        assertThat(statements.mostRepeatedCount()).isGreaterThanOrEqualTo(SERIES);
+    }
+}
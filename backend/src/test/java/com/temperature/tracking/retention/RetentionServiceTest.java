@@ -0,0 +1,264 @@
+package com.temperature.tracking.retention;
+
+import com.temperature.tracking.coldstorage.ColdStorageService;
+import com.temperature.tracking.entity.RollupGranularity;
+import com.temperature.tracking.entity.Series;
+import com.temperature.tracking.repository.ChangeLogRepository;
+import com.temperature.tracking.repository.MeasurementBlockRepository;
+import com.temperature.tracking.repository.MeasurementRepository;
+import com.temperature.tracking.repository.MeasurementRollupRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetentionService Tests")
+class RetentionServiceTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneId.systemDefault());
+    private static final ZonedDateTime RAW_CUTOFF = NOW.minusDays(30).truncatedTo(ChronoUnit.DAYS);
+    private static final Duration CHANGE_LOG_RETENTION = Duration.ofDays(30);
+    private static final long WATERMARK = 900L;
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private MeasurementRepository measurementRepository;
+
+    @Mock
+    private MeasurementRollupRepository rollupRepository;
+
+    @Mock
+    private MeasurementBlockRepository blockRepository;
+
+    @Mock
+    private ColdStorageService coldStorageService;
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Series series;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        series = new Series();
+        series.setId(1);
+        series.setRawRetentionDays(30);
+    }
+
+    private RetentionService service(boolean enabled, int maxDaysPerRun) {
+        return new RetentionService(seriesRepository, measurementRepository, rollupRepository, blockRepository,
+                coldStorageService, changeLogRepository, transactionManager, meterRegistry,
+                Clock.fixed(NOW.toInstant(), ZoneId.systemDefault()), enabled, 2, maxDaysPerRun, CHANGE_LOG_RETENTION);
+    }
+
+    @Nested
+    @DisplayName("Compacting Raw Measurements")
+    class CompactingRawMeasurements {
+
+        @Test
+        @DisplayName("Should rebuild the rollups of the oldest expired day before deleting its measurements")
+        void shouldCompactOldestExpiredDay() {
+            // Arrange
+            ZonedDateTime oldest = RAW_CUTOFF.minusDays(3).plusHours(5);
+            ZonedDateTime dayStart = RAW_CUTOFF.minusDays(3);
+            when(seriesRepository.findWithRetention()).thenReturn(List.of(series));
+            when(measurementRepository.findFirstTimestampBySeriesId(1))
+                    .thenReturn(Optional.of(oldest), Optional.of(RAW_CUTOFF));
+            when(coldStorageService.findFirstTimestamp(1)).thenReturn(Optional.empty());
+            when(measurementRepository.deleteInRange(1, dayStart, dayStart.plusDays(1))).thenReturn(120);
+
+            // Act
+            int days = service(true, 100).applyRetention();
+
+            // Assert
+            assertThat(days).isEqualTo(1);
+            InOrder inOrder = inOrder(blockRepository, coldStorageService, rollupRepository, measurementRepository);
+            inOrder.verify(blockRepository).lockSeries(1);
+            inOrder.verify(coldStorageService).unseal(1, dayStart, dayStart.plusDays(1));
+            inOrder.verify(rollupRepository).rebuildRange(1, dayStart, dayStart.plusDays(1));
+            inOrder.verify(measurementRepository).deleteInRange(1, dayStart, dayStart.plusDays(1));
+            assertThat(meterRegistry.counter(RetentionService.COMPACTED_METRIC).count()).isEqualTo(120);
+        }
+
+        @Test
+        @DisplayName("Should compact a day whose only measurements are sealed")
+        void shouldCompactSealedDay() {
+            // Arrange
+            ZonedDateTime dayStart = RAW_CUTOFF.minusDays(1);
+            when(seriesRepository.findWithRetention()).thenReturn(List.of(series));
+            when(measurementRepository.findFirstTimestampBySeriesId(1)).thenReturn(Optional.of(NOW));
+            when(coldStorageService.findFirstTimestamp(1))
+                    .thenReturn(Optional.of(dayStart.plusMinutes(1)), Optional.empty());
+
+            // Act
+            int days = service(true, 100).applyRetention();
+
+            // Assert
+            assertThat(days).isEqualTo(1);
+            verify(coldStorageService).unseal(1, dayStart, RAW_CUTOFF);
+            verify(measurementRepository).deleteInRange(1, dayStart, RAW_CUTOFF);
+        }
+
+        @Test
+        @DisplayName("Should leave measurements after the cutoff alone")
+        void shouldNotCompactRetainedDays() {
+            // Arrange
+            when(seriesRepository.findWithRetention()).thenReturn(List.of(series));
+            when(measurementRepository.findFirstTimestampBySeriesId(1)).thenReturn(Optional.of(RAW_CUTOFF));
+            when(coldStorageService.findFirstTimestamp(1)).thenReturn(Optional.empty());
+
+            // Act
+            int days = service(true, 100).applyRetention();
+
+            // Assert
+            assertThat(days).isZero();
+            verify(rollupRepository, never()).rebuildRange(any(), any(), any());
+            verify(measurementRepository, never()).deleteInRange(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should stop after the maximum number of days per run")
+        void shouldStopAtMaxDaysPerRun() {
+            // Arrange
+            when(seriesRepository.findWithRetention()).thenReturn(List.of(series));
+            when(measurementRepository.findFirstTimestampBySeriesId(1))
+                    .thenReturn(Optional.of(RAW_CUTOFF.minusDays(10)), Optional.of(RAW_CUTOFF.minusDays(9)));
+            when(coldStorageService.findFirstTimestamp(1)).thenReturn(Optional.empty());
+
+            // Act
+            int days = service(true, 2).applyRetention();
+
+            // Assert
+            assertThat(days).isEqualTo(2);
+            verify(measurementRepository, times(2)).deleteInRange(eq(1), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should do nothing when disabled")
+        void shouldDoNothingWhenDisabled() {
+            // Act
+            int days = service(false, 100).applyRetention();
+
+            // Assert
+            assertThat(days).isZero();
+            verifyNoInteractions(seriesRepository, measurementRepository, rollupRepository, blockRepository,
+                    changeLogRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject a batch size that is not positive")
+        void shouldRejectNonPositiveBatchSize() {
+            // Act & Assert
+            assertThatThrownBy(() -> new RetentionService(seriesRepository, measurementRepository, rollupRepository,
+                    blockRepository, coldStorageService, changeLogRepository, transactionManager, meterRegistry,
+                    Clock.systemDefaultZone(), true, 0, 100, CHANGE_LOG_RETENTION))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("batch-size");
+        }
+    }
+
+    @Nested
+    @DisplayName("Expiring Rollup Buckets")
+    class ExpiringRollupBuckets {
+
+        @Test
+        @DisplayName("Should delete expired buckets in batches until a batch is not full")
+        void shouldDeleteExpiredBucketsInBatches() {
+            // Arrange
+            series.setRawRetentionDays(null);
+            series.setMinuteRetentionDays(365);
+            ZonedDateTime cutoff = NOW.minusDays(365).truncatedTo(ChronoUnit.DAYS);
+            when(seriesRepository.findWithRetention()).thenReturn(List.of(series));
+            when(rollupRepository.deleteExpiredBuckets(1, RollupGranularity.MINUTE, cutoff, 2))
+                    .thenReturn(2, 2, 1);
+
+            // Act
+            service(true, 100).applyRetention();
+
+            // Assert
+            verify(rollupRepository, times(3)).deleteExpiredBuckets(1, RollupGranularity.MINUTE, cutoff, 2);
+            verify(rollupRepository, never()).deleteExpiredBuckets(eq(1), eq(RollupGranularity.HOUR), any(), anyInt());
+            verify(rollupRepository, never()).deleteExpiredBuckets(eq(1), eq(RollupGranularity.DAY), any(), anyInt());
+            verifyNoInteractions(measurementRepository);
+            assertThat(meterRegistry.counter(RetentionService.EXPIRED_BUCKETS_METRIC, "granularity", "MINUTE").count())
+                    .isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("Compacting The Change Log")
+    class CompactingTheChangeLog {
+
+        @Test
+        @DisplayName("Should delete expired entries in batches below one watermark")
+        void shouldDeleteExpiredEntriesInBatches() {
+            // Arrange
+            ZonedDateTime cutoff = NOW.minus(CHANGE_LOG_RETENTION);
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+            when(changeLogRepository.deleteExpired(cutoff, WATERMARK, 2)).thenReturn(2, 1);
+
+            // Act
+            service(true, 100).applyRetention();
+
+            // Assert
+            verify(changeLogRepository, times(2)).deleteExpired(cutoff, WATERMARK, 2);
+            verify(changeLogRepository).findWatermark();
+            assertThat(meterRegistry.counter(RetentionService.CHANGE_LOG_METRIC, "reason", "expired").count())
+                    .isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should delete superseded entries one sequence range at a time")
+        void shouldDeleteSupersededEntriesByRange() {
+            // Arrange
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+            when(changeLogRepository.findFirstSeq()).thenReturn(1L);
+            when(changeLogRepository.findLatestSeq()).thenReturn(5L);
+            when(changeLogRepository.deleteSuperseded(anyLong(), anyLong(), eq(WATERMARK))).thenReturn(1, 0, 1);
+
+            // Act
+            service(true, 100).applyRetention();
+
+            // Assert
+            InOrder inOrder = inOrder(changeLogRepository);
+            inOrder.verify(changeLogRepository).deleteExpired(any(), eq(WATERMARK), eq(2));
+            inOrder.verify(changeLogRepository).deleteSuperseded(0, 2, WATERMARK);
+            inOrder.verify(changeLogRepository).deleteSuperseded(2, 4, WATERMARK);
+            inOrder.verify(changeLogRepository).deleteSuperseded(4, 5, WATERMARK);
+            inOrder.verifyNoMoreInteractions();
+            assertThat(meterRegistry.counter(RetentionService.CHANGE_LOG_METRIC, "reason", "superseded").count())
+                    .isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.temperature.tracking.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JwtAuthenticationFilter.
+ * Uses a real JwtUtil so tokens are signed and verified as in production,
+ * and a mocked PrincipalCache to observe database lookups.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter Tests")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationAndValidationMustBeLongEnough1234567890";
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    private JwtUtil jwtUtil;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 86400000L);
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new JwtAuthenticationFilter(jwtUtil, principalCache, meterRegistry);
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication filterWithToken(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/measurements");
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Nested
+    @DisplayName("Claims Mode")
+    class ClaimsMode {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(filter, "authenticationMode", JwtAuthenticationMode.CLAIMS);
+        }
+
+        @Test
+        @DisplayName("Should authenticate from role claim without loading the user")
+        void shouldAuthenticateFromRoleClaim() throws Exception {
+            // Act
+            Authentication authentication = filterWithToken(jwtUtil.generateToken("admin", "ADMIN"));
+
+            // Assert
+            assertThat(authentication).isNotNull();
+            assertThat(authentication.getName()).isEqualTo("admin");
+            assertThat(authentication.getAuthorities())
+                    .extracting(GrantedAuthority::getAuthority)
+                    .containsExactly("ROLE_ADMIN");
+            verifyNoInteractions(principalCache);
+        }
+
+        @Test
+        @DisplayName("Should fall back to the database for tokens without role claim")
+        void shouldFallBackForTokenWithoutRole() throws Exception {
+            // Arrange
+            when(principalCache.get("admin")).thenReturn(User.withUsername("admin").password("")
+                    .authorities(new SimpleGrantedAuthority("ROLE_ADMIN")).build());
+
+            // Act
+            Authentication authentication = filterWithToken(jwtUtil.generateToken("admin", null));
+
+            // Assert
+            assertThat(authentication.getAuthorities())
+                    .extracting(GrantedAuthority::getAuthority)
+                    .containsExactly("ROLE_ADMIN");
+            verify(principalCache).get("admin");
+        }
+
+        @Test
+        @DisplayName("Should not authenticate with invalid or missing token")
+        void shouldNotAuthenticateWithInvalidToken() throws Exception {
+            // Act & Assert
+            assertThat(filterWithToken("invalid.token.value")).isNull();
+            assertThat(filterWithToken(null)).isNull();
+            verifyNoInteractions(principalCache);
+            assertThat(meterRegistry.counter(JwtAuthenticationFilter.FAILURES_METRIC, "reason", "invalid").count())
+                    .isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Database Mode")
+    class DatabaseMode {
+
+        @Test
+        @DisplayName("Should load authorities through the principal cache")
+        void shouldLoadAuthoritiesThroughCache() throws Exception {
+            // Arrange
+            ReflectionTestUtils.setField(filter, "authenticationMode", JwtAuthenticationMode.DATABASE);
+            when(principalCache.get(anyString())).thenReturn(User.withUsername("admin").password("")
+                    .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))).build());
+
+            // Act
+            Authentication authentication = filterWithToken(jwtUtil.generateToken("admin", "ADMIN"));
+
+            // Assert
+            assertThat(authentication.getAuthorities())
+                    .extracting(GrantedAuthority::getAuthority)
+                    .containsExactly("ROLE_USER");
+            verify(principalCache, times(1)).get("admin");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.temperature.tracking.security;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,8 +10,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 
@@ -32,9 +34,7 @@ class JwtUtilTest {
 
     @BeforeEach
     void setUp() {
-        jwtUtil = new JwtUtil();
-        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
-        ReflectionTestUtils.setField(jwtUtil, "expiration", EXPIRATION);
+        jwtUtil = new JwtUtil(SECRET, EXPIRATION);
     }
 
     @Nested
@@ -339,9 +339,7 @@ class JwtUtilTest {
         @DisplayName("Should throw exception when extracting username from expired token")
         void shouldThrowExceptionWhenExtractingFromExpiredToken() throws InterruptedException {
             // Arrange - Create JwtUtil with short expiration (1 second)
-            JwtUtil shortExpirationJwtUtil = new JwtUtil();
-            ReflectionTestUtils.setField(shortExpirationJwtUtil, "secret", SECRET);
-            ReflectionTestUtils.setField(shortExpirationJwtUtil, "expiration", 1000L);
+            JwtUtil shortExpirationJwtUtil = new JwtUtil(SECRET, 1000L);
 
             String token = shortExpirationJwtUtil.generateToken("admin", "ADMIN");
 
@@ -357,10 +355,8 @@ class JwtUtilTest {
         @DisplayName("Should reject token signed with different secret")
         void shouldRejectTokenSignedWithDifferentSecret() {
             // Arrange
-            JwtUtil differentSecretJwtUtil = new JwtUtil();
-            ReflectionTestUtils.setField(differentSecretJwtUtil, "secret",
-                "differentSecretKeyForJWTTokenGenerationMustBeLongEnough12345678");
-            ReflectionTestUtils.setField(differentSecretJwtUtil, "expiration", EXPIRATION);
+            JwtUtil differentSecretJwtUtil = new JwtUtil(
+                "differentSecretKeyForJWTTokenGenerationMustBeLongEnough12345678", EXPIRATION);
 
             String token = differentSecretJwtUtil.generateToken("admin", "ADMIN");
 
@@ -530,6 +526,58 @@ class JwtUtilTest {
         }
     }
 
+    @Nested
+    @DisplayName("Verified Token Cache")
+    class VerifiedTokenCache {
+
+        @Test
+        @DisplayName("Should return cached claims for repeated token")
+        void shouldReturnCachedClaimsForRepeatedToken() {
+            // Arrange
+            String token = jwtUtil.generateToken("admin", "ADMIN");
+
+            // Act
+            Claims first = jwtUtil.extractAllClaims(token);
+            Claims second = jwtUtil.extractAllClaims(token);
+
+            // Assert
+            assertThat(second).isSameAs(first);
+            assertThat(second.getSubject()).isEqualTo("admin");
+        }
+
+        @Test
+        @DisplayName("Should reject tampered payload reusing a cached signature")
+        void shouldRejectTamperedPayloadWithCachedSignature() {
+            // Arrange
+            String token = jwtUtil.generateToken("user", "USER");
+            jwtUtil.extractAllClaims(token);
+            String[] parts = token.split("\\.");
+            String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    "{\"role\":\"ADMIN\",\"sub\":\"user\"}".getBytes(StandardCharsets.UTF_8));
+            String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+            // Act & Assert
+            assertThatThrownBy(() -> jwtUtil.extractAllClaims(forged))
+                    .isInstanceOf(SignatureException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject cached token once it has expired")
+        void shouldRejectCachedTokenAfterExpiration() throws InterruptedException {
+            // Arrange
+            JwtUtil shortExpirationJwtUtil = new JwtUtil(SECRET, 1000L);
+            String token = shortExpirationJwtUtil.generateToken("admin", "ADMIN");
+            shortExpirationJwtUtil.extractAllClaims(token);
+
+            // Wait for token to expire
+            Thread.sleep(1500);
+
+            // Act & Assert
+            assertThatThrownBy(() -> shortExpirationJwtUtil.extractAllClaims(token))
+                    .isInstanceOf(ExpiredJwtException.class);
+        }
+    }
+
     // Helper method to create UserDetails for testing
     private UserDetails createUserDetails(String username, String role) {
         return User.builder()
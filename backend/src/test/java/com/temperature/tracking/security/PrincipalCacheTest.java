@@ -0,0 +1,96 @@
+package com.temperature.tracking.security;
+
+import com.temperature.tracking.event.UserChangedEvent;
+import com.temperature.tracking.service.CustomUserDetailsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PrincipalCache.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PrincipalCache Tests")
+class PrincipalCacheTest {
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    private PrincipalCache principalCache;
+
+    private UserDetails admin;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(userDetailsService, 100, 60000);
+        admin = User.withUsername("admin").password("hash").roles("ADMIN").build();
+    }
+
+    @Test
+    @DisplayName("Should load user once and serve repeated lookups from cache")
+    void shouldLoadUserOnce() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("admin")).thenReturn(admin);
+
+        // Act
+        UserDetails first = principalCache.get("admin");
+        UserDetails second = principalCache.get("admin");
+
+        // Assert
+        assertThat(first).isSameAs(admin);
+        assertThat(second).isSameAs(admin);
+        verify(userDetailsService, times(1)).loadUserByUsername("admin");
+    }
+
+    @Test
+    @DisplayName("Should reload user after invalidation")
+    void shouldReloadAfterInvalidation() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("admin")).thenReturn(admin);
+        principalCache.get("admin");
+
+        // Act
+        principalCache.invalidate("admin");
+        principalCache.get("admin");
+
+        // Assert
+        verify(userDetailsService, times(2)).loadUserByUsername("admin");
+    }
+
+    @Test
+    @DisplayName("Should reload user after a change of their credentials is committed")
+    void shouldReloadAfterUserChange() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("admin")).thenReturn(admin);
+        principalCache.get("admin");
+
+        // Act
+        principalCache.onUserChanged(new UserChangedEvent("admin"));
+        principalCache.get("admin");
+
+        // Assert
+        verify(userDetailsService, times(2)).loadUserByUsername("admin");
+    }
+
+    @Test
+    @DisplayName("Should not cache failed lookups")
+    void shouldNotCacheFailedLookups() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("ghost")).thenThrow(new UsernameNotFoundException("User not found: ghost"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> principalCache.get("ghost")).isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> principalCache.get("ghost")).isInstanceOf(UsernameNotFoundException.class);
+        verify(userDetailsService, times(2)).loadUserByUsername("ghost");
+    }
+}
@@ -1,7 +1,10 @@
 package com.temperature.tracking.service;
 
+import com.temperature.tracking.dto.ChangePasswordRequest;
 import com.temperature.tracking.dto.LoginRequest;
 import com.temperature.tracking.dto.LoginResponse;
+import com.temperature.tracking.event.UserChangedEvent;
+import com.temperature.tracking.repository.UserRepository;
 import com.temperature.tracking.security.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -18,9 +22,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -45,6 +51,15 @@ class AuthServiceTest {
     @Mock
     private CustomUserDetailsService userDetailsService;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private Authentication authentication;
 
@@ -423,4 +438,51 @@ class AuthServiceTest {
             inOrder.verify(jwtUtil).generateToken("admin", "ADMIN");
         }
     }
+
+    @Nested
+    @DisplayName("Password Change")
+    class PasswordChange {
+
+        private com.temperature.tracking.entity.User user;
+
+        @BeforeEach
+        void setUp() {
+            user = new com.temperature.tracking.entity.User();
+            user.setUsername("admin");
+            user.setPasswordHash("$2a$10$oldHash");
+        }
+
+        @Test
+        @DisplayName("Should store the new password and announce the changed user")
+        void shouldChangePasswordAndPublishEvent() {
+            // Arrange
+            when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user));
+            when(passwordEncoder.matches("OldPass123", "$2a$10$oldHash")).thenReturn(true);
+            when(passwordEncoder.encode("NewPass123")).thenReturn("$2a$10$newHash");
+
+            // Act
+            authService.changePassword("admin", new ChangePasswordRequest("OldPass123", "NewPass123"));
+
+            // Assert
+            assertThat(user.getPasswordHash()).isEqualTo("$2a$10$newHash");
+            verify(userRepository).save(user);
+            verify(eventPublisher).publishEvent(new UserChangedEvent("admin"));
+        }
+
+        @Test
+        @DisplayName("Should announce nothing when the current password is wrong")
+        void shouldNotPublishEventForWrongPassword() {
+            // Arrange
+            when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user));
+            when(passwordEncoder.matches("WrongPass1", "$2a$10$oldHash")).thenReturn(false);
+
+            // Act & Assert
+            assertThatThrownBy(() -> authService.changePassword("admin",
+                    new ChangePasswordRequest("WrongPass1", "NewPass123")))
+                    .isInstanceOf(BadCredentialsException.class)
+                    .hasMessage("Current password is incorrect");
+            verify(userRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+    }
 }
@@ -0,0 +1,391 @@
+package com.temperature.tracking.service;
+
+import com.temperature.tracking.coldstorage.ColdStorageService;
+import com.temperature.tracking.dto.ChangeCursor;
+import com.temperature.tracking.dto.ChangeFeedResponse;
+import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.dto.SeriesMetadata;
+import com.temperature.tracking.dto.SeriesResponse;
+import com.temperature.tracking.entity.ChangeEntityType;
+import com.temperature.tracking.entity.ChangeLogEntry;
+import com.temperature.tracking.entity.ChangeOperation;
+import com.temperature.tracking.entity.Measurement;
+import com.temperature.tracking.entity.Series;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
+import com.temperature.tracking.event.SeriesChangedEvent;
+import com.temperature.tracking.exception.ValidationException;
+import com.temperature.tracking.repository.ChangeLogRepository;
+import com.temperature.tracking.repository.MeasurementRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ChangeLogService.
+ * Covers recording of change events and collapsing of log entries into a change feed page.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChangeLogService Tests")
+class ChangeLogServiceTest {
+
+    private static final long TXID = 700L;
+    private static final long WATERMARK = 800L;
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @Mock
+    private MeasurementRepository measurementRepository;
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private ColdStorageService coldStorageService;
+
+    @Mock
+    private SeriesMetadataCache seriesMetadataCache;
+
+    @InjectMocks
+    private ChangeLogService changeLogService;
+
+    private Series testSeries;
+    private ZonedDateTime testTimestamp;
+
+    @BeforeEach
+    void setUp() {
+        testTimestamp = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneId.of("UTC"));
+
+        testSeries = new Series();
+        testSeries.setId(1);
+        testSeries.setName("Temperature");
+    }
+
+    private ChangeLogEntry entry(long seq, ChangeEntityType type, int id, ChangeOperation operation) {
+        return new ChangeLogEntry(seq, TXID, type, id, 1, operation, testTimestamp);
+    }
+
+    private static String cursor(long txid, long seq) {
+        return new ChangeCursor(txid, seq).encode();
+    }
+
+    private Measurement measurement(int id) {
+        Measurement measurement = new Measurement();
+        measurement.setId(id);
+        measurement.setSeries(testSeries);
+        measurement.setValue(new BigDecimal("21.00"));
+        measurement.setTimestamp(testTimestamp);
+        return measurement;
+    }
+
+    @Nested
+    @DisplayName("Record Changes")
+    class RecordChanges {
+
+        @Test
+        @DisplayName("Should append upserts for created measurements")
+        void shouldAppendUpsertsForCreatedMeasurements() {
+            // Arrange
+            MeasurementChangedEvent event = MeasurementChangedEvent.created(List.of(
+                    new MeasurementSnapshot(5, 1, testTimestamp, new BigDecimal("20.00")),
+                    new MeasurementSnapshot(6, 1, testTimestamp, new BigDecimal("21.00"))));
+
+            // Act
+            changeLogService.onMeasurementChanged(event);
+
+            // Assert
+            verify(changeLogRepository).append(List.of(
+                    new ChangeLogEntry(ChangeEntityType.MEASUREMENT, 5, 1, ChangeOperation.UPSERT),
+                    new ChangeLogEntry(ChangeEntityType.MEASUREMENT, 6, 1, ChangeOperation.UPSERT)));
+        }
+
+        @Test
+        @DisplayName("Should log a measurement moved to another series for both series")
+        void shouldAppendEntriesForBothSeriesOfMovedMeasurement() {
+            // Act
+            changeLogService.onMeasurementChanged(MeasurementChangedEvent.updated(
+                    new MeasurementSnapshot(5, 1, testTimestamp, new BigDecimal("20.00")),
+                    new MeasurementSnapshot(5, 2, testTimestamp, new BigDecimal("20.00"))));
+            changeLogService.onMeasurementChanged(MeasurementChangedEvent.updated(
+                    new MeasurementSnapshot(6, 1, testTimestamp, new BigDecimal("20.00")),
+                    new MeasurementSnapshot(6, 1, testTimestamp, new BigDecimal("21.00"))));
+
+            // Assert
+            verify(changeLogRepository).append(List.of(
+                    new ChangeLogEntry(ChangeEntityType.MEASUREMENT, 5, 1, ChangeOperation.UPSERT),
+                    new ChangeLogEntry(ChangeEntityType.MEASUREMENT, 5, 2, ChangeOperation.UPSERT)));
+            verify(changeLogRepository).append(List.of(
+                    new ChangeLogEntry(ChangeEntityType.MEASUREMENT, 6, 1, ChangeOperation.UPSERT)));
+        }
+
+        @Test
+        @DisplayName("Should append tombstones for deleted measurements and series")
+        void shouldAppendTombstones() {
+            // Act
+            changeLogService.onMeasurementChanged(MeasurementChangedEvent.deleted(
+                    new MeasurementSnapshot(5, 1, testTimestamp, new BigDecimal("20.00"))));
+            changeLogService.onSeriesChanged(SeriesChangedEvent.deleted(1));
+
+            // Assert
+            verify(changeLogRepository).append(List.of(
+                    new ChangeLogEntry(ChangeEntityType.MEASUREMENT, 5, 1, ChangeOperation.DELETE)));
+            verify(changeLogRepository).append(List.of(
+                    new ChangeLogEntry(ChangeEntityType.SERIES, 1, 1, ChangeOperation.DELETE)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Read Change Feed")
+    class ReadChangeFeed {
+
+        @Test
+        @DisplayName("Should return the watermark as cursor when no cursor is given")
+        void shouldReturnCurrentCursorWithoutSince() {
+            // Arrange
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+
+            // Act
+            ChangeFeedResponse result = changeLogService.getChanges(null, 100);
+
+            // Assert
+            assertThat(result.getCursor()).isEqualTo(cursor(WATERMARK, 0));
+            assertThat(result.getMeasurements()).isEmpty();
+            assertThat(result.isHasMore()).isFalse();
+            verify(changeLogRepository, never()).findAfter(anyLong(), anyLong(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("Should collapse entries to the latest operation per entity")
+        void shouldCollapseEntriesToLatestOperation() {
+            // Arrange
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+            when(changeLogRepository.findAfter(TXID, 10L, WATERMARK, PageRequest.ofSize(101))).thenReturn(List.of(
+                    entry(11, ChangeEntityType.MEASUREMENT, 5, ChangeOperation.UPSERT),
+                    entry(12, ChangeEntityType.MEASUREMENT, 6, ChangeOperation.UPSERT),
+                    entry(13, ChangeEntityType.MEASUREMENT, 5, ChangeOperation.DELETE),
+                    entry(14, ChangeEntityType.SERIES, 1, ChangeOperation.UPSERT),
+                    entry(15, ChangeEntityType.MEASUREMENT, 6, ChangeOperation.UPSERT)));
+            when(measurementRepository.findResponsesByIdIn(Set.of(6)))
+                    .thenReturn(List.of(MeasurementResponse.fromEntity(measurement(6))));
+            when(seriesRepository.findResponsesByIdIn(Set.of(1))).thenReturn(List.of(SeriesResponse.fromEntity(testSeries)));
+
+            // Act
+            ChangeFeedResponse result = changeLogService.getChanges(cursor(TXID, 10), 100);
+
+            // Assert
+            assertThat(result.getCursor()).isEqualTo(cursor(TXID, 15));
+            assertThat(result.isHasMore()).isFalse();
+            assertThat(result.getMeasurements()).extracting(MeasurementResponse::getId).containsExactly(6);
+            assertThat(result.getDeletedMeasurementIds()).containsExactly(5);
+            assertThat(result.getSeries()).hasSize(1);
+            assertThat(result.getDeletedSeriesIds()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should report upserted entities that no longer exist as deleted")
+        void shouldReportMissingEntitiesAsDeleted() {
+            // Arrange
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+            when(changeLogRepository.findAfter(0L, 0L, WATERMARK, PageRequest.ofSize(101))).thenReturn(List.of(
+                    entry(1, ChangeEntityType.MEASUREMENT, 5, ChangeOperation.UPSERT)));
+            when(measurementRepository.findResponsesByIdIn(Set.of(5))).thenReturn(List.of());
+
+            // Act
+            ChangeFeedResponse result = changeLogService.getChanges(cursor(0, 0), 100);
+
+            // Assert
+            assertThat(result.getMeasurements()).isEmpty();
+            assertThat(result.getDeletedMeasurementIds()).containsExactly(5);
+        }
+
+        @Test
+        @DisplayName("Should look up upserted measurements missing from the table among sealed ones")
+        void shouldFindSealedUpsertedMeasurements() {
+            // Arrange
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+            when(changeLogRepository.findAfter(0L, 0L, WATERMARK, PageRequest.ofSize(101))).thenReturn(List.of(
+                    entry(1, ChangeEntityType.MEASUREMENT, 5, ChangeOperation.UPSERT),
+                    entry(2, ChangeEntityType.MEASUREMENT, 6, ChangeOperation.UPSERT)));
+            when(measurementRepository.findResponsesByIdIn(Set.of(5, 6)))
+                    .thenReturn(List.of(MeasurementResponse.fromEntity(measurement(6))));
+            when(coldStorageService.findResponsesByIds(Set.of(5)))
+                    .thenReturn(List.of(MeasurementResponse.fromEntity(measurement(5))));
+
+            // Act
+            ChangeFeedResponse result = changeLogService.getChanges(cursor(0, 0), 100);
+
+            // Assert
+            assertThat(result.getMeasurements()).extracting(MeasurementResponse::getId).containsExactly(5, 6);
+            assertThat(result.getDeletedMeasurementIds()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should stop at limit and report more changes")
+        void shouldStopAtLimit() {
+            // Arrange
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+            when(changeLogRepository.findAfter(0L, 0L, WATERMARK, PageRequest.ofSize(2))).thenReturn(List.of(
+                    entry(1, ChangeEntityType.MEASUREMENT, 5, ChangeOperation.DELETE),
+                    entry(2, ChangeEntityType.MEASUREMENT, 6, ChangeOperation.DELETE)));
+
+            // Act
+            ChangeFeedResponse result = changeLogService.getChanges(cursor(0, 0), 1);
+
+            // Assert
+            assertThat(result.isHasMore()).isTrue();
+            assertThat(result.getCursor()).isEqualTo(cursor(TXID, 1));
+            assertThat(result.getDeletedMeasurementIds()).containsExactly(5);
+        }
+
+        @Test
+        @DisplayName("Should advance cursor to the watermark when there are no new changes")
+        void shouldAdvanceCursorWithoutChanges() {
+            // Arrange
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+            when(changeLogRepository.findAfter(eq(TXID), eq(7L), eq(WATERMARK), any())).thenReturn(List.of());
+
+            // Act
+            ChangeFeedResponse result = changeLogService.getChanges(cursor(TXID, 7), 100);
+
+            // Assert
+            assertThat(result.getCursor()).isEqualTo(cursor(WATERMARK, 0));
+            verifyNoInteractions(measurementRepository, seriesRepository);
+        }
+
+        @Test
+        @DisplayName("Should keep a cursor at the watermark when there are no new changes")
+        void shouldKeepCursorAtWatermark() {
+            // Arrange
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+            when(changeLogRepository.findAfter(eq(WATERMARK), eq(0L), eq(WATERMARK), any())).thenReturn(List.of());
+
+            // Act
+            ChangeFeedResponse result = changeLogService.getChanges(cursor(WATERMARK, 0), 100);
+
+            // Assert
+            assertThat(result.getCursor()).isEqualTo(cursor(WATERMARK, 0));
+        }
+
+        @Test
+        @DisplayName("Should ask for a resync when the cursor lies before the horizon")
+        void shouldRequestResyncBeforeHorizon() {
+            // Arrange
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+            when(changeLogRepository.findHorizon()).thenReturn(TXID + 1);
+
+            // Act
+            ChangeFeedResponse result = changeLogService.getChanges(cursor(TXID, 3), 100);
+
+            // Assert
+            assertThat(result.isResync()).isTrue();
+            assertThat(result.getCursor()).isEqualTo(cursor(WATERMARK, 0));
+            assertThat(result.getMeasurements()).isEmpty();
+            verify(changeLogRepository, never()).findAfter(anyLong(), anyLong(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid limit and malformed cursor")
+        void shouldRejectInvalidArguments() {
+            // Act & Assert
+            assertThatThrownBy(() -> changeLogService.getChanges(cursor(0, 0), 0))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Limit must be between 1 and 10000");
+            assertThatThrownBy(() -> changeLogService.getChanges("10", 100))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Invalid cursor: 10");
+        }
+    }
+
+    @Nested
+    @DisplayName("Read Versions")
+    class ReadVersions {
+
+        @Test
+        @DisplayName("Should version the series list by its latest change")
+        void shouldVersionSeriesList() {
+            // Arrange
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+            when(changeLogRepository.findLatestTxidByEntityType(ChangeEntityType.SERIES, WATERMARK)).thenReturn(17L);
+
+            // Act & Assert
+            assertThat(changeLogService.getSeriesVersion()).isEqualTo("17");
+        }
+
+        @Test
+        @DisplayName("Should not version below the horizon")
+        void shouldNotVersionBelowHorizon() {
+            // Arrange
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+            when(changeLogRepository.findLatestTxidByEntityType(ChangeEntityType.SERIES, WATERMARK)).thenReturn(17L);
+            when(changeLogRepository.findHorizon()).thenReturn(TXID);
+
+            // Act & Assert
+            assertThat(changeLogService.getSeriesVersion()).isEqualTo(Long.toString(TXID));
+        }
+
+        @Test
+        @DisplayName("Should version measurements by their latest change and earliest timestamp")
+        void shouldVersionMeasurements() {
+            // Arrange
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+            when(changeLogRepository.findLatestTxidBySeriesId(1, WATERMARK)).thenReturn(42L);
+            when(measurementRepository.findFirstTimestampBySeriesId(1)).thenReturn(Optional.of(testTimestamp));
+            when(coldStorageService.findFirstTimestamp(1)).thenReturn(Optional.of(testTimestamp.minusSeconds(1)));
+
+            // Act
+            Optional<String> version = changeLogService.getMeasurementsVersion(1, false);
+
+            // Assert
+            long earliest = testTimestamp.minusSeconds(1).toInstant().toEpochMilli() * 1000;
+            assertThat(version).contains("42-" + earliest);
+            verifyNoInteractions(seriesMetadataCache);
+        }
+
+        @Test
+        @DisplayName("Should not version downsampled measurements of a series with a raw retention")
+        void shouldNotVersionDownsampledMeasurementsUnderRawRetention() {
+            // Arrange
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(
+                    new SeriesMetadata(1, "Temperature", null, null, 30, null, null, null)));
+
+            // Act & Assert
+            assertThat(changeLogService.getMeasurementsVersion(1, true)).isEmpty();
+            verifyNoInteractions(changeLogRepository);
+        }
+
+        @Test
+        @DisplayName("Should version downsampled measurements of a series kept forever")
+        void shouldVersionDownsampledMeasurementsWithoutRawRetention() {
+            // Arrange
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(
+                    new SeriesMetadata(1, "Temperature", null, null, null, null, null, null)));
+            when(changeLogRepository.findWatermark()).thenReturn(WATERMARK);
+            when(changeLogRepository.findLatestTxidBySeriesId(1, WATERMARK)).thenReturn(42L);
+
+            // Act & Assert
+            assertThat(changeLogService.getMeasurementsVersion(1, true)).contains("42-0");
+        }
+    }
+}
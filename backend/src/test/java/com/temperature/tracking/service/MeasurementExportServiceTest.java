@@ -0,0 +1,215 @@
+package com.temperature.tracking.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.temperature.tracking.coldstorage.ColdStorageService;
+import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.exception.ResourceNotFoundException;
+import com.temperature.tracking.exception.ValidationException;
+import com.temperature.tracking.export.ExportFormat;
+import com.temperature.tracking.repository.MeasurementRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MeasurementExportService.
+ * The repository cursor is simulated by invoking the row consumer from a stubbed answer.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MeasurementExportService Tests")
+class MeasurementExportServiceTest {
+
+    @Mock
+    private MeasurementRepository measurementRepository;
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private ColdStorageService coldStorageService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeasurementExportService exportService;
+
+    private MeasurementResponse measurement;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new MeasurementExportService(measurementRepository, seriesRepository, coldStorageService,
+                new ObjectMapper().registerModule(new JavaTimeModule()), transactionManager);
+        ZonedDateTime timestamp = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneId.of("UTC"));
+        measurement = new MeasurementResponse(7, 1, "Living Room", new BigDecimal("21.50"),
+                timestamp, 2, "admin", timestamp);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRows(MeasurementResponse... rows) {
+        doAnswer(invocation -> {
+            Consumer<MeasurementResponse> action = invocation.getArgument(3);
+            for (MeasurementResponse row : rows) {
+                action.accept(row);
+            }
+            return null;
+        }).when(measurementRepository).forEachInRange(any(), any(), any(), any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when series does not exist")
+    void shouldThrowWhenSeriesDoesNotExist() {
+        // Arrange
+        when(seriesRepository.existsById(999)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> exportService.exportMeasurements(999, null, null, ExportFormat.CSV, false))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Series not found with id: 999");
+        verifyNoInteractions(measurementRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException when range start is not before range end")
+    void shouldThrowWhenRangeIsInvalid() {
+        // Arrange
+        ZonedDateTime from = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneId.of("UTC"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> exportService.exportMeasurements(null, from, from, ExportFormat.CSV, false))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Range start must be before range end");
+    }
+
+    @Test
+    @DisplayName("Should not touch the database until the body is written")
+    void shouldNotQueryBeforeBodyIsWritten() {
+        // Arrange
+        when(seriesRepository.existsById(1)).thenReturn(true);
+
+        // Act
+        exportService.exportMeasurements(1, null, null, ExportFormat.NDJSON, false);
+
+        // Assert
+        verifyNoInteractions(measurementRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should write rows as NDJSON inside a read-only transaction")
+    void shouldWriteNdjsonInsideReadOnlyTransaction() throws IOException {
+        // Arrange
+        when(seriesRepository.existsById(1)).thenReturn(true);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        stubRows(measurement, measurement);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportMeasurements(1, null, null, ExportFormat.NDJSON, false).writeTo(out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":7,\"seriesId\":1,\"seriesName\":\"Living Room\",\"value\":21.50");
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(measurementRepository).forEachInRange(eq(1), eq(MeasurementService.RANGE_START),
+                eq(MeasurementService.RANGE_END), any());
+    }
+
+    @Test
+    @DisplayName("Should interleave sealed measurements with the rows in series and timestamp order")
+    void shouldInterleaveSealedMeasurements() throws IOException {
+        // Arrange
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        ZonedDateTime timestamp = measurement.getTimestamp();
+        MeasurementResponse older = new MeasurementResponse(3, 1, "Living Room", new BigDecimal("19.00"),
+                timestamp.minusDays(40), null, null, null);
+        MeasurementResponse otherSeries = new MeasurementResponse(4, 2, "Garage", new BigDecimal("5.00"),
+                timestamp.minusDays(40), null, null, null);
+        when(coldStorageService.streamResponses(null, MeasurementService.RANGE_START, MeasurementService.RANGE_END))
+                .thenReturn(Stream.of(older, otherSeries));
+        stubRows(measurement);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportMeasurements(null, null, null, ExportFormat.NDJSON, false).writeTo(out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{\"id\":3,");
+        assertThat(lines[1]).startsWith("{\"id\":7,");
+        assertThat(lines[2]).startsWith("{\"id\":4,");
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getIsolationLevel() == TransactionDefinition.ISOLATION_REPEATABLE_READ));
+    }
+
+    @Test
+    @DisplayName("Should compress body when gzip is requested")
+    void shouldCompressBodyWhenGzipRequested() throws IOException {
+        // Arrange
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        stubRows(measurement);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        StreamingResponseBody body = exportService.exportMeasurements(null, null, null, ExportFormat.CSV, true);
+        body.writeTo(out);
+
+        // Assert
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(
+                    "id,seriesId,seriesName,value,timestamp,createdBy,createdByUsername,createdAt\r\n"
+                            + "7,1,Living Room,21.50,2025-11-08T12:00:00Z,2,admin,2025-11-08T12:00:00Z\r\n");
+        }
+        verify(seriesRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Should propagate write failures to the caller")
+    void shouldPropagateWriteFailures() {
+        // Arrange
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        stubRows(measurement);
+        StreamingResponseBody body = exportService.exportMeasurements(null, null, null, ExportFormat.CSV, false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> body.writeTo(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        })).isInstanceOf(IOException.class).hasMessage("Broken pipe");
+    }
+}
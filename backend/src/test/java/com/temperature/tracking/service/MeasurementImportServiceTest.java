@@ -0,0 +1,187 @@
+package com.temperature.tracking.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.temperature.tracking.dto.MeasurementImportRejection;
+import com.temperature.tracking.dto.MeasurementImportResponse;
+import com.temperature.tracking.dto.MeasurementRequest;
+import com.temperature.tracking.dto.SeriesMetadata;
+import com.temperature.tracking.entity.User;
+import com.temperature.tracking.event.ChangeType;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
+import com.temperature.tracking.exception.ResourceNotFoundException;
+import com.temperature.tracking.export.ExportFormat;
+import com.temperature.tracking.repository.MeasurementRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import com.temperature.tracking.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MeasurementImportService.
+ * Row validation is delegated to a mocked MeasurementService; COPY is verified on the mocked repository.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MeasurementImportService Tests")
+class MeasurementImportServiceTest {
+
+    @Mock
+    private MeasurementRepository measurementRepository;
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MeasurementService measurementService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeasurementImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new MeasurementImportService(measurementRepository, seriesRepository, userRepository,
+                measurementService, new ObjectMapper().registerModule(new JavaTimeModule()), eventPublisher,
+                transactionManager);
+
+        User user = new User();
+        user.setId(3);
+        user.setUsername("admin");
+        SeriesMetadata series = new SeriesMetadata(1, "Temperature", null, null, null, null, null, null);
+        lenient().when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user));
+        lenient().when(seriesRepository.findAllMetadata()).thenReturn(List.of(series));
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(measurementRepository.allocateIds(anyInt())).thenAnswer(invocation ->
+                IntStream.rangeClosed(1, invocation.<Integer>getArgument(0)).toArray());
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should copy valid rows and report rejected lines")
+    @SuppressWarnings("unchecked")
+    void shouldCopyValidRowsAndReportRejections() throws IOException {
+        // Arrange
+        when(measurementService.validateBatchItem(any(), anyMap())).thenAnswer(invocation -> {
+            MeasurementRequest request = invocation.getArgument(0);
+            return request.getSeriesId() == 1 ? null : "Series not found with id: " + request.getSeriesId();
+        });
+        String csv = "seriesId,value,timestamp\n"
+                + "1,21.456,2025-11-08T12:00:00Z\n"
+                + "9,20.00,2025-11-08T12:00:00Z\n"
+                + "1,abc,2025-11-08T12:00:00Z\n"
+                + "\n"
+                + "1,-3,2025-11-08T13:00:00Z\n";
+
+        // Act
+        MeasurementImportResponse response = importService.importMeasurements(input(csv), ExportFormat.CSV, "admin");
+
+        // Assert
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getRejected()).isEqualTo(2);
+        assertThat(response.getRejections()).containsExactly(
+                new MeasurementImportRejection(3, "Series not found with id: 9"),
+                new MeasurementImportRejection(4, "Invalid value: abc"));
+
+        ArgumentCaptor<List<MeasurementSnapshot>> copied = ArgumentCaptor.forClass(List.class);
+        verify(measurementRepository).copyIn(copied.capture(), eq(3));
+        assertThat(copied.getValue()).extracting(MeasurementSnapshot::id).containsExactly(1, 2);
+        assertThat(copied.getValue()).extracting(MeasurementSnapshot::value)
+                .containsExactly(new BigDecimal("21.46"), new BigDecimal("-3.00"));
+        verify(eventPublisher).publishEvent(argThat((MeasurementChangedEvent event) ->
+                event.type() == ChangeType.CREATED && event.current().size() == 2));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should load rows in chunks of CHUNK_SIZE")
+    void shouldLoadRowsInChunks() throws IOException {
+        // Arrange
+        when(measurementService.validateBatchItem(any(), anyMap())).thenReturn(null);
+        StringBuilder ndjson = new StringBuilder();
+        int rows = MeasurementImportService.CHUNK_SIZE + 1;
+        for (int row = 0; row < rows; row++) {
+            ndjson.append("{\"seriesId\":1,\"value\":20.5,\"timestamp\":\"2025-11-08T12:00:00Z\"}\n");
+        }
+
+        // Act
+        MeasurementImportResponse response = importService.importMeasurements(
+                input(ndjson.toString()), ExportFormat.NDJSON, "admin");
+
+        // Assert
+        assertThat(response.getImported()).isEqualTo(rows);
+        assertThat(response.getRejected()).isZero();
+        verify(measurementRepository).allocateIds(MeasurementImportService.CHUNK_SIZE);
+        verify(measurementRepository).allocateIds(1);
+        verify(measurementRepository, times(2)).copyIn(anyList(), eq(3));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should limit the number of listed rejections but count all of them")
+    void shouldLimitListedRejections() throws IOException {
+        // Arrange
+        String ndjson = "not json\n".repeat(MeasurementImportService.MAX_REPORTED_REJECTIONS + 5);
+
+        // Act
+        MeasurementImportResponse response = importService.importMeasurements(
+                input(ndjson), ExportFormat.NDJSON, "admin");
+
+        // Assert
+        assertThat(response.getImported()).isZero();
+        assertThat(response.getRejected()).isEqualTo(MeasurementImportService.MAX_REPORTED_REJECTIONS + 5);
+        assertThat(response.getRejections()).hasSize(MeasurementImportService.MAX_REPORTED_REJECTIONS);
+        assertThat(response.getRejections().get(0).getError()).startsWith("Malformed JSON");
+        verify(measurementRepository, never()).copyIn(anyList(), any());
+        verifyNoInteractions(transactionManager, eventPublisher, measurementService);
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when user does not exist")
+    void shouldThrowWhenUserDoesNotExist() {
+        // Arrange
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> importService.importMeasurements(input(""), ExportFormat.CSV, "ghost"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("User not found: ghost");
+        verifyNoInteractions(measurementRepository);
+    }
+}
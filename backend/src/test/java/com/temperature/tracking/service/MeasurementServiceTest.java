@@ -1,36 +1,62 @@
 package com.temperature.tracking.service;
 
+import com.temperature.tracking.coldstorage.ColdStorageService;
+import com.temperature.tracking.dto.MeasurementBatchItemResult;
+import com.temperature.tracking.dto.MeasurementBatchResponse;
+import com.temperature.tracking.dto.MeasurementColumns;
+import com.temperature.tracking.dto.MeasurementCursor;
+import com.temperature.tracking.dto.MeasurementPageResponse;
+import com.temperature.tracking.dto.MeasurementPoint;
+import com.temperature.tracking.downsampling.DownsamplingMethod;
 import com.temperature.tracking.dto.MeasurementRequest;
 import com.temperature.tracking.dto.MeasurementResponse;
+import com.temperature.tracking.dto.SeriesMetadata;
 import com.temperature.tracking.entity.Measurement;
+import com.temperature.tracking.entity.MeasurementRollup;
+import com.temperature.tracking.entity.RollupGranularity;
 import com.temperature.tracking.entity.Series;
 import com.temperature.tracking.entity.User;
+import com.temperature.tracking.event.ChangeType;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
 import com.temperature.tracking.exception.ResourceNotFoundException;
 import com.temperature.tracking.exception.ValidationException;
+import com.temperature.tracking.hotwindow.HotWindowStore;
 import com.temperature.tracking.repository.MeasurementRepository;
-import com.temperature.tracking.repository.SeriesRepository;
+import com.temperature.tracking.repository.MeasurementRollupRepository;
 import com.temperature.tracking.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -46,11 +72,32 @@ class MeasurementServiceTest {
     private MeasurementRepository measurementRepository;
 
     @Mock
-    private SeriesRepository seriesRepository;
+    private SeriesMetadataCache seriesMetadataCache;
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private HotWindowStore hotWindowStore;
+
+    @Mock
+    private ColdStorageService coldStorageService;
+
+    @Mock
+    private MeasurementRollupRepository rollupRepository;
+
     @InjectMocks
     private MeasurementService measurementService;
 
@@ -83,6 +130,17 @@ class MeasurementServiceTest {
         testMeasurement.setTimestamp(testTimestamp);
         testMeasurement.setCreatedBy(testUser);
         testMeasurement.setCreatedAt(testTimestamp);
+
+        // Inserts reference series by key only, like a lazy proxy
+        lenient().when(entityManager.getReference(eq(Series.class), any())).thenAnswer(invocation -> {
+            Series reference = new Series();
+            reference.setId(invocation.getArgument(1));
+            return reference;
+        });
+    }
+
+    private static List<MeasurementResponse> responses(Measurement... measurements) {
+        return Arrays.stream(measurements).map(MeasurementResponse::fromEntity).toList();
     }
 
     @Nested
@@ -101,8 +159,7 @@ class MeasurementServiceTest {
             measurement2.setCreatedBy(testUser);
             measurement2.setCreatedAt(testTimestamp.plusHours(1));
 
-            List<Measurement> measurements = Arrays.asList(testMeasurement, measurement2);
-            when(measurementRepository.findAll()).thenReturn(measurements);
+            when(measurementRepository.findAllResponses()).thenReturn(responses(testMeasurement, measurement2));
 
             // Act
             List<MeasurementResponse> result = measurementService.getAllMeasurements();
@@ -114,28 +171,28 @@ class MeasurementServiceTest {
             assertThat(result.get(1).getId()).isEqualTo(2);
             assertThat(result.get(1).getValue()).isEqualByComparingTo(new BigDecimal("24.75"));
 
-            verify(measurementRepository, times(1)).findAll();
+            verify(measurementRepository, times(1)).findAllResponses();
         }
 
         @Test
         @DisplayName("Should return empty list when no measurements exist")
         void shouldReturnEmptyListWhenNoMeasurementsExist() {
             // Arrange
-            when(measurementRepository.findAll()).thenReturn(Collections.emptyList());
+            when(measurementRepository.findAllResponses()).thenReturn(Collections.emptyList());
 
             // Act
             List<MeasurementResponse> result = measurementService.getAllMeasurements();
 
             // Assert
             assertThat(result).isEmpty();
-            verify(measurementRepository, times(1)).findAll();
+            verify(measurementRepository, times(1)).findAllResponses();
         }
 
         @Test
-        @DisplayName("Should correctly map entity fields to response DTO")
-        void shouldCorrectlyMapEntityFieldsToResponseDto() {
+        @DisplayName("Should return the projected responses unchanged")
+        void shouldReturnProjectedResponsesUnchanged() {
             // Arrange
-            when(measurementRepository.findAll()).thenReturn(Collections.singletonList(testMeasurement));
+            when(measurementRepository.findAllResponses()).thenReturn(responses(testMeasurement));
 
             // Act
             List<MeasurementResponse> result = measurementService.getAllMeasurements();
@@ -162,7 +219,7 @@ class MeasurementServiceTest {
         @DisplayName("Should return measurement when valid ID is provided")
         void shouldReturnMeasurementWhenValidIdIsProvided() {
             // Arrange
-            when(measurementRepository.findById(1)).thenReturn(Optional.of(testMeasurement));
+            when(measurementRepository.findResponseById(1)).thenReturn(Optional.of(MeasurementResponse.fromEntity(testMeasurement)));
 
             // Act
             MeasurementResponse result = measurementService.getMeasurementById(1);
@@ -173,41 +230,41 @@ class MeasurementServiceTest {
             assertThat(result.getValue()).isEqualByComparingTo(new BigDecimal("23.50"));
             assertThat(result.getSeriesId()).isEqualTo(testSeries.getId());
 
-            verify(measurementRepository, times(1)).findById(1);
+            verify(measurementRepository, times(1)).findResponseById(1);
         }
 
         @Test
         @DisplayName("Should throw ResourceNotFoundException when measurement not found")
         void shouldThrowResourceNotFoundExceptionWhenMeasurementNotFound() {
             // Arrange
-            when(measurementRepository.findById(999)).thenReturn(Optional.empty());
+            when(measurementRepository.findResponseById(999)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> measurementService.getMeasurementById(999))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessage("Measurement not found with id: 999");
 
-            verify(measurementRepository, times(1)).findById(999);
+            verify(measurementRepository, times(1)).findResponseById(999);
         }
 
         @Test
         @DisplayName("Should throw ResourceNotFoundException when ID is null")
         void shouldThrowExceptionWhenIdIsNull() {
             // Arrange
-            when(measurementRepository.findById(null)).thenReturn(Optional.empty());
+            when(measurementRepository.findResponseById(null)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> measurementService.getMeasurementById(null))
                     .isInstanceOf(ResourceNotFoundException.class);
 
-            verify(measurementRepository, times(1)).findById(null);
+            verify(measurementRepository, times(1)).findResponseById(null);
         }
 
         @Test
-        @DisplayName("Should correctly map all fields from entity")
-        void shouldCorrectlyMapAllFieldsFromEntity() {
+        @DisplayName("Should return all fields of the projected response")
+        void shouldReturnAllFieldsOfProjectedResponse() {
             // Arrange
-            when(measurementRepository.findById(1)).thenReturn(Optional.of(testMeasurement));
+            when(measurementRepository.findResponseById(1)).thenReturn(Optional.of(MeasurementResponse.fromEntity(testMeasurement)));
 
             // Act
             MeasurementResponse result = measurementService.getMeasurementById(1);
@@ -239,8 +296,7 @@ class MeasurementServiceTest {
             measurement2.setCreatedBy(testUser);
             measurement2.setCreatedAt(testTimestamp.plusHours(2));
 
-            List<Measurement> measurements = Arrays.asList(testMeasurement, measurement2);
-            when(measurementRepository.findBySeriesId(1)).thenReturn(measurements);
+            when(measurementRepository.findResponsesBySeriesId(1)).thenReturn(responses(testMeasurement, measurement2));
 
             // Act
             List<MeasurementResponse> result = measurementService.getMeasurementsBySeriesId(1);
@@ -252,35 +308,35 @@ class MeasurementServiceTest {
             assertThat(result.get(0).getValue()).isEqualByComparingTo(new BigDecimal("23.50"));
             assertThat(result.get(1).getValue()).isEqualByComparingTo(new BigDecimal("25.00"));
 
-            verify(measurementRepository, times(1)).findBySeriesId(1);
+            verify(measurementRepository, times(1)).findResponsesBySeriesId(1);
         }
 
         @Test
         @DisplayName("Should return empty list when series has no measurements")
         void shouldReturnEmptyListWhenSeriesHasNoMeasurements() {
             // Arrange
-            when(measurementRepository.findBySeriesId(1)).thenReturn(Collections.emptyList());
+            when(measurementRepository.findResponsesBySeriesId(1)).thenReturn(Collections.emptyList());
 
             // Act
             List<MeasurementResponse> result = measurementService.getMeasurementsBySeriesId(1);
 
             // Assert
             assertThat(result).isEmpty();
-            verify(measurementRepository, times(1)).findBySeriesId(1);
+            verify(measurementRepository, times(1)).findResponsesBySeriesId(1);
         }
 
         @Test
         @DisplayName("Should return empty list when series does not exist")
         void shouldReturnEmptyListWhenSeriesDoesNotExist() {
             // Arrange
-            when(measurementRepository.findBySeriesId(999)).thenReturn(Collections.emptyList());
+            when(measurementRepository.findResponsesBySeriesId(999)).thenReturn(Collections.emptyList());
 
             // Act
             List<MeasurementResponse> result = measurementService.getMeasurementsBySeriesId(999);
 
             // Assert
             assertThat(result).isEmpty();
-            verify(measurementRepository, times(1)).findBySeriesId(999);
+            verify(measurementRepository, times(1)).findResponsesBySeriesId(999);
         }
 
         @Test
@@ -303,8 +359,8 @@ class MeasurementServiceTest {
             lateMeasurement.setCreatedBy(testUser);
             lateMeasurement.setCreatedAt(testTimestamp.plusHours(2));
 
-            when(measurementRepository.findBySeriesId(1))
-                    .thenReturn(Arrays.asList(earlyMeasurement, lateMeasurement));
+            when(measurementRepository.findResponsesBySeriesId(1))
+                    .thenReturn(responses(earlyMeasurement, lateMeasurement));
 
             // Act
             List<MeasurementResponse> result = measurementService.getMeasurementsBySeriesId(1);
@@ -316,6 +372,354 @@ class MeasurementServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Measurements By Series ID In Range")
+    class GetMeasurementsInRange {
+
+        @Test
+        @DisplayName("Should push time range down to the repository")
+        void shouldPushTimeRangeDownToRepository() {
+            // Arrange
+            ZonedDateTime from = testTimestamp.minusDays(1);
+            ZonedDateTime to = testTimestamp.plusDays(1);
+            when(measurementRepository.findResponsesBySeriesIdInRange(eq(1), eq(from), eq(to), any()))
+                    .thenReturn(responses(testMeasurement));
+
+            // Act
+            List<MeasurementResponse> result = measurementService.getMeasurementsBySeriesId(1, from, to);
+
+            // Assert
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getId()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should reject a range whose start is not before its end")
+        void shouldRejectInvertedRange() {
+            assertThatThrownBy(() -> measurementService.getMeasurementsBySeriesId(1, testTimestamp, testTimestamp))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Range start must be before range end");
+
+            verifyNoInteractions(measurementRepository);
+        }
+
+        @Test
+        @DisplayName("Should return next cursor when more measurements follow")
+        void shouldReturnNextCursorWhenMoreMeasurementsFollow() {
+            // Arrange
+            Measurement measurement2 = new Measurement();
+            measurement2.setId(2);
+            measurement2.setSeries(testSeries);
+            measurement2.setValue(new BigDecimal("24.00"));
+            measurement2.setTimestamp(testTimestamp.plusMinutes(1));
+
+            when(measurementRepository.findResponsesBySeriesIdInRange(eq(1), any(), any(), eq(PageRequest.ofSize(2))))
+                    .thenReturn(responses(testMeasurement, measurement2));
+
+            // Act
+            MeasurementPageResponse page = measurementService.getMeasurementPage(1, null, null, null, 1);
+
+            // Assert
+            assertThat(page.getItems()).hasSize(1);
+            assertThat(page.getNextCursor()).isNotNull();
+            MeasurementCursor cursor = MeasurementCursor.decode(page.getNextCursor());
+            assertThat(cursor.id()).isEqualTo(1);
+            assertThat(cursor.timestamp().toInstant()).isEqualTo(testTimestamp.toInstant());
+        }
+
+        @Test
+        @DisplayName("Should continue after the cursor position and end pagination")
+        void shouldContinueAfterCursorPosition() {
+            // Arrange
+            String cursor = new MeasurementCursor(testTimestamp.minusMinutes(1), 7).encode();
+            when(measurementRepository.findResponsesBySeriesIdInRangeAfter(
+                    eq(1), any(), any(), any(ZonedDateTime.class), eq(7), eq(PageRequest.ofSize(11))))
+                    .thenReturn(responses(testMeasurement));
+
+            // Act
+            MeasurementPageResponse page = measurementService.getMeasurementPage(1, null, null, cursor, 10);
+
+            // Assert
+            assertThat(page.getItems()).hasSize(1);
+            assertThat(page.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject malformed cursor and out of range limit")
+        void shouldRejectMalformedCursorAndLimit() {
+            assertThatThrownBy(() -> measurementService.getMeasurementPage(1, null, null, "not-a-cursor", 10))
+                    .isInstanceOf(ValidationException.class);
+            assertThatThrownBy(() -> measurementService.getMeasurementPage(1, null, null, null, 0))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Limit must be between 1 and 5000");
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Downsampled Measurements")
+    class GetDownsampledMeasurements {
+
+        @Test
+        @DisplayName("Should stream points through the downsampler")
+        void shouldStreamPointsThroughDownsampler() {
+            // Arrange
+            ZonedDateTime from = testTimestamp;
+            ZonedDateTime to = testTimestamp.plusHours(1);
+            Stream<MeasurementPoint> points = Stream.iterate(0, i -> i + 1).limit(60)
+                    .map(i -> new MeasurementPoint(i, testTimestamp.plusMinutes(i), BigDecimal.valueOf(i)));
+
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
+            when(measurementRepository.streamPointsBySeriesIdInRange(1, from, to)).thenReturn(points);
+
+            // Act
+            List<MeasurementResponse> result = measurementService.getDownsampledMeasurements(
+                    1, from, to, 6, DownsamplingMethod.AVG);
+
+            // Assert
+            assertThat(result).hasSize(6);
+            assertThat(result.get(0).getSeriesName()).isEqualTo("Temperature");
+            assertThat(result.get(0).getValue()).isEqualByComparingTo("4.50");
+            verify(measurementRepository, never()).findResponsesBySeriesId(anyInt());
+        }
+
+        @Test
+        @DisplayName("Should serve recent ranges from the hot window without querying measurements")
+        void shouldServeRecentRangesFromHotWindow() {
+            // Arrange
+            ZonedDateTime from = testTimestamp;
+            ZonedDateTime to = testTimestamp.plusHours(1);
+            Stream<MeasurementPoint> points = Stream.iterate(0, i -> i + 1).limit(60)
+                    .map(i -> new MeasurementPoint(i, testTimestamp.plusMinutes(i), BigDecimal.valueOf(i)));
+
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
+            when(hotWindowStore.findPoints(1, from, to)).thenReturn(Optional.of(points));
+
+            // Act
+            List<MeasurementResponse> result = measurementService.getDownsampledMeasurements(
+                    1, from, to, 6, DownsamplingMethod.AVG);
+
+            // Assert
+            assertThat(result).hasSize(6);
+            assertThat(result.get(5).getValue()).isEqualByComparingTo("54.50");
+            verify(measurementRepository, never()).streamPointsBySeriesIdInRange(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should fall back to rollup averages where raw measurements have expired")
+        void shouldFallBackToRollupsForExpiredRange() {
+            // Arrange
+            testSeries.setRawRetentionDays(30);
+            ZonedDateTime rawCutoff = ZonedDateTime.now().minusDays(30).truncatedTo(ChronoUnit.DAYS);
+            ZonedDateTime from = rawCutoff.minusHours(1);
+            ZonedDateTime to = rawCutoff.plusHours(1);
+            Stream<MeasurementRollup> buckets = Stream.iterate(0, i -> i + 1).limit(60)
+                    .map(i -> new MeasurementRollup(1, RollupGranularity.MINUTE, from.plusMinutes(i), 2L,
+                            BigDecimal.valueOf(2L * i), BigDecimal.valueOf(i), BigDecimal.valueOf(i)));
+            Stream<MeasurementPoint> points = Stream.iterate(0, i -> i + 1).limit(60)
+                    .map(i -> new MeasurementPoint(i, rawCutoff.plusMinutes(i), BigDecimal.valueOf(60 + i)));
+
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
+            when(rollupRepository.streamBuckets(1, RollupGranularity.MINUTE, from, rawCutoff)).thenReturn(buckets);
+            when(measurementRepository.streamPointsBySeriesIdInRange(1, rawCutoff, to)).thenReturn(points);
+
+            // Act
+            List<MeasurementResponse> result = measurementService.getDownsampledMeasurements(
+                    1, from, to, 4, DownsamplingMethod.AVG);
+
+            // Assert
+            assertThat(result).hasSize(4);
+            assertThat(result.get(0).getValue()).isEqualByComparingTo("14.50");
+            assertThat(result.get(3).getValue()).isEqualByComparingTo("104.50");
+            verify(measurementRepository, never()).streamPointsBySeriesIdInRange(1, from, to);
+        }
+
+        @Test
+        @DisplayName("Should return empty list for a series without measurements")
+        void shouldReturnEmptyListForEmptySeries() {
+            // Arrange
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
+            when(measurementRepository.findFirstTimestampBySeriesId(1)).thenReturn(Optional.empty());
+            when(measurementRepository.findLastTimestampBySeriesId(1)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThat(measurementService.getDownsampledMeasurements(1, null, null, 100, DownsamplingMethod.LTTB))
+                    .isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should return empty list when the range starts after the last measurement")
+        void shouldReturnEmptyListWhenFromIsAfterLastMeasurement() {
+            // Arrange
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
+            when(measurementRepository.findLastTimestampBySeriesId(1)).thenReturn(Optional.of(testTimestamp));
+
+            // Act & Assert
+            assertThat(measurementService.getDownsampledMeasurements(
+                    1, testTimestamp.plusHours(1), null, 100, DownsamplingMethod.LTTB)).isEmpty();
+            verify(measurementRepository, never()).streamPointsBySeriesIdInRange(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject a given range whose start is not before its end")
+        void shouldRejectReversedRange() {
+            // Arrange
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
+
+            // Act & Assert
+            assertThatThrownBy(() -> measurementService.getDownsampledMeasurements(
+                    1, testTimestamp.plusHours(1), testTimestamp, 100, DownsamplingMethod.LTTB))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Range start must be before range end");
+        }
+
+        @Test
+        @DisplayName("Should reject maxPoints outside of the allowed range")
+        void shouldRejectInvalidMaxPoints() {
+            assertThatThrownBy(() -> measurementService.getDownsampledMeasurements(
+                    1, null, null, 2, DownsamplingMethod.LTTB))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("maxPoints must be between 3 and 10000");
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when series not found")
+        void shouldThrowWhenSeriesNotFound() {
+            when(seriesMetadataCache.get(999)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> measurementService.getDownsampledMeasurements(
+                    999, null, null, 100, DownsamplingMethod.LTTB))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Series not found with id: 999");
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Measurement Columns")
+    class GetMeasurementColumns {
+
+        @Test
+        @DisplayName("Should return timestamps and values of all points in the range")
+        void shouldReturnColumnsOfRawPoints() {
+            // Arrange
+            ZonedDateTime from = testTimestamp;
+            ZonedDateTime to = testTimestamp.plusHours(1);
+            when(measurementRepository.streamPointsBySeriesIdInRange(1, from, to)).thenReturn(Stream.of(
+                    new MeasurementPoint(1, testTimestamp, new BigDecimal("21.50")),
+                    new MeasurementPoint(2, testTimestamp.plusMinutes(1), new BigDecimal("22.00"))));
+
+            // Act
+            MeasurementColumns result = measurementService.getMeasurementColumns(1, from, to, null, null);
+
+            // Assert
+            long millis = testTimestamp.toInstant().toEpochMilli();
+            assertThat(result.seriesId()).isEqualTo(1);
+            assertThat(result.timestamps()).containsExactly(millis, millis + 60_000);
+            assertThat(result.values()).containsExactly(new BigDecimal("21.50"), new BigDecimal("22.00"));
+            verify(measurementRepository, never()).findResponsesBySeriesIdInRange(any(), any(), any(), any());
+            verifyNoInteractions(seriesMetadataCache);
+        }
+
+        @Test
+        @DisplayName("Should return the columns of downsampled points")
+        void shouldReturnColumnsOfDownsampledPoints() {
+            // Arrange
+            ZonedDateTime from = testTimestamp;
+            ZonedDateTime to = testTimestamp.plusHours(1);
+            Stream<MeasurementPoint> points = Stream.iterate(0, i -> i + 1).limit(60)
+                    .map(i -> new MeasurementPoint(i, testTimestamp.plusMinutes(i), BigDecimal.valueOf(i)));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
+            when(measurementRepository.streamPointsBySeriesIdInRange(1, from, to)).thenReturn(points);
+
+            // Act
+            MeasurementColumns result = measurementService.getMeasurementColumns(
+                    1, from, to, 6, DownsamplingMethod.AVG);
+
+            // Assert
+            assertThat(result.size()).isEqualTo(6);
+            assertThat(result.values()[0]).isEqualByComparingTo("4.50");
+        }
+    }
+
+    @Nested
+    @DisplayName("Sealed Measurements")
+    class SealedMeasurements {
+
+        private MeasurementResponse sealed(int id, ZonedDateTime timestamp) {
+            return new MeasurementResponse(id, 1, "Temperature", new BigDecimal("20.00"), timestamp, null, null, null);
+        }
+
+        @Test
+        @DisplayName("Should look up a measurement missing from the table in the sealed blocks")
+        void shouldFindSealedMeasurementById() {
+            // Arrange
+            when(measurementRepository.findResponseById(5)).thenReturn(Optional.empty());
+            when(coldStorageService.findResponseById(5)).thenReturn(Optional.of(sealed(5, testTimestamp.minusDays(40))));
+
+            // Act
+            MeasurementResponse result = measurementService.getMeasurementById(5);
+
+            // Assert
+            assertThat(result.getId()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should merge sealed and table measurements into one page in timestamp order")
+        void shouldMergeSealedMeasurementsIntoPage() {
+            // Arrange
+            when(measurementRepository.findResponsesBySeriesIdInRange(eq(1), any(), any(), eq(PageRequest.ofSize(3))))
+                    .thenReturn(responses(testMeasurement));
+            when(coldStorageService.findResponses(eq(1), any(), any(), eq(null), eq(3)))
+                    .thenReturn(List.of(sealed(5, testTimestamp.minusDays(41)), sealed(6, testTimestamp.minusDays(40))));
+
+            // Act
+            MeasurementPageResponse page = measurementService.getMeasurementPage(1, null, null, null, 2);
+
+            // Assert
+            assertThat(page.getItems()).extracting(MeasurementResponse::getId).containsExactly(5, 6);
+            assertThat(MeasurementCursor.decode(page.getNextCursor()).id()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("Should downsample sealed points together with the table rows")
+        void shouldDownsampleSealedPoints() {
+            // Arrange
+            ZonedDateTime from = testTimestamp.minusDays(40);
+            ZonedDateTime to = testTimestamp.plusMinutes(1);
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
+            when(measurementRepository.streamPointsBySeriesIdInRange(1, from, to)).thenReturn(Stream.of(
+                    new MeasurementPoint(9, testTimestamp, new BigDecimal("30.00"))));
+            when(coldStorageService.streamPoints(1, from, to)).thenReturn(Stream.of(
+                    new MeasurementPoint(5, from, new BigDecimal("10.00")),
+                    new MeasurementPoint(6, from.plusDays(1), new BigDecimal("20.00"))));
+
+            // Act
+            List<MeasurementResponse> result = measurementService.getDownsampledMeasurements(
+                    1, from, to, 3, DownsamplingMethod.LTTB);
+
+            // Assert
+            assertThat(result).extracting(MeasurementResponse::getId).containsExactly(5, 6, 9);
+        }
+
+        @Test
+        @DisplayName("Should unseal a measurement before updating it")
+        void shouldUnsealBeforeUpdate() {
+            // Arrange
+            MeasurementRequest request = new MeasurementRequest(null, new BigDecimal("25.00"), testTimestamp);
+            when(measurementRepository.findById(1)).thenReturn(Optional.empty(), Optional.of(testMeasurement));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
+            when(coldStorageService.unseal(1)).thenReturn(true);
+            when(measurementRepository.save(any(Measurement.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            MeasurementResponse result = measurementService.updateMeasurement(1, request);
+
+            // Assert
+            assertThat(result.getValue()).isEqualByComparingTo("25.00");
+            verify(coldStorageService).unseal(1);
+            verify(measurementRepository, times(2)).findById(1);
+        }
+    }
+
     @Nested
     @DisplayName("Create Measurement")
     class CreateMeasurement {
@@ -331,7 +735,7 @@ class MeasurementServiceTest {
             );
 
             when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-            when(seriesRepository.findById(1)).thenReturn(Optional.of(testSeries));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
             when(measurementRepository.save(any(Measurement.class))).thenReturn(testMeasurement);
 
             // Act
@@ -345,10 +749,34 @@ class MeasurementServiceTest {
             assertThat(result.getCreatedByUsername()).isEqualTo("admin");
 
             verify(userRepository, times(1)).findByUsername("admin");
-            verify(seriesRepository, times(1)).findById(1);
+            verify(seriesMetadataCache, times(1)).get(1);
             verify(measurementRepository, times(1)).save(any(Measurement.class));
         }
 
+        @Test
+        @DisplayName("Should reject a measurement older than the raw retention of the series")
+        void shouldRejectMeasurementOlderThanRetention() {
+            // Arrange
+            testSeries.setRawRetentionDays(30);
+            MeasurementRequest request = new MeasurementRequest(
+                    1,
+                    new BigDecimal("22.50"),
+                    ZonedDateTime.now().minusDays(31)
+            );
+
+            when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
+
+            // Act & Assert
+            assertThatThrownBy(() -> measurementService.createMeasurement(request, "admin"))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("older than the 30 day retention of series 'Temperature'");
+
+            verify(measurementRepository, never()).save(any(Measurement.class));
+            assertThat(meterRegistry.counter(MeasurementService.VALIDATION_REJECTIONS_METRIC,
+                    "reason", "expired").count()).isEqualTo(1.0);
+        }
+
         @Test
         @DisplayName("Should throw ResourceNotFoundException when user not found")
         void shouldThrowResourceNotFoundExceptionWhenUserNotFound() {
@@ -367,7 +795,7 @@ class MeasurementServiceTest {
                     .hasMessage("User not found: nonexistent");
 
             verify(userRepository, times(1)).findByUsername("nonexistent");
-            verify(seriesRepository, never()).findById(anyInt());
+            verify(seriesMetadataCache, never()).get(anyInt());
             verify(measurementRepository, never()).save(any(Measurement.class));
         }
 
@@ -382,7 +810,7 @@ class MeasurementServiceTest {
             );
 
             when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-            when(seriesRepository.findById(999)).thenReturn(Optional.empty());
+            when(seriesMetadataCache.get(999)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> measurementService.createMeasurement(request, "admin"))
@@ -390,7 +818,7 @@ class MeasurementServiceTest {
                     .hasMessage("Series not found with id: 999");
 
             verify(userRepository, times(1)).findByUsername("admin");
-            verify(seriesRepository, times(1)).findById(999);
+            verify(seriesMetadataCache, times(1)).get(999);
             verify(measurementRepository, never()).save(any(Measurement.class));
         }
 
@@ -405,10 +833,10 @@ class MeasurementServiceTest {
             );
 
             when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-            when(seriesRepository.findById(1)).thenReturn(Optional.of(testSeries));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
             when(measurementRepository.save(any(Measurement.class))).thenAnswer(invocation -> {
                 Measurement saved = invocation.getArgument(0);
-                assertThat(saved.getSeries()).isEqualTo(testSeries);
+                assertThat(saved.getSeries().getId()).isEqualTo(1);
                 assertThat(saved.getValue()).isEqualByComparingTo(new BigDecimal("22.50"));
                 assertThat(saved.getTimestamp()).isEqualTo(testTimestamp);
                 assertThat(saved.getCreatedBy()).isEqualTo(testUser);
@@ -441,7 +869,7 @@ class MeasurementServiceTest {
             negativeMeasurement.setCreatedAt(testTimestamp);
 
             when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-            when(seriesRepository.findById(1)).thenReturn(Optional.of(testSeries));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
             when(measurementRepository.save(any(Measurement.class))).thenReturn(negativeMeasurement);
 
             // Act
@@ -470,7 +898,7 @@ class MeasurementServiceTest {
             precisionMeasurement.setCreatedAt(testTimestamp);
 
             when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-            when(seriesRepository.findById(1)).thenReturn(Optional.of(testSeries));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
             when(measurementRepository.save(any(Measurement.class))).thenReturn(precisionMeasurement);
 
             // Act
@@ -504,7 +932,7 @@ class MeasurementServiceTest {
             updatedMeasurement.setCreatedAt(testTimestamp);
 
             when(measurementRepository.findById(1)).thenReturn(Optional.of(testMeasurement));
-            when(seriesRepository.findById(1)).thenReturn(Optional.of(testSeries));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
             when(measurementRepository.save(any(Measurement.class))).thenReturn(updatedMeasurement);
 
             // Act
@@ -516,7 +944,7 @@ class MeasurementServiceTest {
             assertThat(result.getTimestamp()).isEqualTo(testTimestamp.plusHours(1));
 
             verify(measurementRepository, times(1)).findById(1);
-            verify(seriesRepository, times(1)).findById(1);
+            verify(seriesMetadataCache, times(1)).get(1);
             verify(measurementRepository, times(1)).save(any(Measurement.class));
         }
 
@@ -538,7 +966,7 @@ class MeasurementServiceTest {
                     .hasMessage("Measurement not found with id: 999");
 
             verify(measurementRepository, times(1)).findById(999);
-            verify(seriesRepository, never()).findById(anyInt());
+            verify(seriesMetadataCache, never()).get(anyInt());
             verify(measurementRepository, never()).save(any(Measurement.class));
         }
 
@@ -558,10 +986,10 @@ class MeasurementServiceTest {
             );
 
             when(measurementRepository.findById(1)).thenReturn(Optional.of(testMeasurement));
-            when(seriesRepository.findById(2)).thenReturn(Optional.of(newSeries));
+            when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(newSeries)));
             when(measurementRepository.save(any(Measurement.class))).thenAnswer(invocation -> {
                 Measurement saved = invocation.getArgument(0);
-                assertThat(saved.getSeries()).isEqualTo(newSeries);
+                assertThat(saved.getSeries().getId()).isEqualTo(2);
                 return saved;
             });
 
@@ -569,7 +997,7 @@ class MeasurementServiceTest {
             measurementService.updateMeasurement(1, request);
 
             // Assert
-            verify(seriesRepository, times(1)).findById(2);
+            verify(seriesMetadataCache, times(1)).get(2);
             verify(measurementRepository, times(1)).save(any(Measurement.class));
         }
 
@@ -584,7 +1012,7 @@ class MeasurementServiceTest {
             );
 
             when(measurementRepository.findById(1)).thenReturn(Optional.of(testMeasurement));
-            when(seriesRepository.findById(999)).thenReturn(Optional.empty());
+            when(seriesMetadataCache.get(999)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> measurementService.updateMeasurement(1, request))
@@ -592,7 +1020,7 @@ class MeasurementServiceTest {
                     .hasMessage("Series not found with id: 999");
 
             verify(measurementRepository, times(1)).findById(1);
-            verify(seriesRepository, times(1)).findById(999);
+            verify(seriesMetadataCache, times(1)).get(999);
             verify(measurementRepository, never()).save(any(Measurement.class));
         }
 
@@ -607,6 +1035,7 @@ class MeasurementServiceTest {
             );
 
             when(measurementRepository.findById(1)).thenReturn(Optional.of(testMeasurement));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
             when(measurementRepository.save(any(Measurement.class))).thenAnswer(invocation -> {
                 Measurement saved = invocation.getArgument(0);
                 // Series should remain unchanged
@@ -618,7 +1047,7 @@ class MeasurementServiceTest {
             measurementService.updateMeasurement(1, request);
 
             // Assert
-            verify(seriesRepository, never()).findById(anyInt());
+            verify(entityManager, never()).getReference(eq(Series.class), any());
             verify(measurementRepository, times(1)).save(any(Measurement.class));
         }
 
@@ -641,7 +1070,7 @@ class MeasurementServiceTest {
             updatedMeasurement.setCreatedAt(testTimestamp);
 
             when(measurementRepository.findById(1)).thenReturn(Optional.of(testMeasurement));
-            when(seriesRepository.findById(1)).thenReturn(Optional.of(testSeries));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
             when(measurementRepository.save(any(Measurement.class))).thenReturn(updatedMeasurement);
 
             // Act
@@ -717,6 +1146,185 @@ class MeasurementServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Create Measurements Batch")
+    class CreateMeasurementsBatch {
+
+        @Test
+        @DisplayName("Should load user and series once for the whole batch")
+        void shouldLoadUserAndSeriesOnceForWholeBatch() {
+            // Arrange
+            List<MeasurementRequest> requests = Arrays.asList(
+                    new MeasurementRequest(1, new BigDecimal("21.00"), testTimestamp),
+                    new MeasurementRequest(1, new BigDecimal("22.00"), testTimestamp.plusMinutes(1)),
+                    new MeasurementRequest(1, new BigDecimal("23.00"), testTimestamp.plusMinutes(2))
+            );
+
+            when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
+            when(seriesMetadataCache.getAll(any())).thenReturn(Map.of(1, SeriesMetadata.of(testSeries)));
+            when(measurementRepository.save(any(Measurement.class))).thenAnswer(invocation -> {
+                Measurement measurement = invocation.getArgument(0);
+                measurement.setId(100);
+                return measurement;
+            });
+
+            // Act
+            MeasurementBatchResponse result = measurementService.createMeasurements(requests, "admin");
+
+            // Assert
+            assertThat(result.getAccepted()).isEqualTo(3);
+            assertThat(result.getRejected()).isZero();
+            assertThat(result.getResults()).extracting(MeasurementBatchItemResult::getStatus)
+                    .containsOnly(MeasurementBatchItemResult.Status.CREATED);
+
+            verify(userRepository, times(1)).findByUsername("admin");
+            verify(seriesMetadataCache, times(1)).getAll(any());
+            verify(seriesMetadataCache, never()).get(anyInt());
+            verify(measurementRepository, times(3)).save(any(Measurement.class));
+        }
+
+        @Test
+        @DisplayName("Should reject out of range and unknown series items without failing the batch")
+        void shouldRejectInvalidItemsWithoutFailingBatch() {
+            // Arrange
+            testSeries.setMinValue(new BigDecimal("-10.00"));
+            testSeries.setMaxValue(new BigDecimal("40.00"));
+
+            List<MeasurementRequest> requests = Arrays.asList(
+                    new MeasurementRequest(1, new BigDecimal("21.00"), testTimestamp),
+                    new MeasurementRequest(1, new BigDecimal("45.00"), testTimestamp),
+                    new MeasurementRequest(999, new BigDecimal("21.00"), testTimestamp)
+            );
+
+            when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
+            when(seriesMetadataCache.getAll(any())).thenReturn(Map.of(1, SeriesMetadata.of(testSeries)));
+            when(measurementRepository.save(any(Measurement.class))).thenReturn(testMeasurement);
+
+            // Act
+            MeasurementBatchResponse result = measurementService.createMeasurements(requests, "admin");
+
+            // Assert
+            assertThat(result.getAccepted()).isEqualTo(1);
+            assertThat(result.getRejected()).isEqualTo(2);
+            assertThat(result.getResults().get(0).getStatus()).isEqualTo(MeasurementBatchItemResult.Status.CREATED);
+            assertThat(result.getResults().get(0).getId()).isEqualTo(1);
+            assertThat(result.getResults().get(1).getIndex()).isEqualTo(1);
+            assertThat(result.getResults().get(1).getError())
+                    .isEqualTo("Measurement value 45.00 exceeds the maximum allowed value 40.00 for series 'Temperature'");
+            assertThat(result.getResults().get(2).getError()).isEqualTo("Series not found with id: 999");
+
+            verify(measurementRepository, times(1)).save(any(Measurement.class));
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when user not found")
+        void shouldThrowResourceNotFoundExceptionWhenUserNotFound() {
+            // Arrange
+            List<MeasurementRequest> requests = Collections.singletonList(
+                    new MeasurementRequest(1, new BigDecimal("21.00"), testTimestamp));
+
+            when(userRepository.findByUsername("nonexistent")).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> measurementService.createMeasurements(requests, "nonexistent"))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("User not found: nonexistent");
+
+            verify(measurementRepository, never()).save(any(Measurement.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Publish Change Events")
+    class PublishChangeEvents {
+
+        @Test
+        @DisplayName("Should publish created event with snapshot of saved measurement")
+        void shouldPublishCreatedEvent() {
+            // Arrange
+            MeasurementRequest request = new MeasurementRequest(1, new BigDecimal("23.50"), testTimestamp);
+            when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
+            when(measurementRepository.save(any(Measurement.class))).thenReturn(testMeasurement);
+
+            // Act
+            measurementService.createMeasurement(request, "admin");
+
+            // Assert
+            ArgumentCaptor<MeasurementChangedEvent> captor = ArgumentCaptor.forClass(MeasurementChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            MeasurementChangedEvent event = captor.getValue();
+            assertThat(event.type()).isEqualTo(ChangeType.CREATED);
+            assertThat(event.current()).containsExactly(
+                    new MeasurementSnapshot(1, 1, testTimestamp, new BigDecimal("23.50")));
+            assertThat(event.previous()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should publish updated event with state before and after the change")
+        void shouldPublishUpdatedEventWithPreviousState() {
+            // Arrange
+            ZonedDateTime newTimestamp = testTimestamp.plusHours(2);
+            MeasurementRequest request = new MeasurementRequest(null, new BigDecimal("10.00"), newTimestamp);
+            when(measurementRepository.findById(1)).thenReturn(Optional.of(testMeasurement));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
+            when(measurementRepository.save(any(Measurement.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            measurementService.updateMeasurement(1, request);
+
+            // Assert
+            ArgumentCaptor<MeasurementChangedEvent> captor = ArgumentCaptor.forClass(MeasurementChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            MeasurementChangedEvent event = captor.getValue();
+            assertThat(event.type()).isEqualTo(ChangeType.UPDATED);
+            assertThat(event.previous()).containsExactly(
+                    new MeasurementSnapshot(1, 1, testTimestamp, new BigDecimal("23.50")));
+            assertThat(event.current()).containsExactly(
+                    new MeasurementSnapshot(1, 1, newTimestamp, new BigDecimal("10.00")));
+        }
+
+        @Test
+        @DisplayName("Should publish deleted event with snapshot of removed measurement")
+        void shouldPublishDeletedEvent() {
+            // Arrange
+            when(measurementRepository.findById(1)).thenReturn(Optional.of(testMeasurement));
+
+            // Act
+            measurementService.deleteMeasurement(1);
+
+            // Assert
+            ArgumentCaptor<MeasurementChangedEvent> captor = ArgumentCaptor.forClass(MeasurementChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().type()).isEqualTo(ChangeType.DELETED);
+            assertThat(captor.getValue().previous()).extracting(MeasurementSnapshot::id).containsExactly(1);
+        }
+
+        @Test
+        @DisplayName("Should publish one event for all accepted batch items")
+        void shouldPublishSingleEventForBatch() {
+            // Arrange
+            List<MeasurementRequest> requests = List.of(
+                    new MeasurementRequest(1, new BigDecimal("20.00"), testTimestamp),
+                    new MeasurementRequest(99, new BigDecimal("21.00"), testTimestamp),
+                    new MeasurementRequest(1, new BigDecimal("22.00"), testTimestamp.plusMinutes(1))
+            );
+            when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
+            when(seriesMetadataCache.getAll(any())).thenReturn(Map.of(1, SeriesMetadata.of(testSeries)));
+            when(measurementRepository.save(any(Measurement.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            measurementService.createMeasurements(requests, "admin");
+
+            // Assert
+            ArgumentCaptor<MeasurementChangedEvent> captor = ArgumentCaptor.forClass(MeasurementChangedEvent.class);
+            verify(eventPublisher, times(1)).publishEvent(captor.capture());
+            assertThat(captor.getValue().current())
+                    .extracting(MeasurementSnapshot::value)
+                    .containsExactly(new BigDecimal("20.00"), new BigDecimal("22.00"));
+        }
+    }
+
     @Nested
     @DisplayName("Edge Cases and Boundary Conditions")
     class EdgeCasesAndBoundaryConditions {
@@ -740,7 +1348,7 @@ class MeasurementServiceTest {
             zeroMeasurement.setCreatedAt(testTimestamp);
 
             when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-            when(seriesRepository.findById(1)).thenReturn(Optional.of(testSeries));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
             when(measurementRepository.save(any(Measurement.class))).thenReturn(zeroMeasurement);
 
             // Act
@@ -770,7 +1378,7 @@ class MeasurementServiceTest {
             largeMeasurement.setCreatedAt(testTimestamp);
 
             when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-            when(seriesRepository.findById(1)).thenReturn(Optional.of(testSeries));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
             when(measurementRepository.save(any(Measurement.class))).thenReturn(largeMeasurement);
 
             // Act
@@ -800,7 +1408,7 @@ class MeasurementServiceTest {
             futureMeasurement.setCreatedAt(testTimestamp);
 
             when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-            when(seriesRepository.findById(1)).thenReturn(Optional.of(testSeries));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
             when(measurementRepository.save(any(Measurement.class))).thenReturn(futureMeasurement);
 
             // Act
@@ -830,7 +1438,7 @@ class MeasurementServiceTest {
             pastMeasurement.setCreatedAt(testTimestamp);
 
             when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-            when(seriesRepository.findById(1)).thenReturn(Optional.of(testSeries));
+            when(seriesMetadataCache.get(1)).thenReturn(Optional.of(SeriesMetadata.of(testSeries)));
             when(measurementRepository.save(any(Measurement.class))).thenReturn(pastMeasurement);
 
             // Act
@@ -893,7 +1501,7 @@ class MeasurementServiceTest {
                 savedMeasurement.setCreatedBy(testUser);
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(2)).thenReturn(Optional.of(seriesWithBounds));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(savedMeasurement);
 
                 // Act
@@ -923,7 +1531,7 @@ class MeasurementServiceTest {
                 savedMeasurement.setCreatedBy(testUser);
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(2)).thenReturn(Optional.of(seriesWithBounds));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(savedMeasurement);
 
                 // Act
@@ -953,7 +1561,7 @@ class MeasurementServiceTest {
                 savedMeasurement.setCreatedBy(testUser);
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(2)).thenReturn(Optional.of(seriesWithBounds));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(savedMeasurement);
 
                 // Act
@@ -976,7 +1584,7 @@ class MeasurementServiceTest {
                 );
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(2)).thenReturn(Optional.of(seriesWithBounds));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
 
                 // Act & Assert
                 assertThatThrownBy(() -> measurementService.createMeasurement(request, "admin"))
@@ -987,6 +1595,8 @@ class MeasurementServiceTest {
                         .hasMessageContaining("Bounded Temperature");
 
                 verify(measurementRepository, never()).save(any(Measurement.class));
+                assertThat(meterRegistry.counter(MeasurementService.VALIDATION_REJECTIONS_METRIC,
+                        "reason", "below_min").count()).isEqualTo(1.0);
             }
 
             @Test
@@ -1000,7 +1610,7 @@ class MeasurementServiceTest {
                 );
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(2)).thenReturn(Optional.of(seriesWithBounds));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
 
                 // Act & Assert
                 assertThatThrownBy(() -> measurementService.createMeasurement(request, "admin"))
@@ -1024,7 +1634,7 @@ class MeasurementServiceTest {
                 );
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(2)).thenReturn(Optional.of(seriesWithBounds));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
 
                 // Act & Assert
                 assertThatThrownBy(() -> measurementService.createMeasurement(request, "admin"))
@@ -1045,7 +1655,7 @@ class MeasurementServiceTest {
                 );
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(2)).thenReturn(Optional.of(seriesWithBounds));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
 
                 // Act & Assert
                 assertThatThrownBy(() -> measurementService.createMeasurement(request, "admin"))
@@ -1073,7 +1683,7 @@ class MeasurementServiceTest {
                 savedMeasurement.setCreatedBy(testUser);
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(3)).thenReturn(Optional.of(seriesNoBounds));
+                when(seriesMetadataCache.get(3)).thenReturn(Optional.of(SeriesMetadata.of(seriesNoBounds)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(savedMeasurement);
 
                 // Act
@@ -1103,7 +1713,7 @@ class MeasurementServiceTest {
                 savedMeasurement.setCreatedBy(testUser);
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(3)).thenReturn(Optional.of(seriesNoBounds));
+                when(seriesMetadataCache.get(3)).thenReturn(Optional.of(SeriesMetadata.of(seriesNoBounds)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(savedMeasurement);
 
                 // Act
@@ -1145,7 +1755,7 @@ class MeasurementServiceTest {
                 updatedMeasurement.setCreatedBy(testUser);
 
                 when(measurementRepository.findById(1)).thenReturn(Optional.of(existingMeasurement));
-                when(seriesRepository.findById(2)).thenReturn(Optional.of(seriesWithBounds));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(updatedMeasurement);
 
                 // Act
@@ -1182,6 +1792,7 @@ class MeasurementServiceTest {
                 updatedMeasurement.setCreatedBy(testUser);
 
                 when(measurementRepository.findById(1)).thenReturn(Optional.of(existingMeasurement));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(updatedMeasurement);
 
                 // Act
@@ -1218,6 +1829,7 @@ class MeasurementServiceTest {
                 updatedMeasurement.setCreatedBy(testUser);
 
                 when(measurementRepository.findById(1)).thenReturn(Optional.of(existingMeasurement));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(updatedMeasurement);
 
                 // Act
@@ -1247,6 +1859,7 @@ class MeasurementServiceTest {
                 );
 
                 when(measurementRepository.findById(1)).thenReturn(Optional.of(existingMeasurement));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
 
                 // Act & Assert
                 assertThatThrownBy(() -> measurementService.updateMeasurement(1, request))
@@ -1276,6 +1889,7 @@ class MeasurementServiceTest {
                 );
 
                 when(measurementRepository.findById(1)).thenReturn(Optional.of(existingMeasurement));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
 
                 // Act & Assert
                 assertThatThrownBy(() -> measurementService.updateMeasurement(1, request))
@@ -1306,7 +1920,7 @@ class MeasurementServiceTest {
                 );
 
                 when(measurementRepository.findById(1)).thenReturn(Optional.of(existingMeasurement));
-                when(seriesRepository.findById(2)).thenReturn(Optional.of(seriesWithBounds));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
 
                 // Act & Assert
                 assertThatThrownBy(() -> measurementService.updateMeasurement(1, request))
@@ -1345,7 +1959,7 @@ class MeasurementServiceTest {
                 updatedMeasurement.setCreatedBy(testUser);
 
                 when(measurementRepository.findById(1)).thenReturn(Optional.of(existingMeasurement));
-                when(seriesRepository.findById(3)).thenReturn(Optional.of(seriesNoBounds));
+                when(seriesMetadataCache.get(3)).thenReturn(Optional.of(SeriesMetadata.of(seriesNoBounds)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(updatedMeasurement);
 
                 // Act
@@ -1404,7 +2018,7 @@ class MeasurementServiceTest {
                 savedMeasurement.setCreatedBy(testUser);
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(4)).thenReturn(Optional.of(seriesOnlyMin));
+                when(seriesMetadataCache.get(4)).thenReturn(Optional.of(SeriesMetadata.of(seriesOnlyMin)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(savedMeasurement);
 
                 // Act
@@ -1426,7 +2040,7 @@ class MeasurementServiceTest {
                 );
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(4)).thenReturn(Optional.of(seriesOnlyMin));
+                when(seriesMetadataCache.get(4)).thenReturn(Optional.of(SeriesMetadata.of(seriesOnlyMin)));
 
                 // Act & Assert
                 assertThatThrownBy(() -> measurementService.createMeasurement(request, "admin"))
@@ -1454,7 +2068,7 @@ class MeasurementServiceTest {
                 savedMeasurement.setCreatedBy(testUser);
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(5)).thenReturn(Optional.of(seriesOnlyMax));
+                when(seriesMetadataCache.get(5)).thenReturn(Optional.of(SeriesMetadata.of(seriesOnlyMax)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(savedMeasurement);
 
                 // Act
@@ -1476,7 +2090,7 @@ class MeasurementServiceTest {
                 );
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(5)).thenReturn(Optional.of(seriesOnlyMax));
+                when(seriesMetadataCache.get(5)).thenReturn(Optional.of(SeriesMetadata.of(seriesOnlyMax)));
 
                 // Act & Assert
                 assertThatThrownBy(() -> measurementService.createMeasurement(request, "admin"))
@@ -1517,7 +2131,7 @@ class MeasurementServiceTest {
                 savedMeasurement.setCreatedBy(testUser);
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(6)).thenReturn(Optional.of(series));
+                when(seriesMetadataCache.get(6)).thenReturn(Optional.of(SeriesMetadata.of(series)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(savedMeasurement);
 
                 // Act
@@ -1554,7 +2168,7 @@ class MeasurementServiceTest {
                 savedMeasurement.setCreatedBy(testUser);
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(6)).thenReturn(Optional.of(series));
+                when(seriesMetadataCache.get(6)).thenReturn(Optional.of(SeriesMetadata.of(series)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(savedMeasurement);
 
                 // Act
@@ -1583,7 +2197,7 @@ class MeasurementServiceTest {
                 savedMeasurement.setCreatedBy(testUser);
 
                 when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-                when(seriesRepository.findById(2)).thenReturn(Optional.of(seriesWithBounds));
+                when(seriesMetadataCache.get(2)).thenReturn(Optional.of(SeriesMetadata.of(seriesWithBounds)));
                 when(measurementRepository.save(any(Measurement.class))).thenReturn(savedMeasurement);
 
                 // Act
@@ -0,0 +1,132 @@
+package com.temperature.tracking.service;
+
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
+import com.temperature.tracking.exception.ResourceNotFoundException;
+import com.temperature.tracking.repository.SeriesRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MeasurementStreamService.
+ * Emitters are mocked; delivery happens on virtual threads, so sends are verified with a timeout.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MeasurementStreamService Tests")
+class MeasurementStreamServiceTest {
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    private MeasurementStreamService streamService;
+
+    private MeasurementSnapshot measurement;
+
+    @BeforeEach
+    void setUp() {
+        streamService = new MeasurementStreamService(seriesRepository);
+        measurement = new MeasurementSnapshot(7, 1,
+                ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneId.of("UTC")), new BigDecimal("21.50"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when subscribing to unknown series")
+    void shouldThrowWhenSubscribingToUnknownSeries() {
+        // Arrange
+        when(seriesRepository.existsById(999)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> streamService.subscribe(999))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Series not found with id: 999");
+    }
+
+    @Test
+    @DisplayName("Should push created measurements to subscribers of their series only")
+    void shouldPushCreatedMeasurementsToSeriesSubscribers() throws IOException {
+        // Arrange
+        SseEmitter subscriber = mock(SseEmitter.class);
+        SseEmitter otherSeriesSubscriber = mock(SseEmitter.class);
+        streamService.register(1, subscriber);
+        streamService.register(2, otherSeriesSubscriber);
+
+        // Act
+        streamService.onMeasurementChanged(MeasurementChangedEvent.created(List.of(measurement)));
+
+        // Assert
+        verify(subscriber, timeout(1000)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(otherSeriesSubscriber, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("Should not push updates and deletions")
+    void shouldNotPushUpdatesAndDeletions() throws IOException {
+        // Arrange
+        SseEmitter subscriber = mock(SseEmitter.class);
+        streamService.register(1, subscriber);
+
+        // Act
+        streamService.onMeasurementChanged(MeasurementChangedEvent.updated(measurement, measurement));
+        streamService.onMeasurementChanged(MeasurementChangedEvent.deleted(measurement));
+
+        // Assert
+        verify(subscriber, after(200).never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("Should drop subscriber whose connection fails")
+    void shouldDropSubscriberWhenSendFails() throws IOException {
+        // Arrange
+        SseEmitter subscriber = mock(SseEmitter.class);
+        doThrow(new IOException("Broken pipe")).when(subscriber).send(any(SseEmitter.SseEventBuilder.class));
+        streamService.register(1, subscriber);
+
+        // Act
+        streamService.sendHeartbeat();
+
+        // Assert
+        verify(subscriber, timeout(1000)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(subscriber, after(200).never()).complete();
+        assertThat(streamService.getSubscriberCount(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop subscriber when its connection completes")
+    void shouldDropSubscriberOnCompletion() {
+        // Arrange
+        SseEmitter subscriber = mock(SseEmitter.class);
+        streamService.register(1, subscriber);
+        ArgumentCaptor<Runnable> onCompletion = ArgumentCaptor.forClass(Runnable.class);
+        verify(subscriber).onCompletion(onCompletion.capture());
+        assertThat(streamService.getSubscriberCount(1)).isEqualTo(1);
+
+        // Act
+        onCompletion.getValue().run();
+
+        // Assert
+        assertThat(streamService.getSubscriberCount(1)).isZero();
+    }
+}
@@ -0,0 +1,323 @@
+package com.temperature.tracking.service;
+
+import com.temperature.tracking.coldstorage.ColdStorageService;
+import com.temperature.tracking.dto.AggregateResponse;
+import com.temperature.tracking.dto.RollupBucketResponse;
+import com.temperature.tracking.dto.RollupTotals;
+import com.temperature.tracking.entity.MeasurementRollup;
+import com.temperature.tracking.entity.MeasurementRollupId;
+import com.temperature.tracking.entity.RollupGranularity;
+import com.temperature.tracking.event.MeasurementChangedEvent;
+import com.temperature.tracking.event.MeasurementSnapshot;
+import com.temperature.tracking.exception.ResourceNotFoundException;
+import com.temperature.tracking.exception.ValidationException;
+import com.temperature.tracking.repository.MeasurementRollupRepository;
+import com.temperature.tracking.repository.SeriesRepository;
+import com.temperature.tracking.retention.RetentionPolicy;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RollupService.
+ * Covers incremental maintenance from measurement change events and
+ * the decomposition of summary ranges into day, hour and minute buckets.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RollupService Tests")
+class RollupServiceTest {
+
+    @Mock
+    private MeasurementRollupRepository rollupRepository;
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private ColdStorageService coldStorageService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private RollupService rollupService;
+
+    private ZonedDateTime dayStart;
+
+    @BeforeEach
+    void setUp() {
+        dayStart = ZonedDateTime.of(2025, 11, 8, 0, 0, 0, 0, ZoneId.systemDefault());
+    }
+
+    @Nested
+    @DisplayName("Maintain Rollups")
+    class MaintainRollups {
+
+        @Test
+        @DisplayName("Should add created measurements to their buckets of every granularity")
+        @SuppressWarnings("unchecked")
+        void shouldAddCreatedMeasurementsToBuckets() {
+            // Arrange
+            MeasurementChangedEvent event = MeasurementChangedEvent.created(List.of(
+                    new MeasurementSnapshot(1, 1, dayStart.plusHours(12).plusSeconds(10), new BigDecimal("20.00")),
+                    new MeasurementSnapshot(2, 1, dayStart.plusHours(12).plusSeconds(40), new BigDecimal("22.00")),
+                    new MeasurementSnapshot(3, 1, dayStart.plusHours(13), new BigDecimal("18.00"))
+            ));
+
+            // Act
+            rollupService.onMeasurementChanged(event);
+
+            // Assert
+            ArgumentCaptor<Map<MeasurementRollupId, RollupTotals>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(rollupRepository).addToBuckets(captor.capture());
+            Map<MeasurementRollupId, RollupTotals> deltas = captor.getValue();
+
+            assertThat(deltas).hasSize(5);
+            assertThat(deltas.get(new MeasurementRollupId(1, RollupGranularity.MINUTE, dayStart.plusHours(12))))
+                    .isEqualTo(new RollupTotals(2L, new BigDecimal("42.00"), new BigDecimal("20.00"), new BigDecimal("22.00")));
+            assertThat(deltas.get(new MeasurementRollupId(1, RollupGranularity.DAY, dayStart)))
+                    .isEqualTo(new RollupTotals(3L, new BigDecimal("60.00"), new BigDecimal("18.00"), new BigDecimal("22.00")));
+            verifyNoInteractions(entityManager);
+        }
+
+        @Test
+        @DisplayName("Should flush and recompute buckets of previous and current state on update")
+        @SuppressWarnings("unchecked")
+        void shouldRecomputeBucketsOnUpdate() {
+            // Arrange
+            MeasurementChangedEvent event = MeasurementChangedEvent.updated(
+                    new MeasurementSnapshot(1, 1, dayStart.plusHours(12), new BigDecimal("20.00")),
+                    new MeasurementSnapshot(1, 1, dayStart.plusDays(1), new BigDecimal("25.00")));
+
+            // Act
+            rollupService.onMeasurementChanged(event);
+
+            // Assert
+            InOrder inOrder = inOrder(entityManager, rollupRepository);
+            inOrder.verify(entityManager).flush();
+            ArgumentCaptor<Collection<MeasurementRollupId>> captor = ArgumentCaptor.forClass(Collection.class);
+            inOrder.verify(rollupRepository).recomputeBuckets(captor.capture());
+            assertThat(captor.getValue()).hasSize(6).contains(
+                    new MeasurementRollupId(1, RollupGranularity.DAY, dayStart),
+                    new MeasurementRollupId(1, RollupGranularity.DAY, dayStart.plusDays(1)));
+            verify(rollupRepository, never()).addToBuckets(any());
+        }
+
+        @Test
+        @DisplayName("Should unseal the affected days before recomputing their buckets")
+        void shouldUnsealAffectedDaysBeforeRecompute() {
+            // Arrange
+            MeasurementChangedEvent event = MeasurementChangedEvent.deleted(
+                    new MeasurementSnapshot(1, 1, dayStart.plusHours(12), new BigDecimal("20.00")));
+
+            // Act
+            rollupService.onMeasurementChanged(event);
+
+            // Assert
+            InOrder inOrder = inOrder(coldStorageService, rollupRepository);
+            inOrder.verify(coldStorageService).unseal(1, dayStart, dayStart.plusDays(1));
+            inOrder.verify(rollupRepository).recomputeBuckets(any());
+            verifyNoMoreInteractions(coldStorageService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Rollups")
+    class QueryRollups {
+
+        @Test
+        @DisplayName("Should map buckets to responses with average")
+        void shouldMapBucketsToResponses() {
+            // Arrange
+            when(seriesRepository.findRetentionById(1)).thenReturn(Optional.of(RetentionPolicy.FOREVER));
+            MeasurementRollup rollup = new MeasurementRollup(1, RollupGranularity.HOUR, dayStart, 3L,
+                    new BigDecimal("61.00"), new BigDecimal("19.00"), new BigDecimal("22.00"));
+            when(rollupRepository.findBuckets(eq(1), eq(RollupGranularity.HOUR), eq(dayStart), eq(dayStart.plusDays(1)), any()))
+                    .thenReturn(List.of(rollup));
+
+            // Act
+            List<RollupBucketResponse> result = rollupService.getBuckets(1, RollupGranularity.HOUR, dayStart, dayStart.plusDays(1));
+
+            // Assert
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getAvg()).isEqualByComparingTo("20.33");
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when series does not exist")
+        void shouldThrowWhenSeriesNotFound() {
+            // Arrange
+            when(seriesRepository.findRetentionById(999)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> rollupService.getBuckets(999, RollupGranularity.DAY, null, null))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Series not found with id: 999");
+            assertThatThrownBy(() -> rollupService.getSummary(999, null, null))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject inverted range")
+        void shouldRejectInvertedRange() {
+            // Arrange
+            when(seriesRepository.findRetentionById(1)).thenReturn(Optional.of(RetentionPolicy.FOREVER));
+
+            // Act & Assert
+            assertThatThrownBy(() -> rollupService.getSummary(1, dayStart.plusHours(1), dayStart))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Range start must be before range end");
+        }
+
+        @Test
+        @DisplayName("Should read only minute buckets for a range within one hour")
+        void shouldReadOnlyMinuteBucketsWithinHour() {
+            // Arrange
+            when(seriesRepository.findRetentionById(1)).thenReturn(Optional.of(RetentionPolicy.FOREVER));
+            ZonedDateTime from = dayStart.plusHours(12).plusMinutes(5);
+            ZonedDateTime to = dayStart.plusHours(12).plusMinutes(30);
+            when(rollupRepository.sumBuckets(1, RollupGranularity.MINUTE, from, to))
+                    .thenReturn(new RollupTotals(2L, new BigDecimal("40.00"), new BigDecimal("19.00"), new BigDecimal("21.00")));
+
+            // Act
+            AggregateResponse result = rollupService.getSummary(1, from, to);
+
+            // Assert
+            assertThat(result.getCount()).isEqualTo(2);
+            assertThat(result.getAvg()).isEqualByComparingTo("20.00");
+            verify(rollupRepository, times(1)).sumBuckets(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should combine day, hour and minute buckets for a multi-day range")
+        void shouldDecomposeMultiDayRange() {
+            // Arrange
+            when(seriesRepository.findRetentionById(1)).thenReturn(Optional.of(RetentionPolicy.FOREVER));
+            ZonedDateTime from = dayStart.plusHours(22).plusMinutes(30);
+            ZonedDateTime to = dayStart.plusDays(3).plusHours(1).plusMinutes(15);
+            when(rollupRepository.sumBuckets(any(), any(), any(), any())).thenReturn(RollupTotals.EMPTY);
+            when(rollupRepository.sumBuckets(1, RollupGranularity.DAY, dayStart.plusDays(1), dayStart.plusDays(3)))
+                    .thenReturn(new RollupTotals(48L, new BigDecimal("960.00"), new BigDecimal("15.00"), new BigDecimal("25.00")));
+            when(rollupRepository.sumBuckets(1, RollupGranularity.MINUTE, from, dayStart.plusHours(23)))
+                    .thenReturn(new RollupTotals(1L, new BigDecimal("30.00"), new BigDecimal("30.00"), new BigDecimal("30.00")));
+
+            // Act
+            AggregateResponse result = rollupService.getSummary(1, from, to);
+
+            // Assert
+            assertThat(result.getCount()).isEqualTo(49);
+            assertThat(result.getSum()).isEqualByComparingTo("990.00");
+            assertThat(result.getMin()).isEqualByComparingTo("15.00");
+            assertThat(result.getMax()).isEqualByComparingTo("30.00");
+            verify(rollupRepository, times(1)).sumBuckets(eq(1), eq(RollupGranularity.DAY), any(), any());
+            verify(rollupRepository, times(2)).sumBuckets(eq(1), eq(RollupGranularity.HOUR), any(), any());
+            verify(rollupRepository, times(2)).sumBuckets(eq(1), eq(RollupGranularity.MINUTE), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should report empty summary with null statistics")
+        void shouldReportEmptySummary() {
+            // Arrange
+            when(seriesRepository.findRetentionById(1)).thenReturn(Optional.of(RetentionPolicy.FOREVER));
+            when(rollupRepository.sumBuckets(any(), any(), any(), any()))
+                    .thenReturn(new RollupTotals(null, null, null, null));
+
+            // Act
+            AggregateResponse result = rollupService.getSummary(1, dayStart, dayStart.plusDays(2));
+
+            // Assert
+            assertThat(result.getCount()).isZero();
+            assertThat(result.getAvg()).isNull();
+            assertThat(result.getFrom()).isEqualTo(dayStart);
+        }
+    }
+
+    @Nested
+    @DisplayName("Retention Fallback")
+    class RetentionFallback {
+
+        private final ZonedDateTime today = RollupGranularity.DAY.truncate(ZonedDateTime.now());
+
+        @Test
+        @DisplayName("Should return hour buckets where minute buckets have expired")
+        void shouldFallBackToHourBuckets() {
+            // Arrange
+            RetentionPolicy retention = new RetentionPolicy(2, 10, null, null);
+            when(seriesRepository.findRetentionById(1)).thenReturn(Optional.of(retention));
+            ZonedDateTime from = today.minusDays(20);
+            ZonedDateTime to = today.minusDays(5);
+            ZonedDateTime minuteCutoff = today.minusDays(10);
+            when(rollupRepository.findBuckets(eq(1), eq(RollupGranularity.HOUR), eq(from), eq(minuteCutoff), any()))
+                    .thenReturn(List.of(new MeasurementRollup(1, RollupGranularity.HOUR, from, 2L,
+                            new BigDecimal("40.00"), new BigDecimal("19.00"), new BigDecimal("21.00"))));
+            when(rollupRepository.findBuckets(eq(1), eq(RollupGranularity.MINUTE), eq(minuteCutoff), eq(to), any()))
+                    .thenReturn(List.of(new MeasurementRollup(1, RollupGranularity.MINUTE, minuteCutoff, 1L,
+                            new BigDecimal("22.00"), new BigDecimal("22.00"), new BigDecimal("22.00"))));
+
+            // Act
+            List<RollupBucketResponse> result = rollupService.getBuckets(1, RollupGranularity.MINUTE, from, to);
+
+            // Assert
+            assertThat(result).extracting(RollupBucketResponse::getGranularity)
+                    .containsExactly(RollupGranularity.HOUR, RollupGranularity.MINUTE);
+        }
+
+        @Test
+        @DisplayName("Should widen a summary to whole hours where minute buckets have expired")
+        void shouldWidenSummaryToWholeHours() {
+            // Arrange
+            when(seriesRepository.findRetentionById(1)).thenReturn(Optional.of(new RetentionPolicy(1, 2, null, null)));
+            ZonedDateTime from = today.minusDays(5).plusHours(10).plusMinutes(30);
+            ZonedDateTime to = today.minusDays(5).plusHours(12).plusMinutes(45);
+            when(rollupRepository.sumBuckets(1, RollupGranularity.HOUR, from.withMinute(0), to.withMinute(0).plusHours(1)))
+                    .thenReturn(new RollupTotals(3L, new BigDecimal("60.00"), new BigDecimal("19.00"), new BigDecimal("21.00")));
+
+            // Act
+            AggregateResponse result = rollupService.getSummary(1, from, to);
+
+            // Assert
+            assertThat(result.getCount()).isEqualTo(3);
+            assertThat(result.getFrom()).isEqualTo(from.withMinute(0));
+            assertThat(result.getTo()).isEqualTo(to.withMinute(0).plusHours(1));
+            verify(rollupRepository, never()).sumBuckets(eq(1), eq(RollupGranularity.MINUTE), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should rebuild only days whose raw measurements are kept")
+        void shouldRebuildOnlyRetainedDays() {
+            // Arrange
+            RetentionPolicy retention = new RetentionPolicy(30, null, null, null);
+            when(seriesRepository.findRetentionById(1)).thenReturn(Optional.of(retention));
+
+            // Act
+            rollupService.rebuildSeries(1);
+
+            // Assert
+            ZonedDateTime rawCutoff = retention.rawCutoff(ZonedDateTime.now());
+            verify(coldStorageService).unseal(1, rawCutoff, MeasurementService.RANGE_END);
+            verify(rollupRepository).rebuildRange(1, rawCutoff, MeasurementService.RANGE_END);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.temperature.tracking.service;
+
+import com.temperature.tracking.dto.SeriesMetadata;
+import com.temperature.tracking.event.SeriesChangedEvent;
+import com.temperature.tracking.repository.SeriesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeriesMetadataCache Tests")
+class SeriesMetadataCacheTest {
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    private SeriesMetadataCache cache;
+    private SeriesMetadata temperature;
+    private SeriesMetadata humidity;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SeriesMetadataCache(seriesRepository, 100, Duration.ofMinutes(5));
+        temperature = new SeriesMetadata(1, "Temperature", new BigDecimal("-50.00"), new BigDecimal("50.00"),
+                null, null, null, null);
+        humidity = new SeriesMetadata(2, "Humidity", BigDecimal.ZERO, new BigDecimal("100.00"),
+                30, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Should load metadata once and serve later reads from memory")
+    void shouldLoadOnce() {
+        // Arrange
+        when(seriesRepository.findMetadataById(1)).thenReturn(Optional.of(temperature));
+
+        // Act
+        cache.get(1);
+        Optional<SeriesMetadata> result = cache.get(1);
+
+        // Assert
+        assertThat(result).contains(temperature);
+        verify(seriesRepository, times(1)).findMetadataById(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache a series that does not exist")
+    void shouldNotCacheMissingSeries() {
+        // Arrange
+        when(seriesRepository.findMetadataById(3)).thenReturn(Optional.empty(), Optional.of(humidity));
+
+        // Act
+        Optional<SeriesMetadata> before = cache.get(3);
+        Optional<SeriesMetadata> after = cache.get(3);
+
+        // Assert
+        assertThat(before).isEmpty();
+        assertThat(after).contains(humidity);
+    }
+
+    @Test
+    @DisplayName("Should load all missing series of a batch with one query")
+    void shouldLoadMissingSeriesTogether() {
+        // Arrange
+        when(seriesRepository.findMetadataById(1)).thenReturn(Optional.of(temperature));
+        when(seriesRepository.findMetadataByIdIn(anyCollection())).thenReturn(List.of(humidity));
+        cache.get(1);
+
+        // Act
+        Map<Integer, SeriesMetadata> result = cache.getAll(List.of(1, 2, 3));
+
+        // Assert
+        assertThat(result).containsOnly(Map.entry(1, temperature), Map.entry(2, humidity));
+        verify(seriesRepository, times(1)).findMetadataByIdIn(argThat(ids -> ids.size() == 2 && !ids.contains(1)));
+    }
+
+    @Test
+    @DisplayName("Should reload a series after a change of it is committed")
+    void shouldInvalidateOnSeriesChange() {
+        // Arrange
+        SeriesMetadata renamed = new SeriesMetadata(1, "Cellar", null, null, null, null, null, null);
+        when(seriesRepository.findMetadataById(1)).thenReturn(Optional.of(temperature), Optional.of(renamed));
+        cache.get(1);
+
+        // Act
+        cache.onSeriesChanged(SeriesChangedEvent.updated(1));
+
+        // Assert
+        assertThat(cache.get(1)).contains(renamed);
+        verify(seriesRepository, times(2)).findMetadataById(1);
+    }
+}
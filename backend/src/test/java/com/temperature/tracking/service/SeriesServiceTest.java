@@ -4,6 +4,7 @@ import com.temperature.tracking.dto.SeriesRequest;
 import com.temperature.tracking.dto.SeriesResponse;
 import com.temperature.tracking.entity.Series;
 import com.temperature.tracking.entity.User;
+import com.temperature.tracking.event.SeriesChangedEvent;
 import com.temperature.tracking.exception.ResourceNotFoundException;
 import com.temperature.tracking.repository.SeriesRepository;
 import com.temperature.tracking.repository.UserRepository;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.ZonedDateTime;
 import java.util.Arrays;
@@ -42,6 +44,9 @@ class SeriesServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SeriesService seriesService;
 
@@ -78,6 +83,10 @@ class SeriesServiceTest {
         testRequest.setMaxValue(new java.math.BigDecimal("50.00"));
     }
 
+    private static List<SeriesResponse> responses(Series... series) {
+        return Arrays.stream(series).map(SeriesResponse::fromEntity).toList();
+    }
+
     @Nested
     @DisplayName("Get All Series Tests")
     class GetAllSeriesTests {
@@ -94,8 +103,7 @@ class SeriesServiceTest {
             secondSeries.setCreatedBy(testUser);
             secondSeries.setCreatedAt(ZonedDateTime.now());
 
-            List<Series> seriesList = Arrays.asList(testSeries, secondSeries);
-            when(seriesRepository.findAll()).thenReturn(seriesList);
+            when(seriesRepository.findAllResponses()).thenReturn(responses(testSeries, secondSeries));
 
             // Act
             List<SeriesResponse> result = seriesService.getAllSeries();
@@ -104,28 +112,28 @@ class SeriesServiceTest {
             assertThat(result).hasSize(2);
             assertThat(result.get(0).getName()).isEqualTo("Temperature Series");
             assertThat(result.get(1).getName()).isEqualTo("Humidity Series");
-            verify(seriesRepository, times(1)).findAll();
+            verify(seriesRepository, times(1)).findAllResponses();
         }
 
         @Test
         @DisplayName("Should return empty list when no series exist")
         void shouldReturnEmptyListWhenNoSeriesExist() {
             // Arrange
-            when(seriesRepository.findAll()).thenReturn(Collections.emptyList());
+            when(seriesRepository.findAllResponses()).thenReturn(Collections.emptyList());
 
             // Act
             List<SeriesResponse> result = seriesService.getAllSeries();
 
             // Assert
             assertThat(result).isEmpty();
-            verify(seriesRepository, times(1)).findAll();
+            verify(seriesRepository, times(1)).findAllResponses();
         }
 
         @Test
-        @DisplayName("Should map series entity to response correctly")
-        void shouldMapSeriesEntityToResponseCorrectly() {
+        @DisplayName("Should return the projected responses unchanged")
+        void shouldReturnProjectedResponsesUnchanged() {
             // Arrange
-            when(seriesRepository.findAll()).thenReturn(Collections.singletonList(testSeries));
+            when(seriesRepository.findAllResponses()).thenReturn(responses(testSeries));
 
             // Act
             List<SeriesResponse> result = seriesService.getAllSeries();
@@ -151,7 +159,7 @@ class SeriesServiceTest {
         @DisplayName("Should return series when valid id is provided")
         void shouldReturnSeriesWhenValidIdProvided() {
             // Arrange
-            when(seriesRepository.findById(1)).thenReturn(Optional.of(testSeries));
+            when(seriesRepository.findResponseById(1)).thenReturn(Optional.of(SeriesResponse.fromEntity(testSeries)));
 
             // Act
             SeriesResponse result = seriesService.getSeriesById(1);
@@ -162,41 +170,41 @@ class SeriesServiceTest {
             assertThat(result.getName()).isEqualTo("Temperature Series");
             assertThat(result.getDescription()).isEqualTo("Test series for temperature measurements");
             assertThat(result.getColor()).isEqualTo("#FF5733");
-            verify(seriesRepository, times(1)).findById(1);
+            verify(seriesRepository, times(1)).findResponseById(1);
         }
 
         @Test
         @DisplayName("Should throw exception when series not found")
         void shouldThrowExceptionWhenSeriesNotFound() {
             // Arrange
-            when(seriesRepository.findById(anyInt())).thenReturn(Optional.empty());
+            when(seriesRepository.findResponseById(anyInt())).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> seriesService.getSeriesById(999))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Series not found with id: 999");
-            verify(seriesRepository, times(1)).findById(999);
+            verify(seriesRepository, times(1)).findResponseById(999);
         }
 
         @Test
         @DisplayName("Should throw exception when null id is provided")
         void shouldThrowExceptionWhenNullIdProvided() {
             // Arrange
-            when(seriesRepository.findById(null)).thenReturn(Optional.empty());
+            when(seriesRepository.findResponseById(null)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> seriesService.getSeriesById(null))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Series not found with id: null");
-            verify(seriesRepository, times(1)).findById(null);
+            verify(seriesRepository, times(1)).findResponseById(null);
         }
 
         @Test
-        @DisplayName("Should map series with null created by correctly")
-        void shouldMapSeriesWithNullCreatedByCorrectly() {
+        @DisplayName("Should return series without creator")
+        void shouldReturnSeriesWithoutCreator() {
             // Arrange
             testSeries.setCreatedBy(null);
-            when(seriesRepository.findById(1)).thenReturn(Optional.of(testSeries));
+            when(seriesRepository.findResponseById(1)).thenReturn(Optional.of(SeriesResponse.fromEntity(testSeries)));
 
             // Act
             SeriesResponse result = seriesService.getSeriesById(1);
@@ -233,6 +241,20 @@ class SeriesServiceTest {
             verify(seriesRepository, times(1)).save(any(Series.class));
         }
 
+        @Test
+        @DisplayName("Should publish created event with id of saved series")
+        void shouldPublishCreatedEvent() {
+            // Arrange
+            when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+            when(seriesRepository.save(any(Series.class))).thenReturn(testSeries);
+
+            // Act
+            seriesService.createSeries(testRequest, "testuser");
+
+            // Assert
+            verify(eventPublisher).publishEvent(SeriesChangedEvent.created(testSeries.getId()));
+        }
+
         @Test
         @DisplayName("Should set all fields correctly when creating series")
         void shouldSetAllFieldsCorrectlyWhenCreatingSeries() {
@@ -254,6 +276,29 @@ class SeriesServiceTest {
             verify(seriesRepository, times(1)).save(any(Series.class));
         }
 
+        @Test
+        @DisplayName("Should set retention periods when creating series")
+        void shouldSetRetentionWhenCreatingSeries() {
+            // Arrange
+            testRequest.setRawRetentionDays(30);
+            testRequest.setMinuteRetentionDays(365);
+            when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+            when(seriesRepository.save(any(Series.class))).thenAnswer(invocation -> {
+                Series savedSeries = invocation.getArgument(0);
+                assertThat(savedSeries.getRawRetentionDays()).isEqualTo(30);
+                assertThat(savedSeries.getMinuteRetentionDays()).isEqualTo(365);
+                assertThat(savedSeries.getHourRetentionDays()).isNull();
+                assertThat(savedSeries.getDayRetentionDays()).isNull();
+                return testSeries;
+            });
+
+            // Act
+            seriesService.createSeries(testRequest, "testuser");
+
+            // Assert
+            verify(seriesRepository, times(1)).save(any(Series.class));
+        }
+
         @Test
         @DisplayName("Should throw exception when user not found")
         void shouldThrowExceptionWhenUserNotFound() {
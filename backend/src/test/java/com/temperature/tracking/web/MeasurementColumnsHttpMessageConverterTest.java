@@ -0,0 +1,96 @@
+package com.temperature.tracking.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.temperature.tracking.dto.MeasurementColumns;
+import com.temperature.tracking.dto.MeasurementPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MeasurementColumnsHttpMessageConverter Tests")
+class MeasurementColumnsHttpMessageConverterTest {
+
+    private static final MediaType COLUMNAR = MediaType.parseMediaType(MeasurementColumns.JSON_MEDIA_TYPE);
+    private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2025, 11, 8, 12, 0, 0, 0, ZoneId.of("UTC"));
+
+    private final MeasurementColumnsHttpMessageConverter converter =
+            new MeasurementColumnsHttpMessageConverter(new ObjectMapper().getFactory(), COLUMNAR);
+
+    @Test
+    @DisplayName("Should write the series once followed by a timestamp and a value column")
+    void shouldWriteColumns() throws IOException {
+        // Arrange
+        MeasurementColumns columns = MeasurementColumns.of(3, List.of(
+                new MeasurementPoint(1, TIMESTAMP, new BigDecimal("21.50")),
+                new MeasurementPoint(null, TIMESTAMP.plusSeconds(1), new BigDecimal("-3.25"))));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(columns, COLUMNAR, output);
+
+        // Assert
+        long millis = TIMESTAMP.toInstant().toEpochMilli();
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"seriesId\":3,\"timestamps\":[" + millis + "," + (millis + 1000) + "],\"values\":[21.50,-3.25]}");
+        assertThat(output.getHeaders().getContentType()).isEqualTo(COLUMNAR);
+    }
+
+    @Test
+    @DisplayName("Should write empty columns for a series without measurements")
+    void shouldWriteEmptyColumns() throws IOException {
+        // Arrange
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(MeasurementColumns.of(3, List.of()), COLUMNAR, output);
+
+        // Assert
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"seriesId\":3,\"timestamps\":[],\"values\":[]}");
+    }
+
+    @Test
+    @DisplayName("Should write the same columns as CBOR with a CBOR factory")
+    void shouldWriteCborColumns() throws IOException {
+        // Arrange
+        MediaType cbor = MediaType.parseMediaType(MeasurementColumns.CBOR_MEDIA_TYPE);
+        MeasurementColumnsHttpMessageConverter cborConverter =
+                new MeasurementColumnsHttpMessageConverter(new CBORFactory(), cbor);
+        MeasurementColumns columns = MeasurementColumns.of(3, List.of(
+                new MeasurementPoint(1, TIMESTAMP, new BigDecimal("21.50")),
+                new MeasurementPoint(2, TIMESTAMP.plusSeconds(1), new BigDecimal("-3.25"))));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        cborConverter.write(columns, cbor, output);
+
+        // Assert
+        JsonNode written = new ObjectMapper(new CBORFactory()).readTree(output.getBodyAsBytes());
+        long millis = TIMESTAMP.toInstant().toEpochMilli();
+        assertThat(written.get("seriesId").asInt()).isEqualTo(3);
+        assertThat(written.get("timestamps").get(0).asLong()).isEqualTo(millis);
+        assertThat(written.get("timestamps").get(1).asLong()).isEqualTo(millis + 1000);
+        assertThat(written.get("values")).hasSize(2);
+        assertThat(output.getHeaders().getContentType()).isEqualTo(cbor);
+    }
+
+    @Test
+    @DisplayName("Should only write measurement columns and never read them")
+    void shouldOnlyWriteMeasurementColumns() {
+        assertThat(converter.canWrite(MeasurementColumns.class, COLUMNAR)).isTrue();
+        assertThat(converter.canWrite(MeasurementPoint.class, COLUMNAR)).isFalse();
+        assertThat(converter.canRead(MeasurementColumns.class, COLUMNAR)).isFalse();
+    }
+}
@@ -28,7 +28,10 @@ CREATE TABLE users (
 -- Relacje: created_by → users.id (wiele serii do jednego użytkownika)
 --          measurements.series_id → series.id
 -- Uwagi: Zawiera min/max wartości do walidacji pomiarów oraz metadane wizualne
---        (kolor, ikona) do prezentacji danych
+--        (kolor, ikona) do prezentacji danych. Okresy retencji (w dniach, NULL =
+--        bez limitu) określają, jak długo przechowywane są surowe pomiary oraz
+--        agregaty minutowe, godzinowe i dzienne; wygasłe surowe pomiary RetentionService
+--        kompaktuje do agregatów
 -- =============================================================================
 CREATE TABLE series (
     id SERIAL PRIMARY KEY,                      -- Unikalny identyfikator serii
@@ -38,6 +41,10 @@ CREATE TABLE series (
     icon VARCHAR(50),                           -- Ikona do wyświetlania
     min_value NUMERIC(5,2),                     -- Minimalna wartość dla walidacji
     max_value NUMERIC(5,2),                     -- Maksymalna wartość dla walidacji
+    raw_retention_days INT,                     -- Retencja surowych pomiarów (dni)
+    minute_retention_days INT,                  -- Retencja agregatów minutowych (dni)
+    hour_retention_days INT,                    -- Retencja agregatów godzinowych (dni)
+    day_retention_days INT,                     -- Retencja agregatów dziennych (dni)
     created_by INT REFERENCES users(id),        -- Klucz obcy: użytkownik tworzący serię
     created_at TIMESTAMP DEFAULT NOW()          -- Timestamp utworzenia serii
 );
@@ -48,20 +55,133 @@ CREATE TABLE series (
 -- Relacje: series_id → series.id (wiele pomiarów do jednej serii)
 --          created_by → users.id (wiele pomiarów do jednego użytkownika)
 -- Uwagi: Usunięcie serii powoduje kaskadowe usunięcie wszystkich jej pomiarów
---        (ON DELETE CASCADE)
+--        (ON DELETE CASCADE). Tabela jest partycjonowana miesięcznie po kolumnie
+--        timestamp (partycje measurements_pRRRR_MM); partycje tworzy z wyprzedzeniem
+--        i usuwa po okresie retencji MeasurementPartitionService. Klucz główny musi
+--        zawierać kolumnę partycjonowania, stąd (id, timestamp)
 -- =============================================================================
 CREATE TABLE measurements (
-    id SERIAL PRIMARY KEY,                                  -- Unikalny identyfikator pomiaru
+    id SERIAL,                                              -- Unikalny identyfikator pomiaru
     series_id INT REFERENCES series(id) ON DELETE CASCADE,  -- Klucz obcy: seria (z CASCADE)
     value NUMERIC(6,2) NOT NULL,                            -- Wartość pomiaru
-    timestamp TIMESTAMP NOT NULL,                           -- Timestamp pomiaru
+    timestamp TIMESTAMP NOT NULL,                           -- Timestamp pomiaru (klucz partycjonowania)
     created_by INT REFERENCES users(id),                    -- Klucz obcy: użytkownik tworzący pomiar
-    created_at TIMESTAMP DEFAULT NOW()                      -- Timestamp utworzenia rekordu
+    created_at TIMESTAMP DEFAULT NOW(),                     -- Timestamp utworzenia rekordu
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+-- Partycja domyślna przyjmuje pomiary spoza utworzonych partycji miesięcznych (np. import
+-- historycznych danych); MeasurementPartitionService przenosi je do partycji ich miesięcy
+CREATE TABLE measurements_default PARTITION OF measurements DEFAULT;
+
+-- Indeks złożony dla zapytań o zakres czasu w obrębie serii oraz paginacji
+-- kluczowej (keyset) po (timestamp, id); jako indeks partycjonowany powstaje też na każdej partycji
+CREATE INDEX idx_measurements_series_timestamp ON measurements (series_id, timestamp, id);
+
+-- Sekwencja z krokiem 50: Hibernate rezerwuje pulę identyfikatorów jednym zapytaniem
+-- (optymalizator pooled), co umożliwia wsadowe (batch) wstawianie pomiarów
+ALTER SEQUENCE measurements_id_seq INCREMENT BY 50;
+
+-- =============================================================================
+-- TABELA: measurement_rollups
+-- Opis: Przechowuje wstępnie obliczone agregaty pomiarów (liczba, suma, min, max)
+--       w przedziałach minutowych, godzinowych i dziennych
+-- Relacje: series_id → series.id (wiele agregatów do jednej serii)
+-- Uwagi: Aktualizowana w tej samej transakcji co tabela measurements;
+--        początek przedziału (bucket_start) wyrównany jak date_trunc w strefie
+--        czasowej aplikacji. Usunięcie serii usuwa jej agregaty (ON DELETE CASCADE)
+-- =============================================================================
+CREATE TABLE measurement_rollups (
+    series_id INT NOT NULL REFERENCES series(id) ON DELETE CASCADE,  -- Klucz obcy: seria (z CASCADE)
+    granularity VARCHAR(10) NOT NULL,                                 -- Szerokość przedziału (MINUTE, HOUR, DAY)
+    bucket_start TIMESTAMP NOT NULL,                                  -- Początek przedziału
+    count BIGINT NOT NULL,                                            -- Liczba pomiarów w przedziale
+    sum NUMERIC(18,2) NOT NULL,                                       -- Suma wartości pomiarów
+    min_value NUMERIC(6,2) NOT NULL,                                  -- Najmniejsza wartość w przedziale
+    max_value NUMERIC(6,2) NOT NULL,                                  -- Największa wartość w przedziale
+    PRIMARY KEY (series_id, granularity, bucket_start)
+);
+
+-- =============================================================================
+-- TABELA: measurement_blocks
+-- Opis: Przechowuje skompresowane bloki starych pomiarów (cold storage) w układzie
+--       kolumnowym: znaczniki czasu jako delty delt, identyfikatory i wartości
+--       jako delty, autorzy jako serie powtórzeń
+-- Relacje: series_id → series.id (wiele bloków do jednej serii)
+-- Uwagi: Pomiar znajduje się albo w tabeli measurements, albo w dokładnie jednym
+--        bloku. Bloki tworzy i rozpakowuje ColdStorageService; zakresy czasu
+--        i identyfikatorów pozwalają wybrać bloki bez ich dekodowania.
+--        Usunięcie serii usuwa jej bloki (ON DELETE CASCADE)
+-- =============================================================================
+CREATE TABLE measurement_blocks (
+    id BIGSERIAL PRIMARY KEY,                                         -- Unikalny identyfikator bloku
+    series_id INT NOT NULL REFERENCES series(id) ON DELETE CASCADE,  -- Klucz obcy: seria (z CASCADE)
+    min_timestamp TIMESTAMP NOT NULL,                                 -- Najwcześniejszy znacznik czasu w bloku
+    max_timestamp TIMESTAMP NOT NULL,                                 -- Najpóźniejszy znacznik czasu w bloku
+    min_id INT NOT NULL,                                              -- Najmniejszy identyfikator pomiaru w bloku
+    max_id INT NOT NULL,                                              -- Największy identyfikator pomiaru w bloku
+    point_count INT NOT NULL,                                         -- Liczba pomiarów w bloku
+    data BYTEA NOT NULL                                               -- Zakodowane kolumny pomiarów
+);
+
+-- Dane są już skompresowane, więc TOAST przechowuje je bez ponownej kompresji
+ALTER TABLE measurement_blocks ALTER COLUMN data SET STORAGE EXTERNAL;
+
+-- Indeksy do wyszukiwania bloków po zakresie czasu w obrębie serii oraz po identyfikatorze pomiaru
+CREATE INDEX idx_measurement_blocks_series_timestamp ON measurement_blocks (series_id, min_timestamp);
+CREATE INDEX idx_measurement_blocks_ids ON measurement_blocks (min_id, max_id);
+
+-- =============================================================================
+-- TABELA: change_log
+-- Opis: Dziennik zmian pomiarów i serii (wstawienia, modyfikacje, usunięcia)
+--       udostępniany klientom do synchronizacji przyrostowej
+-- Relacje: brak kluczy obcych - wpisy usunięć (tombstones) muszą przetrwać
+--          usunięcie rekordu, którego dotyczą
+-- Uwagi: Zapisujący nie czekają na siebie nawzajem, więc wpisy mogą stawać się
+--        widoczne poza kolejnością seq. Czytelnicy widzą tylko wpisy transakcji
+--        starszych od najstarszej wciąż trwającej (pg_snapshot_xmin), w kolejności
+--        (txid, seq). Usunięcie serii oznacza usunięcie wszystkich jej pomiarów
+-- =============================================================================
+CREATE TABLE change_log (
+    seq BIGSERIAL PRIMARY KEY,                  -- Numer zmiany z sekwencji
+    txid BIGINT NOT NULL
+        DEFAULT pg_current_xact_id()::text::bigint, -- Identyfikator transakcji zapisującej
+    entity_type VARCHAR(20) NOT NULL,           -- Typ encji (MEASUREMENT, SERIES)
+    entity_id INT NOT NULL,                     -- Identyfikator zmienionej encji
+    series_id INT,                              -- Seria, której dotyczy zmiana
+    operation VARCHAR(10) NOT NULL,             -- Operacja (UPSERT, DELETE)
+    changed_at TIMESTAMP NOT NULL DEFAULT NOW() -- Timestamp zmiany
+);
+
+-- Indeks do odczytu zmian po kursorze (txid, seq)
+CREATE INDEX idx_change_log_position ON change_log (txid, seq);
+
+-- Indeksy do odczytu transakcji ostatniej zmiany serii lub jej pomiarów, z której powstają
+-- nagłówki ETag list serii i pomiarów
+CREATE INDEX idx_change_log_series_txid ON change_log (series_id, txid);
+CREATE INDEX idx_change_log_series_entries ON change_log (txid) WHERE entity_type = 'SERIES';
+
+-- Indeks do usuwania wpisów zastąpionych późniejszą zmianą tej samej encji w tej samej serii
+CREATE INDEX idx_change_log_entity ON change_log (entity_id, series_id, txid);
+
+-- =============================================================================
+-- TABELA: change_log_horizon
+-- Opis: Granica dziennika zmian - wpisy transakcji starszych od niej zostały
+--       usunięte po upływie retencji
+-- Uwagi: Zawsze jeden wiersz; klient z kursorem sprzed granicy musi pobrać
+--        wszystkie dane ponownie
+-- =============================================================================
+CREATE TABLE change_log_horizon (
+    id INT PRIMARY KEY CHECK (id = 1),          -- Jedyny wiersz
+    txid BIGINT NOT NULL                        -- Najstarsza transakcja, której wpisy są zachowane
 );
 
 -- =============================================================================
 -- DANE POCZĄTKOWE
--- Opis: Inicjalizacja podstawowej roli administratora
+-- Opis: Inicjalizacja podstawowej roli administratora i granicy dziennika zmian
 -- =============================================================================
 insert into roles(id, name) values
 (1, 'ADMIN');
+
+insert into change_log_horizon(id, txid) values
+(1, 0);
@@ -34,3 +34,13 @@ INSERT INTO measurements
 (19, 2, 17.00, TIMESTAMP '2025-11-09 18:30:00.000', 2, TIMESTAMP '2025-11-16 20:00:00.000'),
 (20, 2, 20.00, TIMESTAMP '2025-11-10 18:30:00.000', 2, TIMESTAMP '2025-11-16 20:00:00.000')
 ;
+
+-- Przesunięcie sekwencji za jawnie wstawione identyfikatory
+SELECT setval('measurements_id_seq', (SELECT MAX(id) FROM measurements));
+
+-- Wypełnienie agregatów dla wstawionych bezpośrednio pomiarów
+INSERT INTO measurement_rollups (series_id, granularity, bucket_start, count, sum, min_value, max_value)
+SELECT m.series_id, g.granularity, date_trunc(g.unit, m.timestamp), COUNT(*), SUM(m.value), MIN(m.value), MAX(m.value)
+FROM measurements m
+CROSS JOIN (VALUES ('MINUTE', 'minute'), ('HOUR', 'hour'), ('DAY', 'day')) AS g(granularity, unit)
+GROUP BY m.series_id, g.granularity, date_trunc(g.unit, m.timestamp);